@@ -18,6 +18,8 @@
  */
 package org.apache.gravitino.file;
 
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -131,4 +133,26 @@ public interface FilesetCatalog {
    * @throws NoSuchFilesetException If the fileset does not exist.
    */
   String getFileLocation(NameIdentifier ident, String subPath) throws NoSuchFilesetException;
+
+  /**
+   * Get the actual locations of the files or directories based on the storage location of Fileset
+   * and the sub paths, in a batch.
+   *
+   * <p>The default implementation gets the location of each sub path one by one, the catalog could
+   * override it to resolve the whole batch against a single load of the fileset.
+   *
+   * @param ident A fileset identifier.
+   * @param subPaths The sub paths to the files or directories.
+   * @return The map from each sub path to the actual location of the file or directory, in the
+   *     order of the sub paths.
+   * @throws NoSuchFilesetException If the fileset does not exist.
+   */
+  default Map<String, String> getFileLocations(NameIdentifier ident, List<String> subPaths)
+      throws NoSuchFilesetException {
+    Map<String, String> fileLocations = new LinkedHashMap<>();
+    for (String subPath : subPaths) {
+      fileLocations.put(subPath, getFileLocation(ident, subPath));
+    }
+    return fileLocations;
+  }
 }
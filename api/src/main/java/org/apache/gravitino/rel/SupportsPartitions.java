@@ -18,6 +18,8 @@
  */
 package org.apache.gravitino.rel;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import org.apache.gravitino.annotation.Evolving;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
@@ -44,6 +46,73 @@ public interface SupportsPartitions {
    */
   Partition[] listPartitions();
 
+  /**
+   * List one page of partition names of the table, optionally filtered by partition values.
+   *
+   * <p>Pages are in partition name order and keyed by partition name: pass the last name of the
+   * previous page as {@code pageToken} to get the next page. A page shorter than {@code limit}
+   * means there are no more partitions.
+   *
+   * <p>The filter is evaluated by the underlying catalog, for example {@code dt >= "2024-01-01"
+   * AND region = "us"} for Hive. The default implementation sorts {@link #listPartitionNames()}
+   * and pages over it, and does not support filters.
+   *
+   * @param filter The filter on partition values, or null to list all partitions.
+   * @param pageToken The last partition name of the previous page, or null to start from the
+   *     first partition.
+   * @param limit The maximum number of partition names to return, must be positive.
+   * @return The partition names of the page.
+   * @throws UnsupportedOperationException If the filter is not supported.
+   */
+  default String[] listPartitionNames(String filter, String pageToken, int limit)
+      throws UnsupportedOperationException {
+    if (limit <= 0) {
+      throw new IllegalArgumentException("limit must be positive, but got " + limit);
+    }
+    if (filter != null) {
+      throw new UnsupportedOperationException("Partition filtering is not supported");
+    }
+
+    String[] names = listPartitionNames().clone();
+    Arrays.sort(names);
+    // Resume after the token, or after where it would be if it has been dropped since.
+    int index = pageToken == null ? -1 : Arrays.binarySearch(names, pageToken);
+    int start = index >= 0 ? index + 1 : -index - 1;
+    return Arrays.copyOfRange(names, start, (int) Math.min(names.length, (long) start + limit));
+  }
+
+  /**
+   * List one page of partitions of the table, optionally filtered by partition values. Pages are
+   * keyed the same way as {@link #listPartitionNames(String, String, int)}.
+   *
+   * @param filter The filter on partition values, or null to list all partitions.
+   * @param pageToken The last partition name of the previous page, or null to start from the
+   *     first partition.
+   * @param limit The maximum number of partitions to return, must be positive.
+   * @return The partitions of the page.
+   * @throws UnsupportedOperationException If the filter is not supported.
+   */
+  default Partition[] listPartitions(String filter, String pageToken, int limit)
+      throws UnsupportedOperationException {
+    if (limit <= 0) {
+      throw new IllegalArgumentException("limit must be positive, but got " + limit);
+    }
+    if (filter != null) {
+      throw new UnsupportedOperationException("Partition filtering is not supported");
+    }
+
+    Partition[] partitions = listPartitions().clone();
+    Arrays.sort(partitions, Comparator.comparing(Partition::name));
+    int index =
+        pageToken == null
+            ? -1
+            : Arrays.binarySearch(
+                Arrays.stream(partitions).map(Partition::name).toArray(String[]::new), pageToken);
+    int start = index >= 0 ? index + 1 : -index - 1;
+    return Arrays.copyOfRange(
+        partitions, start, (int) Math.min(partitions.length, (long) start + limit));
+  }
+
   /**
    * Get a partition by partition name, you may get one of the following types of partitions:
    *
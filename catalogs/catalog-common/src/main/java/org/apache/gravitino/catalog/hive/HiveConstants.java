@@ -24,6 +24,9 @@ public class HiveConstants {
   public static final String CLIENT_POOL_SIZE = "client.pool-size";
   public static final String CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS =
       "client.pool-cache.eviction-interval-ms";
+  public static final String CLIENT_POOL_MAX_SIZE = "client.pool-max-size";
+  public static final String CLIENT_POOL_BORROW_TIMEOUT_MS = "client.pool-borrow-timeout-ms";
+  public static final String CLIENT_POOL_IDLE_TIMEOUT_MS = "client.pool-idle-timeout-ms";
   public static final String IMPERSONATION_ENABLE = "impersonation-enable";
   public static final String KEY_TAB_URI = "kerberos.keytab-uri";
   public static final String PRINCIPAL = "kerberos.principal";
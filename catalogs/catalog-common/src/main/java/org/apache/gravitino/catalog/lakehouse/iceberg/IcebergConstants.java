@@ -35,6 +35,9 @@ public class IcebergConstants {
   public static final String URI = "uri";
   public static final String CATALOG_BACKEND_NAME = "catalog-backend-name";
 
+  public static final String TABLE_METADATA_CACHE_CAPACITY = "table-metadata-cache-capacity";
+  public static final String TABLE_METADATA_CACHE_EXPIRE_MS = "table-metadata-cache-expire-ms";
+
   // IO properties
   public static final String IO_IMPL = "io-impl";
   public static final String ICEBERG_S3_ENDPOINT = "s3.endpoint";
@@ -68,12 +71,24 @@ public class IcebergConstants {
   public static final String ICEBERG_METRICS_STORE = "metricsStore";
   public static final String ICEBERG_METRICS_STORE_RETAIN_DAYS = "metricsStoreRetainDays";
   public static final String ICEBERG_METRICS_QUEUE_CAPACITY = "metricsQueueCapacity";
+  public static final String ICEBERG_METRICS_STORE_BATCH_SIZE = "metricsStoreBatchSize";
+  public static final String ICEBERG_METRICS_STORE_BATCH_LINGER_MS = "metricsStoreBatchLingerMs";
 
   public static final String GRAVITINO_ICEBERG_REST_SERVICE_NAME = "iceberg-rest";
 
   public static final String ICEBERG_REST_CATALOG_CACHE_EVICTION_INTERVAL =
       "catalog-cache-eviction-interval-ms";
 
+  public static final String ICEBERG_REST_LOAD_TABLE_RESPONSE_CACHE_MAX_BYTES =
+      "load-table-response-cache-max-bytes";
+
+  public static final String ICEBERG_REST_CATALOG_MAX_CONCURRENT_REQUESTS =
+      "catalog-max-concurrent-requests";
+  public static final String ICEBERG_REST_CATALOG_REQUEST_QUEUE_TIMEOUT =
+      "catalog-request-queue-timeout-ms";
+  public static final String ICEBERG_REST_CATALOG_REQUEST_RETRY_AFTER =
+      "catalog-request-retry-after-seconds";
+
   public static final String ICEBERG_REST_CATALOG_CONFIG_PROVIDER = "catalog-config-provider";
   public static final String STATIC_ICEBERG_CATALOG_CONFIG_PROVIDER_NAME = "static-config-provider";
   public static final String DYNAMIC_ICEBERG_CATALOG_CONFIG_PROVIDER_NAME =
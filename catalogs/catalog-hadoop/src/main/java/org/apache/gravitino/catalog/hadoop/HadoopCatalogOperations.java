@@ -30,6 +30,7 @@ import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -389,6 +390,29 @@ public class HadoopCatalogOperations extends ManagedSchemaOperations
   public String getFileLocation(NameIdentifier ident, String subPath)
       throws NoSuchFilesetException {
     Preconditions.checkArgument(subPath != null, "subPath must not be null");
+    Fileset fileset = loadFileset(ident);
+    return getFileLocation(ident, fileset, checkSingleFile(fileset), subPath);
+  }
+
+  @Override
+  public Map<String, String> getFileLocations(NameIdentifier ident, List<String> subPaths)
+      throws NoSuchFilesetException {
+    Preconditions.checkArgument(subPaths != null, "subPaths must not be null");
+    Preconditions.checkArgument(
+        subPaths.stream().allMatch(Objects::nonNull), "subPath must not be null");
+    // Load the fileset and check its storage location only once for the whole batch.
+    Fileset fileset = loadFileset(ident);
+    boolean isSingleFile = checkSingleFile(fileset);
+
+    Map<String, String> fileLocations = Maps.newLinkedHashMap();
+    for (String subPath : subPaths) {
+      fileLocations.put(subPath, getFileLocation(ident, fileset, isSingleFile, subPath));
+    }
+    return fileLocations;
+  }
+
+  private String getFileLocation(
+      NameIdentifier ident, Fileset fileset, boolean isSingleFile, String subPath) {
     String processedSubPath;
     if (!subPath.trim().isEmpty() && !subPath.trim().startsWith(SLASH)) {
       processedSubPath = SLASH + subPath.trim();
@@ -396,9 +420,6 @@ public class HadoopCatalogOperations extends ManagedSchemaOperations
       processedSubPath = subPath.trim();
     }
 
-    Fileset fileset = loadFileset(ident);
-
-    boolean isSingleFile = checkSingleFile(fileset);
     // if the storage location is a single file, it cannot have sub path to access.
     if (isSingleFile && StringUtils.isBlank(processedSubPath)) {
       throw new GravitinoRuntimeException(
@@ -238,6 +238,12 @@ public class SecureHadoopCatalogOperations
     return hadoopCatalogOperations.getFileLocation(ident, subPath);
   }
 
+  @Override
+  public Map<String, String> getFileLocations(NameIdentifier ident, List<String> subPaths)
+      throws NoSuchFilesetException {
+    return hadoopCatalogOperations.getFileLocations(ident, subPaths);
+  }
+
   @Override
   public void close() throws IOException {
     hadoopCatalogOperations.close();
@@ -38,6 +38,7 @@ import static org.apache.gravitino.catalog.hadoop.HadoopCatalog.SCHEMA_PROPERTIE
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import java.io.File;
@@ -45,6 +46,7 @@ import java.io.IOException;
 import java.net.ConnectException;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -980,6 +982,36 @@ public class TestHadoopCatalogOperations {
     }
   }
 
+  @Test
+  public void testGetFileLocations() throws IOException {
+    String schemaName = "schema1025";
+    String comment = "comment1025";
+    String schemaPath = TEST_ROOT_PATH + "/" + schemaName;
+    createSchema(schemaName, comment, null, schemaPath);
+
+    String name = "fileset1025";
+    String storageLocation = TEST_ROOT_PATH + "/c1/" + schemaName + "/" + name;
+    createFileset(name, schemaName, comment, Fileset.Type.MANAGED, null, storageLocation);
+
+    try (SecureHadoopCatalogOperations ops = new SecureHadoopCatalogOperations(store)) {
+      ops.initialize(Maps.newHashMap(), randomCatalogInfo(), HADOOP_PROPERTIES_METADATA);
+      NameIdentifier filesetIdent = NameIdentifier.of("m1", "c1", schemaName, name);
+      List<String> subPaths = ImmutableList.of("/test/test1.parquet", "test/test2.parquet", "");
+      Map<String, String> fileLocations = ops.getFileLocations(filesetIdent, subPaths);
+      Assertions.assertEquals(subPaths, ImmutableList.copyOf(fileLocations.keySet()));
+      for (String subPath : subPaths) {
+        Assertions.assertEquals(
+            ops.getFileLocation(filesetIdent, subPath), fileLocations.get(subPath));
+      }
+
+      Assertions.assertThrows(
+          IllegalArgumentException.class, () -> ops.getFileLocations(filesetIdent, null));
+      Assertions.assertThrows(
+          IllegalArgumentException.class,
+          () -> ops.getFileLocations(filesetIdent, Arrays.asList("/test", null)));
+    }
+  }
+
   private static Stream<Arguments> locationArguments() {
     return Stream.of(
         // Honor the catalog location
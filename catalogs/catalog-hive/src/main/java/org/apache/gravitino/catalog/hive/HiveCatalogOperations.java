@@ -31,22 +31,31 @@ import static org.apache.hadoop.hive.metastore.TableType.EXTERNAL_TABLE;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.PrivilegedExceptionAction;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
@@ -59,6 +68,7 @@ import org.apache.gravitino.connector.CatalogInfo;
 import org.apache.gravitino.connector.CatalogOperations;
 import org.apache.gravitino.connector.HasPropertyMetadata;
 import org.apache.gravitino.connector.ProxyPlugin;
+import org.apache.gravitino.connector.SupportsBatchTableLoad;
 import org.apache.gravitino.connector.SupportsSchemas;
 import org.apache.gravitino.exceptions.ConnectionFailedException;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
@@ -69,6 +79,7 @@ import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
 import org.apache.gravitino.exceptions.TableAlreadyExistsException;
 import org.apache.gravitino.hive.CachedClientPool;
 import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.metrics.source.MetricsSource;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
@@ -99,13 +110,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /** Operations for interacting with an Apache Hive catalog in Apache Gravitino. */
-public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas, TableCatalog {
+public class HiveCatalogOperations
+    implements CatalogOperations, SupportsSchemas, TableCatalog, SupportsBatchTableLoad {
 
   public static final Logger LOG = LoggerFactory.getLogger(HiveCatalogOperations.class);
   public static final String GRAVITINO_KEYTAB_FORMAT = "keytabs/gravitino-hive-%s-keytab";
 
   @VisibleForTesting CachedClientPool clientPool;
 
+  private final HivePartitionNameSnapshots partitionNameSnapshots =
+      new HivePartitionNameSnapshots();
+
   @VisibleForTesting HiveConf hiveConf;
 
   private CatalogInfo info;
@@ -116,6 +131,10 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
   private String kerberosRealm;
   private ProxyPlugin proxyPlugin;
   private boolean listAllTables = true;
+  // Fetches the batches of a bulk table load in parallel, one thread per pooled client.
+  private ThreadPoolExecutor tableLoadExecutor;
+  // The maximum number of tables fetched by one getTableObjectsByName call.
+  @VisibleForTesting int tableLoadBatchSize;
   // The maximum number of tables that can be returned by the listTableNamesByFilter function.
   // The default value is -1, which means that all tables are returned.
   private static final short MAX_TABLES = -1;
@@ -168,9 +187,28 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
 
     initKerberosIfNecessary(conf, hadoopConf);
 
-    this.clientPool = new CachedClientPool(hiveConf, conf);
+    String metricsSourceName =
+        info == null
+            ? null
+            : String.join(
+                ".",
+                MetricsSource.HIVE_CLIENT_POOL_METRIC_NAME,
+                info.namespace().level(0),
+                info.name());
+    this.clientPool = new CachedClientPool(hiveConf, conf, metricsSourceName);
 
     this.listAllTables = enableListAllTables(conf);
+
+    this.tableLoadBatchSize = hiveConf.getIntVar(ConfVars.METASTORE_BATCH_RETRIEVE_MAX);
+    this.tableLoadExecutor =
+        new ThreadPoolExecutor(
+            clientPool.poolSize(),
+            clientPool.poolSize(),
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            getThreadFactory("hive-table-loader"));
+    tableLoadExecutor.allowCoreThreadTimeOut(true);
   }
 
   private void initKerberosIfNecessary(Map<String, String> conf, Configuration hadoopConf) {
@@ -299,6 +337,11 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
       checkTgtExecutor = null;
     }
 
+    if (tableLoadExecutor != null) {
+      tableLoadExecutor.shutdownNow();
+      tableLoadExecutor = null;
+    }
+
     Path keytabPath = Paths.get(String.format(GRAVITINO_KEYTAB_FORMAT, info.id()));
     if (Files.exists(keytabPath)) {
       try {
@@ -547,21 +590,28 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
         // Iceberg, Paimon and Hudi table. In the future, if necessary, we will need to filter out
         // other tables. In addition, the current return also includes tables of type VIRTUAL-VIEW.
         String icebergAndPaimonFilter = getIcebergAndPaimonFilter();
-        List<String> icebergAndPaimonTables =
-            clientPool.run(
-                c ->
-                    c.listTableNamesByFilter(
-                        schemaIdent.name(), icebergAndPaimonFilter, MAX_TABLES));
-        allTables.removeAll(icebergAndPaimonTables);
+        Set<String> icebergAndPaimonTables =
+            Sets.newHashSet(
+                clientPool.run(
+                    c ->
+                        c.listTableNamesByFilter(
+                            schemaIdent.name(), icebergAndPaimonFilter, MAX_TABLES)));
 
         // filter out the Hudi tables
         String hudiFilter =
             String.format(
                 "%sprovider like \"hudi\"", hive_metastoreConstants.HIVE_FILTER_FIELD_PARAMS);
-        List<String> hudiTables =
-            clientPool.run(
-                c -> c.listTableNamesByFilter(schemaIdent.name(), hudiFilter, MAX_TABLES));
-        removeHudiTables(allTables, hudiTables);
+        Set<String> hudiTables =
+            Sets.newHashSet(
+                clientPool.run(
+                    c -> c.listTableNamesByFilter(schemaIdent.name(), hudiFilter, MAX_TABLES)));
+
+        // Filter in one pass with hash lookups, removing from the list for each excluded name
+        // is quadratic for databases with many tables.
+        allTables =
+            allTables.stream()
+                .filter(t -> !icebergAndPaimonTables.contains(t) && !isHudiTable(t, hudiTables))
+                .collect(Collectors.toList());
       }
       return allTables.stream()
           .map(tbName -> NameIdentifier.of(namespace, tbName))
@@ -590,14 +640,24 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     return String.format("%s or %s", icebergFilter, paimonFilter);
   }
 
-  private void removeHudiTables(List<String> allTables, List<String> hudiTables) {
-    for (String hudiTable : hudiTables) {
-      allTables.removeIf(
-          t ->
-              t.equals(hudiTable)
-                  || t.startsWith(hudiTable + "_ro")
-                  || t.startsWith(hudiTable + "_rt"));
+  // A table belongs to a Hudi table if it is the Hudi table itself or its read-optimized or
+  // real-time view, whose names start with "<hudi table>_ro" or "<hudi table>_rt".
+  private static boolean isHudiTable(String table, Set<String> hudiTables) {
+    if (hudiTables.isEmpty()) {
+      return false;
+    }
+
+    if (hudiTables.contains(table)) {
+      return true;
+    }
+
+    for (int i = table.indexOf('_'); i > 0; i = table.indexOf('_', i + 1)) {
+      if ((table.startsWith("_ro", i) || table.startsWith("_rt", i))
+          && hudiTables.contains(table.substring(0, i))) {
+        return true;
+      }
     }
+    return false;
   }
 
   /**
@@ -614,12 +674,128 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
         HiveTable.fromHiveTable(table)
             .withProxyPlugin(proxyPlugin)
             .withClientPool(clientPool)
+            .withPartitionNameSnapshots(partitionNameSnapshots)
             .build();
 
     LOG.info("Loaded Hive table {} from Hive Metastore ", tableIdent.name());
     return hiveTable;
   }
 
+  /**
+   * Loads the given tables from the Hive Metastore with getTableObjectsByName. The names are split
+   * into batches of {@code hive.metastore.batch.retrieve.max} and the batches are fetched in
+   * parallel, at most one batch per pooled client. Tables that don't exist are skipped.
+   *
+   * @param namespace The namespace of the schema.
+   * @param tableNames The names of the tables to load.
+   * @return The loaded HiveTable instances.
+   * @throws NoSuchSchemaException If the schema does not exist in the Hive Metastore.
+   */
+  @Override
+  public Table[] loadTables(Namespace namespace, String[] tableNames)
+      throws NoSuchSchemaException {
+    NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+    List<List<String>> batches = Lists.partition(Arrays.asList(tableNames), tableLoadBatchSize);
+
+    List<org.apache.hadoop.hive.metastore.api.Table> tables;
+    try {
+      tables =
+          batches.size() > 1
+              ? loadHiveTablesInParallel(schemaIdent.name(), batches)
+              : loadHiveTables(schemaIdent.name(), Arrays.asList(tableNames));
+
+    } catch (UnknownDBException e) {
+      throw new NoSuchSchemaException(
+          "Schema (database) does not exist %s in Hive Metastore", namespace);
+
+    } catch (TException e) {
+      throw new RuntimeException(
+          "Failed to load tables under the namespace : " + namespace + " from Hive Metastore", e);
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+
+    // Some Metastore versions return nothing instead of failing for an unknown database.
+    if (tables.size() < tableNames.length && !schemaExists(schemaIdent)) {
+      throw new NoSuchSchemaException(
+          "Schema (database) does not exist %s in Hive Metastore", namespace);
+    }
+
+    LOG.info("Loaded {} Hive tables of {} from Hive Metastore", tables.size(), namespace);
+    return tables.stream()
+        .map(
+            t ->
+                HiveTable.fromHiveTable(t)
+                    .withProxyPlugin(proxyPlugin)
+                    .withClientPool(clientPool)
+                    .withPartitionNameSnapshots(partitionNameSnapshots)
+                    .build())
+        .toArray(Table[]::new);
+  }
+
+  private List<org.apache.hadoop.hive.metastore.api.Table> loadHiveTables(
+      String dbName, List<String> tableNames) throws TException, InterruptedException {
+    if (tableNames.isEmpty()) {
+      return Lists.newArrayList();
+    }
+    return clientPool.run(c -> c.getTableObjectsByName(dbName, tableNames));
+  }
+
+  private List<org.apache.hadoop.hive.metastore.api.Table> loadHiveTablesInParallel(
+      String dbName, List<List<String>> batches) throws TException, InterruptedException {
+    // The client pool is keyed by the current user and the catalog classes are loaded by the
+    // context class loader, neither of which is inherited by the executor threads.
+    UserGroupInformation ugi;
+    try {
+      ugi = UserGroupInformation.getCurrentUser();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+    List<Future<List<org.apache.hadoop.hive.metastore.api.Table>>> futures =
+        Lists.newArrayListWithCapacity(batches.size());
+    try {
+      for (List<String> batch : batches) {
+        futures.add(
+            tableLoadExecutor.submit(
+                () -> {
+                  Thread thread = Thread.currentThread();
+                  ClassLoader original = thread.getContextClassLoader();
+                  thread.setContextClassLoader(classLoader);
+                  try {
+                    PrivilegedExceptionAction<List<org.apache.hadoop.hive.metastore.api.Table>>
+                        action = () -> loadHiveTables(dbName, batch);
+                    return ugi.doAs(action);
+                  } finally {
+                    thread.setContextClassLoader(original);
+                  }
+                }));
+      }
+
+      List<org.apache.hadoop.hive.metastore.api.Table> tables = Lists.newArrayList();
+      for (Future<List<org.apache.hadoop.hive.metastore.api.Table>> future : futures) {
+        tables.addAll(future.get());
+      }
+      return tables;
+
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof UndeclaredThrowableException) {
+        cause = cause.getCause();
+      }
+      Throwables.throwIfInstanceOf(cause, TException.class);
+      Throwables.throwIfInstanceOf(cause, InterruptedException.class);
+      Throwables.throwIfUnchecked(cause);
+      throw new RuntimeException(cause);
+
+    } finally {
+      futures.forEach(f -> f.cancel(true));
+    }
+  }
+
   private org.apache.hadoop.hive.metastore.api.Table loadHiveTable(NameIdentifier tableIdent) {
     NameIdentifier schemaIdent = NameIdentifier.of(tableIdent.namespace().levels());
 
@@ -785,6 +961,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
               .withName(tableIdent.name())
               .withSchemaName(schemaIdent.name())
               .withClientPool(clientPool)
+              .withPartitionNameSnapshots(partitionNameSnapshots)
               .withComment(comment)
               .withColumns(columns)
               .withProperties(properties)
@@ -906,6 +1083,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
       return HiveTable.fromHiveTable(alteredHiveTable)
           .withProxyPlugin(proxyPlugin)
           .withClientPool(clientPool)
+          .withPartitionNameSnapshots(partitionNameSnapshots)
           .build();
 
     } catch (TException | InterruptedException e) {
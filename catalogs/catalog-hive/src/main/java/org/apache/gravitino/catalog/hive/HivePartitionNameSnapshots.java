@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.hive;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.thrift.TException;
+
+/**
+ * Sorted partition names of the tables being paged through, shared by all the tables of a Hive
+ * catalog. The Hive 2 metastore can neither start a listing after a given partition nor list
+ * partition names by filter, so without a snapshot every page would list the whole table again.
+ * The first page of a listing is cut by the metastore and never loads a snapshot, the following
+ * pages load it once and page through it.
+ */
+class HivePartitionNameSnapshots {
+
+  private static final long EXPIRE_AFTER_WRITE_SECONDS = 60;
+  private static final long MAXIMUM_SIZE = 64;
+
+  /** Lists the partition names of a table from the metastore. */
+  @FunctionalInterface
+  interface Loader {
+    List<String> load() throws TException, InterruptedException;
+  }
+
+  private final Cache<List<String>, List<String>> snapshots =
+      CacheBuilder.newBuilder()
+          .expireAfterWrite(EXPIRE_AFTER_WRITE_SECONDS, TimeUnit.SECONDS)
+          .maximumSize(MAXIMUM_SIZE)
+          .build();
+
+  /**
+   * Returns the sorted partition names of the table matching the filter, loading them with the
+   * given loader if there is no snapshot yet.
+   */
+  List<String> get(
+      String schemaName, String tableName, String filter, Loader loader)
+      throws TException, InterruptedException {
+    try {
+      return snapshots.get(
+          Arrays.asList(schemaName, tableName, filter),
+          () -> {
+            String[] names = loader.load().toArray(new String[0]);
+            Arrays.sort(names);
+            return Collections.unmodifiableList(Arrays.asList(names));
+          });
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof TException) {
+        throw (TException) e.getCause();
+      }
+      if (e.getCause() instanceof InterruptedException) {
+        throw (InterruptedException) e.getCause();
+      }
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  /** Drops the snapshots of the table after one of its partitions has been added or dropped. */
+  void invalidate(String schemaName, String tableName) {
+    snapshots
+        .asMap()
+        .keySet()
+        .removeIf(
+            key -> Objects.equals(key.get(0), schemaName) && Objects.equals(key.get(1), tableName));
+  }
+}
@@ -61,6 +61,7 @@ public class HiveTable extends BaseTable {
   public static final String TABLE_TYPE_PROP = "table_type";
   private String schemaName;
   private CachedClientPool clientPool;
+  private HivePartitionNameSnapshots partitionNameSnapshots;
   private StorageDescriptor sd;
 
   private HiveTable() {}
@@ -99,6 +100,10 @@ public class HiveTable extends BaseTable {
     return clientPool;
   }
 
+  HivePartitionNameSnapshots partitionNameSnapshots() {
+    return partitionNameSnapshots;
+  }
+
   public void close() {
     if (clientPool != null) {
       // Note: Cannot close the client pool here because the client pool is shared by catalog
@@ -307,6 +312,7 @@ public class HiveTable extends BaseTable {
 
     private String schemaName;
     private CachedClientPool clientPool;
+    private HivePartitionNameSnapshots partitionNameSnapshots;
     private StorageDescriptor sd;
 
     /**
@@ -342,6 +348,17 @@ public class HiveTable extends BaseTable {
       return this;
     }
 
+    /**
+     * Sets the partition name snapshots shared by the tables of the catalog to page partitions.
+     *
+     * @param partitionNameSnapshots The partition name snapshots of the catalog.
+     * @return This Builder instance.
+     */
+    Builder withPartitionNameSnapshots(HivePartitionNameSnapshots partitionNameSnapshots) {
+      this.partitionNameSnapshots = partitionNameSnapshots;
+      return this;
+    }
+
     /** Creates a new instance of {@link Builder}. */
     private Builder() {}
 
@@ -363,6 +380,7 @@ public class HiveTable extends BaseTable {
       hiveTable.partitioning = partitioning;
       hiveTable.schemaName = schemaName;
       hiveTable.clientPool = clientPool;
+      hiveTable.partitionNameSnapshots = partitionNameSnapshots;
       hiveTable.sd = sd;
       hiveTable.proxyPlugin = proxyPlugin;
 
@@ -20,7 +20,10 @@ package org.apache.gravitino.catalog.hive;
 
 import com.google.common.base.Preconditions;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -99,6 +102,118 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
         .toArray(Partition[]::new);
   }
 
+  @Override
+  public String[] listPartitionNames(String filter, String pageToken, int limit) {
+    Preconditions.checkArgument(limit > 0, "limit must be positive, but got %s", limit);
+    try {
+      return partitionNamePage(filter, pageToken, limit).toArray(new String[0]);
+    } catch (TException | InterruptedException e) {
+      throw new RuntimeException(
+          "Failed to list partition names of table " + table.name() + " from Hive Metastore", e);
+    }
+  }
+
+  @Override
+  public Partition[] listPartitions(String filter, String pageToken, int limit) {
+    Preconditions.checkArgument(limit > 0, "limit must be positive, but got %s", limit);
+    List<String> partCols =
+        table.buildPartitionKeys().stream().map(FieldSchema::getName).collect(Collectors.toList());
+    Map<String, org.apache.hadoop.hive.metastore.api.Partition> byName = new LinkedHashMap<>();
+    try {
+      List<String> names;
+      if (filter != null && isFirstPageCutByMetastore(pageToken, limit)) {
+        partitionsByFilter(filter, (short) limit)
+            .forEach(p -> byName.put(FileUtils.makePartName(partCols, p.getValues()), p));
+        names = new ArrayList<>(byName.keySet());
+      } else {
+        // Only the partitions of the page are fetched, the rest of the table stays as names.
+        names = partitionNamePage(filter, pageToken, limit);
+        if (!names.isEmpty()) {
+          table
+              .clientPool()
+              .run(c -> c.getPartitionsByNames(table.schemaName(), table.name(), names))
+              .forEach(p -> byName.put(FileUtils.makePartName(partCols, p.getValues()), p));
+        }
+      }
+
+      // A partition dropped between the two metastore calls is left out of the page.
+      return names.stream()
+          .filter(byName::containsKey)
+          .map(name -> fromHivePartition(name, byName.get(name)))
+          .toArray(Partition[]::new);
+    } catch (TException | InterruptedException e) {
+      throw new RuntimeException(
+          "Failed to list partitions of table " + table.name() + " from Hive Metastore", e);
+    }
+  }
+
+  private static boolean isFirstPageCutByMetastore(String pageToken, int limit) {
+    return pageToken == null && limit <= Short.MAX_VALUE;
+  }
+
+  private List<String> partitionNamePage(String filter, String pageToken, int limit)
+      throws TException, InterruptedException {
+    if (isFirstPageCutByMetastore(pageToken, limit)) {
+      // The metastore returns partitions ordered by name, so the first page is its first rows.
+      if (filter == null) {
+        return table
+            .clientPool()
+            .run(c -> c.listPartitionNames(table.schemaName(), table.name(), (short) limit));
+      }
+      return partitionNames(partitionsByFilter(filter, (short) limit));
+    }
+
+    // The Hive 2 metastore can neither start after the page token nor list names by filter, so
+    // the following pages are cut from a snapshot of all the matching names.
+    HivePartitionNameSnapshots.Loader loader =
+        () ->
+            filter == null
+                ? table
+                    .clientPool()
+                    .run(c -> c.listPartitionNames(table.schemaName(), table.name(), (short) -1))
+                : partitionNames(partitionsByFilter(filter, (short) -1));
+    List<String> names;
+    if (table.partitionNameSnapshots() == null) {
+      names = loader.load().stream().sorted().collect(Collectors.toList());
+    } else {
+      names = table.partitionNameSnapshots().get(table.schemaName(), table.name(), filter, loader);
+    }
+    return page(names, pageToken, limit);
+  }
+
+  private List<String> partitionNames(
+      List<org.apache.hadoop.hive.metastore.api.Partition> partitions) {
+    List<String> partCols =
+        table.buildPartitionKeys().stream().map(FieldSchema::getName).collect(Collectors.toList());
+    return partitions.stream()
+        .map(p -> FileUtils.makePartName(partCols, p.getValues()))
+        .collect(Collectors.toList());
+  }
+
+  private List<org.apache.hadoop.hive.metastore.api.Partition> partitionsByFilter(
+      String filter, short maxParts) throws TException, InterruptedException {
+    return table
+        .clientPool()
+        .run(c -> c.listPartitionsByFilter(table.schemaName(), table.name(), filter, maxParts));
+  }
+
+  private void invalidatePartitionNameSnapshots() {
+    if (table.partitionNameSnapshots() != null) {
+      table.partitionNameSnapshots().invalidate(table.schemaName(), table.name());
+    }
+  }
+
+  /**
+   * Cuts one page out of sorted partition names, starting after the page token. The token
+   * partition may have been dropped since the previous page, so it is searched by order rather
+   * than by name.
+   */
+  private static List<String> page(List<String> names, String pageToken, int limit) {
+    int index = Collections.binarySearch(names, pageToken);
+    int start = index >= 0 ? index + 1 : -index - 1;
+    return names.subList(start, (int) Math.min(names.size(), (long) start + limit));
+  }
+
   @Override
   public Partition getPartition(String partitionName) throws NoSuchPartitionException {
     try {
@@ -180,6 +295,7 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
     try {
       org.apache.hadoop.hive.metastore.api.Partition createdPartition =
           table.clientPool().run(c -> c.add_partition(toHivePartition(identityPartition)));
+      invalidatePartitionNameSnapshots();
       return fromHivePartition(
           generatePartitionName((IdentityPartition) partition), createdPartition);
     } catch (TException | InterruptedException e) {
@@ -270,6 +386,7 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
                         partition.getValues(),
                         false));
       }
+      invalidatePartitionNameSnapshots();
     } catch (NoSuchPartitionException e) {
       return false;
 
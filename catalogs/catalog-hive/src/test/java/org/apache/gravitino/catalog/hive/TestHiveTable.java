@@ -343,6 +343,43 @@ public class TestHiveTable extends MiniHiveMetastoreService {
         hiveCatalogOperations.dropTable(tableIdentifier), "table should not be exists");
   }
 
+  @Test
+  public void testLoadTables() {
+    Namespace tableNs = Namespace.of(META_LAKE_NAME, hiveCatalog.name(), hiveSchema.name());
+    for (String name : new String[] {"table_1", "table_2", "table_3"}) {
+      hiveCatalogOperations.createTable(
+          NameIdentifier.of(tableNs, name),
+          new Column[] {
+            HiveColumn.builder().withName("col_1").withType(Types.ByteType.get()).build()
+          },
+          HIVE_COMMENT,
+          ImmutableMap.of());
+    }
+
+    int batchSize = hiveCatalogOperations.tableLoadBatchSize;
+    try {
+      // Split the names into several batches to load them in parallel.
+      hiveCatalogOperations.tableLoadBatchSize = 2;
+      Table[] tables =
+          hiveCatalogOperations.loadTables(
+              tableNs, new String[] {"table_1", "table_2", "not_exist", "table_3"});
+      Assertions.assertArrayEquals(
+          new String[] {"table_1", "table_2", "table_3"},
+          Arrays.stream(tables).map(Table::name).sorted().toArray(String[]::new));
+      Assertions.assertTrue(Arrays.stream(tables).allMatch(t -> t.columns().length == 1));
+    } finally {
+      hiveCatalogOperations.tableLoadBatchSize = batchSize;
+    }
+
+    Assertions.assertEquals(
+        1, hiveCatalogOperations.loadTables(tableNs, new String[] {"table_1"}).length);
+
+    Namespace notExistNs = Namespace.of(META_LAKE_NAME, hiveCatalog.name(), "not_exist_db");
+    Assertions.assertThrows(
+        NoSuchSchemaException.class,
+        () -> hiveCatalogOperations.loadTables(notExistNs, new String[] {"table_1"}));
+  }
+
   @Test
   public void testListTable() {
     // mock iceberg table and hudi table
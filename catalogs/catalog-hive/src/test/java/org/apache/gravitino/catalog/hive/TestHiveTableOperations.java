@@ -110,6 +110,72 @@ public class TestHiveTableOperations extends MiniHiveMetastoreService {
         partitions.length > 0 && Arrays.asList(partitions).contains(existingPartition));
   }
 
+  @Test
+  public void testListPartitionsByPage() {
+    SupportsPartitions partitions = hiveTable.supportPartitions();
+    String[] allNames = partitions.listPartitionNames();
+
+    String[] firstPage = partitions.listPartitionNames(null, null, 1);
+    Assertions.assertArrayEquals(new String[] {allNames[0]}, firstPage);
+    String[] restNames = partitions.listPartitionNames(null, firstPage[0], allNames.length);
+    Assertions.assertArrayEquals(Arrays.copyOfRange(allNames, 1, allNames.length), restNames);
+
+    Partition[] pagePartitions = partitions.listPartitions(null, null, allNames.length);
+    Assertions.assertArrayEquals(
+        allNames, Arrays.stream(pagePartitions).map(Partition::name).toArray(String[]::new));
+    Assertions.assertEquals(
+        0, partitions.listPartitions(null, allNames[allNames.length - 1], 1).length);
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> partitions.listPartitionNames(null, null, 0));
+  }
+
+  @Test
+  public void testListPartitionsByFilterAndPage() {
+    HiveColumn col0 =
+        HiveColumn.builder().withName("name").withType(Types.StringType.get()).build();
+    HiveColumn col1 =
+        HiveColumn.builder().withName("region").withType(Types.StringType.get()).build();
+    HiveTable regionTable =
+        (HiveTable)
+            hiveCatalogOperations.createTable(
+                NameIdentifier.of(
+                    META_LAKE_NAME, HIVE_CATALOG_NAME, HIVE_SCHEMA_NAME, genRandomName()),
+                new Column[] {col0, col1},
+                HIVE_COMMENT,
+                Maps.newHashMap(),
+                new Transform[] {identity(col1.name())});
+    SupportsPartitions partitions = regionTable.supportPartitions();
+    for (String region : new String[] {"us", "apac", "eu", "emea"}) {
+      partitions.addPartition(
+          Partitions.identity(
+              new String[][] {{col1.name()}}, new Literal<?>[] {Literals.stringLiteral(region)}));
+    }
+
+    String filter = "region > \"b\"";
+    String[] firstPage = partitions.listPartitionNames(filter, null, 2);
+    Assertions.assertArrayEquals(new String[] {"region=emea", "region=eu"}, firstPage);
+    Assertions.assertArrayEquals(
+        new String[] {"region=us"}, partitions.listPartitionNames(filter, firstPage[1], 2));
+    Assertions.assertEquals(0, partitions.listPartitionNames(filter, "region=us", 2).length);
+
+    Partition[] firstPartitions = partitions.listPartitions(filter, null, 1);
+    Assertions.assertArrayEquals(
+        new String[] {"region=emea"},
+        Arrays.stream(firstPartitions).map(Partition::name).toArray(String[]::new));
+    Partition[] restPartitions = partitions.listPartitions(filter, firstPartitions[0].name(), 5);
+    Assertions.assertArrayEquals(
+        new String[] {"region=eu", "region=us"},
+        Arrays.stream(restPartitions).map(Partition::name).toArray(String[]::new));
+
+    // The next pages of a listing see the partitions dropped through the catalog.
+    Assertions.assertTrue(partitions.dropPartition("region=eu"));
+    Assertions.assertArrayEquals(
+        new String[] {"region=us"}, partitions.listPartitionNames(filter, "region=emea", 2));
+    Assertions.assertArrayEquals(
+        new String[] {"region=us"}, partitions.listPartitionNames(filter, "region=eu", 2));
+  }
+
   @Test
   public void testGetPartition() {
     SupportsPartitions partitions = hiveTable.supportPartitions();
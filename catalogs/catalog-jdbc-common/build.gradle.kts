@@ -53,6 +53,9 @@ dependencies {
   implementation(libs.jackson.datatype.jdk8)
   implementation(libs.jackson.datatype.jsr310)
 
+  // Provided by the Gravitino server, the metadata cache exports its metrics through it.
+  compileOnly(libs.metrics.core)
+
   testImplementation(libs.commons.io)
   testImplementation(libs.junit.jupiter.api)
   testImplementation(libs.junit.jupiter.params)
@@ -55,6 +55,7 @@ import org.apache.gravitino.catalog.jdbc.utils.DataSourceUtils;
 import org.apache.gravitino.connector.CatalogInfo;
 import org.apache.gravitino.connector.CatalogOperations;
 import org.apache.gravitino.connector.HasPropertyMetadata;
+import org.apache.gravitino.connector.SupportsBatchTableLoad;
 import org.apache.gravitino.connector.SupportsSchemas;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
@@ -63,6 +64,7 @@ import org.apache.gravitino.exceptions.NonEmptySchemaException;
 import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
 import org.apache.gravitino.exceptions.TableAlreadyExistsException;
 import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.metrics.source.MetricsSource;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
@@ -78,7 +80,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /** Operations for interacting with the Jdbc catalog in Apache Gravitino. */
-public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas, TableCatalog {
+public class JdbcCatalogOperations
+    implements CatalogOperations, SupportsSchemas, TableCatalog, SupportsBatchTableLoad {
 
   private static final String GRAVITINO_ATTRIBUTE_DOES_NOT_EXIST_MSG =
       "The Gravitino id attribute does not exist in properties";
@@ -101,6 +104,9 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
 
   private final JdbcColumnDefaultValueConverter columnDefaultValueConverter;
 
+  // The cache of the loaded schemas and tables, null if it is not enabled.
+  private JdbcMetadataCache metadataCache;
+
   public static class JDBCDriverInfo {
     public String name;
     public String version;
@@ -164,17 +170,34 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
     resultConf.putAll(gravitinoConfig);
 
     JdbcConfig jdbcConfig = new JdbcConfig(resultConf);
-    this.dataSource = DataSourceUtils.createDataSource(jdbcConfig);
+    this.dataSource =
+        DataSourceUtils.createDataSource(
+            jdbcConfig, metricsSourceName(MetricsSource.JDBC_CONNECTION_POOL_METRIC_NAME, info));
 
     checkJDBCDriverVersion();
     this.databaseOperation.initialize(dataSource, exceptionConverter, resultConf);
     this.tableOperation.initialize(
         dataSource, exceptionConverter, jdbcTypeConverter, columnDefaultValueConverter, resultConf);
+
+    if (jdbcConfig.isMetadataCacheEnabled()) {
+      this.metadataCache =
+          new JdbcMetadataCache(
+              jdbcConfig.getMetadataCacheTtlMs(),
+              jdbcConfig.getMetadataCacheMaxSize(),
+              metricsSourceName(MetricsSource.JDBC_METADATA_CACHE_METRIC_NAME, info));
+    }
+  }
+
+  private static String metricsSourceName(String prefix, CatalogInfo info) {
+    return info == null ? null : String.join(".", prefix, info.namespace().level(0), info.name());
   }
 
   /** Closes the Jdbc catalog and releases the associated client pool. */
   @Override
   public void close() {
+    if (metadataCache != null) {
+      metadataCache.close();
+    }
     DataSourceUtils.closeDataSource(dataSource);
   }
 
@@ -240,6 +263,7 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
     resultProperties.remove(StringIdentifier.ID_KEY);
     databaseOperation.create(
         ident.name(), StringIdentifier.addToComment(identifier, comment), resultProperties);
+    invalidateSchema(ident);
     return JdbcSchema.builder()
         .withName(ident.name())
         .withProperties(resultProperties)
@@ -258,6 +282,13 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
    */
   @Override
   public JdbcSchema loadSchema(NameIdentifier ident) throws NoSuchSchemaException {
+    if (metadataCache != null) {
+      return metadataCache.loadSchema(ident, () -> internalLoadSchema(ident));
+    }
+    return internalLoadSchema(ident);
+  }
+
+  private JdbcSchema internalLoadSchema(NameIdentifier ident) {
     JdbcSchema load = databaseOperation.load(ident.name());
     String comment = load.comment();
     StringIdentifier id = StringIdentifier.fromComment(comment);
@@ -299,7 +330,11 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
    */
   @Override
   public boolean dropSchema(NameIdentifier ident, boolean cascade) throws NonEmptySchemaException {
-    return databaseOperation.delete(ident.name(), cascade);
+    try {
+      return databaseOperation.delete(ident.name(), cascade);
+    } finally {
+      invalidateSchema(ident);
+    }
   }
 
   /**
@@ -328,7 +363,46 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
   public Table loadTable(NameIdentifier tableIdent) throws NoSuchTableException {
     String databaseName = NameIdentifier.of(tableIdent.namespace().levels()).name();
     String tableName = tableIdent.name();
-    JdbcTable load = tableOperation.load(databaseName, tableName);
+    if (metadataCache != null) {
+      return metadataCache.loadTable(tableIdent, () -> internalLoadTable(databaseName, tableName));
+    }
+    return internalLoadTable(databaseName, tableName);
+  }
+
+  /**
+   * Loads several tables of a schema from the JDBC catalog at once.
+   *
+   * @param namespace The namespace of the schema.
+   * @param tableNames The names of the tables to load.
+   * @return The loaded tables, tables that don't exist are skipped.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  @Override
+  public Table[] loadTables(Namespace namespace, String[] tableNames)
+      throws NoSuchSchemaException {
+    String databaseName = NameIdentifier.of(namespace.levels()).name();
+    JdbcTable[] tables =
+        tableOperation.loadTables(databaseName, Arrays.asList(tableNames)).stream()
+            .map(table -> toGravitinoTable(databaseName, table.name(), table))
+            .toArray(JdbcTable[]::new);
+    // The tables of a missing database are just not found, tell the two apart only when nothing
+    // is loaded so the common case doesn't pay for the extra query.
+    if (tables.length == 0 && tableNames.length > 0 && !databaseOperation.exist(databaseName)) {
+      throw new NoSuchSchemaException("Database %s could not be found", databaseName);
+    }
+    if (metadataCache != null) {
+      for (JdbcTable table : tables) {
+        metadataCache.putTable(NameIdentifier.of(namespace, table.name()), table);
+      }
+    }
+    return tables;
+  }
+
+  private JdbcTable internalLoadTable(String databaseName, String tableName) {
+    return toGravitinoTable(databaseName, tableName, tableOperation.load(databaseName, tableName));
+  }
+
+  private JdbcTable toGravitinoTable(String databaseName, String tableName, JdbcTable load) {
     Map<String, String> properties =
         load.properties() == null
             ? Maps.newHashMap()
@@ -400,7 +474,11 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
   @Override
   public boolean dropTable(NameIdentifier tableIdent) {
     String databaseName = NameIdentifier.of(tableIdent.namespace().levels()).name();
-    return tableOperation.drop(databaseName, tableIdent.name());
+    try {
+      return tableOperation.drop(databaseName, tableIdent.name());
+    } finally {
+      invalidateTable(tableIdent);
+    }
   }
 
   /**
@@ -462,6 +540,7 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
         partitioning,
         distribution,
         indexes);
+    invalidateTable(tableIdent);
 
     return JdbcTable.builder()
         .withAuditInfo(
@@ -487,7 +566,11 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
   @Override
   public boolean purgeTable(NameIdentifier tableIdent) throws UnsupportedOperationException {
     String databaseName = NameIdentifier.of(tableIdent.namespace().levels()).name();
-    return tableOperation.purge(databaseName, tableIdent.name());
+    try {
+      return tableOperation.purge(databaseName, tableIdent.name());
+    } finally {
+      invalidateTable(tableIdent);
+    }
   }
 
   /**
@@ -502,8 +585,15 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
   private Table renameTable(NameIdentifier tableIdent, TableChange.RenameTable renameTable)
       throws NoSuchTableException, IllegalArgumentException {
     String databaseName = NameIdentifier.of(tableIdent.namespace().levels()).name();
-    tableOperation.rename(databaseName, tableIdent.name(), renameTable.getNewName());
-    return loadTable(NameIdentifier.of(tableIdent.namespace(), renameTable.getNewName()));
+    NameIdentifier newTableIdent =
+        NameIdentifier.of(tableIdent.namespace(), renameTable.getNewName());
+    try {
+      tableOperation.rename(databaseName, tableIdent.name(), renameTable.getNewName());
+    } finally {
+      invalidateTable(tableIdent);
+      invalidateTable(newTableIdent);
+    }
+    return loadTable(newTableIdent);
   }
 
   /**
@@ -531,10 +621,27 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
       throws NoSuchTableException, IllegalArgumentException {
     String databaseName = NameIdentifier.of(tableIdent.namespace().levels()).name();
     TableChange[] resultChanges = replaceJdbcProperties(changes);
-    tableOperation.alterTable(databaseName, tableIdent.name(), resultChanges);
+    try {
+      tableOperation.alterTable(databaseName, tableIdent.name(), resultChanges);
+    } finally {
+      // Some catalogs apply the changes one by one, so a failed alter may still change the table.
+      invalidateTable(tableIdent);
+    }
     return loadTable(tableIdent);
   }
 
+  private void invalidateSchema(NameIdentifier ident) {
+    if (metadataCache != null) {
+      metadataCache.invalidateSchema(ident);
+    }
+  }
+
+  private void invalidateTable(NameIdentifier tableIdent) {
+    if (metadataCache != null) {
+      metadataCache.invalidateTable(tableIdent);
+    }
+  }
+
   private TableChange[] replaceJdbcProperties(TableChange[] changes) {
     // Replace jdbc properties
     return Arrays.stream(changes)
@@ -20,6 +20,7 @@ package org.apache.gravitino.catalog.jdbc;
 
 import static org.apache.gravitino.connector.PropertyEntry.booleanPropertyEntry;
 import static org.apache.gravitino.connector.PropertyEntry.integerPropertyEntry;
+import static org.apache.gravitino.connector.PropertyEntry.longPropertyEntry;
 import static org.apache.gravitino.connector.PropertyEntry.stringOptionalPropertyEntry;
 import static org.apache.gravitino.connector.PropertyEntry.stringPropertyEntry;
 
@@ -44,7 +45,12 @@ public class JdbcCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
           JdbcConfig.PASSWORD.getKey(),
           JdbcConfig.POOL_MIN_SIZE.getKey(),
           JdbcConfig.POOL_MAX_SIZE.getKey(),
-          JdbcConfig.TEST_ON_BORROW.getKey());
+          JdbcConfig.TEST_ON_BORROW.getKey(),
+          JdbcConfig.POOL_WARMUP.getKey(),
+          JdbcConfig.POOL_VALIDATION_QUERY.getKey(),
+          JdbcConfig.METADATA_CACHE_ENABLED.getKey(),
+          JdbcConfig.METADATA_CACHE_TTL_MS.getKey(),
+          JdbcConfig.METADATA_CACHE_MAX_SIZE.getKey());
 
   static {
     List<PropertyEntry<?>> propertyEntries =
@@ -110,6 +116,44 @@ public class JdbcCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
                 false /* immutable */,
                 JdbcConfig.TEST_ON_BORROW.getDefaultValue(),
                 true /* hidden */,
+                false /* reserved */),
+            booleanPropertyEntry(
+                JdbcConfig.POOL_WARMUP.getKey(),
+                JdbcConfig.POOL_WARMUP.getDoc(),
+                false /* required */,
+                false /* immutable */,
+                JdbcConfig.POOL_WARMUP.getDefaultValue(),
+                true /* hidden */,
+                false /* reserved */),
+            stringOptionalPropertyEntry(
+                JdbcConfig.POOL_VALIDATION_QUERY.getKey(),
+                JdbcConfig.POOL_VALIDATION_QUERY.getDoc(),
+                false /* immutable */,
+                null /* defaultValue */,
+                true /* hidden */),
+            booleanPropertyEntry(
+                JdbcConfig.METADATA_CACHE_ENABLED.getKey(),
+                JdbcConfig.METADATA_CACHE_ENABLED.getDoc(),
+                false /* required */,
+                false /* immutable */,
+                JdbcConfig.METADATA_CACHE_ENABLED.getDefaultValue(),
+                false /* hidden */,
+                false /* reserved */),
+            longPropertyEntry(
+                JdbcConfig.METADATA_CACHE_TTL_MS.getKey(),
+                JdbcConfig.METADATA_CACHE_TTL_MS.getDoc(),
+                false /* required */,
+                false /* immutable */,
+                JdbcConfig.METADATA_CACHE_TTL_MS.getDefaultValue(),
+                false /* hidden */,
+                false /* reserved */),
+            integerPropertyEntry(
+                JdbcConfig.METADATA_CACHE_MAX_SIZE.getKey(),
+                JdbcConfig.METADATA_CACHE_MAX_SIZE.getDoc(),
+                false /* required */,
+                false /* immutable */,
+                JdbcConfig.METADATA_CACHE_MAX_SIZE.getDefaultValue(),
+                false /* hidden */,
                 false /* reserved */));
     PROPERTIES_METADATA =
         ImmutableMap.<String, PropertyEntry<?>>builder()
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.jdbc;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.io.Closeable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.MetadataCacheMetricsSource;
+
+/**
+ * A short-lived cache of the schemas and tables loaded by {@link JdbcCatalogOperations}. Query
+ * engines load the same table many times while planning a query, the cache serves those loads
+ * without introspecting the database again. An entry is invalidated when the schema or table is
+ * changed through Gravitino, the changes made directly in the database become visible after the
+ * entry expires.
+ */
+public class JdbcMetadataCache implements Closeable {
+
+  private final Cache<NameIdentifier, Object> cache;
+
+  @Nullable private final MetadataCacheMetricsSource metricsSource;
+
+  /**
+   * Creates a metadata cache.
+   *
+   * @param ttlMs The time in milliseconds an entry is kept after it is loaded.
+   * @param maxSize The maximum number of entries.
+   * @param metricsSourceName The name to export the cache metrics with, or null to not export them.
+   */
+  public JdbcMetadataCache(long ttlMs, int maxSize, @Nullable String metricsSourceName) {
+    this.cache =
+        CacheBuilder.newBuilder()
+            .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+            .maximumSize(maxSize)
+            .recordStats()
+            .build();
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSourceName != null && metricsSystem != null) {
+      this.metricsSource = new MetadataCacheMetricsSource(metricsSourceName, cache);
+      metricsSystem.register(metricsSource);
+    } else {
+      this.metricsSource = null;
+    }
+  }
+
+  /**
+   * Returns the cached schema, or loads and caches it. Concurrent loads of the same schema share
+   * one call of the loader.
+   *
+   * @param ident The identifier of the schema.
+   * @param loader The loader of the schema from the database.
+   * @return The schema.
+   */
+  public JdbcSchema loadSchema(NameIdentifier ident, Supplier<JdbcSchema> loader) {
+    return (JdbcSchema) get(ident, loader);
+  }
+
+  /**
+   * Returns the cached table, or loads and caches it. Concurrent loads of the same table share one
+   * call of the loader.
+   *
+   * @param ident The identifier of the table.
+   * @param loader The loader of the table from the database.
+   * @return The table.
+   */
+  public JdbcTable loadTable(NameIdentifier ident, Supplier<JdbcTable> loader) {
+    return (JdbcTable) get(ident, loader);
+  }
+
+  /**
+   * Puts a table loaded by other means, like a batch load, into the cache.
+   *
+   * @param ident The identifier of the table.
+   * @param table The table.
+   */
+  public void putTable(NameIdentifier ident, JdbcTable table) {
+    cache.put(ident, table);
+  }
+
+  /**
+   * Invalidates the cached table.
+   *
+   * @param ident The identifier of the table.
+   */
+  public void invalidateTable(NameIdentifier ident) {
+    cache.invalidate(ident);
+  }
+
+  /**
+   * Invalidates the cached schema and all the cached tables of the schema.
+   *
+   * @param ident The identifier of the schema.
+   */
+  public void invalidateSchema(NameIdentifier ident) {
+    cache.invalidate(ident);
+    Namespace tableNamespace =
+        Namespace.of(ArrayUtils.add(ident.namespace().levels(), ident.name()));
+    cache.asMap().keySet().removeIf(key -> key.namespace().equals(tableNamespace));
+  }
+
+  /** Invalidates all the cached schemas and tables. */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  @VisibleForTesting
+  long size() {
+    return cache.size();
+  }
+
+  @Override
+  public void close() {
+    cache.invalidateAll();
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSource != null && metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+  }
+
+  private Object get(NameIdentifier ident, Supplier<?> loader) {
+    try {
+      return cache.get(ident, loader::get);
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      // Rethrow the exceptions like NoSuchTableException as they are thrown by the loader.
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new RuntimeException(e.getCause());
+    }
+  }
+}
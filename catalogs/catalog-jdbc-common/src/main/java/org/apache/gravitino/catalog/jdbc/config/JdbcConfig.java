@@ -91,6 +91,45 @@ public class JdbcConfig extends Config {
           .booleanConf()
           .createWithDefault(true);
 
+  public static final ConfigEntry<Boolean> POOL_WARMUP =
+      new ConfigBuilder("jdbc.pool.warmup")
+          .doc("Whether to open the minimum number of connections when the catalog is initialized")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .booleanConf()
+          .createWithDefault(true);
+
+  public static final ConfigEntry<String> POOL_VALIDATION_QUERY =
+      new ConfigBuilder("jdbc.pool.validation-query")
+          .doc(
+              "The query to validate the connections of the pool, the driver's own check is used "
+                  + "for MySQL, PostgreSQL and OceanBase if not set")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .stringConf()
+          .create();
+
+  public static final ConfigEntry<Boolean> METADATA_CACHE_ENABLED =
+      new ConfigBuilder("jdbc.metadata-cache.enabled")
+          .doc("Whether to cache the loaded tables and schemas of the catalog")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Long> METADATA_CACHE_TTL_MS =
+      new ConfigBuilder("jdbc.metadata-cache.ttl-ms")
+          .doc("The time in milliseconds a cached table or schema is kept before it is reloaded")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(5000L);
+
+  public static final ConfigEntry<Integer> METADATA_CACHE_MAX_SIZE =
+      new ConfigBuilder("jdbc.metadata-cache.max-size")
+          .doc("The maximum number of tables and schemas in the metadata cache")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000);
+
   public String getJdbcUrl() {
     return get(JDBC_URL);
   }
@@ -123,6 +162,26 @@ public class JdbcConfig extends Config {
     return get(TEST_ON_BORROW);
   }
 
+  public boolean isPoolWarmupEnabled() {
+    return get(POOL_WARMUP);
+  }
+
+  public String getPoolValidationQuery() {
+    return get(POOL_VALIDATION_QUERY);
+  }
+
+  public boolean isMetadataCacheEnabled() {
+    return get(METADATA_CACHE_ENABLED);
+  }
+
+  public long getMetadataCacheTtlMs() {
+    return get(METADATA_CACHE_TTL_MS);
+  }
+
+  public int getMetadataCacheMaxSize() {
+    return get(METADATA_CACHE_MAX_SIZE);
+  }
+
   public JdbcConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
@@ -22,12 +22,16 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -239,6 +243,173 @@ public abstract class JdbcTableOperations implements TableOperation {
     }
   }
 
+  /**
+   * Load several tables of a database at once. The tables and columns of the whole database are
+   * fetched with one metadata query each, and the indexes and properties with the bulk hooks, so
+   * that the number of round trips doesn't grow with the number of tables. Only the information
+   * that can't be fetched in bulk is loaded per table by {@link #loadTableDetails}.
+   */
+  @Override
+  public List<JdbcTable> loadTables(String databaseName, List<String> tableNames)
+      throws NoSuchSchemaException {
+    if (tableNames.size() <= 1) {
+      return TableOperation.super.loadTables(databaseName, tableNames);
+    }
+
+    Set<String> names = new HashSet<>(tableNames);
+    try (Connection connection = getConnection(databaseName)) {
+      // 1. Get table information, tables that don't exist are skipped.
+      Map<String, JdbcTable.Builder> tableBuilders = new LinkedHashMap<>();
+      try (ResultSet tables = getTables(connection)) {
+        while (tables.next()) {
+          String tableName = tables.getString("TABLE_NAME");
+          if (names.contains(tableName) && isTableInDatabase(tables, databaseName)) {
+            tableBuilders.put(
+                tableName, getBasicJdbcTableInfo(tables).withDatabaseName(databaseName));
+          }
+        }
+      }
+      if (tableBuilders.isEmpty()) {
+        return Collections.emptyList();
+      }
+
+      // 2. Get column information of all the tables in the database.
+      Map<String, List<JdbcColumn>> tableColumns = new HashMap<>();
+      try (ResultSet columns = getColumns(connection, databaseName, null)) {
+        while (columns.next()) {
+          String tableName = columns.getString("TABLE_NAME");
+          if (!tableBuilders.containsKey(tableName)) {
+            continue;
+          }
+          JdbcColumn.Builder columnBuilder = getColumnBuilder(columns, databaseName, tableName);
+          if (columnBuilder != null) {
+            columnBuilder.withAutoIncrement(getAutoIncrementInfo(columns));
+            tableColumns
+                .computeIfAbsent(tableName, k -> new ArrayList<>())
+                .add(columnBuilder.build());
+          }
+        }
+      }
+
+      // 3. Get index information and table properties in bulk.
+      Set<String> loadedNames = Collections.unmodifiableSet(tableBuilders.keySet());
+      Map<String, List<Index>> tableIndexes =
+          getIndexesOfTables(connection, databaseName, loadedNames);
+      Map<String, Map<String, String>> tableProperties =
+          getPropertiesOfTables(connection, databaseName, loadedNames);
+
+      List<JdbcTable> loadedTables = new ArrayList<>(tableBuilders.size());
+      for (Map.Entry<String, JdbcTable.Builder> entry : tableBuilders.entrySet()) {
+        String tableName = entry.getKey();
+        JdbcTable.Builder jdbcTableBuilder =
+            entry
+                .getValue()
+                .withColumns(
+                    tableColumns
+                        .getOrDefault(tableName, Collections.emptyList())
+                        .toArray(new JdbcColumn[0]))
+                .withIndexes(
+                    tableIndexes
+                        .getOrDefault(tableName, Collections.emptyList())
+                        .toArray(new Index[0]))
+                .withProperties(tableProperties.getOrDefault(tableName, Collections.emptyMap()));
+        try {
+          // 4. Get the information that can't be fetched in bulk
+          loadTableDetails(connection, databaseName, tableName, jdbcTableBuilder);
+          correctJdbcTableFields(connection, databaseName, tableName, jdbcTableBuilder);
+        } catch (NoSuchTableException e) {
+          LOG.warn("Table {} in {} is dropped while loading it, skip it", tableName, databaseName);
+          continue;
+        }
+        loadedTables.add(jdbcTableBuilder.withTableOperation(this).build());
+      }
+      LOG.info(
+          "Finished loading {} of {} tables for database name {}",
+          loadedTables.size(),
+          tableNames.size(),
+          databaseName);
+      return loadedTables;
+    } catch (SQLException e) {
+      throw exceptionMapper.toGravitinoException(e);
+    }
+  }
+
+  /**
+   * Check whether a row of {@link #getTables(Connection)} belongs to the given database. The
+   * default implementation is based on MySQL, which uses the catalog as the database.
+   *
+   * @param table The result set of the tables, positioned at the row to check.
+   * @param databaseName The name of the database.
+   * @return true if the table belongs to the database.
+   * @throws SQLException if an error occurs while reading the result set.
+   */
+  protected boolean isTableInDatabase(ResultSet table, String databaseName) throws SQLException {
+    return Objects.equals(table.getString("TABLE_CAT"), databaseName);
+  }
+
+  /**
+   * Get the indexes of several tables in a database. The default implementation loads them table by
+   * table, catalogs that can query the indexes of many tables at once should override it.
+   *
+   * @param connection jdbc connection.
+   * @param databaseName database name.
+   * @param tableNames the names of the tables.
+   * @return the indexes grouped by table name.
+   * @throws SQLException if an error occurs while getting the indexes.
+   */
+  protected Map<String, List<Index>> getIndexesOfTables(
+      Connection connection, String databaseName, Set<String> tableNames) throws SQLException {
+    Map<String, List<Index>> indexes = new HashMap<>();
+    for (String tableName : tableNames) {
+      indexes.put(tableName, getIndexes(connection, databaseName, tableName));
+    }
+    return indexes;
+  }
+
+  /**
+   * Get the properties of several tables in a database, see {@link #getTableProperties}. The
+   * default implementation loads them table by table, catalogs that can query the properties of
+   * many tables at once should override it.
+   *
+   * @param connection jdbc connection.
+   * @param databaseName database name.
+   * @param tableNames the names of the tables.
+   * @return the properties grouped by table name.
+   * @throws SQLException if an error occurs while getting the properties.
+   */
+  protected Map<String, Map<String, String>> getPropertiesOfTables(
+      Connection connection, String databaseName, Set<String> tableNames) throws SQLException {
+    Map<String, Map<String, String>> properties = new HashMap<>();
+    for (String tableName : tableNames) {
+      try {
+        properties.put(tableName, getTableProperties(connection, tableName));
+      } catch (NoSuchTableException e) {
+        // The table is dropped after it was listed, it is skipped by loadTableDetails.
+      }
+    }
+    return properties;
+  }
+
+  /**
+   * Load the information of a table that can't be fetched in bulk by {@link #loadTables}, the
+   * partitioning and distribution by default.
+   *
+   * @param connection jdbc connection.
+   * @param databaseName database name.
+   * @param tableName table name.
+   * @param jdbcTableBuilder The builder of the table to be returned.
+   * @throws SQLException if an error occurs while loading the information.
+   */
+  protected void loadTableDetails(
+      Connection connection,
+      String databaseName,
+      String tableName,
+      JdbcTable.Builder jdbcTableBuilder)
+      throws SQLException {
+    jdbcTableBuilder.withPartitioning(getTablePartitioning(connection, databaseName, tableName));
+    jdbcTableBuilder.withDistribution(getDistributionInfo(connection, databaseName, tableName));
+  }
+
   /**
    * Get all properties values of the table, including properties outside Gravitino management. The
    * JdbcCatalogOperations#loadTable method will filter out unnecessary properties.
@@ -381,7 +552,6 @@ public abstract class JdbcTableOperations implements TableOperation {
   protected List<Index> getIndexes(Connection connection, String databaseName, String tableName)
       throws SQLException {
     DatabaseMetaData metaData = connection.getMetaData();
-    List<Index> indexes = new ArrayList<>();
 
     // Get primary key information
     ResultSet primaryKeys = getPrimaryKeys(databaseName, tableName, metaData);
@@ -416,7 +586,63 @@ public abstract class JdbcTableOperations implements TableOperation {
       }
     }
 
+    return assembleIndexes(jdbcIndexBeans);
+  }
+
+  /**
+   * Get the primary and unique keys of the tables in a database from the STATISTICS table of the
+   * information_schema, it is used by the catalogs compatible with MySQL to load the indexes of
+   * many tables in one query.
+   *
+   * @param connection jdbc connection.
+   * @param databaseName database name.
+   * @param tableNames the names of the tables.
+   * @return the indexes grouped by table name.
+   * @throws SQLException if an error occurs while getting the indexes.
+   */
+  protected Map<String, List<Index>> getIndexesFromInformationSchema(
+      Connection connection, String databaseName, Set<String> tableNames) throws SQLException {
+    String sql =
+        "SELECT TABLE_NAME, INDEX_NAME, COLUMN_NAME, SEQ_IN_INDEX"
+            + " FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = ? AND NON_UNIQUE = 0 AND COLUMN_NAME IS NOT NULL";
+    Map<String, List<JdbcIndexBean>> jdbcIndexBeans = new HashMap<>();
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, databaseName);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          String tableName = resultSet.getString("TABLE_NAME");
+          if (!tableNames.contains(tableName)) {
+            continue;
+          }
+          String indexName = resultSet.getString("INDEX_NAME");
+          Index.IndexType indexType =
+              Indexes.DEFAULT_MYSQL_PRIMARY_KEY_NAME.equals(indexName)
+                  ? Index.IndexType.PRIMARY_KEY
+                  : Index.IndexType.UNIQUE_KEY;
+          jdbcIndexBeans
+              .computeIfAbsent(tableName, k -> new ArrayList<>())
+              .add(
+                  new JdbcIndexBean(
+                      indexType,
+                      resultSet.getString("COLUMN_NAME"),
+                      indexName,
+                      resultSet.getInt("SEQ_IN_INDEX")));
+        }
+      }
+    }
+
+    Map<String, List<Index>> indexes = new HashMap<>();
+    for (String tableName : tableNames) {
+      indexes.put(
+          tableName,
+          assembleIndexes(jdbcIndexBeans.getOrDefault(tableName, Collections.emptyList())));
+    }
+    return indexes;
+  }
+
+  protected List<Index> assembleIndexes(List<JdbcIndexBean> jdbcIndexBeans) {
     // Assemble into Index
+    List<Index> indexes = new ArrayList<>();
     Map<Index.IndexType, List<JdbcIndexBean>> indexBeanGroupByIndexType =
         jdbcIndexBeans.stream().collect(Collectors.groupingBy(JdbcIndexBean::getIndexType));
 
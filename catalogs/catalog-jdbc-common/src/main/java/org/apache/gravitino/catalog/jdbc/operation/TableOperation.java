@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.catalog.jdbc.operation;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import javax.sql.DataSource;
@@ -93,6 +94,25 @@ public interface TableOperation {
    */
   JdbcTable load(String databaseName, String tableName) throws NoSuchTableException;
 
+  /**
+   * @param databaseName The name of the database.
+   * @param tableNames The names of the tables to load.
+   * @return information objects of the JDBC tables, tables that don't exist are skipped.
+   * @throws NoSuchSchemaException
+   */
+  default List<JdbcTable> loadTables(String databaseName, List<String> tableNames)
+      throws NoSuchSchemaException {
+    List<JdbcTable> tables = new ArrayList<>(tableNames.size());
+    for (String tableName : tableNames) {
+      try {
+        tables.add(load(databaseName, tableName));
+      } catch (NoSuchTableException e) {
+        // The table may be dropped after it was listed, skip it.
+      }
+    }
+    return tables;
+  }
+
   /**
    * @param databaseName The name of the database.
    * @param oldTableName The name of the table to rename.
@@ -18,14 +18,23 @@
  */
 package org.apache.gravitino.catalog.jdbc.utils;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import javax.annotation.Nullable;
 import javax.sql.DataSource;
 import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.commons.dbcp2.BasicDataSourceFactory;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.catalog.jdbc.config.JdbcConfig;
 import org.apache.gravitino.exceptions.GravitinoRuntimeException;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.ClientPoolMetricsSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Utility class for creating a {@link DataSource} from a {@link JdbcConfig}. It is mainly
@@ -34,23 +43,62 @@ import org.apache.gravitino.exceptions.GravitinoRuntimeException;
  */
 public class DataSourceUtils {
 
+  private static final Logger LOG = LoggerFactory.getLogger(DataSourceUtils.class);
+
   /** SQL statements for database connection pool testing. */
   private static final String POOL_TEST_QUERY = "SELECT 1";
 
+  /**
+   * The drivers of these databases implement {@link java.sql.Connection#isValid(int)} with a
+   * protocol level ping, which is cheaper than running the test query on every borrow.
+   */
+  private static final List<String> PING_VALIDATED_URL_PREFIXES =
+      ImmutableList.of("jdbc:mysql:", "jdbc:mariadb:", "jdbc:postgresql:", "jdbc:oceanbase:");
+
   public static DataSource createDataSource(Map<String, String> properties) {
     return createDataSource(new JdbcConfig(properties));
   }
 
   public static DataSource createDataSource(JdbcConfig jdbcConfig)
       throws GravitinoRuntimeException {
+    return createDataSource(jdbcConfig, null);
+  }
+
+  /**
+   * Creates the connection pool of a catalog.
+   *
+   * @param jdbcConfig The JDBC configuration of the catalog.
+   * @param metricsSourceName The name to expose the pool metrics with, or null to not expose them.
+   * @return The data source, an {@link InstrumentedDataSource} if the metrics are exposed.
+   */
+  public static DataSource createDataSource(
+      JdbcConfig jdbcConfig, @Nullable String metricsSourceName) throws GravitinoRuntimeException {
+    BasicDataSource basicDataSource;
     try {
-      return createDBCPDataSource(jdbcConfig);
+      basicDataSource = createDBCPDataSource(jdbcConfig);
     } catch (Exception exception) {
       throw new GravitinoRuntimeException(exception, "Error creating datasource");
     }
+
+    if (jdbcConfig.isPoolWarmupEnabled()) {
+      warmUp(basicDataSource);
+    }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSourceName == null || metricsSystem == null) {
+      return basicDataSource;
+    }
+    ClientPoolMetricsSource metricsSource =
+        new ClientPoolMetricsSource(
+            metricsSourceName,
+            basicDataSource::getNumActive,
+            basicDataSource::getNumIdle,
+            () -> 1);
+    metricsSystem.register(metricsSource);
+    return new InstrumentedDataSource(basicDataSource, metricsSource);
   }
 
-  private static DataSource createDBCPDataSource(JdbcConfig jdbcConfig) throws Exception {
+  private static BasicDataSource createDBCPDataSource(JdbcConfig jdbcConfig) throws Exception {
     BasicDataSource basicDataSource =
         BasicDataSourceFactory.createDataSource(getProperties(jdbcConfig));
     String jdbcUrl = jdbcConfig.getJdbcUrl();
@@ -66,10 +114,37 @@ public class DataSourceUtils {
     // Set each time a connection is taken out from the connection pool, a test statement will be
     // executed to confirm whether the connection is valid.
     basicDataSource.setTestOnBorrow(jdbcConfig.getTestOnBorrow());
-    basicDataSource.setValidationQuery(POOL_TEST_QUERY);
+    // Without a validation query DBCP validates the connections with Connection#isValid.
+    basicDataSource.setValidationQuery(
+        validationQuery(jdbcUrl, jdbcConfig.getPoolValidationQuery()));
     return basicDataSource;
   }
 
+  @VisibleForTesting
+  @Nullable
+  static String validationQuery(String jdbcUrl, @Nullable String configuredQuery) {
+    if (configuredQuery != null) {
+      return configuredQuery;
+    }
+    boolean pingValidated =
+        jdbcUrl != null && PING_VALIDATED_URL_PREFIXES.stream().anyMatch(jdbcUrl::startsWith);
+    return pingValidated ? null : POOL_TEST_QUERY;
+  }
+
+  /**
+   * Opens the minimum idle connections of the pool, so the first requests to the catalog don't pay
+   * for the connection setup. A database that isn't reachable yet doesn't fail the catalog, the
+   * connections will be opened on demand like before.
+   */
+  private static void warmUp(BasicDataSource basicDataSource) {
+    basicDataSource.setInitialSize(basicDataSource.getMinIdle());
+    try {
+      basicDataSource.start();
+    } catch (SQLException e) {
+      LOG.warn("Failed to warm up the connection pool of {}", basicDataSource.getUrl(), e);
+    }
+  }
+
   private static Properties getProperties(JdbcConfig jdbcConfig) {
     Properties properties = new Properties();
     properties.putAll(jdbcConfig.getAllConfig());
@@ -79,7 +154,9 @@ public class DataSourceUtils {
   public static void closeDataSource(DataSource dataSource) {
     if (null != dataSource) {
       try {
-        if (dataSource instanceof BasicDataSource) {
+        if (dataSource instanceof InstrumentedDataSource) {
+          ((InstrumentedDataSource) dataSource).close();
+        } else if (dataSource instanceof BasicDataSource) {
           ((BasicDataSource) dataSource).close();
         } else {
           throw new UnsupportedOperationException(
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.jdbc.utils;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.NoSuchElementException;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.ClientPoolMetricsSource;
+
+/**
+ * A {@link DataSource} that records how long the connections take to be borrowed from the wrapped
+ * {@link BasicDataSource} and how often borrowing them fails.
+ */
+public class InstrumentedDataSource implements DataSource, AutoCloseable {
+
+  private final BasicDataSource delegate;
+  private final ClientPoolMetricsSource metricsSource;
+
+  InstrumentedDataSource(BasicDataSource delegate, ClientPoolMetricsSource metricsSource) {
+    this.delegate = delegate;
+    this.metricsSource = metricsSource;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    long start = System.nanoTime();
+    try {
+      Connection connection = delegate.getConnection();
+      metricsSource.recordBorrowWait(System.nanoTime() - start);
+      return connection;
+    } catch (SQLException e) {
+      recordBorrowError(e);
+      throw e;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    // BasicDataSource doesn't support it, let it throw the same exception as before.
+    return delegate.getConnection(username, password);
+  }
+
+  @Override
+  public PrintWriter getLogWriter() throws SQLException {
+    return delegate.getLogWriter();
+  }
+
+  @Override
+  public void setLogWriter(PrintWriter out) throws SQLException {
+    delegate.setLogWriter(out);
+  }
+
+  @Override
+  public void setLoginTimeout(int seconds) throws SQLException {
+    delegate.setLoginTimeout(seconds);
+  }
+
+  @Override
+  public int getLoginTimeout() throws SQLException {
+    return delegate.getLoginTimeout();
+  }
+
+  @Override
+  public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+    return delegate.getParentLogger();
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    if (iface.isInstance(delegate)) {
+      return iface.cast(delegate);
+    }
+    return delegate.unwrap(iface);
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return iface.isInstance(delegate) || delegate.isWrapperFor(iface);
+  }
+
+  /** Closes the wrapped pool and unregisters its metrics. */
+  @Override
+  public void close() throws SQLException {
+    try {
+      delegate.close();
+    } finally {
+      MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+      if (metricsSystem != null) {
+        metricsSystem.unregister(metricsSource);
+      }
+    }
+  }
+
+  private void recordBorrowError(SQLException e) {
+    // DBCP reports a borrow that exceeded the max wait time as a NoSuchElementException from the
+    // underlying object pool, anything else is a failure to open or validate a connection.
+    if (e.getCause() instanceof NoSuchElementException) {
+      metricsSource.incBorrowTimeout();
+    } else {
+      metricsSource.incBorrowFailure();
+    }
+  }
+}
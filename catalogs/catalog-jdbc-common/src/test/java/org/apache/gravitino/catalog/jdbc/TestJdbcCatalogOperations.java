@@ -20,12 +20,20 @@ package org.apache.gravitino.catalog.jdbc;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.sql.DataSource;
 import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.commons.io.FileUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 import org.apache.gravitino.catalog.jdbc.config.JdbcConfig;
 import org.apache.gravitino.catalog.jdbc.converter.SqliteColumnDefaultValueConverter;
 import org.apache.gravitino.catalog.jdbc.converter.SqliteExceptionConverter;
@@ -33,12 +41,59 @@ import org.apache.gravitino.catalog.jdbc.converter.SqliteTypeConverter;
 import org.apache.gravitino.catalog.jdbc.operation.SqliteDatabaseOperations;
 import org.apache.gravitino.catalog.jdbc.operation.SqliteTableOperations;
 import org.apache.gravitino.catalog.jdbc.utils.DataSourceUtils;
+import org.apache.gravitino.connector.HasPropertyMetadata;
+import org.apache.gravitino.connector.PropertiesMetadata;
+import org.apache.gravitino.connector.PropertyEntry;
 import org.apache.gravitino.exceptions.GravitinoRuntimeException;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.rel.TableChange;
+import org.apache.gravitino.rel.expressions.distributions.Distributions;
+import org.apache.gravitino.rel.indexes.Indexes;
+import org.apache.gravitino.rel.types.Types;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 public class TestJdbcCatalogOperations {
 
+  private static final HasPropertyMetadata PROPERTIES_METADATA =
+      new HasPropertyMetadata() {
+        @Override
+        public PropertiesMetadata tablePropertiesMetadata() throws UnsupportedOperationException {
+          return new JdbcTablePropertiesMetadata() {
+            @Override
+            protected Map<String, PropertyEntry<?>> specificPropertyEntries() {
+              return Collections.emptyMap();
+            }
+          };
+        }
+
+        @Override
+        public PropertiesMetadata catalogPropertiesMetadata() throws UnsupportedOperationException {
+          return new JdbcCatalogPropertiesMetadata();
+        }
+
+        @Override
+        public PropertiesMetadata schemaPropertiesMetadata() throws UnsupportedOperationException {
+          throw new UnsupportedOperationException("Schema properties are not supported");
+        }
+
+        @Override
+        public PropertiesMetadata filesetPropertiesMetadata() throws UnsupportedOperationException {
+          throw new UnsupportedOperationException("Fileset properties are not supported");
+        }
+
+        @Override
+        public PropertiesMetadata topicPropertiesMetadata() throws UnsupportedOperationException {
+          throw new UnsupportedOperationException("Topic properties are not supported");
+        }
+
+        @Override
+        public PropertiesMetadata modelPropertiesMetadata() throws UnsupportedOperationException {
+          throw new UnsupportedOperationException("Model properties are not supported");
+        }
+      };
+
   @Test
   public void testTestConnection() {
     JdbcCatalogOperations catalogOperations =
@@ -59,6 +114,124 @@ public class TestJdbcCatalogOperations {
                 ImmutableMap.of()));
   }
 
+  @Test
+  public void testMetadataCacheInvalidation() throws IOException {
+    File baseFileDir = Files.createTempDirectory("gravitino-jdbc").toFile();
+    AtomicInteger tableLoads = new AtomicInteger();
+    SqliteTableOperations tableOperations =
+        new SqliteTableOperations() {
+          @Override
+          public JdbcTable load(String databaseName, String tableName) {
+            tableLoads.incrementAndGet();
+            return super.load(databaseName, tableName);
+          }
+
+          @Override
+          public void alterTable(String databaseName, String tableName, TableChange... changes) {
+            // Sqlite doesn't support altering tables, only the invalidation is verified.
+          }
+        };
+    JdbcCatalogOperations catalogOperations =
+        new JdbcCatalogOperations(
+            new SqliteExceptionConverter(),
+            new SqliteTypeConverter(),
+            new SqliteDatabaseOperations(baseFileDir.getPath()),
+            tableOperations,
+            new SqliteColumnDefaultValueConverter());
+    Map<String, String> conf =
+        ImmutableMap.<String, String>builder()
+            .put(JdbcConfig.JDBC_DRIVER.getKey(), "org.sqlite.JDBC")
+            .put(JdbcConfig.JDBC_URL.getKey(), "jdbc:sqlite:" + baseFileDir.getPath() + "/test")
+            .put(JdbcConfig.USERNAME.getKey(), "test")
+            .put(JdbcConfig.PASSWORD.getKey(), "test")
+            .put(JdbcConfig.METADATA_CACHE_ENABLED.getKey(), "true")
+            .put(JdbcConfig.METADATA_CACHE_TTL_MS.getKey(), "3600000")
+            .build();
+
+    try {
+      catalogOperations.initialize(conf, null, PROPERTIES_METADATA);
+      JdbcColumn column =
+          JdbcColumn.builder()
+              .withName("col_1")
+              .withType(Types.IntegerType.get())
+              .withNullable(true)
+              .build();
+      tableOperations.create(
+          "test",
+          "table_1",
+          new JdbcColumn[] {column},
+          null,
+          Collections.emptyMap(),
+          null,
+          Distributions.NONE,
+          Indexes.EMPTY_INDEXES);
+      NameIdentifier table1 = NameIdentifier.of("metalake", "catalog", "test", "table_1");
+      NameIdentifier table2 = NameIdentifier.of("metalake", "catalog", "test", "table_2");
+
+      // The second load is served by the cache.
+      catalogOperations.loadTable(table1);
+      catalogOperations.loadTable(table1);
+      Assertions.assertEquals(1, tableLoads.get());
+
+      // Altering the table invalidates it, the altered table is loaded from the database.
+      catalogOperations.alterTable(table1, TableChange.updateComment("new comment"));
+      Assertions.assertEquals(2, tableLoads.get());
+      catalogOperations.loadTable(table1);
+      Assertions.assertEquals(2, tableLoads.get());
+
+      // Renaming the table invalidates the old name.
+      catalogOperations.alterTable(table1, TableChange.rename(table2.name()));
+      Assertions.assertThrows(
+          NoSuchTableException.class, () -> catalogOperations.loadTable(table1));
+      Assertions.assertEquals(table2.name(), catalogOperations.loadTable(table2).name());
+
+      // Dropping the table invalidates it.
+      Assertions.assertTrue(catalogOperations.dropTable(table2));
+      Assertions.assertThrows(
+          NoSuchTableException.class, () -> catalogOperations.loadTable(table2));
+    } finally {
+      catalogOperations.close();
+      FileUtils.deleteQuietly(baseFileDir);
+    }
+  }
+
+  @Test
+  public void testLoadTablesOfMissingSchema() throws IOException {
+    File baseFileDir = Files.createTempDirectory("gravitino-jdbc").toFile();
+    JdbcCatalogOperations catalogOperations =
+        new JdbcCatalogOperations(
+            new SqliteExceptionConverter(),
+            new SqliteTypeConverter(),
+            new SqliteDatabaseOperations(baseFileDir.getPath()),
+            new SqliteTableOperations(),
+            new SqliteColumnDefaultValueConverter());
+    Map<String, String> conf =
+        ImmutableMap.<String, String>builder()
+            .put(JdbcConfig.JDBC_DRIVER.getKey(), "org.sqlite.JDBC")
+            .put(JdbcConfig.JDBC_URL.getKey(), "jdbc:sqlite:" + baseFileDir.getPath() + "/test")
+            .put(JdbcConfig.USERNAME.getKey(), "test")
+            .put(JdbcConfig.PASSWORD.getKey(), "test")
+            .build();
+
+    try {
+      catalogOperations.initialize(conf, null, PROPERTIES_METADATA);
+      // The tables that don't exist are skipped.
+      Assertions.assertEquals(
+          0,
+          catalogOperations.loadTables(
+                  Namespace.of("metalake", "catalog", "test"), new String[] {"table_1", "table_2"})
+              .length);
+      Assertions.assertThrows(
+          NoSuchSchemaException.class,
+          () ->
+              catalogOperations.loadTables(
+                  Namespace.of("metalake", "catalog", "missing"), new String[] {"table_1"}));
+    } finally {
+      catalogOperations.close();
+      FileUtils.deleteQuietly(baseFileDir);
+    }
+  }
+
   @Test
   public void testConfigTestOnBorrow() throws SQLException {
     HashMap<String, String> properties = Maps.newHashMap();
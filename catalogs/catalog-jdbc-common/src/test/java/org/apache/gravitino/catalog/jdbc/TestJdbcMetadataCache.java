@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.jdbc;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.meta.AuditInfo;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestJdbcMetadataCache {
+
+  private static final NameIdentifier SCHEMA = NameIdentifier.of("metalake", "catalog", "db");
+  private static final NameIdentifier TABLE_1 =
+      NameIdentifier.of("metalake", "catalog", "db", "table_1");
+  private static final NameIdentifier TABLE_2 =
+      NameIdentifier.of("metalake", "catalog", "db", "table_2");
+  private static final NameIdentifier OTHER_TABLE =
+      NameIdentifier.of("metalake", "catalog", "other_db", "table_1");
+
+  @Test
+  public void testLoadTable() {
+    try (JdbcMetadataCache cache = new JdbcMetadataCache(60000L, 100, null)) {
+      AtomicInteger loads = new AtomicInteger();
+      Supplier<JdbcTable> loader = tableLoader("table_1", loads);
+
+      JdbcTable table = cache.loadTable(TABLE_1, loader);
+      Assertions.assertEquals("table_1", table.name());
+      Assertions.assertSame(table, cache.loadTable(TABLE_1, loader));
+      Assertions.assertEquals(1, loads.get());
+
+      cache.invalidateTable(TABLE_1);
+      Assertions.assertNotSame(table, cache.loadTable(TABLE_1, loader));
+      Assertions.assertEquals(2, loads.get());
+
+      // The exceptions of the loader are thrown as they are, and nothing is cached.
+      Assertions.assertThrows(
+          NoSuchTableException.class,
+          () ->
+              cache.loadTable(
+                  TABLE_2,
+                  () -> {
+                    throw new NoSuchTableException("Table %s does not exist", TABLE_2);
+                  }));
+      Assertions.assertEquals(1, cache.size());
+    }
+  }
+
+  @Test
+  public void testInvalidateSchema() {
+    try (JdbcMetadataCache cache = new JdbcMetadataCache(60000L, 100, null)) {
+      AtomicInteger loads = new AtomicInteger();
+      cache.loadSchema(
+          SCHEMA,
+          () -> JdbcSchema.builder().withName("db").withAuditInfo(AuditInfo.EMPTY).build());
+      cache.loadTable(TABLE_1, tableLoader("table_1", loads));
+      cache.loadTable(TABLE_2, tableLoader("table_2", loads));
+      cache.loadTable(OTHER_TABLE, tableLoader("table_1", loads));
+      Assertions.assertEquals(4, cache.size());
+
+      cache.invalidateSchema(SCHEMA);
+      Assertions.assertEquals(1, cache.size());
+      cache.loadTable(OTHER_TABLE, tableLoader("table_1", loads));
+      Assertions.assertEquals(3, loads.get());
+
+      cache.invalidateAll();
+      Assertions.assertEquals(0, cache.size());
+    }
+  }
+
+  @Test
+  public void testExpiration() throws InterruptedException {
+    try (JdbcMetadataCache cache = new JdbcMetadataCache(100L, 100, null)) {
+      AtomicInteger loads = new AtomicInteger();
+      cache.loadTable(TABLE_1, tableLoader("table_1", loads));
+      Thread.sleep(200);
+      cache.loadTable(TABLE_1, tableLoader("table_1", loads));
+      Assertions.assertEquals(2, loads.get());
+    }
+  }
+
+  private static Supplier<JdbcTable> tableLoader(String name, AtomicInteger loads) {
+    return () -> {
+      loads.incrementAndGet();
+      return JdbcTable.builder().withName(name).withAuditInfo(AuditInfo.EMPTY).build();
+    };
+  }
+}
@@ -19,11 +19,14 @@
 package org.apache.gravitino.catalog.jdbc.utils;
 
 import com.google.common.collect.Maps;
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.HashMap;
 import javax.sql.DataSource;
 import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.gravitino.catalog.jdbc.config.JdbcConfig;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.ClientPoolMetricsSource;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -42,4 +45,66 @@ public class TestDataSourceUtils {
     Assertions.assertTrue(dataSource instanceof org.apache.commons.dbcp2.BasicDataSource);
     ((BasicDataSource) dataSource).close();
   }
+
+  @Test
+  public void testPoolWarmup() throws SQLException {
+    HashMap<String, String> properties = Maps.newHashMap();
+    properties.put(JdbcConfig.JDBC_DRIVER.getKey(), "org.sqlite.JDBC");
+    properties.put(JdbcConfig.JDBC_URL.getKey(), "jdbc:sqlite::memory:");
+    properties.put(JdbcConfig.USERNAME.getKey(), "test");
+    properties.put(JdbcConfig.PASSWORD.getKey(), "test");
+    properties.put(JdbcConfig.POOL_MIN_SIZE.getKey(), "3");
+
+    BasicDataSource dataSource = (BasicDataSource) DataSourceUtils.createDataSource(properties);
+    Assertions.assertEquals(3, dataSource.getNumIdle());
+    dataSource.close();
+
+    properties.put(JdbcConfig.POOL_WARMUP.getKey(), "false");
+    dataSource = (BasicDataSource) DataSourceUtils.createDataSource(properties);
+    Assertions.assertEquals(0, dataSource.getNumIdle());
+    dataSource.close();
+  }
+
+  @Test
+  public void testValidationQuery() {
+    Assertions.assertNull(DataSourceUtils.validationQuery("jdbc:mysql://localhost:3306", null));
+    Assertions.assertNull(DataSourceUtils.validationQuery("jdbc:postgresql://localhost/db", null));
+    Assertions.assertNull(DataSourceUtils.validationQuery("jdbc:oceanbase://localhost:2881", null));
+    Assertions.assertEquals(
+        "SELECT 1", DataSourceUtils.validationQuery("jdbc:sqlite::memory:", null));
+    Assertions.assertEquals(
+        "SELECT 2", DataSourceUtils.validationQuery("jdbc:mysql://localhost:3306", "SELECT 2"));
+  }
+
+  @Test
+  public void testInstrumentedDataSource() throws SQLException {
+    HashMap<String, String> properties = Maps.newHashMap();
+    properties.put(JdbcConfig.JDBC_DRIVER.getKey(), "org.sqlite.JDBC");
+    properties.put(JdbcConfig.JDBC_URL.getKey(), "jdbc:sqlite::memory:");
+    properties.put(JdbcConfig.USERNAME.getKey(), "test");
+    properties.put(JdbcConfig.PASSWORD.getKey(), "test");
+    properties.put(JdbcConfig.POOL_MAX_SIZE.getKey(), "1");
+    properties.put("maxWaitMillis", "10");
+
+    BasicDataSource basicDataSource =
+        (BasicDataSource) DataSourceUtils.createDataSource(properties);
+    ClientPoolMetricsSource metricsSource =
+        new ClientPoolMetricsSource(
+            "test", basicDataSource::getNumActive, basicDataSource::getNumIdle, () -> 1);
+    InstrumentedDataSource dataSource = new InstrumentedDataSource(basicDataSource, metricsSource);
+    Assertions.assertTrue(dataSource.isWrapperFor(BasicDataSource.class));
+    Assertions.assertSame(basicDataSource, dataSource.unwrap(BasicDataSource.class));
+
+    try (Connection connection = dataSource.getConnection()) {
+      Assertions.assertNotNull(connection);
+      Assertions.assertThrows(SQLException.class, dataSource::getConnection);
+    }
+    Assertions.assertEquals(
+        1, metricsSource.getTimer(MetricNames.CLIENT_POOL_BORROW_WAIT_TIME).getCount());
+    Assertions.assertEquals(
+        1, metricsSource.getCounter(MetricNames.CLIENT_POOL_BORROW_TIMEOUT_COUNT).getCount());
+    Assertions.assertEquals(
+        0, metricsSource.getCounter(MetricNames.CLIENT_POOL_BORROW_FAILURE_COUNT).getCount());
+    dataSource.close();
+  }
 }
@@ -346,7 +346,33 @@ public class DorisTableOperations extends JdbcTableOperations {
   @Override
   protected Map<String, String> getTableProperties(Connection connection, String tableName)
       throws SQLException {
+    String createTableSql = getCreateTableSql(connection, tableName);
+    return Collections.unmodifiableMap(DorisUtils.extractPropertiesFromSql(createTableSql));
+  }
+
+  @Override
+  protected Map<String, Map<String, String>> getPropertiesOfTables(
+      Connection connection, String databaseName, Set<String> tableNames) {
+    // Doris only shows the table properties in the CREATE TABLE statement, they are extracted
+    // together with the partitioning and distribution by loadTableDetails.
+    return Collections.emptyMap();
+  }
+
+  @Override
+  protected void loadTableDetails(
+      Connection connection, String databaseName, String tableName, JdbcTable.Builder tableBuilder)
+      throws SQLException {
+    String createTableSql = getCreateTableSql(connection, tableName);
+    Optional<Transform> transform = DorisUtils.extractPartitionInfoFromSql(createTableSql);
+    tableBuilder
+        .withProperties(
+            Collections.unmodifiableMap(DorisUtils.extractPropertiesFromSql(createTableSql)))
+        .withPartitioning(
+            transform.map(t -> new Transform[] {t}).orElse(Transforms.EMPTY_TRANSFORM))
+        .withDistribution(DorisUtils.extractDistributionInfoFromSql(createTableSql));
+  }
 
+  private String getCreateTableSql(Connection connection, String tableName) throws SQLException {
     String showCreateTableSQL = String.format("SHOW CREATE TABLE `%s`", tableName);
 
     StringBuilder createTableSqlSb = new StringBuilder();
@@ -363,8 +389,7 @@ public class DorisTableOperations extends JdbcTableOperations {
       throw new NoSuchTableException(
           "Table %s does not exist in %s.", tableName, connection.getCatalog());
     }
-
-    return Collections.unmodifiableMap(DorisUtils.extractPropertiesFromSql(createTableSql));
+    return createTableSql;
   }
 
   @Override
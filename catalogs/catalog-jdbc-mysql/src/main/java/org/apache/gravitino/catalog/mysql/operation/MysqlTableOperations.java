@@ -28,6 +28,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -35,6 +36,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -173,17 +175,7 @@ public class MysqlTableOperations extends JdbcTableOperations {
         while (resultSet.next()) {
           String name = resultSet.getString("NAME");
           if (Objects.equals(name, tableName)) {
-            return Collections.unmodifiableMap(
-                new HashMap<String, String>() {
-                  {
-                    put(COMMENT, resultSet.getString(COMMENT));
-                    put(MYSQL_ENGINE_KEY, resultSet.getString(MYSQL_ENGINE_KEY));
-                    String autoIncrement = resultSet.getString(MYSQL_AUTO_INCREMENT_OFFSET_KEY);
-                    if (StringUtils.isNotEmpty(autoIncrement)) {
-                      put(MYSQL_AUTO_INCREMENT_OFFSET_KEY, autoIncrement);
-                    }
-                  }
-                });
+            return getTableProperties(resultSet);
           }
         }
 
@@ -193,6 +185,39 @@ public class MysqlTableOperations extends JdbcTableOperations {
     }
   }
 
+  @Override
+  protected Map<String, Map<String, String>> getPropertiesOfTables(
+      Connection connection, String databaseName, Set<String> tableNames) throws SQLException {
+    Map<String, Map<String, String>> properties = new HashMap<>();
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("SHOW TABLE STATUS")) {
+      while (resultSet.next()) {
+        String name = resultSet.getString("NAME");
+        if (tableNames.contains(name)) {
+          properties.put(name, getTableProperties(resultSet));
+        }
+      }
+    }
+    return properties;
+  }
+
+  @Override
+  protected Map<String, List<Index>> getIndexesOfTables(
+      Connection connection, String databaseName, Set<String> tableNames) throws SQLException {
+    return getIndexesFromInformationSchema(connection, databaseName, tableNames);
+  }
+
+  private static Map<String, String> getTableProperties(ResultSet resultSet) throws SQLException {
+    Map<String, String> properties = new HashMap<>();
+    properties.put(COMMENT, resultSet.getString(COMMENT));
+    properties.put(MYSQL_ENGINE_KEY, resultSet.getString(MYSQL_ENGINE_KEY));
+    String autoIncrement = resultSet.getString(MYSQL_AUTO_INCREMENT_OFFSET_KEY);
+    if (StringUtils.isNotEmpty(autoIncrement)) {
+      properties.put(MYSQL_AUTO_INCREMENT_OFFSET_KEY, autoIncrement);
+    }
+    return Collections.unmodifiableMap(properties);
+  }
+
   @Override
   protected void correctJdbcTableFields(
       Connection connection, String databaseName, String tableName, JdbcTable.Builder tableBuilder)
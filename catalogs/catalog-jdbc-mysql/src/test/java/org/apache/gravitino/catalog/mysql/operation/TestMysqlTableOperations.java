@@ -194,6 +194,62 @@ public class TestMysqlTableOperations extends TestMysql {
         TABLE_OPERATIONS.drop(TEST_DB_NAME.toString(), newName), "table should be non-existent");
   }
 
+  @Test
+  public void testLoadTables() {
+    List<JdbcColumn> columns = new ArrayList<>();
+    columns.add(
+        JdbcColumn.builder()
+            .withName("col_1")
+            .withType(INT)
+            .withComment("id")
+            .withNullable(false)
+            .build());
+    columns.add(
+        JdbcColumn.builder()
+            .withName("col_2")
+            .withType(VARCHAR)
+            .withNullable(true)
+            .withDefaultValue(Literals.NULL)
+            .build());
+    Index[] indexes =
+        new Index[] {
+          Indexes.createMysqlPrimaryKey(new String[][] {{"col_1"}}),
+          Indexes.unique("uk_2", new String[][] {{"col_2"}})
+        };
+    Map<String, String> properties = new HashMap<>();
+    properties.put(MYSQL_ENGINE_KEY, "InnoDB");
+
+    List<String> tableNames = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      String tableName = RandomNameUtils.genRandomName("load_tables_" + i);
+      TABLE_OPERATIONS.create(
+          TEST_DB_NAME.toString(),
+          tableName,
+          columns.toArray(new JdbcColumn[0]),
+          "comment_" + i,
+          properties,
+          null,
+          Distributions.NONE,
+          indexes);
+      tableNames.add(tableName);
+    }
+    tableNames.add("not_exist_table");
+
+    List<JdbcTable> tables = TABLE_OPERATIONS.loadTables(TEST_DB_NAME.toString(), tableNames);
+    Assertions.assertEquals(3, tables.size());
+    for (JdbcTable table : tables) {
+      int i = tableNames.indexOf(table.name());
+      assertionsTableInfo(
+          tableNames.get(i),
+          "comment_" + i,
+          columns,
+          properties,
+          indexes,
+          Transforms.EMPTY_TRANSFORM,
+          table);
+    }
+  }
+
   @Test
   public void testAlterTable() {
     String tableName = RandomStringUtils.randomAlphabetic(16) + "_al_table";
@@ -26,6 +26,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -33,6 +34,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -166,16 +168,7 @@ public class OceanBaseTableOperations extends JdbcTableOperations {
         while (resultSet.next()) {
           String name = resultSet.getString("NAME");
           if (Objects.equals(name, tableName)) {
-            return Collections.unmodifiableMap(
-                new HashMap<String, String>() {
-                  {
-                    put(COMMENT, resultSet.getString(COMMENT));
-                    String autoIncrement = resultSet.getString("AUTO_INCREMENT");
-                    if (StringUtils.isNotEmpty(autoIncrement)) {
-                      put("AUTO_INCREMENT", autoIncrement);
-                    }
-                  }
-                });
+            return getTableProperties(resultSet);
           }
         }
 
@@ -185,6 +178,38 @@ public class OceanBaseTableOperations extends JdbcTableOperations {
     }
   }
 
+  @Override
+  protected Map<String, Map<String, String>> getPropertiesOfTables(
+      Connection connection, String databaseName, Set<String> tableNames) throws SQLException {
+    Map<String, Map<String, String>> properties = new HashMap<>();
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("SHOW TABLE STATUS")) {
+      while (resultSet.next()) {
+        String name = resultSet.getString("NAME");
+        if (tableNames.contains(name)) {
+          properties.put(name, getTableProperties(resultSet));
+        }
+      }
+    }
+    return properties;
+  }
+
+  @Override
+  protected Map<String, List<Index>> getIndexesOfTables(
+      Connection connection, String databaseName, Set<String> tableNames) throws SQLException {
+    return getIndexesFromInformationSchema(connection, databaseName, tableNames);
+  }
+
+  private static Map<String, String> getTableProperties(ResultSet resultSet) throws SQLException {
+    Map<String, String> properties = new HashMap<>();
+    properties.put(COMMENT, resultSet.getString(COMMENT));
+    String autoIncrement = resultSet.getString(OCEANBASE_AUTO_INCREMENT);
+    if (StringUtils.isNotEmpty(autoIncrement)) {
+      properties.put(OCEANBASE_AUTO_INCREMENT, autoIncrement);
+    }
+    return Collections.unmodifiableMap(properties);
+  }
+
   @Override
   protected void correctJdbcTableFields(
       Connection connection, String databaseName, String tableName, JdbcTable.Builder tableBuilder)
@@ -25,13 +25,17 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import org.apache.commons.collections4.MapUtils;
@@ -41,6 +45,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.catalog.jdbc.JdbcColumn;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
+import org.apache.gravitino.catalog.jdbc.bean.JdbcIndexBean;
 import org.apache.gravitino.catalog.jdbc.config.JdbcConfig;
 import org.apache.gravitino.catalog.jdbc.converter.JdbcColumnDefaultValueConverter;
 import org.apache.gravitino.catalog.jdbc.converter.JdbcExceptionConverter;
@@ -703,6 +708,60 @@ public class PostgreSqlTableOperations extends JdbcTableOperations {
         + "';";
   }
 
+  @Override
+  protected boolean isTableInDatabase(ResultSet table, String databaseName) throws SQLException {
+    return Objects.equals(table.getString("TABLE_SCHEM"), databaseName);
+  }
+
+  @Override
+  protected Map<String, List<Index>> getIndexesOfTables(
+      Connection connection, String schemaName, Set<String> tableNames) throws SQLException {
+    // The same primary and unique keys as the driver returns by getPrimaryKeys and getIndexInfo,
+    // but for all the tables of the schema at once.
+    String sql =
+        "SELECT t.relname AS table_name, i.relname AS index_name, a.attname AS column_name,"
+            + " ix.indisprimary AS is_primary,"
+            + " array_position(ix.indkey::int2[], a.attnum) AS ordinal_position"
+            + " FROM pg_catalog.pg_index ix"
+            + " JOIN pg_catalog.pg_class t ON t.oid = ix.indrelid"
+            + " JOIN pg_catalog.pg_class i ON i.oid = ix.indexrelid"
+            + " JOIN pg_catalog.pg_namespace n ON n.oid = t.relnamespace"
+            + " JOIN pg_catalog.pg_attribute a ON a.attrelid = t.oid AND a.attnum = ANY(ix.indkey)"
+            + " WHERE n.nspname = ? AND ix.indisunique";
+    Map<String, List<JdbcIndexBean>> jdbcIndexBeans = new HashMap<>();
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, schemaName);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          String tableName = resultSet.getString("table_name");
+          if (!tableNames.contains(tableName)) {
+            continue;
+          }
+          Index.IndexType indexType =
+              resultSet.getBoolean("is_primary")
+                  ? Index.IndexType.PRIMARY_KEY
+                  : Index.IndexType.UNIQUE_KEY;
+          jdbcIndexBeans
+              .computeIfAbsent(tableName, k -> new ArrayList<>())
+              .add(
+                  new JdbcIndexBean(
+                      indexType,
+                      resultSet.getString("column_name"),
+                      resultSet.getString("index_name"),
+                      resultSet.getInt("ordinal_position")));
+        }
+      }
+    }
+
+    Map<String, List<Index>> indexes = new HashMap<>();
+    for (String tableName : tableNames) {
+      indexes.put(
+          tableName,
+          assembleIndexes(jdbcIndexBeans.getOrDefault(tableName, Collections.emptyList())));
+    }
+    return indexes;
+  }
+
   @Override
   protected ResultSet getIndexInfo(String schemaName, String tableName, DatabaseMetaData metaData)
       throws SQLException {
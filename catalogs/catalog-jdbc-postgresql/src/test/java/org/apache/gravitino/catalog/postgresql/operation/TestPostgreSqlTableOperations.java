@@ -649,6 +649,63 @@ public class TestPostgreSqlTableOperations extends TestPostgreSql {
             "column \"no_exist_1\" named in key does not exist"));
   }
 
+  @Test
+  public void testLoadTables() {
+    List<JdbcColumn> columns = new ArrayList<>();
+    columns.add(
+        JdbcColumn.builder()
+            .withName("col_1")
+            .withType(INT)
+            .withNullable(false)
+            .withComment("id")
+            .build());
+    columns.add(
+        JdbcColumn.builder()
+            .withName("col_2")
+            .withType(VARCHAR)
+            .withNullable(false)
+            .withComment("name")
+            .build());
+
+    List<String> tableNames = new ArrayList<>();
+    List<Index[]> tableIndexes = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      String tableName = RandomNameUtils.genRandomName("load_tables_" + i);
+      // The index names are unique in a PostgreSQL schema.
+      Index[] indexes =
+          new Index[] {
+            Indexes.primary("load_pk_" + i, new String[][] {{"col_1"}}),
+            Indexes.unique("load_key_" + i, new String[][] {{"col_2"}, {"col_1"}})
+          };
+      TABLE_OPERATIONS.create(
+          TEST_DB_NAME,
+          tableName,
+          columns.toArray(new JdbcColumn[0]),
+          "comment_" + i,
+          Collections.emptyMap(),
+          null,
+          Distributions.NONE,
+          indexes);
+      tableNames.add(tableName);
+      tableIndexes.add(indexes);
+    }
+    tableNames.add("not_exist_table");
+
+    List<JdbcTable> tables = TABLE_OPERATIONS.loadTables(TEST_DB_NAME, tableNames);
+    Assertions.assertEquals(3, tables.size());
+    for (JdbcTable table : tables) {
+      int i = tableNames.indexOf(table.name());
+      assertionsTableInfo(
+          tableNames.get(i),
+          "comment_" + i,
+          columns,
+          Collections.emptyMap(),
+          tableIndexes.get(i),
+          Transforms.EMPTY_TRANSFORM,
+          table);
+    }
+  }
+
   @Test
   public void testAppendIndexesSql() {
     // Test append index sql success.
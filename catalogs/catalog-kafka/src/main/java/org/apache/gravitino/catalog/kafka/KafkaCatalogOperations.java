@@ -27,10 +27,13 @@ import static org.apache.gravitino.storage.RandomIdGenerator.MAX_ID;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -77,7 +80,6 @@ import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.CreateTopicsResult;
 import org.apache.kafka.clients.admin.DescribeConfigsResult;
 import org.apache.kafka.clients.admin.DescribeTopicsResult;
-import org.apache.kafka.clients.admin.ListTopicsResult;
 import org.apache.kafka.clients.admin.NewPartitions;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.admin.TopicDescription;
@@ -97,6 +99,8 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
   private static final Logger LOG = LoggerFactory.getLogger(KafkaCatalogOperations.class);
   private static final String DEFAULT_SCHEMA_NAME = "default";
   @VisibleForTesting static final String CLIENT_ID_TEMPLATE = "%s-%s.%s";
+  // The maximum number of topics described in one request to Kafka.
+  private static final int DESCRIBE_TOPICS_BATCH_SIZE = 1000;
 
   private final EntityStore store;
   private final IdGenerator idGenerator;
@@ -105,6 +109,7 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
   private CatalogInfo info;
   private AdminClient adminClient;
   private HasPropertyMetadata propertiesMetadata;
+  @VisibleForTesting KafkaTopicSnapshot topicSnapshot;
 
   @VisibleForTesting
   KafkaCatalogOperations(EntityStore store, IdGenerator idGenerator) {
@@ -160,6 +165,21 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
       throw new RuntimeException("Failed to create Kafka AdminClient", e);
     }
     createDefaultSchemaIfNecessary();
+
+    long refreshIntervalMs =
+        (long)
+            propertiesMetadata
+                .catalogPropertiesMetadata()
+                .getOrDefault(
+                    config, KafkaCatalogPropertiesMetadata.TOPIC_SNAPSHOT_REFRESH_INTERVAL_MS);
+    if (refreshIntervalMs > 0) {
+      topicSnapshot =
+          new KafkaTopicSnapshot(
+              "kafka-topic-snapshot-" + info.namespace() + "." + info.name(),
+              refreshIntervalMs,
+              this::listTopicNames,
+              this::describeTopics);
+    }
   }
 
   @Override
@@ -167,21 +187,10 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
     checkSchemaExists(schemaIdent);
 
-    try {
-      ListTopicsResult result = adminClient.listTopics();
-      Set<String> topicNames = result.names().get();
-      return topicNames.stream()
-          .map(name -> NameIdentifier.of(namespace, name))
-          .toArray(NameIdentifier[]::new);
-    } catch (ExecutionException e) {
-      throw new RuntimeException(
-          String.format(
-              "Failed to list topics under the schema %s: %s",
-              namespace, e.getCause().getMessage()),
-          e);
-    } catch (InterruptedException e) {
-      throw new RuntimeException("Failed to list topics under the schema " + namespace, e);
-    }
+    Set<String> topicNames = topicSnapshot != null ? topicSnapshot.topicNames() : listTopicNames();
+    return topicNames.stream()
+        .map(name -> NameIdentifier.of(namespace, name))
+        .toArray(NameIdentifier[]::new);
   }
 
   @Override
@@ -204,49 +213,13 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
     checkSchemaExists(schemaIdent);
 
-    DescribeTopicsResult result = adminClient.describeTopics(Collections.singleton(ident.name()));
-    ConfigResource configResource = new ConfigResource(ConfigResource.Type.TOPIC, ident.name());
-    DescribeConfigsResult configsResult =
-        adminClient.describeConfigs(Collections.singleton(configResource));
-
-    int partitions;
-    int replicationFactor;
-    Uuid topicId;
-    Map<String, String> properties = Maps.newHashMap();
-    try {
-      TopicDescription topicDescription = result.topicNameValues().get(ident.name()).get();
-      partitions = topicDescription.partitions().size();
-      replicationFactor = topicDescription.partitions().get(0).replicas().size();
-      topicId = topicDescription.topicId();
-
-      Config topicConfigs = configsResult.all().get().get(configResource);
-      topicConfigs.entries().forEach(e -> properties.put(e.name(), e.value()));
-      properties.put(KafkaTopicPropertiesMetadata.PARTITION_COUNT, String.valueOf(partitions));
-      properties.put(
-          KafkaTopicPropertiesMetadata.REPLICATION_FACTOR, String.valueOf(replicationFactor));
-    } catch (ExecutionException e) {
-      if (e.getCause() instanceof UnknownTopicOrPartitionException) {
-        throw new NoSuchTopicException(e, "Topic %s does not exist", ident);
-      } else {
-        throw new RuntimeException("Failed to load topic " + ident.name() + " from Kafka", e);
-      }
-    } catch (InterruptedException e) {
-      throw new RuntimeException("Failed to load topic " + ident.name() + " from Kafka", e);
+    Topic topic = getTopics(Collections.singleton(ident.name())).get(ident.name());
+    if (topic == null) {
+      throw new NoSuchTopicException("Topic %s does not exist", ident);
     }
 
     LOG.info("Loaded topic {} from Kafka", ident);
-
-    return KafkaTopic.builder()
-        .withName(ident.name())
-        // Because there is no way to store the Gravitino ID in Kafka, therefor we use the topic ID
-        // as the Gravitino ID
-        .withProperties(newPropertiesWithId(convertToGravitinoId(topicId), properties))
-        .withAuditInfo(
-            AuditInfo.builder()
-                .withCreator(PrincipalUtils.getCurrentPrincipal().getName())
-                .withCreateTime(Instant.now())
-                .build())
-        .build();
+    return topic;
   }
 
   @Override
@@ -279,18 +252,24 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
           KafkaTopicPropertiesMetadata.REPLICATION_FACTOR, String.valueOf(replicationFactor));
       topicConfigs.entries().forEach(e -> created_properties.put(e.name(), e.value()));
 
-      return KafkaTopic.builder()
-          .withName(ident.name())
-          .withComment(comment)
-          // Because there is no way to store the Gravitino ID in Kafka, therefor we use the topic
-          // ID as the Gravitino ID
-          .withProperties(newPropertiesWithId(convertToGravitinoId(topicId), created_properties))
-          .withAuditInfo(
-              AuditInfo.builder()
-                  .withCreator(PrincipalUtils.getCurrentPrincipal().getName())
-                  .withCreateTime(Instant.now())
-                  .build())
-          .build();
+      KafkaTopic topic =
+          KafkaTopic.builder()
+              .withName(ident.name())
+              .withComment(comment)
+              // Because there is no way to store the Gravitino ID in Kafka, therefor we use the
+              // topic ID as the Gravitino ID
+              .withProperties(
+                  newPropertiesWithId(convertToGravitinoId(topicId), created_properties))
+              .withAuditInfo(
+                  AuditInfo.builder()
+                      .withCreator(PrincipalUtils.getCurrentPrincipal().getName())
+                      .withCreateTime(Instant.now())
+                      .build())
+              .build();
+      if (topicSnapshot != null) {
+        topicSnapshot.topicCreated(topic);
+      }
+      return topic;
     } catch (ExecutionException e) {
       if (e.getCause() instanceof TopicExistsException) {
         throw new TopicAlreadyExistsException(e, "Topic %s already exists", ident);
@@ -346,12 +325,19 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
       }
     }
 
-    if (newPartitionCount != oldPartitionCount) {
-      doPartitionCountIncrement(ident.name(), newPartitionCount);
-    }
+    try {
+      if (newPartitionCount != oldPartitionCount) {
+        doPartitionCountIncrement(ident.name(), newPartitionCount);
+      }
 
-    if (!alterConfigOps.isEmpty()) {
-      doAlterTopicConfig(ident.name(), alterConfigOps);
+      if (!alterConfigOps.isEmpty()) {
+        doAlterTopicConfig(ident.name(), alterConfigOps);
+      }
+    } finally {
+      // Reload the topic on the next access even if only some of the changes were applied.
+      if (topicSnapshot != null) {
+        topicSnapshot.topicAltered(ident.name());
+      }
     }
 
     return KafkaTopic.builder()
@@ -375,9 +361,15 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
 
     try {
       adminClient.deleteTopics(Collections.singleton(ident.name())).all().get();
+      if (topicSnapshot != null) {
+        topicSnapshot.topicDropped(ident.name());
+      }
       return true;
     } catch (ExecutionException e) {
       if (e.getCause() instanceof UnknownTopicOrPartitionException) {
+        if (topicSnapshot != null) {
+          topicSnapshot.topicDropped(ident.name());
+        }
         return false;
       } else {
         throw new RuntimeException("Failed to drop topic " + ident.name() + " from Kafka", e);
@@ -451,12 +443,93 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
 
   @Override
   public void close() throws IOException {
+    if (topicSnapshot != null) {
+      topicSnapshot.close();
+      topicSnapshot = null;
+    }
     if (adminClient != null) {
       adminClient.close();
       adminClient = null;
     }
   }
 
+  private Map<String, Topic> getTopics(Collection<String> topicNames) {
+    return topicSnapshot != null ? topicSnapshot.getTopics(topicNames) : describeTopics(topicNames);
+  }
+
+  private Set<String> listTopicNames() {
+    try {
+      return adminClient.listTopics().names().get();
+    } catch (ExecutionException e) {
+      throw new RuntimeException(
+          "Failed to list topics from Kafka: " + e.getCause().getMessage(), e);
+    } catch (InterruptedException e) {
+      throw new RuntimeException("Failed to list topics from Kafka", e);
+    }
+  }
+
+  /**
+   * Describe the given topics and their configs with one request to Kafka for each batch of
+   * topics.
+   *
+   * @param topicNames The names of the topics.
+   * @return The topics keyed by name, the ones that don't exist are skipped.
+   */
+  private Map<String, Topic> describeTopics(Collection<String> topicNames) {
+    Map<String, Topic> topics = Maps.newHashMap();
+    for (List<String> batch :
+        Iterables.partition(ImmutableSet.copyOf(topicNames), DESCRIBE_TOPICS_BATCH_SIZE)) {
+      DescribeTopicsResult result = adminClient.describeTopics(batch);
+      Map<String, ConfigResource> configResources =
+          batch.stream()
+              .collect(
+                  Collectors.toMap(
+                      name -> name, name -> new ConfigResource(ConfigResource.Type.TOPIC, name)));
+      DescribeConfigsResult configsResult = adminClient.describeConfigs(configResources.values());
+
+      for (String name : batch) {
+        try {
+          TopicDescription topicDescription = result.topicNameValues().get(name).get();
+          Config topicConfigs = configsResult.values().get(configResources.get(name)).get();
+          topics.put(name, toKafkaTopic(name, topicDescription, topicConfigs));
+        } catch (ExecutionException e) {
+          if (e.getCause() instanceof UnknownTopicOrPartitionException) {
+            LOG.debug("Topic {} does not exist in Kafka, skip loading it", name);
+          } else {
+            throw new RuntimeException("Failed to load topic " + name + " from Kafka", e);
+          }
+        } catch (InterruptedException e) {
+          throw new RuntimeException("Failed to load topic " + name + " from Kafka", e);
+        }
+      }
+    }
+    return topics;
+  }
+
+  private KafkaTopic toKafkaTopic(
+      String name, TopicDescription topicDescription, Config topicConfigs) {
+    int partitions = topicDescription.partitions().size();
+    int replicationFactor = topicDescription.partitions().get(0).replicas().size();
+    Map<String, String> properties = Maps.newHashMap();
+    topicConfigs.entries().forEach(e -> properties.put(e.name(), e.value()));
+    properties.put(KafkaTopicPropertiesMetadata.PARTITION_COUNT, String.valueOf(partitions));
+    properties.put(
+        KafkaTopicPropertiesMetadata.REPLICATION_FACTOR, String.valueOf(replicationFactor));
+
+    return KafkaTopic.builder()
+        .withName(name)
+        // Because there is no way to store the Gravitino ID in Kafka, therefor we use the topic ID
+        // as the Gravitino ID
+        .withProperties(
+            newPropertiesWithId(convertToGravitinoId(topicDescription.topicId()), properties))
+        .withAuditInfo(
+            AuditInfo.builder()
+                .withCreator(PrincipalUtils.getCurrentPrincipal().getName())
+                .withCreateTime(Instant.now())
+                .build())
+        .build();
+  }
+
   /**
    * Make sure the schema exists, otherwise throw an exception.
    *
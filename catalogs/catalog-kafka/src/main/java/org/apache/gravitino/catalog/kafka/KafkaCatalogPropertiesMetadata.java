@@ -29,6 +29,11 @@ public class KafkaCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadat
   // multiple brokers by comma-separating them.
   public static final String BOOTSTRAP_SERVERS = "bootstrap.servers";
 
+  // The interval to refresh the snapshot of the topics that listing and loading topics are served
+  // from, the snapshot is disabled if it's not positive.
+  public static final String TOPIC_SNAPSHOT_REFRESH_INTERVAL_MS =
+      "topic-snapshot.refresh-interval-ms";
+
   private static final Map<String, PropertyEntry<?>> KAFKA_CATALOG_PROPERTY_ENTRIES =
       ImmutableMap.<String, PropertyEntry<?>>builder()
           .put(
@@ -39,6 +44,15 @@ public class KafkaCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadat
                       + "comma-separating them",
                   false /* immutable */,
                   false /* hidden */))
+          .put(
+              TOPIC_SNAPSHOT_REFRESH_INTERVAL_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  TOPIC_SNAPSHOT_REFRESH_INTERVAL_MS,
+                  "The interval in milliseconds to refresh the snapshot of the topics that "
+                      + "listing and loading topics are served from, 0 to disable the snapshot",
+                  false /* immutable */,
+                  0L /* default value */,
+                  false /* hidden */))
           .build();
 
   @Override
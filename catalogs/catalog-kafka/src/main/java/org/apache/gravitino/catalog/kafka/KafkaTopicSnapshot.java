@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.kafka;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.gravitino.messaging.Topic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A snapshot of the topics of a Kafka cluster, refreshed in the background so that listing and
+ * loading topics doesn't cost a round trip to the cluster for each request.
+ *
+ * <p>Each refresh lists the names of all the topics, but only describes again the topics that have
+ * been loaded before, so a cluster with many topics is only described for the topics in use. The
+ * topics created, altered or dropped through the catalog are applied to the snapshot right away,
+ * and a refresh that started before such a change doesn't override it. Only one refresh runs at a
+ * time, so an older refresh can't finish after a newer one and override it.
+ */
+class KafkaTopicSnapshot implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(KafkaTopicSnapshot.class);
+
+  private final Supplier<Set<String>> topicLister;
+  private final Function<Collection<String>, Map<String, Topic>> topicDescriber;
+  private final ScheduledThreadPoolExecutor refreshExecutor;
+
+  // Serializes the refreshes, the lock of this snapshot is only held briefly by a refresh to apply
+  // its result, so the changes made through the catalog don't wait for a running refresh.
+  private final Object refreshLock = new Object();
+
+  // The described topics, only updated while holding the lock of this snapshot.
+  private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+
+  // The changes made through the catalog that a running refresh may not have seen yet, guarded by
+  // the lock of this snapshot.
+  private final Map<String, PendingChange> pendingChanges = Maps.newHashMap();
+  private long changeSeq;
+
+  // The names of all the topics, null until the first refresh.
+  private volatile Set<String> topicNames;
+
+  /**
+   * Creates a snapshot of the topics and schedules its refresh.
+   *
+   * @param threadName The name of the refresh thread.
+   * @param refreshIntervalMs The interval in milliseconds to refresh the snapshot.
+   * @param topicLister Lists the names of all the topics in the cluster.
+   * @param topicDescriber Describes the given topics in batches, skipping the missing ones.
+   */
+  KafkaTopicSnapshot(
+      String threadName,
+      long refreshIntervalMs,
+      Supplier<Set<String>> topicLister,
+      Function<Collection<String>, Map<String, Topic>> topicDescriber) {
+    this.topicLister = topicLister;
+    this.topicDescriber = topicDescriber;
+    this.refreshExecutor =
+        new ScheduledThreadPoolExecutor(
+            1, new ThreadFactoryBuilder().setDaemon(true).setNameFormat(threadName).build());
+    refreshExecutor.scheduleWithFixedDelay(
+        this::refreshQuietly, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Returns the names of all the topics, the first call lists them from the cluster.
+   *
+   * @return The names of the topics.
+   */
+  Set<String> topicNames() {
+    Set<String> names = topicNames;
+    if (names == null) {
+      synchronized (refreshLock) {
+        // The concurrent callers wait for the first refresh instead of listing the topics again.
+        if (topicNames == null) {
+          refresh();
+        }
+      }
+      names = topicNames;
+    }
+    return names;
+  }
+
+  /**
+   * Returns the given topics, the ones that are in the snapshot but haven't been described yet are
+   * described in one batch. Topics that don't exist are skipped.
+   *
+   * @param names The names of the topics.
+   * @return The topics keyed by name.
+   */
+  Map<String, Topic> getTopics(Collection<String> names) {
+    Map<String, Topic> result = Maps.newHashMap();
+    Set<String> allNames = topicNames();
+    Set<String> missing = Sets.newLinkedHashSet();
+    for (String name : names) {
+      Topic topic = topics.get(name);
+      if (topic != null) {
+        result.put(name, topic);
+      } else if (allNames.contains(name)) {
+        missing.add(name);
+      }
+    }
+    if (missing.isEmpty()) {
+      return result;
+    }
+
+    long seq;
+    synchronized (this) {
+      seq = changeSeq;
+    }
+    Map<String, Topic> described = topicDescriber.apply(missing);
+    result.putAll(described);
+    synchronized (this) {
+      // Don't cache the topics described before a change that might have made them stale.
+      if (seq == changeSeq) {
+        topics.putAll(described);
+      }
+    }
+    return result;
+  }
+
+  synchronized void topicCreated(Topic topic) {
+    recordChange(topic.name(), true /* exists */);
+    topics.put(topic.name(), topic);
+  }
+
+  synchronized void topicAltered(String name) {
+    recordChange(name, true /* exists */);
+    topics.remove(name);
+  }
+
+  synchronized void topicDropped(String name) {
+    recordChange(name, false /* exists */);
+    topics.remove(name);
+  }
+
+  @VisibleForTesting
+  void refresh() {
+    synchronized (refreshLock) {
+      doRefresh();
+    }
+  }
+
+  private void doRefresh() {
+    long startSeq;
+    synchronized (this) {
+      startSeq = changeSeq;
+    }
+
+    Set<String> listedNames = topicLister.get();
+    List<String> loadedNames =
+        topics.keySet().stream().filter(listedNames::contains).collect(Collectors.toList());
+    Map<String, Topic> described =
+        loadedNames.isEmpty() ? Collections.emptyMap() : topicDescriber.apply(loadedNames);
+
+    synchronized (this) {
+      pendingChanges.values().removeIf(change -> change.seq <= startSeq);
+
+      Set<String> names = Sets.newHashSet(listedNames);
+      pendingChanges.forEach((name, change) -> applyChange(names, name, change.exists));
+      topics.keySet().retainAll(names);
+      for (String name : loadedNames) {
+        if (pendingChanges.containsKey(name)) {
+          continue;
+        }
+        Topic topic = described.get(name);
+        if (topic != null) {
+          topics.put(name, topic);
+        } else {
+          // Dropped between listing and describing.
+          topics.remove(name);
+        }
+      }
+      topicNames = Collections.unmodifiableSet(names);
+    }
+  }
+
+  @Override
+  public void close() {
+    refreshExecutor.shutdownNow();
+  }
+
+  private void refreshQuietly() {
+    try {
+      refresh();
+    } catch (Exception e) {
+      LOG.warn("Failed to refresh the Kafka topic snapshot, will retry at the next refresh", e);
+    }
+  }
+
+  private void recordChange(String name, boolean exists) {
+    pendingChanges.put(name, new PendingChange(exists, ++changeSeq));
+    Set<String> names = topicNames;
+    if (names != null && names.contains(name) != exists) {
+      Set<String> newNames = Sets.newHashSet(names);
+      applyChange(newNames, name, exists);
+      topicNames = Collections.unmodifiableSet(newNames);
+    }
+  }
+
+  private static void applyChange(Set<String> names, String name, boolean exists) {
+    if (exists) {
+      names.add(name);
+    } else {
+      names.remove(name);
+    }
+  }
+
+  private static class PendingChange {
+    private final boolean exists;
+    private final long seq;
+
+    private PendingChange(boolean exists, long seq) {
+      this.exists = exists;
+      this.seq = seq;
+    }
+  }
+}
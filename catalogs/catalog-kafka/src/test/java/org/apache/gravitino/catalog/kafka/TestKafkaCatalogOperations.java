@@ -39,6 +39,7 @@ import static org.apache.gravitino.catalog.kafka.KafkaCatalog.SCHEMA_PROPERTIES_
 import static org.apache.gravitino.catalog.kafka.KafkaCatalog.TOPIC_PROPERTIES_METADATA;
 import static org.apache.gravitino.catalog.kafka.KafkaCatalogOperations.CLIENT_ID_TEMPLATE;
 import static org.apache.gravitino.catalog.kafka.KafkaCatalogPropertiesMetadata.BOOTSTRAP_SERVERS;
+import static org.apache.gravitino.catalog.kafka.KafkaCatalogPropertiesMetadata.TOPIC_SNAPSHOT_REFRESH_INTERVAL_MS;
 import static org.apache.gravitino.catalog.kafka.KafkaTopicPropertiesMetadata.PARTITION_COUNT;
 import static org.apache.gravitino.catalog.kafka.KafkaTopicPropertiesMetadata.REPLICATION_FACTOR;
 import static org.mockito.Mockito.doReturn;
@@ -48,6 +49,7 @@ import com.google.common.collect.ImmutableMap;
 import java.io.File;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Map;
 import org.apache.commons.io.FileUtils;
 import org.apache.gravitino.Config;
@@ -434,6 +436,51 @@ public class TestKafkaCatalogOperations extends KafkaClusterEmbedded {
         exception.getMessage());
   }
 
+  @Test
+  public void testTopicSnapshot() throws IOException {
+    Map<String, String> catalogProperties =
+        ImmutableMap.<String, String>builder()
+            .putAll(MOCK_CATALOG_PROPERTIES)
+            // Refresh the snapshot manually in this test
+            .put(TOPIC_SNAPSHOT_REFRESH_INTERVAL_MS, "3600000")
+            .build();
+    KafkaCatalogOperations ops = new KafkaCatalogOperations(store, idGenerator);
+    ops.initialize(
+        catalogProperties, kafkaCatalogEntity.toCatalogInfo(), KAFKA_PROPERTIES_METADATA);
+    Assertions.assertNotNull(ops.topicSnapshot);
+
+    Namespace namespace = Namespace.of(METALAKE_NAME, CATALOG_NAME, DEFAULT_SCHEMA_NAME);
+    Map<String, String> properties = ImmutableMap.of(PARTITION_COUNT, "1", REPLICATION_FACTOR, "1");
+    Assertions.assertTrue(
+        Arrays.asList(ops.listTopics(namespace)).contains(NameIdentifier.of(namespace, TOPIC_1)));
+
+    // Changes made through the catalog are visible right away
+    NameIdentifier createdIdent = NameIdentifier.of(namespace, "test_snapshot_created_topic");
+    ops.createTopic(createdIdent, null, null, properties);
+    Assertions.assertTrue(Arrays.asList(ops.listTopics(namespace)).contains(createdIdent));
+    Assertions.assertEquals(createdIdent.name(), ops.loadTopic(createdIdent).name());
+
+    ops.alterTopic(createdIdent, TopicChange.setProperty(PARTITION_COUNT, "2"));
+    Assertions.assertEquals("2", ops.loadTopic(createdIdent).properties().get(PARTITION_COUNT));
+
+    Assertions.assertTrue(ops.dropTopic(createdIdent));
+    Assertions.assertFalse(Arrays.asList(ops.listTopics(namespace)).contains(createdIdent));
+    Assertions.assertThrows(NoSuchTopicException.class, () -> ops.loadTopic(createdIdent));
+
+    // Changes made outside the catalog are visible after the snapshot is refreshed
+    NameIdentifier externalIdent = NameIdentifier.of(namespace, "test_snapshot_external_topic");
+    kafkaCatalogOperations.createTopic(externalIdent, null, null, properties);
+    Assertions.assertFalse(Arrays.asList(ops.listTopics(namespace)).contains(externalIdent));
+    Assertions.assertThrows(NoSuchTopicException.class, () -> ops.loadTopic(externalIdent));
+
+    ops.topicSnapshot.refresh();
+    Assertions.assertTrue(Arrays.asList(ops.listTopics(namespace)).contains(externalIdent));
+    Assertions.assertNotNull(ops.loadTopic(externalIdent));
+
+    ops.close();
+    Assertions.assertNull(ops.topicSnapshot);
+  }
+
   @Test
   public void testListTopics() {
     NameIdentifier[] topics =
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.kafka;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.gravitino.messaging.Topic;
+import org.apache.gravitino.meta.AuditInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestKafkaTopicSnapshot {
+
+  private final Set<String> clusterTopics = Sets.newConcurrentHashSet();
+  private final List<Collection<String>> describeRequests = Lists.newArrayList();
+  private Runnable onList = () -> {};
+  private KafkaTopicSnapshot snapshot;
+
+  @BeforeEach
+  public void setUp() {
+    clusterTopics.addAll(ImmutableSet.of("topic_1", "topic_2", "topic_3"));
+    snapshot =
+        new KafkaTopicSnapshot(
+            "test-kafka-topic-snapshot",
+            3600000L,
+            () -> {
+              Set<String> names = ImmutableSet.copyOf(clusterTopics);
+              onList.run();
+              return names;
+            },
+            this::describe);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    snapshot.close();
+  }
+
+  @Test
+  public void testGetTopics() {
+    Assertions.assertEquals(
+        ImmutableSet.of("topic_1", "topic_2", "topic_3"), snapshot.topicNames());
+
+    Map<String, Topic> topics =
+        snapshot.getTopics(Lists.newArrayList("topic_1", "topic_2", "not_exist"));
+    Assertions.assertEquals(ImmutableSet.of("topic_1", "topic_2"), topics.keySet());
+    Assertions.assertEquals(1, describeRequests.size());
+    Assertions.assertEquals(ImmutableSet.of("topic_1", "topic_2"), describeRequests.get(0));
+
+    // Served from the snapshot without describing the topics again.
+    Assertions.assertSame(
+        topics.get("topic_1"), snapshot.getTopics(Lists.newArrayList("topic_1")).get("topic_1"));
+    Assertions.assertEquals(1, describeRequests.size());
+  }
+
+  @Test
+  public void testRefresh() {
+    snapshot.getTopics(Lists.newArrayList("topic_1"));
+    clusterTopics.add("topic_4");
+    clusterTopics.remove("topic_2");
+    Assertions.assertFalse(snapshot.topicNames().contains("topic_4"));
+
+    describeRequests.clear();
+    snapshot.refresh();
+    Assertions.assertEquals(
+        ImmutableSet.of("topic_1", "topic_3", "topic_4"), snapshot.topicNames());
+    // Only the topics loaded before are described again.
+    Assertions.assertEquals(1, describeRequests.size());
+    Assertions.assertEquals(ImmutableSet.of("topic_1"), describeRequests.get(0));
+  }
+
+  @Test
+  public void testChangesDuringRefresh() {
+    snapshot.topicNames();
+
+    // The topics are changed through the catalog after the refresh listed the topics.
+    onList =
+        () -> {
+          clusterTopics.add("topic_4");
+          snapshot.topicCreated(newTopic("topic_4"));
+          clusterTopics.remove("topic_1");
+          snapshot.topicDropped("topic_1");
+        };
+    snapshot.refresh();
+    Assertions.assertEquals(
+        ImmutableSet.of("topic_2", "topic_3", "topic_4"), snapshot.topicNames());
+    Assertions.assertTrue(snapshot.getTopics(Lists.newArrayList("topic_1")).isEmpty());
+
+    onList = () -> {};
+    snapshot.refresh();
+    Assertions.assertEquals(
+        ImmutableSet.of("topic_2", "topic_3", "topic_4"), snapshot.topicNames());
+  }
+
+  @Test
+  public void testConcurrentRefreshes() throws Exception {
+    snapshot.topicNames();
+
+    // The first refresh lists the topics before topic_4 is created and then stalls.
+    CountDownLatch listed = new CountDownLatch(1);
+    CountDownLatch resume = new CountDownLatch(1);
+    AtomicBoolean stalled = new AtomicBoolean(false);
+    onList =
+        () -> {
+          if (stalled.compareAndSet(false, true)) {
+            listed.countDown();
+            try {
+              resume.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          }
+        };
+    Thread olderRefresh = new Thread(snapshot::refresh);
+    olderRefresh.start();
+    Assertions.assertTrue(listed.await(10, TimeUnit.SECONDS));
+
+    clusterTopics.add("topic_4");
+    snapshot.topicCreated(newTopic("topic_4"));
+
+    // The newer refresh waits for the older one, instead of finishing first and being overridden.
+    Thread newerRefresh = new Thread(snapshot::refresh);
+    newerRefresh.start();
+    newerRefresh.join(200);
+    Assertions.assertTrue(newerRefresh.isAlive());
+
+    resume.countDown();
+    olderRefresh.join();
+    newerRefresh.join();
+    Assertions.assertEquals(
+        ImmutableSet.of("topic_1", "topic_2", "topic_3", "topic_4"), snapshot.topicNames());
+  }
+
+  private Map<String, Topic> describe(Collection<String> names) {
+    describeRequests.add(ImmutableSet.copyOf(names));
+    Map<String, Topic> topics = Maps.newHashMap();
+    names.stream().filter(clusterTopics::contains).forEach(n -> topics.put(n, newTopic(n)));
+    return topics;
+  }
+
+  private static Topic newTopic(String name) {
+    return KafkaTopic.builder()
+        .withName(name)
+        .withAuditInfo(
+            AuditInfo.builder().withCreator("test").withCreateTime(Instant.now()).build())
+        .build();
+  }
+}
@@ -127,6 +127,9 @@ dependencies {
   annotationProcessor(libs.lombok)
   compileOnly(libs.lombok)
 
+  // Provided by the Gravitino server, the table cache exports its metrics through it.
+  compileOnly(libs.metrics.core)
+
   testImplementation(project(":clients:client-java"))
   testImplementation(project(":integration-test-common", "testArtifacts"))
   testImplementation(project(":server"))
@@ -39,10 +39,12 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.catalog.lakehouse.paimon.ops.PaimonCatalogOps;
+import org.apache.gravitino.catalog.lakehouse.paimon.ops.PaimonTableCache;
 import org.apache.gravitino.catalog.lakehouse.paimon.utils.TableOpsUtils;
 import org.apache.gravitino.connector.CatalogInfo;
 import org.apache.gravitino.connector.CatalogOperations;
 import org.apache.gravitino.connector.HasPropertyMetadata;
+import org.apache.gravitino.connector.PropertiesMetadata;
 import org.apache.gravitino.connector.SupportsSchemas;
 import org.apache.gravitino.exceptions.ConnectionFailedException;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
@@ -53,6 +55,7 @@ import org.apache.gravitino.exceptions.NonEmptySchemaException;
 import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
 import org.apache.gravitino.exceptions.TableAlreadyExistsException;
 import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.metrics.source.MetricsSource;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.TableCatalog;
 import org.apache.gravitino.rel.TableChange;
@@ -114,7 +117,10 @@ public class PaimonCatalogOperations implements CatalogOperations, SupportsSchem
     Map<String, String> resultConf = Maps.newHashMap(prefixMap);
     resultConf.putAll(gravitinoConfig);
 
-    this.paimonCatalogOps = new PaimonCatalogOps(new PaimonConfig(resultConf));
+    this.paimonCatalogOps =
+        new PaimonCatalogOps(
+            new PaimonConfig(resultConf),
+            createTableCache(conf, info, propertiesMetadata.catalogPropertiesMetadata()));
   }
 
   /**
@@ -476,6 +482,34 @@ public class PaimonCatalogOperations implements CatalogOperations, SupportsSchem
     }
   }
 
+  private static PaimonTableCache createTableCache(
+      Map<String, String> conf, CatalogInfo info, PropertiesMetadata catalogPropertiesMetadata) {
+    boolean enabled =
+        (boolean)
+            catalogPropertiesMetadata.getOrDefault(
+                conf, PaimonCatalogPropertiesMetadata.TABLE_CACHE_ENABLED);
+    if (!enabled) {
+      return null;
+    }
+
+    String metricsSourceName =
+        info == null
+            ? null
+            : String.join(
+                ".",
+                MetricsSource.PAIMON_TABLE_CACHE_METRIC_NAME,
+                info.namespace().level(0),
+                info.name());
+    return new PaimonTableCache(
+        (long)
+            catalogPropertiesMetadata.getOrDefault(
+                conf, PaimonCatalogPropertiesMetadata.TABLE_CACHE_MAX_SIZE),
+        (long)
+            catalogPropertiesMetadata.getOrDefault(
+                conf, PaimonCatalogPropertiesMetadata.TABLE_CACHE_REVALIDATE_INTERVAL_MS),
+        metricsSourceName);
+  }
+
   private static String currentUser() {
     return PrincipalUtils.getCurrentUserName();
   }
@@ -18,7 +18,9 @@
  */
 package org.apache.gravitino.catalog.lakehouse.paimon;
 
+import static org.apache.gravitino.connector.PropertyEntry.booleanPropertyEntry;
 import static org.apache.gravitino.connector.PropertyEntry.enumPropertyEntry;
+import static org.apache.gravitino.connector.PropertyEntry.longOptionalPropertyEntry;
 import static org.apache.gravitino.connector.PropertyEntry.stringOptionalPropertyEntry;
 import static org.apache.gravitino.connector.PropertyEntry.stringRequiredPropertyEntry;
 
@@ -62,6 +64,12 @@ public class PaimonCatalogPropertiesMetadata extends BaseCatalogPropertiesMetada
   public static final String S3_ACCESS_KEY = PaimonConstants.S3_ACCESS_KEY;
   public static final String S3_SECRET_KEY = PaimonConstants.S3_SECRET_KEY;
 
+  // The cache of the loaded tables, handled by Gravitino rather than passed to Paimon
+  public static final String TABLE_CACHE_ENABLED = "table-cache.enabled";
+  public static final String TABLE_CACHE_MAX_SIZE = "table-cache.max-size";
+  public static final String TABLE_CACHE_REVALIDATE_INTERVAL_MS =
+      "table-cache.revalidate-interval-ms";
+
   public static final Map<String, String> GRAVITINO_CONFIG_TO_PAIMON =
       ImmutableMap.of(
           GRAVITINO_CATALOG_BACKEND,
@@ -142,6 +150,27 @@ public class PaimonCatalogPropertiesMetadata extends BaseCatalogPropertiesMetada
                 "The driver of the Jdbc connection",
                 false /* immutable */,
                 null /* defaultValue */,
+                false /* hidden */),
+            booleanPropertyEntry(
+                TABLE_CACHE_ENABLED,
+                "Whether to cache the tables loaded from the Paimon catalog",
+                false /* required */,
+                false /* immutable */,
+                false /* defaultValue */,
+                false /* hidden */,
+                false /* reserved */),
+            longOptionalPropertyEntry(
+                TABLE_CACHE_MAX_SIZE,
+                "The maximum number of cached tables",
+                false /* immutable */,
+                1000L /* defaultValue */,
+                false /* hidden */),
+            longOptionalPropertyEntry(
+                TABLE_CACHE_REVALIDATE_INTERVAL_MS,
+                "The time in milliseconds a cached table is served before checking that its "
+                    + "schema is still the latest one",
+                false /* immutable */,
+                5000L /* defaultValue */,
                 false /* hidden */));
     HashMap<String, PropertyEntry<?>> result = Maps.newHashMap();
     result.putAll(Maps.uniqueIndex(propertyEntries, PropertyEntry::getName));
@@ -24,6 +24,7 @@ import static org.apache.gravitino.catalog.lakehouse.paimon.utils.TableOpsUtils.
 import com.google.common.base.Preconditions;
 import java.util.List;
 import java.util.Map;
+import javax.annotation.Nullable;
 import org.apache.gravitino.catalog.lakehouse.paimon.PaimonConfig;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.paimon.catalog.Catalog;
@@ -43,17 +44,33 @@ public class PaimonCatalogOps implements AutoCloseable {
 
   private final PaimonBackendCatalogWrapper paimonBackendCatalogWrapper;
   protected Catalog catalog;
+  @Nullable private final PaimonTableCache tableCache;
 
   public PaimonCatalogOps(PaimonConfig paimonConfig) {
+    this(paimonConfig, null);
+  }
+
+  /**
+   * Creates the table operation proxy of a Paimon catalog.
+   *
+   * @param paimonConfig The configuration of the Paimon catalog.
+   * @param tableCache The cache of the loaded tables, or null to load them from the catalog each
+   *     time.
+   */
+  public PaimonCatalogOps(PaimonConfig paimonConfig, @Nullable PaimonTableCache tableCache) {
     paimonBackendCatalogWrapper = loadCatalogBackend(paimonConfig);
     Preconditions.checkArgument(
         paimonBackendCatalogWrapper.getCatalog() != null,
         "Can not load Paimon backend catalog instance.");
     catalog = paimonBackendCatalogWrapper.getCatalog();
+    this.tableCache = tableCache;
   }
 
   @Override
   public void close() throws Exception {
+    if (tableCache != null) {
+      tableCache.close();
+    }
     if (paimonBackendCatalogWrapper != null) {
       paimonBackendCatalogWrapper.close();
     }
@@ -74,7 +91,13 @@ public class PaimonCatalogOps implements AutoCloseable {
 
   public void dropDatabase(String databaseName, boolean cascade)
       throws DatabaseNotExistException, DatabaseNotEmptyException {
-    catalog.dropDatabase(databaseName, false, cascade);
+    try {
+      catalog.dropDatabase(databaseName, false, cascade);
+    } finally {
+      if (tableCache != null) {
+        tableCache.invalidateDatabase(databaseName);
+      }
+    }
   }
 
   public List<String> listTables(String databaseName) throws DatabaseNotExistException {
@@ -82,7 +105,10 @@ public class PaimonCatalogOps implements AutoCloseable {
   }
 
   public Table loadTable(String tableName) throws TableNotExistException {
-    return catalog.getTable(tableIdentifier(tableName));
+    if (tableCache == null) {
+      return catalog.getTable(tableIdentifier(tableName));
+    }
+    return tableCache.getTable(tableName, () -> catalog.getTable(tableIdentifier(tableName)));
   }
 
   public void createTable(String tableName, Schema schema)
@@ -91,17 +117,36 @@ public class PaimonCatalogOps implements AutoCloseable {
   }
 
   public void purgeTable(String tableName) throws TableNotExistException {
-    catalog.dropTable(tableIdentifier(tableName), false);
+    try {
+      catalog.dropTable(tableIdentifier(tableName), false);
+    } finally {
+      invalidateTable(tableName);
+    }
   }
 
   public void alterTable(String tableName, TableChange... changes)
       throws ColumnAlreadyExistException, TableNotExistException, ColumnNotExistException {
-    catalog.alterTable(tableIdentifier(tableName), buildSchemaChanges(changes), false);
+    try {
+      catalog.alterTable(tableIdentifier(tableName), buildSchemaChanges(changes), false);
+    } finally {
+      invalidateTable(tableName);
+    }
   }
 
   public void renameTable(String fromTableName, String toTableName)
       throws TableNotExistException, TableAlreadyExistException {
-    catalog.renameTable(tableIdentifier(fromTableName), tableIdentifier(toTableName), false);
+    try {
+      catalog.renameTable(tableIdentifier(fromTableName), tableIdentifier(toTableName), false);
+    } finally {
+      invalidateTable(fromTableName);
+      invalidateTable(toTableName);
+    }
+  }
+
+  private void invalidateTable(String tableName) {
+    if (tableCache != null) {
+      tableCache.invalidateTable(tableName);
+    }
   }
 
   private Identifier tableIdentifier(String tableName) {
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.lakehouse.paimon.ops;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.Closeable;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.MetadataCacheMetricsSource;
+import org.apache.paimon.catalog.Catalog.TableNotExistException;
+import org.apache.paimon.schema.SchemaManager;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.Table;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A cache of the table handles loaded from the Paimon catalog. Loading a table from the catalog
+ * reads the latest schema file of the table, which costs several requests to an object store. A
+ * cached table is served as is for the revalidate interval, and after that only if its schema id
+ * is still the latest one, which only costs listing the schema directory of the table. The
+ * snapshots are read lazily by the table handle, so they are never served stale by the cache.
+ *
+ * <p>The tables are invalidated when they are altered, renamed or dropped through Gravitino.
+ */
+public class PaimonTableCache implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PaimonTableCache.class);
+
+  /** Loads a table from the Paimon catalog. */
+  @FunctionalInterface
+  interface TableLoader {
+    Table load() throws TableNotExistException;
+  }
+
+  private final Cache<String, CachedTable> cache;
+  private final long revalidateIntervalNanos;
+  // Incremented on each invalidation, so a table loaded before an invalidation isn't cached.
+  private long generation;
+
+  @Nullable private final MetadataCacheMetricsSource metricsSource;
+
+  /**
+   * Creates a table cache.
+   *
+   * @param maxSize The maximum number of cached tables.
+   * @param revalidateIntervalMs The time in milliseconds a cached table is served without checking
+   *     its latest schema id.
+   * @param metricsSourceName The name to export the cache metrics with, or null to not export them.
+   */
+  public PaimonTableCache(
+      long maxSize, long revalidateIntervalMs, @Nullable String metricsSourceName) {
+    this.cache = CacheBuilder.newBuilder().maximumSize(maxSize).recordStats().build();
+    this.revalidateIntervalNanos = TimeUnit.MILLISECONDS.toNanos(revalidateIntervalMs);
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSourceName != null && metricsSystem != null) {
+      this.metricsSource = new MetadataCacheMetricsSource(metricsSourceName, cache);
+      metricsSystem.register(metricsSource);
+    } else {
+      this.metricsSource = null;
+    }
+  }
+
+  /**
+   * Returns the cached table if it's still valid, or loads and caches it.
+   *
+   * @param tableName The full name of the table, like "database.table".
+   * @param loader The loader of the table from the Paimon catalog.
+   * @return The table.
+   * @throws TableNotExistException If the table does not exist.
+   */
+  Table getTable(String tableName, TableLoader loader) throws TableNotExistException {
+    CachedTable cached = cache.asMap().get(tableName);
+    if (cached != null && !isValid(cached)) {
+      cache.asMap().remove(tableName, cached);
+    }
+
+    // Look up the cache again to count the hits and misses of the valid tables.
+    cached = cache.getIfPresent(tableName);
+    if (cached != null) {
+      return cached.table;
+    }
+
+    long loadGeneration;
+    synchronized (this) {
+      loadGeneration = generation;
+    }
+    Table table = loader.load();
+    if (table instanceof FileStoreTable) {
+      synchronized (this) {
+        if (loadGeneration == generation) {
+          cache.put(tableName, new CachedTable((FileStoreTable) table));
+        }
+      }
+    }
+    return table;
+  }
+
+  /**
+   * Invalidates the cached table.
+   *
+   * @param tableName The full name of the table, like "database.table".
+   */
+  synchronized void invalidateTable(String tableName) {
+    generation++;
+    cache.invalidate(tableName);
+  }
+
+  /**
+   * Invalidates all the cached tables of a database.
+   *
+   * @param databaseName The name of the database.
+   */
+  synchronized void invalidateDatabase(String databaseName) {
+    generation++;
+    String prefix = databaseName + ".";
+    cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+  }
+
+  @VisibleForTesting
+  long size() {
+    return cache.size();
+  }
+
+  @Override
+  public void close() {
+    cache.invalidateAll();
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSource != null && metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+  }
+
+  private boolean isValid(CachedTable cached) {
+    long now = System.nanoTime();
+    if (now - cached.validatedAtNanos < revalidateIntervalNanos) {
+      return true;
+    }
+
+    FileStoreTable table = cached.table;
+    try {
+      OptionalLong latestSchemaId =
+          new SchemaManager(table.fileIO(), table.location())
+              .listAllIds()
+              .stream()
+              .mapToLong(Long::longValue)
+              .max();
+      if (latestSchemaId.isPresent() && latestSchemaId.getAsLong() == table.schema().id()) {
+        cached.validatedAtNanos = now;
+        return true;
+      }
+    } catch (Exception e) {
+      LOG.debug("Failed to revalidate the cached Paimon table {}, reload it", table.name(), e);
+    }
+    return false;
+  }
+
+  private static class CachedTable {
+    private final FileStoreTable table;
+    private volatile long validatedAtNanos;
+
+    private CachedTable(FileStoreTable table) {
+      this.table = table;
+      this.validatedAtNanos = System.nanoTime();
+    }
+  }
+}
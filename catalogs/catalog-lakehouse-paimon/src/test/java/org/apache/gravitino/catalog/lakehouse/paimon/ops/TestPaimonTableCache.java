@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.lakehouse.paimon.ops;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import java.io.File;
+import org.apache.gravitino.catalog.lakehouse.paimon.PaimonCatalogPropertiesMetadata;
+import org.apache.gravitino.catalog.lakehouse.paimon.PaimonConfig;
+import org.apache.gravitino.rel.TableChange;
+import org.apache.paimon.catalog.Catalog.TableNotExistException;
+import org.apache.paimon.catalog.Identifier;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.schema.SchemaChange;
+import org.apache.paimon.table.Table;
+import org.apache.paimon.types.DataTypes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestPaimonTableCache {
+
+  private static final String DATABASE = "test_table_cache_database";
+  private static final String TABLE = DATABASE + ".test_table_cache_table";
+
+  @TempDir private File warehouse;
+  private PaimonCatalogOps paimonCatalogOps;
+  private PaimonTableCache tableCache;
+
+  @AfterEach
+  public void tearDown() throws Exception {
+    if (paimonCatalogOps != null) {
+      paimonCatalogOps.close();
+    }
+  }
+
+  @Test
+  void testInvalidateOnChanges() throws Exception {
+    createCatalogOps(3600000L);
+
+    Table table = paimonCatalogOps.loadTable(TABLE);
+    Assertions.assertSame(table, paimonCatalogOps.loadTable(TABLE));
+    Assertions.assertEquals(1, tableCache.size());
+
+    paimonCatalogOps.alterTable(TABLE, TableChange.updateComment("new comment"));
+    Table alteredTable = paimonCatalogOps.loadTable(TABLE);
+    Assertions.assertNotSame(table, alteredTable);
+    Assertions.assertEquals("new comment", alteredTable.comment().orElse(null));
+
+    String newTable = DATABASE + ".test_table_cache_renamed";
+    paimonCatalogOps.renameTable(TABLE, newTable);
+    Assertions.assertThrows(TableNotExistException.class, () -> paimonCatalogOps.loadTable(TABLE));
+    Assertions.assertNotNull(paimonCatalogOps.loadTable(newTable));
+
+    paimonCatalogOps.purgeTable(newTable);
+    Assertions.assertThrows(
+        TableNotExistException.class, () -> paimonCatalogOps.loadTable(newTable));
+    Assertions.assertEquals(0, tableCache.size());
+  }
+
+  @Test
+  void testInvalidateOnDropDatabase() throws Exception {
+    createCatalogOps(3600000L);
+
+    paimonCatalogOps.loadTable(TABLE);
+    Assertions.assertEquals(1, tableCache.size());
+    paimonCatalogOps.dropDatabase(DATABASE, true);
+    Assertions.assertEquals(0, tableCache.size());
+  }
+
+  @Test
+  void testRevalidate() throws Exception {
+    createCatalogOps(0L);
+
+    // The schema is unchanged, so the cached table is still valid.
+    Table table = paimonCatalogOps.loadTable(TABLE);
+    Assertions.assertSame(table, paimonCatalogOps.loadTable(TABLE));
+
+    // The schema is changed without going through the table cache.
+    paimonCatalogOps.catalog.alterTable(
+        Identifier.fromString(TABLE), SchemaChange.updateComment("changed outside"), false);
+    Table reloadedTable = paimonCatalogOps.loadTable(TABLE);
+    Assertions.assertNotSame(table, reloadedTable);
+    Assertions.assertEquals("changed outside", reloadedTable.comment().orElse(null));
+  }
+
+  private void createCatalogOps(long revalidateIntervalMs) throws Exception {
+    tableCache = new PaimonTableCache(100, revalidateIntervalMs, null);
+    paimonCatalogOps =
+        new PaimonCatalogOps(
+            new PaimonConfig(
+                ImmutableMap.of(PaimonCatalogPropertiesMetadata.WAREHOUSE, warehouse.getPath())),
+            tableCache);
+    paimonCatalogOps.createDatabase(DATABASE, Maps.newHashMap());
+    paimonCatalogOps.createTable(
+        TABLE,
+        Schema.newBuilder()
+            .column("col_1", DataTypes.INT().notNull())
+            .column("col_2", DataTypes.STRING())
+            .comment("comment")
+            .build());
+  }
+}
@@ -35,6 +35,7 @@ import org.apache.gravitino.catalog.ManagedSchemaOperations;
 import org.apache.gravitino.connector.CatalogInfo;
 import org.apache.gravitino.connector.CatalogOperations;
 import org.apache.gravitino.connector.HasPropertyMetadata;
+import org.apache.gravitino.connector.SupportsModelPaging;
 import org.apache.gravitino.exceptions.ModelAlreadyExistsException;
 import org.apache.gravitino.exceptions.ModelVersionAliasesAlreadyExistException;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
@@ -52,7 +53,7 @@ import org.apache.gravitino.utils.NamespaceUtil;
 import org.apache.gravitino.utils.PrincipalUtils;
 
 public class ModelCatalogOperations extends ManagedSchemaOperations
-    implements CatalogOperations, ModelCatalog {
+    implements CatalogOperations, ModelCatalog, SupportsModelPaging {
 
   private static final int INIT_VERSION = 0;
 
@@ -102,6 +103,25 @@ public class ModelCatalogOperations extends ManagedSchemaOperations
     }
   }
 
+  @Override
+  public NameIdentifier[] listModels(Namespace namespace, String afterName, int limit)
+      throws NoSuchSchemaException {
+    NamespaceUtil.checkModel(namespace);
+
+    try {
+      List<ModelEntity> models =
+          store.list(namespace, ModelEntity.class, Entity.EntityType.MODEL, afterName, limit);
+      return models.stream()
+          .map(m -> NameIdentifier.of(namespace, m.name()))
+          .toArray(NameIdentifier[]::new);
+
+    } catch (NoSuchEntityException e) {
+      throw new NoSuchSchemaException(e, "Schema %s does not exist", namespace);
+    } catch (IOException ioe) {
+      throw new RuntimeException("Failed to list models under namespace " + namespace, ioe);
+    }
+  }
+
   @Override
   public Model getModel(NameIdentifier ident) throws NoSuchModelException {
     NameIdentifierUtil.checkModel(ident);
@@ -330,10 +330,24 @@ public class TestModelCatalogOperations {
     Assertions.assertTrue(resultSet.contains(modelIdent1));
     Assertions.assertTrue(resultSet.contains(modelIdent2));
 
+    // Test list models page by page
+    Namespace modelNs = Namespace.of(METALAKE_NAME, CATALOG_NAME, schemaName);
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {modelIdent1}, ops.listModels(modelNs, null, 1));
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {modelIdent2}, ops.listModels(modelNs, modelName1, 1));
+    Assertions.assertEquals(0, ops.listModels(modelNs, modelName2, 1).length);
+    Assertions.assertEquals(2, ops.listModels(modelNs, null, 10).length);
+
     // Test list models in a non-existent schema
     Assertions.assertThrows(
         NoSuchSchemaException.class,
         () -> ops.listModels(Namespace.of(METALAKE_NAME, CATALOG_NAME, "non-existent-schema")));
+    Assertions.assertThrows(
+        NoSuchSchemaException.class,
+        () ->
+            ops.listModels(
+                Namespace.of(METALAKE_NAME, CATALOG_NAME, "non-existent-schema"), null, 1));
   }
 
   @Test
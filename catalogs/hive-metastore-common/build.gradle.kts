@@ -67,6 +67,8 @@ dependencies {
   }
   implementation(libs.slf4j.api)
 
+  // Provided by the Gravitino server, the client pools export their metrics through it.
+  compileOnly(libs.metrics.core)
   compileOnly(libs.immutables.value)
 
   annotationProcessor(libs.immutables.value)
@@ -31,8 +31,12 @@ import java.util.Map;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
 import javax.annotation.Nullable;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.catalog.hive.HiveConstants;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.ClientPoolMetricsSource;
 import org.apache.gravitino.utils.ClientPool;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hive.metastore.IMetaStoreClient;
@@ -58,9 +62,26 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
 
   private final Configuration conf;
   private final int clientPoolSize;
+  private final int clientPoolMaxSize;
+  private final long borrowTimeoutMs;
+  private final long idleTimeoutMs;
   private final ScheduledThreadPoolExecutor scheduler;
+  @Nullable private final ClientPoolMetricsSource metricsSource;
 
   public CachedClientPool(Configuration hiveConf, Map<String, String> properties) {
+    this(hiveConf, properties, null);
+  }
+
+  /**
+   * Creates a CachedClientPool whose client pools are instrumented.
+   *
+   * @param hiveConf The configuration used to create the Hive Metastore clients.
+   * @param properties The catalog properties.
+   * @param metricsSourceName The name to export the metrics of the client pools with through the
+   *     Gravitino metrics system, or null to not export them.
+   */
+  public CachedClientPool(
+      Configuration hiveConf, Map<String, String> properties, @Nullable String metricsSourceName) {
     int clientPoolSize =
         (int) PROPERTIES_METADATA.getOrDefault(properties, HiveConstants.CLIENT_POOL_SIZE);
     long evictionInterval =
@@ -70,6 +91,15 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
 
     this.conf = hiveConf;
     this.clientPoolSize = clientPoolSize;
+    this.clientPoolMaxSize =
+        (int) PROPERTIES_METADATA.getOrDefault(properties, HiveConstants.CLIENT_POOL_MAX_SIZE);
+    this.borrowTimeoutMs =
+        (long)
+            PROPERTIES_METADATA.getOrDefault(
+                properties, HiveConstants.CLIENT_POOL_BORROW_TIMEOUT_MS);
+    this.idleTimeoutMs =
+        (long)
+            PROPERTIES_METADATA.getOrDefault(properties, HiveConstants.CLIENT_POOL_IDLE_TIMEOUT_MS);
     // Since Caffeine does not ensure that removalListener will be involved after expiration
     // We use a scheduler with one thread to clean up expired clients.
     scheduler = new ScheduledThreadPoolExecutor(1, newDaemonThreadFactory());
@@ -79,12 +109,43 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
             .removalListener((ignored, value, cause) -> ((HiveClientPool) value).close())
             .scheduler(Scheduler.forScheduledExecutorService(scheduler))
             .build();
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSourceName != null && metricsSystem != null) {
+      this.metricsSource =
+          new ClientPoolMetricsSource(
+              metricsSourceName,
+              () -> sumOverPools(HiveClientPool::activeCount),
+              () -> sumOverPools(HiveClientPool::idleCount),
+              () -> clientPoolCache.asMap().size());
+      metricsSystem.register(metricsSource);
+    } else {
+      this.metricsSource = null;
+    }
+  }
+
+  private int sumOverPools(ToIntFunction<HiveClientPool> count) {
+    return clientPoolCache.asMap().values().stream().mapToInt(count).sum();
   }
 
   @VisibleForTesting
   public HiveClientPool clientPool() {
     Key key = extractKey();
-    return clientPoolCache.get(key, k -> new HiveClientPool(clientPoolSize, conf));
+    return clientPoolCache.get(
+        key,
+        k ->
+            new HiveClientPool(
+                clientPoolSize,
+                clientPoolMaxSize,
+                borrowTimeoutMs,
+                idleTimeoutMs,
+                conf,
+                metricsSource));
+  }
+
+  /** @return The maximum number of clients pooled for each user. */
+  public int poolSize() {
+    return clientPoolSize;
   }
 
   @VisibleForTesting
@@ -155,5 +216,10 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
     clientPoolCache.asMap().forEach((key, value) -> value.close());
     clientPoolCache.invalidateAll();
     scheduler.shutdownNow();
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSource != null && metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
   }
 }
@@ -29,6 +29,10 @@ public class ClientPropertiesMetadata implements PropertiesMetadata {
   private static final int DEFAULT_CLIENT_POOL_SIZE = 1;
   private static final long DEFAULT_CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS =
       TimeUnit.MINUTES.toMillis(5);
+  // Not greater than the pool size, so the pool has a fixed size by default.
+  private static final int DEFAULT_CLIENT_POOL_MAX_SIZE = 0;
+  private static final long DEFAULT_CLIENT_POOL_BORROW_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(1);
+  private static final long DEFAULT_CLIENT_POOL_IDLE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(1);
   private static final Map<String, PropertyEntry<?>> PROPERTY_ENTRIES =
       ImmutableMap.<String, PropertyEntry<?>>builder()
           .put(
@@ -47,6 +51,32 @@ public class ClientPropertiesMetadata implements PropertiesMetadata {
                   false /* immutable */,
                   DEFAULT_CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS,
                   false /* hidden */))
+          .put(
+              HiveConstants.CLIENT_POOL_MAX_SIZE,
+              PropertyEntry.integerOptionalPropertyEntry(
+                  HiveConstants.CLIENT_POOL_MAX_SIZE,
+                  "The number of Hive metastore clients the pool grows to while requests keep "
+                      + "waiting for a client, the pool doesn't grow if it is not greater than "
+                      + "the pool size",
+                  false /* immutable */,
+                  DEFAULT_CLIENT_POOL_MAX_SIZE,
+                  false /* hidden */))
+          .put(
+              HiveConstants.CLIENT_POOL_BORROW_TIMEOUT_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  HiveConstants.CLIENT_POOL_BORROW_TIMEOUT_MS,
+                  "The maximum time to wait for a Hive metastore client from the pool",
+                  false /* immutable */,
+                  DEFAULT_CLIENT_POOL_BORROW_TIMEOUT_MS,
+                  false /* hidden */))
+          .put(
+              HiveConstants.CLIENT_POOL_IDLE_TIMEOUT_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  HiveConstants.CLIENT_POOL_IDLE_TIMEOUT_MS,
+                  "The idle time after which a client beyond the pool size is closed",
+                  false /* immutable */,
+                  DEFAULT_CLIENT_POOL_IDLE_TIMEOUT_MS,
+                  false /* hidden */))
           .build();
 
   @Override
@@ -19,8 +19,10 @@
 package org.apache.gravitino.hive;
 
 import com.google.common.annotations.VisibleForTesting;
+import javax.annotation.Nullable;
 import org.apache.gravitino.hive.dyn.DynMethods;
 import org.apache.gravitino.hive.dyn.DynMethods.StaticMethod;
+import org.apache.gravitino.metrics.source.ClientPoolMetricsSource;
 import org.apache.gravitino.utils.ClientPoolImpl;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hive.conf.HiveConf;
@@ -69,6 +71,36 @@ public class HiveClientPool extends ClientPoolImpl<IMetaStoreClient, TException>
     this.hiveConf.addResource(conf);
   }
 
+  /**
+   * Creates a new HiveClientPool that may grow beyond its pool size while requests keep waiting.
+   *
+   * @param poolSize The number of clients the pool keeps.
+   * @param maxPoolSize The number of clients the pool grows to while requests keep waiting.
+   * @param borrowTimeoutMs The maximum time to wait for a client.
+   * @param idleTimeoutMs The idle time after which a client beyond the pool size is closed.
+   * @param conf The configuration used to initialize the Hive Metastore clients.
+   * @param metricsSource The metrics source to record the borrows and reconnects, or null.
+   */
+  public HiveClientPool(
+      int poolSize,
+      int maxPoolSize,
+      long borrowTimeoutMs,
+      long idleTimeoutMs,
+      Configuration conf,
+      @Nullable ClientPoolMetricsSource metricsSource) {
+    // Do not allow retry by default as we rely on RetryingHiveClient
+    super(
+        poolSize,
+        maxPoolSize,
+        borrowTimeoutMs,
+        idleTimeoutMs,
+        TTransportException.class,
+        false,
+        metricsSource);
+    this.hiveConf = new HiveConf(conf, HiveClientPool.class);
+    this.hiveConf.addResource(conf);
+  }
+
   @Override
   protected IMetaStoreClient newClient() {
     try {
@@ -21,6 +21,7 @@ package org.apache.gravitino.client;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Sets;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -207,6 +208,16 @@ public class GravitinoClient extends GravitinoClientBase
     return getMetalake().listUserNames();
   }
 
+  /**
+   * Iterates over the usernames, requesting them one page at a time.
+   *
+   * @param pageSize The number of usernames to request per page.
+   * @return An iterator over the usernames.
+   */
+  public Iterator<String> listUserNames(int pageSize) {
+    return getMetalake().listUserNames(pageSize);
+  }
+
   /**
    * Adds a new Group.
    *
@@ -408,6 +419,16 @@ public class GravitinoClient extends GravitinoClientBase
     return getMetalake().listRoleNames();
   }
 
+  /**
+   * Iterates over the role names, requesting them one page at a time.
+   *
+   * @param pageSize The number of role names to request per page.
+   * @return An iterator over the role names.
+   */
+  public Iterator<String> listRoleNames(int pageSize) {
+    return getMetalake().listRoleNames(pageSize);
+  }
+
   /**
    * Grant privileges to a role.
    *
@@ -529,6 +550,16 @@ public class GravitinoClient extends GravitinoClientBase
     return getMetalake().listTags();
   }
 
+  /**
+   * Iterates over the tag names, requesting them one page at a time.
+   *
+   * @param pageSize The number of tag names to request per page.
+   * @return An iterator over the tag names.
+   */
+  public Iterator<String> listTags(int pageSize) {
+    return getMetalake().listTags(pageSize);
+  }
+
   @Override
   public Tag[] listTagsInfo() throws NoSuchMetalakeException {
     return getMetalake().listTagsInfo();
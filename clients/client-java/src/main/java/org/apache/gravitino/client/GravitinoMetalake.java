@@ -24,11 +24,13 @@ import com.google.common.collect.Sets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
@@ -416,6 +418,33 @@ public class GravitinoMetalake extends MetalakeDTO
     return resp.getNames();
   }
 
+  /**
+   * Iterate over the tag names under the current metalake in name order, requesting them from the
+   * server one page at a time.
+   *
+   * <p>Pages are requested lazily, so errors such as {@link NoSuchMetalakeException} are thrown by
+   * the iterator.
+   *
+   * @param pageSize The number of tag names to request per page.
+   * @return An iterator over the tag names.
+   */
+  public Iterator<String> listTags(int pageSize) {
+    return new PageIterator<>(
+        pageSize,
+        Function.identity(),
+        params -> {
+          NameListResponse resp =
+              restClient.get(
+                  String.format(API_METALAKES_TAGS_PATH, RESTUtils.encodeString(this.name())),
+                  params,
+                  NameListResponse.class,
+                  Collections.emptyMap(),
+                  ErrorHandlers.tagErrorHandler());
+          resp.validate();
+          return resp.getNames();
+        });
+  }
+
   /**
    * List all the tags with detailed information under the current metalake.
    *
@@ -661,6 +690,36 @@ public class GravitinoMetalake extends MetalakeDTO
     return resp.getNames();
   }
 
+  /**
+   * Iterates over the user names in name order, requesting them from the server one page at a
+   * time.
+   *
+   * <p>Pages are requested lazily, so errors such as {@link NoSuchMetalakeException} are thrown by
+   * the iterator.
+   *
+   * @param pageSize The number of user names to request per page.
+   * @return An iterator over the user names.
+   */
+  public Iterator<String> listUserNames(int pageSize) {
+    return new PageIterator<>(
+        pageSize,
+        Function.identity(),
+        params -> {
+          NameListResponse resp =
+              restClient.get(
+                  String.format(
+                      API_METALAKES_USERS_PATH,
+                      RESTUtils.encodeString(this.name()),
+                      BLANK_PLACEHOLDER),
+                  params,
+                  NameListResponse.class,
+                  Collections.emptyMap(),
+                  ErrorHandlers.userErrorHandler());
+          resp.validate();
+          return resp.getNames();
+        });
+  }
+
   /**
    * Adds a new Group.
    *
@@ -879,6 +938,36 @@ public class GravitinoMetalake extends MetalakeDTO
     return resp.getNames();
   }
 
+  /**
+   * Iterates over the role names in name order, requesting them from the server one page at a
+   * time.
+   *
+   * <p>Pages are requested lazily, so errors such as {@link NoSuchMetalakeException} are thrown by
+   * the iterator.
+   *
+   * @param pageSize The number of role names to request per page.
+   * @return An iterator over the role names.
+   */
+  public Iterator<String> listRoleNames(int pageSize) {
+    return new PageIterator<>(
+        pageSize,
+        Function.identity(),
+        params -> {
+          NameListResponse resp =
+              restClient.get(
+                  String.format(
+                      API_METALAKES_ROLES_PATH,
+                      RESTUtils.encodeString(this.name()),
+                      BLANK_PLACEHOLDER),
+                  params,
+                  NameListResponse.class,
+                  Collections.emptyMap(),
+                  ErrorHandlers.roleErrorHandler());
+          resp.validate();
+          return resp.getNames();
+        });
+  }
+
   /**
    * Grant roles to a user.
    *
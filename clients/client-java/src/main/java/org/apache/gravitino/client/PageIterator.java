@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import com.google.common.base.Preconditions;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Iterates over a listing page by page, through the {@code pageToken} and {@code pageSize} query
+ * parameters of the list endpoints. The next page is only requested once the current one is
+ * consumed, and a page shorter than the page size ends the iteration.
+ *
+ * <p>A server that doesn't support paging ignores both parameters and returns the whole listing
+ * for every request. The iteration ends after such a listing, which is recognized by a page longer
+ * than the page size, or by a page that doesn't advance the page token.
+ *
+ * @param <T> The type of the listed elements.
+ */
+class PageIterator<T> implements Iterator<T> {
+
+  private final int pageSize;
+  private final Function<T, String> nameFunc;
+  private final Function<Map<String, String>, T[]> pageFetcher;
+
+  private T[] page;
+  private int index;
+  private String pageToken;
+  private boolean lastPage;
+
+  /**
+   * @param pageSize The number of elements to request per page.
+   * @param nameFunc The function to get the name of an element, which keys the next page.
+   * @param pageFetcher The function to request a page with the given query parameters.
+   */
+  PageIterator(
+      int pageSize,
+      Function<T, String> nameFunc,
+      Function<Map<String, String>, T[]> pageFetcher) {
+    Preconditions.checkArgument(pageSize > 0, "pageSize must be positive, but got %s", pageSize);
+    this.pageSize = pageSize;
+    this.nameFunc = nameFunc;
+    this.pageFetcher = pageFetcher;
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (page == null || index >= page.length) {
+      if (lastPage) {
+        return false;
+      }
+      fetchNextPage();
+    }
+    return true;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return page[index++];
+  }
+
+  private void fetchNextPage() {
+    Map<String, String> params = new HashMap<>();
+    params.put("pageSize", String.valueOf(pageSize));
+    if (pageToken != null) {
+      params.put("pageToken", pageToken);
+    }
+
+    T[] fetched = pageFetcher.apply(params);
+    String nextPageToken = fetched.length > 0 ? nameFunc.apply(fetched[fetched.length - 1]) : null;
+    if (nextPageToken != null && nextPageToken.equals(pageToken)) {
+      // The same page is returned again, it has already been consumed.
+      lastPage = true;
+      return;
+    }
+
+    page = fetched;
+    index = 0;
+    lastPage = page.length != pageSize;
+    pageToken = nextPageToken;
+  }
+}
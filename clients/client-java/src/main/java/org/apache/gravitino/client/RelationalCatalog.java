@@ -26,6 +26,7 @@ import com.google.common.base.Preconditions;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -104,6 +105,38 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * Iterate over the tables under the given Schema namespace in name order, requesting them from
+   * the server one page at a time.
+   *
+   * @param namespace The namespace to list the tables under it. This namespace should have 1 level,
+   *     which is the schema name;
+   * @param pageSize The number of tables to request per page.
+   * @return An iterator over the {@link NameIdentifier} of the tables under the given namespace.
+   */
+  public Iterator<NameIdentifier> listTables(Namespace namespace, int pageSize) {
+    checkTableNamespace(namespace);
+
+    Namespace fullNamespace = getTableFullNamespace(namespace);
+    return new PageIterator<>(
+        pageSize,
+        NameIdentifier::name,
+        params -> {
+          EntityListResponse resp =
+              restClient.get(
+                  formatTableRequestPath(fullNamespace),
+                  params,
+                  EntityListResponse.class,
+                  Collections.emptyMap(),
+                  ErrorHandlers.tableErrorHandler());
+          resp.validate();
+
+          return Arrays.stream(resp.identifiers())
+              .map(ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()))
+              .toArray(NameIdentifier[]::new);
+        });
+  }
+
   /**
    * Load the table with specified identifier.
    *
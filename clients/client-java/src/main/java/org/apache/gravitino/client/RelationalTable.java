@@ -23,6 +23,7 @@ import static org.apache.gravitino.dto.util.DTOConverters.toDTO;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
+import com.google.common.base.Preconditions;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -211,6 +212,61 @@ class RelationalTable implements Table, SupportsPartitions, SupportsTags, Suppor
     return resp.getPartitions();
   }
 
+  /**
+   * Returns one page of the partition names of the table.
+   *
+   * @param filter The filter on partition values, or null to list all partitions.
+   * @param pageToken The last partition name of the previous page, or null for the first page.
+   * @param limit The maximum number of partition names to return.
+   * @return The partition names of the page.
+   */
+  @Override
+  public String[] listPartitionNames(String filter, String pageToken, int limit) {
+    PartitionNameListResponse resp =
+        restClient.get(
+            getPartitionRequestPath(),
+            pageParams(filter, pageToken, limit),
+            PartitionNameListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.partitionErrorHandler());
+    return resp.partitionNames();
+  }
+
+  /**
+   * Returns one page of the partitions of the table.
+   *
+   * @param filter The filter on partition values, or null to list all partitions.
+   * @param pageToken The last partition name of the previous page, or null for the first page.
+   * @param limit The maximum number of partitions to return.
+   * @return The partitions of the page.
+   */
+  @Override
+  public Partition[] listPartitions(String filter, String pageToken, int limit) {
+    Map<String, String> params = pageParams(filter, pageToken, limit);
+    params.put("details", "true");
+    PartitionListResponse resp =
+        restClient.get(
+            getPartitionRequestPath(),
+            params,
+            PartitionListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.partitionErrorHandler());
+    return resp.getPartitions();
+  }
+
+  private Map<String, String> pageParams(String filter, String pageToken, int limit) {
+    Preconditions.checkArgument(limit > 0, "limit must be positive, but got %s", limit);
+    Map<String, String> params = new HashMap<>();
+    params.put("pageSize", String.valueOf(limit));
+    if (filter != null) {
+      params.put("filter", filter);
+    }
+    if (pageToken != null) {
+      params.put("pageToken", pageToken);
+    }
+    return params;
+  }
+
   /**
    * Returns the partition with the given name.
    *
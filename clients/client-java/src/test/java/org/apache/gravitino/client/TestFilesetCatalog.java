@@ -45,6 +45,7 @@ import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.CatalogDTO;
 import org.apache.gravitino.dto.file.FilesetDTO;
 import org.apache.gravitino.dto.requests.CatalogCreateRequest;
+import org.apache.gravitino.dto.requests.FileLocationsRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
@@ -53,6 +54,7 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
+import org.apache.gravitino.dto.responses.FileLocationsResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.exceptions.AlreadyExistsException;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
@@ -476,6 +478,56 @@ public class TestFilesetCatalog extends TestBase {
         "internal error");
   }
 
+  @Test
+  public void testGetFileLocations() throws JsonProcessingException {
+    NameIdentifier fileset = NameIdentifier.of(metalakeName, catalogName, "schema1", "fileset1");
+    List<String> subPaths = ImmutableList.of("mock_location/test1", "mock_location/test2");
+    String filesetPath =
+        withSlash(
+            FilesetCatalog.formatFileLocationsRequestPath(
+                Namespace.of(metalakeName, catalogName, "schema1"), fileset.name()));
+    Map<String, String> mockFileLocations =
+        subPaths.stream()
+            .collect(
+                Collectors.toMap(
+                    subPath -> subPath,
+                    subPath ->
+                        String.format(
+                            "file:/fileset/%s/%s/%s/%s",
+                            catalogName, "schema1", "fileset1", subPath)));
+    FileLocationsRequest req = new FileLocationsRequest(subPaths);
+    FileLocationsResponse resp = new FileLocationsResponse(mockFileLocations);
+    buildMockResource(Method.POST, filesetPath, req, resp, SC_OK);
+
+    Map<String, String> actualFileLocations =
+        catalog
+            .asFilesetCatalog()
+            .getFileLocations(
+                NameIdentifier.of(fileset.namespace().level(2), fileset.name()), subPaths);
+    Assertions.assertEquals(mockFileLocations, actualFileLocations);
+
+    ErrorResponse errResp =
+        ErrorResponse.notFound(NoSuchFilesetException.class.getSimpleName(), "fileset not found");
+    buildMockResource(Method.POST, filesetPath, req, errResp, SC_NOT_FOUND);
+    Assertions.assertThrows(
+        NoSuchFilesetException.class,
+        () ->
+            catalog
+                .asFilesetCatalog()
+                .getFileLocations(
+                    NameIdentifier.of(fileset.namespace().level(2), fileset.name()), subPaths),
+        "fileset not found");
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            catalog
+                .asFilesetCatalog()
+                .getFileLocations(
+                    NameIdentifier.of(fileset.namespace().level(2), fileset.name()),
+                    ImmutableList.of()));
+  }
+
   @Test
   public void testCallerContextToHeader() throws JsonProcessingException {
     NameIdentifier fileset = NameIdentifier.of(metalakeName, catalogName, "schema1", "fileset1");
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestPageIterator {
+
+  private static final String[] NAMES = new String[] {"a", "b", "c", "d", "e"};
+
+  @Test
+  public void testIterateByPage() {
+    List<Map<String, String>> requests = new ArrayList<>();
+    PageIterator<String> iterator =
+        new PageIterator<>(2, Function.identity(), params -> fetch(requests, params));
+
+    Assertions.assertEquals(Arrays.asList(NAMES), Lists.newArrayList(iterator));
+    Assertions.assertEquals(3, requests.size());
+    Assertions.assertNull(requests.get(0).get("pageToken"));
+    Assertions.assertEquals("b", requests.get(1).get("pageToken"));
+    Assertions.assertEquals("d", requests.get(2).get("pageToken"));
+    Assertions.assertThrows(NoSuchElementException.class, iterator::next);
+  }
+
+  @Test
+  public void testFullLastPage() {
+    List<Map<String, String>> requests = new ArrayList<>();
+    PageIterator<String> iterator =
+        new PageIterator<>(5, Function.identity(), params -> fetch(requests, params));
+
+    Assertions.assertEquals(Arrays.asList(NAMES), Lists.newArrayList(iterator));
+    // A full page can't tell whether more follow, so one more, empty, page is requested.
+    Assertions.assertEquals(2, requests.size());
+  }
+
+  @Test
+  public void testServerWithoutPaging() {
+    // A server that doesn't support paging returns the whole listing for every request.
+    List<Map<String, String>> requests = new ArrayList<>();
+    PageIterator<String> iterator =
+        new PageIterator<>(
+            2,
+            Function.identity(),
+            params -> {
+              requests.add(params);
+              return NAMES;
+            });
+    Assertions.assertEquals(Arrays.asList(NAMES), Lists.newArrayList(iterator));
+    Assertions.assertEquals(1, requests.size());
+
+    // The listing fits exactly in one page, so the second request returns the same page again.
+    requests.clear();
+    iterator =
+        new PageIterator<>(
+            NAMES.length,
+            Function.identity(),
+            params -> {
+              requests.add(params);
+              return NAMES;
+            });
+    Assertions.assertEquals(Arrays.asList(NAMES), Lists.newArrayList(iterator));
+    Assertions.assertEquals(2, requests.size());
+    Assertions.assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  public void testInvalidPageSize() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new PageIterator<String>(0, Function.identity(), params -> NAMES));
+  }
+
+  private static String[] fetch(List<Map<String, String>> requests, Map<String, String> params) {
+    requests.add(params);
+    int pageSize = Integer.parseInt(params.get("pageSize"));
+    String pageToken = params.get("pageToken");
+    return Arrays.stream(NAMES)
+        .filter(name -> pageToken == null || name.compareTo(pageToken) > 0)
+        .limit(pageSize)
+        .toArray(String[]::new);
+  }
+}
@@ -27,12 +27,14 @@ from gravitino.audit.caller_context import CallerContextHolder, CallerContext
 from gravitino.client.base_schema_catalog import BaseSchemaCatalog
 from gravitino.client.generic_fileset import GenericFileset
 from gravitino.dto.audit_dto import AuditDTO
+from gravitino.dto.requests.file_locations_request import FileLocationsRequest
 from gravitino.dto.requests.fileset_create_request import FilesetCreateRequest
 from gravitino.dto.requests.fileset_update_request import FilesetUpdateRequest
 from gravitino.dto.requests.fileset_updates_request import FilesetUpdatesRequest
 from gravitino.dto.responses.drop_response import DropResponse
 from gravitino.dto.responses.entity_list_response import EntityListResponse
 from gravitino.dto.responses.file_location_response import FileLocationResponse
+from gravitino.dto.responses.file_locations_response import FileLocationsResponse
 from gravitino.dto.responses.fileset_response import FilesetResponse
 from gravitino.name_identifier import NameIdentifier
 from gravitino.namespace import Namespace
@@ -273,6 +275,44 @@ class FilesetCatalog(BaseSchemaCatalog, SupportsCredentials):
         finally:
             CallerContextHolder.remove()
 
+    def get_file_locations(
+        self, ident: NameIdentifier, sub_paths: List[str]
+    ) -> Dict[str, str]:
+        """Get the actual locations of files or directories based on the storage location of Fileset
+        and the sub paths, in one request.
+
+        Args:
+             ident: A fileset identifier, which should be "schema.fileset" format.
+             sub_paths: The sub paths of the files or directories.
+
+        Returns:
+             The dict from each sub path to the actual location of the file or directory.
+        """
+        self.check_fileset_name_identifier(ident)
+
+        full_namespace = self._get_fileset_full_namespace(ident.namespace())
+        try:
+            caller_context: CallerContext = CallerContextHolder.get()
+            req = FileLocationsRequest(sub_paths)
+            req.validate()
+
+            resp = self.rest_client.post(
+                self.format_file_locations_request_path(full_namespace, ident.name()),
+                req,
+                headers=(
+                    caller_context.context() if caller_context is not None else None
+                ),
+                error_handler=FILESET_ERROR_HANDLER,
+            )
+            file_locations_resp = FileLocationsResponse.from_json(
+                resp.body, infer_missing=True
+            )
+            file_locations_resp.validate()
+
+            return file_locations_resp.file_locations()
+        finally:
+            CallerContextHolder.remove()
+
     @staticmethod
     def check_fileset_namespace(namespace: Namespace):
         Namespace.check(
@@ -307,6 +347,14 @@ class FilesetCatalog(BaseSchemaCatalog, SupportsCredentials):
             f"/filesets/{encode_string(name)}/location"
         )
 
+    @staticmethod
+    def format_file_locations_request_path(namespace: Namespace, name: str) -> str:
+        schema_ns = Namespace.of(namespace.level(0), namespace.level(1))
+        return (
+            f"{BaseSchemaCatalog.format_schema_request_path(schema_ns)}/{encode_string(namespace.level(2))}"
+            f"/filesets/{encode_string(name)}/locations"
+        )
+
     @staticmethod
     def to_fileset_update_request(change: FilesetChange):
         if isinstance(change, FilesetChange.RenameFileset):
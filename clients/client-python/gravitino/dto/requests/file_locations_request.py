@@ -0,0 +1,44 @@
+# Licensed to the Apache Software Foundation (ASF) under one
+# or more contributor license agreements.  See the NOTICE file
+# distributed with this work for additional information
+# regarding copyright ownership.  The ASF licenses this file
+# to you under the Apache License, Version 2.0 (the
+# "License"); you may not use this file except in compliance
+# with the License.  You may obtain a copy of the License at
+#
+#   http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing,
+# software distributed under the License is distributed on an
+# "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+# KIND, either express or implied.  See the License for the
+# specific language governing permissions and limitations
+# under the License.
+
+from dataclasses import dataclass, field
+from typing import List
+
+from dataclasses_json import config
+
+from gravitino.rest.rest_message import RESTRequest
+
+
+@dataclass
+class FileLocationsRequest(RESTRequest):
+    """Represents a request to get the actual locations of a batch of sub paths in a fileset."""
+
+    _sub_paths: List[str] = field(metadata=config(field_name="subPaths"))
+
+    def __init__(self, sub_paths: List[str]):
+        self._sub_paths = sub_paths
+
+    def validate(self):
+        """Validates the request.
+
+        Raises:
+            IllegalArgumentException if the request is invalid.
+        """
+        if not self._sub_paths:
+            raise ValueError('"subPaths" field is required and cannot be empty')
+        if any(sub_path is None for sub_path in self._sub_paths):
+            raise ValueError('"subPaths" cannot contain None values')
@@ -19,6 +19,7 @@ import unittest
 
 from gravitino.dto.responses.credential_response import CredentialResponse
 from gravitino.dto.responses.file_location_response import FileLocationResponse
+from gravitino.dto.responses.file_locations_response import FileLocationsResponse
 from gravitino.dto.responses.model_response import ModelResponse
 from gravitino.dto.responses.model_version_list_response import ModelVersionListResponse
 from gravitino.dto.responses.model_vesion_response import ModelVersionResponse
@@ -44,6 +45,26 @@ class TestResponses(unittest.TestCase):
         with self.assertRaises(IllegalArgumentException):
             file_location_resp.validate()
 
+    def test_file_locations_response(self):
+        json_data = {
+            "code": 0,
+            "fileLocations": {"/a": "file:/test/a", "/b": "file:/test/b"},
+        }
+        json_str = json.dumps(json_data)
+        file_locations_resp: FileLocationsResponse = FileLocationsResponse.from_json(
+            json_str
+        )
+        self.assertEqual(
+            file_locations_resp.file_locations(),
+            {"/a": "file:/test/a", "/b": "file:/test/b"},
+        )
+        file_locations_resp.validate()
+
+        json_data = {"code": 0, "fileLocations": {"/a": ""}}
+        file_locations_resp = FileLocationsResponse.from_json(json.dumps(json_data))
+        with self.assertRaises(IllegalArgumentException):
+            file_locations_resp.validate()
+
     def test_credential_response(self):
         json_data = {"code": 0, "credentials": []}
         json_str = json.dumps(json_data)
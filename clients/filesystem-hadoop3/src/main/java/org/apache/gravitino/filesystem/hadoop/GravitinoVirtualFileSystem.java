@@ -23,12 +23,14 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Scheduler;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.common.collect.Streams;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URI;
 import java.util.Arrays;
@@ -36,14 +38,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.audit.CallerContext;
@@ -92,6 +97,14 @@ public class GravitinoVirtualFileSystem extends FileSystem {
   // four levels, the first level is metalake name.
   private Cache<NameIdentifier, FileSystem> internalFileSystemCache;
   private ScheduledThreadPoolExecutor internalFileSystemCleanScheduler;
+  // Fileset name identifier and its storage location, null if the file locations are always
+  // resolved by the Gravitino server.
+  private Cache<NameIdentifier, FilesetLocation> filesetLocationCache;
+  // The number of the operations resolved with the cached storage location, by fileset and
+  // operation, used to report the operations to the Gravitino server in batches.
+  private final Map<Pair<NameIdentifier, FilesetDataOperation>, AtomicLong> locallyResolvedCounts =
+      new ConcurrentHashMap<>();
+  private int auditInterval;
 
   // The pattern is used to match gvfs path. The scheme prefix (gvfs://fileset) is optional.
   // The following path can be match:
@@ -143,6 +156,7 @@ public class GravitinoVirtualFileSystem extends FileSystem {
 
     initializeFileSystemCache(maxCapacity, evictionMillsAfterAccess);
     initializeCatalogCache();
+    initializeFilesetLocationCache(configuration);
 
     this.metalakeName =
         configuration.get(GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_CLIENT_METALAKE_KEY);
@@ -207,6 +221,62 @@ public class GravitinoVirtualFileSystem extends FileSystem {
             .build();
   }
 
+  private void initializeFilesetLocationCache(Configuration configuration) {
+    boolean enabled =
+        configuration.getBoolean(
+            GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLE_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLE_DEFAULT);
+    if (!enabled) {
+      return;
+    }
+
+    int maxCapacity =
+        configuration.getInt(
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_MAX_CAPACITY_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_MAX_CAPACITY_DEFAULT);
+    Preconditions.checkArgument(
+        maxCapacity > 0,
+        "'%s' should be greater than 0",
+        GravitinoVirtualFileSystemConfiguration
+            .FS_GRAVITINO_FILESET_LOCATION_CACHE_MAX_CAPACITY_KEY);
+
+    long ttlMills =
+        configuration.getLong(
+            GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_LOCATION_CACHE_TTL_MILLS_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_TTL_MILLS_DEFAULT);
+    Preconditions.checkArgument(
+        ttlMills > 0,
+        "'%s' should be greater than 0",
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_LOCATION_CACHE_TTL_MILLS_KEY);
+
+    this.auditInterval =
+        configuration.getInt(
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_AUDIT_INTERVAL_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_AUDIT_INTERVAL_DEFAULT);
+    Preconditions.checkArgument(
+        auditInterval > 0,
+        "'%s' should be greater than 0",
+        GravitinoVirtualFileSystemConfiguration
+            .FS_GRAVITINO_FILESET_LOCATION_CACHE_AUDIT_INTERVAL_KEY);
+
+    this.filesetLocationCache =
+        Caffeine.newBuilder()
+            .maximumSize(maxCapacity)
+            .expireAfterWrite(ttlMills, TimeUnit.MILLISECONDS)
+            .build();
+  }
+
+  @VisibleForTesting
+  Cache<NameIdentifier, FilesetLocation> filesetLocationCache() {
+    return filesetLocationCache;
+  }
+
   private ThreadFactory newDaemonThreadFactory(String name) {
     return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(name + "-%d").build();
   }
@@ -264,72 +334,139 @@ public class GravitinoVirtualFileSystem extends FileSystem {
     String virtualPathString = virtualPath.toString();
     String subPath = getSubPathFromVirtualPath(identifier, virtualPathString);
 
+    FilesetCatalog filesetCatalog = getFilesetCatalog(identifier);
+    Catalog catalog = (Catalog) filesetCatalog;
+
+    String actualFileLocation;
+    // The rename is validated by the Gravitino server, so it's never resolved locally.
+    if (filesetLocationCache != null && operation != FilesetDataOperation.RENAME) {
+      actualFileLocation =
+          resolveFileLocationLocally(filesetCatalog, catalog, identifier, subPath, operation);
+    } else {
+      setCallerContext(operation, null);
+      actualFileLocation =
+          filesetCatalog.getFileLocation(
+              NameIdentifier.of(identifier.namespace().level(2), identifier.name()), subPath);
+    }
+
+    Path filePath = new Path(actualFileLocation);
+    return new FilesetContextPair(filePath, getFileSystem(identifier, catalog, filePath));
+  }
+
+  private FilesetCatalog getFilesetCatalog(NameIdentifier identifier) {
     NameIdentifier catalogIdent = NameIdentifier.of(metalakeName, identifier.namespace().level(1));
     FilesetCatalog filesetCatalog =
         catalogCache.get(
             catalogIdent, ident -> client.loadCatalog(catalogIdent.name()).asFilesetCatalog());
-    Catalog catalog = (Catalog) filesetCatalog;
     Preconditions.checkArgument(
         filesetCatalog != null, String.format("Loaded fileset catalog: %s is null.", catalogIdent));
+    return filesetCatalog;
+  }
+
+  private String resolveFileLocationLocally(
+      FilesetCatalog filesetCatalog,
+      Catalog catalog,
+      NameIdentifier identifier,
+      String subPath,
+      FilesetDataOperation operation) {
+    FilesetLocation filesetLocation =
+        filesetLocationCache.get(
+            identifier,
+            ident -> {
+              Fileset fileset =
+                  filesetCatalog.loadFileset(
+                      NameIdentifier.of(ident.namespace().level(2), ident.name()));
+              Path storagePath = new Path(fileset.storageLocation());
+              FileSystem fs = getFileSystem(ident, catalog, storagePath);
+              return new FilesetLocation(fileset.storageLocation(), isSingleFile(fs, storagePath));
+            });
 
+    // Report the first operation and then one of every `auditInterval` operations to the server
+    // for audit, along with the number of the operations since the last report.
+    long count =
+        locallyResolvedCounts
+            .computeIfAbsent(Pair.of(identifier, operation), key -> new AtomicLong())
+            .incrementAndGet();
+    if ((count - 1) % auditInterval == 0) {
+      setCallerContext(operation, count == 1 ? 1L : auditInterval);
+      filesetCatalog.getFileLocation(
+          NameIdentifier.of(identifier.namespace().level(2), identifier.name()), subPath);
+    }
+
+    return GravitinoVirtualFileSystemUtils.getFileLocation(
+        filesetLocation.storageLocation(), filesetLocation.isSingleFile(), subPath);
+  }
+
+  private void setCallerContext(FilesetDataOperation operation, Long operationCount) {
     Map<String, String> contextMap = Maps.newHashMap();
     contextMap.put(
         FilesetAuditConstants.HTTP_HEADER_INTERNAL_CLIENT_TYPE,
         InternalClientType.HADOOP_GVFS.name());
     contextMap.put(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION, operation.name());
+    if (operationCount != null) {
+      contextMap.put(
+          FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION_COUNT,
+          String.valueOf(operationCount));
+    }
     CallerContext callerContext = CallerContext.builder().withContext(contextMap).build();
     CallerContext.CallerContextHolder.set(callerContext);
+  }
 
-    String actualFileLocation =
-        filesetCatalog.getFileLocation(
-            NameIdentifier.of(identifier.namespace().level(2), identifier.name()), subPath);
+  private boolean isSingleFile(FileSystem fs, Path storagePath) {
+    try {
+      return fs.getFileStatus(storagePath).isFile();
+    } catch (FileNotFoundException e) {
+      // Same with the Gravitino server, a storage location that doesn't exist is not a file.
+      return false;
+    } catch (IOException e) {
+      throw new GravitinoRuntimeException(
+          e, "Exception occurs when checking whether %s is a single file", storagePath);
+    }
+  }
 
-    Path filePath = new Path(actualFileLocation);
+  private FileSystem getFileSystem(NameIdentifier identifier, Catalog catalog, Path filePath) {
     URI uri = filePath.toUri();
     // we cache the fs for the same scheme, so we can reuse it
     String scheme = uri.getScheme();
     Preconditions.checkArgument(
         StringUtils.isNotBlank(scheme), "Scheme of the actual file location cannot be null.");
-    FileSystem fs =
-        internalFileSystemCache.get(
-            identifier,
-            ident -> {
-              try {
-                FileSystemProvider provider = fileSystemProvidersMap.get(scheme);
-                if (provider == null) {
-                  throw new GravitinoRuntimeException(
-                      "Unsupported file system scheme: %s for %s.",
-                      scheme, GravitinoVirtualFileSystemConfiguration.GVFS_SCHEME);
-                }
-
-                // Reset the FileSystem service loader to make sure the FileSystem will reload the
-                // service file systems, this is a temporary solution to fix the issue
-                // https://github.com/apache/gravitino/issues/5609
-                resetFileSystemServiceLoader(scheme);
-
-                Map<String, String> necessaryPropertyFromCatalog =
-                    catalog.properties().entrySet().stream()
-                        .filter(
-                            property ->
-                                CATALOG_NECESSARY_PROPERTIES_TO_KEEP.contains(property.getKey()))
-                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-                Map<String, String> totalProperty = Maps.newHashMap(necessaryPropertyFromCatalog);
-                totalProperty.putAll(getConfigMap(getConf()));
-
-                totalProperty.putAll(getCredentialProperties(provider, catalog, identifier));
-
-                return provider.getFileSystem(filePath, totalProperty);
-              } catch (IOException ioe) {
-                throw new GravitinoRuntimeException(
-                    ioe,
-                    "Exception occurs when create new FileSystem for actual uri: %s, msg: %s",
-                    uri,
-                    ioe.getMessage());
-              }
-            });
-
-    return new FilesetContextPair(new Path(actualFileLocation), fs);
+    return internalFileSystemCache.get(
+        identifier,
+        ident -> {
+          try {
+            FileSystemProvider provider = fileSystemProvidersMap.get(scheme);
+            if (provider == null) {
+              throw new GravitinoRuntimeException(
+                  "Unsupported file system scheme: %s for %s.",
+                  scheme, GravitinoVirtualFileSystemConfiguration.GVFS_SCHEME);
+            }
+
+            // Reset the FileSystem service loader to make sure the FileSystem will reload the
+            // service file systems, this is a temporary solution to fix the issue
+            // https://github.com/apache/gravitino/issues/5609
+            resetFileSystemServiceLoader(scheme);
+
+            Map<String, String> necessaryPropertyFromCatalog =
+                catalog.properties().entrySet().stream()
+                    .filter(
+                        property ->
+                            CATALOG_NECESSARY_PROPERTIES_TO_KEEP.contains(property.getKey()))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+            Map<String, String> totalProperty = Maps.newHashMap(necessaryPropertyFromCatalog);
+            totalProperty.putAll(getConfigMap(getConf()));
+
+            totalProperty.putAll(getCredentialProperties(provider, catalog, identifier));
+
+            return provider.getFileSystem(filePath, totalProperty);
+          } catch (IOException ioe) {
+            throw new GravitinoRuntimeException(
+                ioe,
+                "Exception occurs when create new FileSystem for actual uri: %s, msg: %s",
+                uri,
+                ioe.getMessage());
+          }
+        });
   }
 
   private Map<String, String> getCredentialProperties(
@@ -475,12 +612,21 @@ public class GravitinoVirtualFileSystem extends FileSystem {
         srcIdentifier,
         dstIdentifier);
 
-    FilesetContextPair srcContext = getFilesetContext(src, FilesetDataOperation.RENAME);
-    FilesetContextPair dstContext = getFilesetContext(dst, FilesetDataOperation.RENAME);
-
-    return srcContext
-        .getFileSystem()
-        .rename(srcContext.getActualFileLocation(), dstContext.getActualFileLocation());
+    String srcSubPath = getSubPathFromVirtualPath(srcIdentifier, src.toString());
+    String dstSubPath = getSubPathFromVirtualPath(dstIdentifier, dst.toString());
+    FilesetCatalog filesetCatalog = getFilesetCatalog(srcIdentifier);
+
+    // Resolve the src and dst paths in one request, the rename is always validated by the server.
+    setCallerContext(FilesetDataOperation.RENAME, null);
+    Map<String, String> actualFileLocations =
+        filesetCatalog.getFileLocations(
+            NameIdentifier.of(srcIdentifier.namespace().level(2), srcIdentifier.name()),
+            ImmutableList.of(srcSubPath, dstSubPath));
+    Path srcFileLocation = new Path(actualFileLocations.get(srcSubPath));
+    Path dstFileLocation = new Path(actualFileLocations.get(dstSubPath));
+
+    return getFileSystem(srcIdentifier, (Catalog) filesetCatalog, srcFileLocation)
+        .rename(srcFileLocation, dstFileLocation);
   }
 
   @Override
@@ -567,6 +713,9 @@ public class GravitinoVirtualFileSystem extends FileSystem {
     }
     internalFileSystemCache.invalidateAll();
     catalogCache.invalidateAll();
+    if (filesetLocationCache != null) {
+      filesetLocationCache.invalidateAll();
+    }
     // close the client
     try {
       if (client != null) {
@@ -598,6 +747,25 @@ public class GravitinoVirtualFileSystem extends FileSystem {
     }
   }
 
+  @VisibleForTesting
+  static class FilesetLocation {
+    private final String storageLocation;
+    private final boolean singleFile;
+
+    FilesetLocation(String storageLocation, boolean singleFile) {
+      this.storageLocation = storageLocation;
+      this.singleFile = singleFile;
+    }
+
+    String storageLocation() {
+      return storageLocation;
+    }
+
+    boolean isSingleFile() {
+      return singleFile;
+    }
+  }
+
   private static Map<String, FileSystemProvider> getFileSystemProviders() {
     Map<String, FileSystemProvider> resultMap = Maps.newHashMap();
     ServiceLoader<FileSystemProvider> allFileSystemProviders =
@@ -98,5 +98,44 @@ public class GravitinoVirtualFileSystemConfiguration {
   public static final long FS_GRAVITINO_FILESET_CACHE_EVICTION_MILLS_AFTER_ACCESS_DEFAULT =
       1000L * 60 * 60;
 
+  /**
+   * The configuration key for whether to cache the storage locations of the filesets, and resolve
+   * the file locations locally instead of asking the Gravitino server every time.
+   */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLE_KEY =
+      "fs.gravitino.fileset.location.cache.enable";
+
+  /** The default value for whether to cache the storage locations of the filesets. */
+  public static final boolean FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLE_DEFAULT = false;
+
+  /** The configuration key for the maximum number of the cached fileset storage locations. */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_CACHE_MAX_CAPACITY_KEY =
+      "fs.gravitino.fileset.location.cache.maxCapacity";
+
+  /** The default value for the maximum number of the cached fileset storage locations. */
+  public static final int FS_GRAVITINO_FILESET_LOCATION_CACHE_MAX_CAPACITY_DEFAULT = 1000;
+
+  /**
+   * The configuration key for the time to live of the cached fileset storage locations, measured
+   * in mills after written.
+   */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_CACHE_TTL_MILLS_KEY =
+      "fs.gravitino.fileset.location.cache.ttlMills";
+
+  /** The default value for the time to live of the cached fileset storage locations. */
+  public static final long FS_GRAVITINO_FILESET_LOCATION_CACHE_TTL_MILLS_DEFAULT = 1000L * 60 * 5;
+
+  /**
+   * The configuration key for how many operations of a fileset resolved with the cached storage
+   * location are reported to the Gravitino server in one audited request. The first operation and
+   * then one of every such many operations are reported, along with the number of operations since
+   * the last report.
+   */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_CACHE_AUDIT_INTERVAL_KEY =
+      "fs.gravitino.fileset.location.cache.auditInterval";
+
+  /** The default value for how many operations are reported in one audited request. */
+  public static final int FS_GRAVITINO_FILESET_LOCATION_CACHE_AUDIT_INTERVAL_DEFAULT = 100;
+
   private GravitinoVirtualFileSystemConfiguration() {}
 }
@@ -25,6 +25,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.client.DefaultOAuth2TokenProvider;
 import org.apache.gravitino.client.GravitinoClient;
 import org.apache.gravitino.client.KerberosTokenProvider;
+import org.apache.gravitino.exceptions.GravitinoRuntimeException;
 import org.apache.hadoop.conf.Configuration;
 
 /** Utility class for Gravitino Virtual File System. */
@@ -140,6 +141,37 @@ public class GravitinoVirtualFileSystemUtils {
     }
   }
 
+  /**
+   * Get the actual file location of the sub path in a fileset, the same as the Gravitino server
+   * resolves it for the fileset with the storage location.
+   *
+   * @param storageLocation The storage location of the fileset.
+   * @param singleFile Whether the storage location of the fileset is a single file.
+   * @param subPath The sub path of the file in the fileset.
+   * @return The actual file location.
+   */
+  public static String getFileLocation(String storageLocation, boolean singleFile, String subPath) {
+    String processedSubPath;
+    if (!subPath.trim().isEmpty() && !subPath.trim().startsWith("/")) {
+      processedSubPath = "/" + subPath.trim();
+    } else {
+      processedSubPath = subPath.trim();
+    }
+
+    // Keep consistent with the check of the Gravitino server for the single file fileset.
+    if (singleFile && StringUtils.isBlank(processedSubPath)) {
+      throw new GravitinoRuntimeException(
+          "Sub path should always be blank, because the fileset only mounts a single file.");
+    }
+
+    if (singleFile || StringUtils.isBlank(processedSubPath)) {
+      return storageLocation;
+    }
+    return storageLocation.endsWith("/")
+        ? storageLocation.substring(0, storageLocation.length() - 1) + processedSubPath
+        : storageLocation + processedSubPath;
+  }
+
   private static void checkAuthConfig(String authType, String configKey, String configValue) {
     Preconditions.checkArgument(
         StringUtils.isNotBlank(configValue),
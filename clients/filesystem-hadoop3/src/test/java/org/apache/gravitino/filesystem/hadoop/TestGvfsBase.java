@@ -22,11 +22,14 @@ import static org.apache.hc.core5.http.HttpStatus.SC_OK;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockserver.model.HttpRequest.request;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.net.URI;
@@ -41,12 +44,16 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.audit.FilesetAuditConstants;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.credential.CredentialDTO;
 import org.apache.gravitino.dto.file.FilesetDTO;
+import org.apache.gravitino.dto.requests.FileLocationsRequest;
 import org.apache.gravitino.dto.responses.CredentialResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
+import org.apache.gravitino.dto.responses.FileLocationsResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
+import org.apache.gravitino.exceptions.GravitinoRuntimeException;
 import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.rest.RESTUtils;
 import org.apache.hadoop.conf.Configuration;
@@ -62,6 +69,7 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockserver.verify.VerificationTimes;
 
 public class TestGvfsBase extends GravitinoMockServerBase {
   protected static final String GVFS_IMPL_CLASS = GravitinoVirtualFileSystem.class.getName();
@@ -357,33 +365,28 @@ public class TestGvfsBase extends GravitinoMockServerBase {
     Path managedFilesetPath =
         FileSystemTestUtils.createFilesetPath(catalogName, schemaName, filesetName, true);
     Path localPath = FileSystemTestUtils.createLocalDirPrefix(catalogName, schemaName, filesetName);
-    String locationPath =
+    String locationsPath =
         String.format(
-            "/api/metalakes/%s/catalogs/%s/schemas/%s/filesets/%s/location",
+            "/api/metalakes/%s/catalogs/%s/schemas/%s/filesets/%s/locations",
             metalakeName, catalogName, schemaName, filesetName);
     try (FileSystem gravitinoFileSystem = managedFilesetPath.getFileSystem(conf);
         FileSystem localFileSystem = localPath.getFileSystem(conf)) {
       FileSystemTestUtils.mkdirs(localPath, localFileSystem);
       assertTrue(localFileSystem.exists(localPath));
 
-      // test managed fileset rename
-      FileLocationResponse fileLocationResponse =
-          new FileLocationResponse(localPath + "/rename_src");
-      Map<String, String> queryParams = new HashMap<>();
-      queryParams.put("sub_path", RESTUtils.encodeString("/rename_src"));
-      try {
-        buildMockResource(Method.GET, locationPath, queryParams, null, fileLocationResponse, SC_OK);
-      } catch (JsonProcessingException e) {
-        throw new RuntimeException(e);
-      }
-
-      FileLocationResponse fileLocationResponse1 =
-          new FileLocationResponse(localPath + "/rename_dst2");
-      Map<String, String> queryParams1 = new HashMap<>();
-      queryParams1.put("sub_path", RESTUtils.encodeString("/rename_dst2"));
+      // test managed fileset rename, the src and dst paths are resolved in one request
+      FileLocationsRequest fileLocationsRequest =
+          new FileLocationsRequest(ImmutableList.of("/rename_src", "/rename_dst2"));
+      FileLocationsResponse fileLocationsResponse =
+          new FileLocationsResponse(
+              ImmutableMap.of(
+                  "/rename_src",
+                  localPath + "/rename_src",
+                  "/rename_dst2",
+                  localPath + "/rename_dst2"));
       try {
         buildMockResource(
-            Method.GET, locationPath, queryParams1, null, fileLocationResponse1, SC_OK);
+            Method.POST, locationsPath, fileLocationsRequest, fileLocationsResponse, SC_OK);
         buildMockResourceForCredential(filesetName, localPath + "/rename_dst2");
       } catch (JsonProcessingException e) {
         throw new RuntimeException(e);
@@ -516,6 +519,93 @@ public class TestGvfsBase extends GravitinoMockServerBase {
     }
   }
 
+  @Test
+  public void testFilesetLocationCache() throws IOException {
+    String filesetName = "testFilesetLocationCache";
+    Path managedFilesetPath =
+        FileSystemTestUtils.createFilesetPath(catalogName, schemaName, filesetName, true);
+    Path localPath = FileSystemTestUtils.createLocalDirPrefix(catalogName, schemaName, filesetName);
+    String locationPath =
+        String.format(
+            "/api/metalakes/%s/catalogs/%s/schemas/%s/filesets/%s/location",
+            metalakeName, catalogName, schemaName, filesetName);
+    Configuration cacheConf = new Configuration(conf);
+    cacheConf.setBoolean(
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLE_KEY,
+        true);
+    cacheConf.setInt(
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_LOCATION_CACHE_AUDIT_INTERVAL_KEY,
+        2);
+    try (FileSystem gravitinoFileSystem = managedFilesetPath.getFileSystem(cacheConf);
+        FileSystem localFileSystem = localPath.getFileSystem(conf)) {
+      FileSystemTestUtils.mkdirs(new Path(localPath + "/sub"), localFileSystem);
+
+      FileLocationResponse fileLocationResponse = new FileLocationResponse(localPath.toString());
+      Map<String, String> queryParams = new HashMap<>();
+      queryParams.put("sub_path", RESTUtils.encodeString(""));
+      try {
+        buildMockResource(Method.GET, locationPath, queryParams, null, fileLocationResponse, SC_OK);
+        buildMockResourceForCredential(filesetName, localPath.toString());
+      } catch (JsonProcessingException e) {
+        throw new RuntimeException(e);
+      }
+
+      for (int i = 0; i < 5; i++) {
+        FileStatus[] statuses = gravitinoFileSystem.listStatus(managedFilesetPath);
+        assertEquals(1, statuses.length);
+      }
+
+      GravitinoVirtualFileSystem.FilesetLocation filesetLocation =
+          ((GravitinoVirtualFileSystem) gravitinoFileSystem)
+              .filesetLocationCache()
+              .getIfPresent(NameIdentifier.of(metalakeName, catalogName, schemaName, filesetName));
+      assertNotNull(filesetLocation);
+      assertEquals(localPath.toString(), filesetLocation.storageLocation());
+      assertFalse(filesetLocation.isSingleFile());
+
+      // The fileset is loaded only once, and the 1st, 3rd and 5th operations are reported.
+      mockServer()
+          .verify(
+              request()
+                  .withPath(
+                      String.format(
+                          "/api/metalakes/%s/catalogs/%s/schemas/%s/filesets/%s",
+                          metalakeName, catalogName, schemaName, filesetName)),
+              VerificationTimes.atLeast(1));
+      mockServer()
+          .verify(
+              request()
+                  .withPath(locationPath)
+                  .withHeader(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION_COUNT, "1"),
+              VerificationTimes.exactly(1));
+      mockServer()
+          .verify(
+              request()
+                  .withPath(locationPath)
+                  .withHeader(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION_COUNT, "2"),
+              VerificationTimes.exactly(2));
+    }
+  }
+
+  @Test
+  public void testGetFileLocation() {
+    assertEquals(
+        "file:/tmp/fileset",
+        GravitinoVirtualFileSystemUtils.getFileLocation("file:/tmp/fileset", false, ""));
+    assertEquals(
+        "file:/tmp/fileset/a/b",
+        GravitinoVirtualFileSystemUtils.getFileLocation("file:/tmp/fileset/", false, "a/b"));
+    assertEquals(
+        "file:/tmp/fileset/a/b",
+        GravitinoVirtualFileSystemUtils.getFileLocation("file:/tmp/fileset", false, " /a/b "));
+    assertEquals(
+        "file:/tmp/file.txt",
+        GravitinoVirtualFileSystemUtils.getFileLocation("file:/tmp/file.txt", true, "/a"));
+    assertThrows(
+        GravitinoRuntimeException.class,
+        () -> GravitinoVirtualFileSystemUtils.getFileLocation("file:/tmp/file.txt", true, ""));
+  }
+
   @Test
   public void testListStatus() throws IOException {
     String filesetName = "testListStatus";
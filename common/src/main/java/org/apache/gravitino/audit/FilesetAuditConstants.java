@@ -28,4 +28,11 @@ public class FilesetAuditConstants {
 
   /** The HTTP header used to pass the fileset data operation. */
   public static final String HTTP_HEADER_FILESET_DATA_OPERATION = "FilesetDataOperation";
+
+  /**
+   * The HTTP header used to pass the number of the fileset data operations the request stands for,
+   * when the client reports the operations in batches.
+   */
+  public static final String HTTP_HEADER_FILESET_DATA_OPERATION_COUNT =
+      "FilesetDataOperationCount";
 }
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.dto.requests;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import java.util.List;
+import java.util.Objects;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.jackson.Jacksonized;
+import org.apache.gravitino.rest.RESTRequest;
+
+/** Represents a request to get the actual locations of a batch of sub paths in a fileset. */
+@Getter
+@EqualsAndHashCode
+@ToString
+@Builder
+@Jacksonized
+public class FileLocationsRequest implements RESTRequest {
+
+  @JsonProperty("subPaths")
+  private final List<String> subPaths;
+
+  /** Default constructor for FileLocationsRequest. (Used for Jackson deserialization.) */
+  public FileLocationsRequest() {
+    this(null);
+  }
+
+  /**
+   * Creates a new FileLocationsRequest.
+   *
+   * @param subPaths The sub paths to get the actual file locations for.
+   */
+  public FileLocationsRequest(List<String> subPaths) {
+    this.subPaths = subPaths;
+  }
+
+  /**
+   * Validates the {@link FileLocationsRequest} request.
+   *
+   * @throws IllegalArgumentException If the request is invalid, this exception is thrown.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    Preconditions.checkArgument(
+        subPaths != null && !subPaths.isEmpty(),
+        "\"subPaths\" field is required and cannot be empty");
+    Preconditions.checkArgument(
+        subPaths.stream().allMatch(Objects::nonNull), "\"subPaths\" cannot contain null values");
+  }
+}
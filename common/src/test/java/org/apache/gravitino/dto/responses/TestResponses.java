@@ -217,6 +217,30 @@ public class TestResponses {
     assertThrows(IllegalArgumentException.class, () -> table.validate());
   }
 
+  @Test
+  void testTableListResponse() throws IllegalArgumentException {
+    AuditDTO audit =
+        AuditDTO.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    ColumnDTO column =
+        ColumnDTO.builder().withName("ColumnA").withDataType(Types.ByteType.get()).build();
+    TableDTO table =
+        TableDTO.builder()
+            .withName("TableA")
+            .withComment("comment")
+            .withColumns(new ColumnDTO[] {column})
+            .withAudit(audit)
+            .withPartitioning(Partitioning.EMPTY_PARTITIONING)
+            .build();
+    TableListResponse response = new TableListResponse(new TableDTO[] {table});
+    response.validate(); // No exception thrown
+  }
+
+  @Test
+  void testTableListException() throws IllegalArgumentException {
+    TableListResponse response = new TableListResponse();
+    assertThrows(IllegalArgumentException.class, () -> response.validate());
+  }
+
   @Test
   void testRestErrorResponse() throws IllegalArgumentException {
     ErrorResponse error = ErrorResponse.restError("Rest error");
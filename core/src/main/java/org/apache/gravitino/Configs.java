@@ -57,6 +57,15 @@ public class Configs {
   public static final String ENTITY_RELATIONAL_JDBC_BACKEND_STORAGE_PATH_KEY =
       "gravitino.entity.store.relational.storagePath";
 
+  public static final String ENTITY_RELATIONAL_ID_CACHE_ENABLED_KEY =
+      "gravitino.entity.store.relational.idCache.enabled";
+
+  public static final String ENTITY_RELATIONAL_ID_CACHE_MAX_ENTRIES_KEY =
+      "gravitino.entity.store.relational.idCache.maxEntries";
+
+  public static final String ENTITY_RELATIONAL_ID_CACHE_EXPIRE_TIME_MS_KEY =
+      "gravitino.entity.store.relational.idCache.expireTimeMs";
+
   public static final Long DEFAULT_DELETE_AFTER_TIME = 604800000L; // 7 days
 
   // Config for data keep time after soft deletion, in milliseconds.
@@ -101,6 +110,20 @@ public class Configs {
 
   public static final long CLEAN_INTERVAL_IN_SECS = 60L;
 
+  public static final String TREE_LOCK_MODE_TREE = "tree";
+
+  public static final String TREE_LOCK_MODE_STRIPED = "striped";
+
+  public static final int DEFAULT_TREE_LOCK_STRIPES = 1024;
+
+  public static final long DEFAULT_TREE_LOCK_HOLD_TIME_WARN_THRESHOLD_MS = 30000L;
+
+  public static final long DEFAULT_TREE_LOCK_DEAD_LOCK_CHECK_INTERVAL_SECS = 60L;
+
+  public static final long DEFAULT_TREE_LOCK_CONTENTION_THRESHOLD_MS = 100L;
+
+  public static final int DEFAULT_TREE_LOCK_TOP_CONTENDED_IDENTIFIERS = 10;
+
   public static final ConfigEntry<String> ENTITY_STORE =
       new ConfigBuilder(ENTITY_STORE_KEY)
           .doc("Which storage implementation to use")
@@ -173,6 +196,33 @@ public class Configs {
           .stringConf()
           .createWithDefault(DEFAULT_RELATIONAL_JDBC_BACKEND_PATH);
 
+  public static final ConfigEntry<Boolean> ENTITY_RELATIONAL_ID_CACHE_ENABLED =
+      new ConfigBuilder(ENTITY_RELATIONAL_ID_CACHE_ENABLED_KEY)
+          .doc(
+              "Whether to cache the ids of metalakes, catalogs and schemas resolved by name in "
+                  + "`JDBCBackend`")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_ID_CACHE_MAX_ENTRIES =
+      new ConfigBuilder(ENTITY_RELATIONAL_ID_CACHE_MAX_ENTRIES_KEY)
+          .doc("The maximum number of name to id mappings kept in the id cache of `JDBCBackend`")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10000L);
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_ID_CACHE_EXPIRE_TIME_MS =
+      new ConfigBuilder(ENTITY_RELATIONAL_ID_CACHE_EXPIRE_TIME_MS_KEY)
+          .doc(
+              "The time in milliseconds after which a cached name to id mapping of `JDBCBackend` "
+                  + "expires")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60 * 1000L);
+
   public static final ConfigEntry<Long> CATALOG_CACHE_EVICTION_INTERVAL_MS =
       new ConfigBuilder("gravitino.catalog.cache.evictionIntervalMs")
           .doc("The interval in milliseconds to evict the catalog cache")
@@ -255,6 +305,39 @@ public class Configs {
                   MAX_VERSION_RETENTION_COUNT))
           .createWithDefault(DEFAULT_VERSION_RETENTION_COUNT);
 
+  // The followings are configurations for the entity store cache
+
+  public static final long DEFAULT_ENTITY_STORE_CACHE_MAX_ENTRIES = 10000L;
+
+  public static final long DEFAULT_ENTITY_STORE_CACHE_EXPIRE_TIME_MS = 60 * 60 * 1000L;
+
+  public static final ConfigEntry<Boolean> ENTITY_STORE_CACHE_ENABLED =
+      new ConfigBuilder("gravitino.entity.store.cache.enabled")
+          .doc(
+              "Whether to cache the entities loaded from the entity store in memory, the cache is "
+                  + "invalidated by the writes issued through this server")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Long> ENTITY_STORE_CACHE_MAX_ENTRIES =
+      new ConfigBuilder("gravitino.entity.store.cache.maxEntries")
+          .doc("The maximum number of entries kept in the entity store cache")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_ENTITY_STORE_CACHE_MAX_ENTRIES);
+
+  public static final ConfigEntry<Long> ENTITY_STORE_CACHE_EXPIRE_TIME_MS =
+      new ConfigBuilder("gravitino.entity.store.cache.expireTimeMs")
+          .doc(
+              "The time in milliseconds after which a cached entity expires, it bounds the staleness "
+                  + "of entities changed by other Gravitino servers sharing the same backend")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_ENTITY_STORE_CACHE_EXPIRE_TIME_MS);
+
   // The followings are configurations for tree lock
 
   public static final ConfigEntry<Long> TREE_LOCK_MAX_NODE_IN_MEMORY =
@@ -278,6 +361,64 @@ public class Configs {
           .longConf()
           .createWithDefault(CLEAN_INTERVAL_IN_SECS);
 
+  public static final ConfigEntry<String> TREE_LOCK_MODE =
+      new ConfigBuilder("gravitino.lock.mode")
+          .doc(
+              "The implementation of the tree lock, `tree` keeps a lock node for each path "
+                  + "component, `striped` hashes the path components to a fixed pool of locks")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .stringConf()
+          .checkValue(
+              v -> TREE_LOCK_MODE_TREE.equals(v) || TREE_LOCK_MODE_STRIPED.equals(v),
+              String.format(
+                  "The value must be either '%s' or '%s'",
+                  TREE_LOCK_MODE_TREE, TREE_LOCK_MODE_STRIPED))
+          .createWithDefault(TREE_LOCK_MODE_TREE);
+
+  public static final ConfigEntry<Integer> TREE_LOCK_STRIPES =
+      new ConfigBuilder("gravitino.lock.stripes")
+          .doc("The number of locks in the pool used by the `striped` tree lock mode")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_TREE_LOCK_STRIPES);
+
+  public static final ConfigEntry<Long> TREE_LOCK_HOLD_TIME_WARN_THRESHOLD_MS =
+      new ConfigBuilder("gravitino.lock.holdTimeWarnThresholdMs")
+          .doc(
+              "The time in milliseconds a tree lock can be held before it is logged and counted "
+                  + "as a slow hold")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_TREE_LOCK_HOLD_TIME_WARN_THRESHOLD_MS);
+
+  public static final ConfigEntry<Long> TREE_LOCK_DEAD_LOCK_CHECK_INTERVAL_SECS =
+      new ConfigBuilder("gravitino.lock.deadLockCheckIntervalSecs")
+          .doc("The interval in seconds to check the tree lock nodes held for too long")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_TREE_LOCK_DEAD_LOCK_CHECK_INTERVAL_SECS);
+
+  public static final ConfigEntry<Long> TREE_LOCK_CONTENTION_THRESHOLD_MS =
+      new ConfigBuilder("gravitino.lock.contentionThresholdMs")
+          .doc(
+              "The time in milliseconds waiting for a tree lock after which the lock is counted as "
+                  + "contended")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_TREE_LOCK_CONTENTION_THRESHOLD_MS);
+
+  public static final ConfigEntry<Integer> TREE_LOCK_TOP_CONTENDED_IDENTIFIERS =
+      new ConfigBuilder("gravitino.lock.topContendedIdentifiers")
+          .doc("The number of the most contended identifiers exported by the tree lock metrics")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_TREE_LOCK_TOP_CONTENDED_IDENTIFIERS);
+
   public static final ConfigEntry<Boolean> ENABLE_AUTHORIZATION =
       new ConfigBuilder("gravitino.authorization.enable")
           .doc("Enable the authorization")
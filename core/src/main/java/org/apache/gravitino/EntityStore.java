@@ -18,10 +18,14 @@
  */
 package org.apache.gravitino;
 
+import com.google.common.base.Preconditions;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Entity.EntityType;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.tag.SupportsTagOperations;
@@ -83,6 +87,35 @@ public interface EntityStore extends Closeable {
     throw new UnsupportedOperationException("Don't support to skip fields");
   }
 
+  /**
+   * List one page of the entities with the specified {@link org.apache.gravitino.Namespace},
+   * ordered by name. The next page starts after the last name of the previous page, so pages stay
+   * stable while entities are added or removed.
+   *
+   * <p>The default implementation lists all the entities and pages them in memory, stores should
+   * push the page down to the underlying storage where they can.
+   *
+   * @param <E> class of the entity
+   * @param namespace the namespace of the entities
+   * @param type the detailed type of the entity
+   * @param entityType the general type of the entity
+   * @param afterName only entities whose name sorts after it are returned, null to start from the
+   *     first entity
+   * @param limit the maximum number of entities to return
+   * @return the page of entities
+   * @throws IOException if the list operation fails
+   */
+  default <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Class<E> type, EntityType entityType, String afterName, int limit)
+      throws IOException {
+    Preconditions.checkArgument(limit > 0, "limit must be positive, but got %s", limit);
+    return list(namespace, type, entityType).stream()
+        .filter(e -> afterName == null || e.name().compareTo(afterName) > 0)
+        .sorted(Comparator.comparing(HasIdentifier::name))
+        .limit(limit)
+        .collect(Collectors.toList());
+  }
+
   /**
    * Check if the entity with the specified {@link org.apache.gravitino.NameIdentifier} exists.
    *
@@ -122,6 +155,34 @@ public interface EntityStore extends Closeable {
   <E extends Entity & HasIdentifier> void put(E e, boolean overwritten)
       throws IOException, EntityAlreadyExistsException;
 
+  /**
+   * Store a batch of entities into the underlying storage. Unlike {@link #put(Entity, boolean)},
+   * an entity that already exists does not fail the whole batch when {@code overwritten} is false,
+   * it is skipped and reported in the returned list instead.
+   *
+   * <p>The default implementation stores the entities one by one, implementations can override it
+   * to store the batch with fewer round trips.
+   *
+   * @param entities the entities to store
+   * @param overwritten whether to overwrite the existing entities
+   * @param <E> the type of the entities
+   * @return the identifiers of the entities that were skipped because they already exist, empty if
+   *     all the entities are stored
+   * @throws IOException if the store operation fails
+   */
+  default <E extends Entity & HasIdentifier> List<NameIdentifier> batchPut(
+      List<E> entities, boolean overwritten) throws IOException {
+    List<NameIdentifier> conflicts = new ArrayList<>();
+    for (E e : entities) {
+      try {
+        put(e, overwritten);
+      } catch (EntityAlreadyExistsException ex) {
+        conflicts.add(e.nameIdentifier());
+      }
+    }
+    return conflicts;
+  }
+
   /**
    * Update the entity into the underlying storage.
    *
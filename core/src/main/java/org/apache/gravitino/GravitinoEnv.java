@@ -73,6 +73,7 @@ import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.metrics.source.JVMMetricsSource;
 import org.apache.gravitino.storage.IdGenerator;
 import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.cache.CachedEntityStore;
 import org.apache.gravitino.tag.TagDispatcher;
 import org.apache.gravitino.tag.TagManager;
 import org.slf4j.Logger;
@@ -415,7 +416,9 @@ public class GravitinoEnv {
 
   private void initGravitinoServerComponents() {
     // Initialize EntityStore
-    this.entityStore = EntityStoreFactory.createEntityStore(config);
+    EntityStore store = EntityStoreFactory.createEntityStore(config);
+    this.entityStore =
+        config.get(Configs.ENTITY_STORE_CACHE_ENABLED) ? new CachedEntityStore(store) : store;
     entityStore.initialize(config);
 
     // create and initialize a random id generator
@@ -0,0 +1,403 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.audit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.exceptions.GravitinoRuntimeException;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.AuditLogMetricsSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * AsyncFileAuditWriter writes audit logs to a file without blocking the caller. The audit logs are
+ * put into a bounded queue, and a background thread appends them to a direct buffer which is
+ * written to the file when it is full or the flush interval elapses. The file is rolled by size or
+ * by time, and the rolled files can be compressed with gzip.
+ *
+ * <p>An audit log is dropped if the queue is full or it fails to be written, the written and
+ * dropped audit logs are exported as metrics.
+ */
+public class AsyncFileAuditWriter implements AuditLogWriter {
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncFileAuditWriter.class);
+
+  private static final String AUDIT_LOG_FILE_NAME = "fileName";
+  private static final String APPEND = "append";
+  private static final String QUEUE_CAPACITY = "queueCapacity";
+  private static final String BUFFER_SIZE = "bufferSize";
+  private static final String FLUSH_INTERVAL_MS = "flushIntervalMs";
+  private static final String MAX_FILE_SIZE = "maxFileSize";
+  private static final String ROLL_INTERVAL_SECS = "rollIntervalSecs";
+  private static final String COMPRESS = "compress";
+  private static final String CLOSE_TIMEOUT_MS = "closeTimeoutMs";
+  private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(UTF_8);
+  private static final DateTimeFormatter ROLLED_FILE_SUFFIX =
+      DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneId.systemDefault());
+
+  @VisibleForTesting String fileName;
+
+  private Formatter formatter;
+  private BlockingQueue<String> queue;
+  private ByteBuffer buffer;
+  private long flushIntervalMs;
+  private long maxFileSize;
+  private long rollIntervalMs;
+  private long closeTimeoutMs;
+  private ExecutorService compressor;
+  private AuditLogMetricsSource metricsSource;
+  private Thread writerThread;
+  private volatile boolean closed;
+
+  // Only accessed by the writer thread after initialization.
+  private FileChannel channel;
+  private long fileSize;
+  private int bufferedRecords;
+  private long nextFlushTime;
+  private long nextRollTime;
+  private long nextRollRetryTime;
+
+  @Override
+  public Formatter getFormatter() {
+    return formatter;
+  }
+
+  @Override
+  public void init(Formatter formatter, Map<String, String> properties) {
+    this.formatter = formatter;
+    this.fileName =
+        System.getProperty("gravitino.log.path")
+            + "/"
+            + properties.getOrDefault(AUDIT_LOG_FILE_NAME, "gravitino_audit.log");
+    boolean append = Boolean.parseBoolean(properties.getOrDefault(APPEND, "true"));
+    int queueCapacity = Integer.parseInt(properties.getOrDefault(QUEUE_CAPACITY, "10000"));
+    int bufferSize = Integer.parseInt(properties.getOrDefault(BUFFER_SIZE, "1048576"));
+    this.flushIntervalMs = Long.parseLong(properties.getOrDefault(FLUSH_INTERVAL_MS, "1000"));
+    this.maxFileSize = Long.parseLong(properties.getOrDefault(MAX_FILE_SIZE, "268435456"));
+    this.rollIntervalMs =
+        TimeUnit.SECONDS.toMillis(
+            Long.parseLong(properties.getOrDefault(ROLL_INTERVAL_SECS, "86400")));
+    boolean compress = Boolean.parseBoolean(properties.getOrDefault(COMPRESS, "false"));
+    this.closeTimeoutMs = Long.parseLong(properties.getOrDefault(CLOSE_TIMEOUT_MS, "10000"));
+
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    try {
+      openFile(append);
+    } catch (Exception e) {
+      throw new GravitinoRuntimeException(
+          e, "Init audit log writer fail, filename is %s", fileName);
+    }
+    this.nextFlushTime = System.currentTimeMillis() + flushIntervalMs;
+
+    if (compress) {
+      this.compressor =
+          Executors.newSingleThreadExecutor(
+              new ThreadFactoryBuilder()
+                  .setDaemon(true)
+                  .setNameFormat("audit-log-compressor-%d")
+                  .build());
+    }
+
+    this.metricsSource = new AuditLogMetricsSource(queue::size);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // Add null check to avoid NPE when metrics system is not initialized in test environments
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+
+    this.writerThread = new Thread(this::writeAuditLogs, "audit-log-writer");
+    writerThread.setDaemon(true);
+    writerThread.start();
+  }
+
+  @Override
+  public void doWrite(AuditLog auditLog) {
+    if (closed || !queue.offer(auditLog.toString())) {
+      metricsSource.droppedCounter().inc();
+    }
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+
+    closed = true;
+    try {
+      // The writer thread drains the queue before it exits, interrupt it if the file system is too
+      // slow to drain the queue in time, the audit logs left in the queue are dropped.
+      writerThread.join(closeTimeoutMs);
+      if (writerThread.isAlive()) {
+        LOG.warn(
+            "Timed out waiting for the audit log writer to exit, {} audit logs are not written",
+            queue.size());
+        writerThread.interrupt();
+        writerThread.join(closeTimeoutMs);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOG.warn("Interrupted while waiting for the audit log writer to exit", e);
+    }
+
+    try {
+      channel.close();
+    } catch (Exception e) {
+      LOG.warn("Failed to close writer", e);
+    }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+
+    if (compressor != null) {
+      compressor.shutdown();
+      try {
+        if (!compressor.awaitTermination(60, TimeUnit.SECONDS)) {
+          LOG.warn("Timed out waiting for the rolled audit log files to be compressed");
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Override
+  public String name() {
+    return "asyncFile";
+  }
+
+  @VisibleForTesting
+  AuditLogMetricsSource getMetricsSource() {
+    return metricsSource;
+  }
+
+  private void writeAuditLogs() {
+    List<String> auditLogs = new ArrayList<>();
+    while (!closed || !queue.isEmpty()) {
+      int appended = 0;
+      try {
+        long waitMs = Math.max(1, nextFlushTime - System.currentTimeMillis());
+        String auditLog = queue.poll(waitMs, TimeUnit.MILLISECONDS);
+        if (auditLog != null) {
+          auditLogs.add(auditLog);
+          queue.drainTo(auditLogs);
+          for (String log : auditLogs) {
+            append(log);
+            appended++;
+          }
+        } else {
+          // Roll the file by time even if there are no audit logs coming.
+          rollIfNecessary(0);
+        }
+
+        // Group commit, the audit logs in the buffer are written at once.
+        if (System.currentTimeMillis() >= nextFlushTime) {
+          flush();
+        }
+      } catch (InterruptedException e) {
+        LOG.warn("Audit log writer thread is interrupted");
+        break;
+      } catch (Exception e) {
+        LOG.warn("Failed to write audit logs", e);
+        // The audit logs not appended yet are dropped together with the failed one.
+        metricsSource.droppedCounter().inc(auditLogs.size() - appended);
+      } finally {
+        auditLogs.clear();
+      }
+    }
+
+    // The audit logs left in the queue if the writer thread is interrupted.
+    metricsSource.droppedCounter().inc(queue.drainTo(auditLogs));
+
+    try {
+      flush();
+    } catch (Exception e) {
+      LOG.warn("Failed to flush audit logs", e);
+    }
+  }
+
+  private void append(String auditLog) throws IOException {
+    byte[] bytes = auditLog.getBytes(UTF_8);
+    int length = bytes.length + LINE_SEPARATOR.length;
+    rollIfNecessary(length);
+
+    if (buffer.remaining() < length) {
+      writeBuffer();
+    }
+    if (length > buffer.capacity()) {
+      writeFully(ByteBuffer.wrap(bytes));
+      writeFully(ByteBuffer.wrap(LINE_SEPARATOR));
+      metricsSource.writtenCounter().inc();
+    } else {
+      buffer.put(bytes).put(LINE_SEPARATOR);
+      bufferedRecords++;
+    }
+    fileSize += length;
+  }
+
+  private void flush() throws IOException {
+    nextFlushTime = System.currentTimeMillis() + flushIntervalMs;
+    writeBuffer();
+  }
+
+  private void writeBuffer() throws IOException {
+    buffer.flip();
+    boolean written = false;
+    try {
+      writeFully(buffer);
+      written = true;
+    } finally {
+      // The audit logs in the buffer are dropped if they fail to be written.
+      if (written) {
+        metricsSource.writtenCounter().inc(bufferedRecords);
+      } else {
+        metricsSource.droppedCounter().inc(bufferedRecords);
+      }
+      bufferedRecords = 0;
+      buffer.clear();
+    }
+  }
+
+  private void writeFully(ByteBuffer bytes) throws IOException {
+    while (bytes.hasRemaining()) {
+      channel.write(bytes);
+    }
+  }
+
+  private void rollIfNecessary(int length) throws IOException {
+    boolean rollBySize = maxFileSize > 0 && fileSize > 0 && fileSize + length > maxFileSize;
+    boolean rollByTime = rollIntervalMs > 0 && System.currentTimeMillis() >= nextRollTime;
+    if ((!rollBySize && !rollByTime) || System.currentTimeMillis() < nextRollRetryTime) {
+      return;
+    }
+
+    if (fileSize == 0) {
+      // Nothing to roll.
+      nextRollTime = System.currentTimeMillis() + rollIntervalMs;
+      return;
+    }
+
+    writeBuffer();
+    // The current channel is kept open until the new file is opened, so that the audit logs are
+    // still appended to the current file if the roll fails.
+    Path file = Paths.get(fileName);
+    Path rolledFile = rolledFilePath();
+    FileChannel newChannel;
+    try {
+      Files.move(file, rolledFile);
+      try {
+        newChannel = openChannel(false);
+      } catch (IOException e) {
+        Files.move(rolledFile, file);
+        throw e;
+      }
+    } catch (IOException e) {
+      LOG.warn("Failed to roll the audit log file {} to {}", fileName, rolledFile, e);
+      nextRollRetryTime = System.currentTimeMillis() + flushIntervalMs;
+      return;
+    }
+
+    FileChannel oldChannel = channel;
+    this.channel = newChannel;
+    this.fileSize = 0;
+    this.nextRollTime = System.currentTimeMillis() + rollIntervalMs;
+    try {
+      oldChannel.close();
+    } catch (IOException e) {
+      LOG.warn("Failed to close the rolled audit log file {}", rolledFile, e);
+    }
+    LOG.info("Rolled the audit log file to {}", rolledFile);
+
+    if (compressor != null) {
+      compressor.submit(() -> compress(rolledFile));
+    }
+  }
+
+  private void openFile(boolean append) throws IOException {
+    this.channel = openChannel(append);
+    this.fileSize = channel.size();
+    this.nextRollTime = System.currentTimeMillis() + rollIntervalMs;
+  }
+
+  private FileChannel openChannel(boolean append) throws IOException {
+    return FileChannel.open(
+        Paths.get(fileName),
+        StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE,
+        append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING);
+  }
+
+  @VisibleForTesting
+  Path rolledFilePath() {
+    String prefix = fileName + "." + ROLLED_FILE_SUFFIX.format(Instant.now());
+    Path rolledFile = Paths.get(prefix);
+    for (int i = 1; Files.exists(rolledFile) || Files.exists(Paths.get(rolledFile + ".gz")); i++) {
+      rolledFile = Paths.get(prefix + "." + i);
+    }
+    return rolledFile;
+  }
+
+  private static void compress(Path file) {
+    Path compressedFile = Paths.get(file + ".gz");
+    try (InputStream in = Files.newInputStream(file);
+        OutputStream out = new GZIPOutputStream(Files.newOutputStream(compressedFile))) {
+      byte[] bytes = new byte[8192];
+      int read;
+      while ((read = in.read(bytes)) != -1) {
+        out.write(bytes, 0, read);
+      }
+    } catch (IOException e) {
+      LOG.warn("Failed to compress the rolled audit log file {}", file, e);
+      return;
+    }
+
+    try {
+      Files.delete(file);
+    } catch (IOException e) {
+      LOG.warn("Failed to delete the compressed audit log file {}", file, e);
+    }
+  }
+}
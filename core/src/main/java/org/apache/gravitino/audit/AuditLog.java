@@ -61,6 +61,8 @@ import org.apache.gravitino.listener.api.event.Event;
 import org.apache.gravitino.listener.api.event.EventSource;
 import org.apache.gravitino.listener.api.event.GetFileLocationEvent;
 import org.apache.gravitino.listener.api.event.GetFileLocationFailureEvent;
+import org.apache.gravitino.listener.api.event.GetFileLocationsEvent;
+import org.apache.gravitino.listener.api.event.GetFileLocationsFailureEvent;
 import org.apache.gravitino.listener.api.event.GetPartitionEvent;
 import org.apache.gravitino.listener.api.event.GetPartitionFailureEvent;
 import org.apache.gravitino.listener.api.event.ListCatalogEvent;
@@ -253,6 +255,8 @@ public interface AuditLog {
 
     GET_FILE_LOCATION,
 
+    GET_FILE_LOCATIONS,
+
     CREATE_FILESET,
 
     ALTER_FILESET,
@@ -341,6 +345,9 @@ public interface AuditLog {
       } else if (event instanceof GetFileLocationEvent
           || event instanceof GetFileLocationFailureEvent) {
         return GET_FILE_LOCATION;
+      } else if (event instanceof GetFileLocationsEvent
+          || event instanceof GetFileLocationsFailureEvent) {
+        return GET_FILE_LOCATIONS;
       } else if (event instanceof LoadFilesetEvent || event instanceof LoadFilesetFailureEvent) {
         return LOAD_FILESET;
       } else if (event instanceof ListFilesetEvent || event instanceof ListFilesetFailureEvent) {
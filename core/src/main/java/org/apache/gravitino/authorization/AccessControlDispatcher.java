@@ -93,6 +93,19 @@ public interface AccessControlDispatcher {
    */
   String[] listUserNames(String metalake) throws NoSuchMetalakeException;
 
+  /**
+   * Lists one page of the usernames, ordered by name.
+   *
+   * @param metalake The Metalake of the User.
+   * @param afterName Only usernames that sort after it are returned, null to start from the first
+   *     user.
+   * @param limit The maximum number of usernames to return.
+   * @return The page of usernames.
+   * @throws NoSuchMetalakeException If the Metalake with the given name does not exist.
+   */
+  String[] listUserNames(String metalake, String afterName, int limit)
+      throws NoSuchMetalakeException;
+
   /**
    * Adds a new Group.
    *
@@ -269,6 +282,19 @@ public interface AccessControlDispatcher {
    */
   String[] listRoleNames(String metalake) throws NoSuchMetalakeException;
 
+  /**
+   * Lists one page of the role names, ordered by name.
+   *
+   * @param metalake The Metalake of the Role.
+   * @param afterName Only role names that sort after it are returned, null to start from the first
+   *     role.
+   * @param limit The maximum number of role names to return.
+   * @return The page of role names.
+   * @throws NoSuchMetalakeException If the Metalake with the given name does not exist.
+   */
+  String[] listRoleNames(String metalake, String afterName, int limit)
+      throws NoSuchMetalakeException;
+
   /**
    * Lists the role names associated the metadata object.
    *
@@ -92,6 +92,15 @@ public class AccessControlManager implements AccessControlDispatcher {
         () -> userGroupManager.listUserNames(metalake));
   }
 
+  @Override
+  public String[] listUserNames(String metalake, String afterName, int limit)
+      throws NoSuchMetalakeException {
+    return TreeLockUtils.doWithTreeLock(
+        NameIdentifier.of(AuthorizationUtils.ofUserNamespace(metalake).levels()),
+        LockType.READ,
+        () -> userGroupManager.listUserNames(metalake, afterName, limit));
+  }
+
   @Override
   public User[] listUsers(String metalake) throws NoSuchMetalakeException {
     return TreeLockUtils.doWithTreeLock(
@@ -220,6 +229,15 @@ public class AccessControlManager implements AccessControlDispatcher {
         () -> roleManager.listRoleNames(metalake));
   }
 
+  @Override
+  public String[] listRoleNames(String metalake, String afterName, int limit)
+      throws NoSuchMetalakeException {
+    return TreeLockUtils.doWithTreeLock(
+        NameIdentifier.of(AuthorizationUtils.ofRoleNamespace(metalake).levels()),
+        LockType.READ,
+        () -> roleManager.listRoleNames(metalake, afterName, limit));
+  }
+
   @Override
   public String[] listRoleNamesByObject(String metalake, MetadataObject object)
       throws NoSuchMetalakeException, NoSuchMetadataObjectException {
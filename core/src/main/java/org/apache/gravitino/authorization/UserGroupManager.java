@@ -124,6 +124,25 @@ class UserGroupManager {
         .toArray(String[]::new);
   }
 
+  String[] listUserNames(String metalake, String afterName, int limit) {
+    try {
+      checkMetalake(NameIdentifier.of(metalake), store);
+
+      Namespace namespace = AuthorizationUtils.ofUserNamespace(metalake);
+      return store
+          .list(namespace, UserEntity.class, Entity.EntityType.USER, afterName, limit)
+          .stream()
+          .map(User::name)
+          .toArray(String[]::new);
+    } catch (NoSuchEntityException e) {
+      LOG.error("Metalake {} does not exist", metalake, e);
+      throw new NoSuchMetalakeException(METALAKE_DOES_NOT_EXIST_MSG, metalake);
+    } catch (IOException ioe) {
+      LOG.error("Listing user under metalake {} failed due to storage issues", metalake, ioe);
+      throw new RuntimeException(ioe);
+    }
+  }
+
   User[] listUsers(String metalake) {
     return listUsersInternal(metalake, true /* allFields */);
   }
@@ -22,6 +22,7 @@ import static org.apache.gravitino.catalog.CapabilityHelpers.applyCapabilities;
 import static org.apache.gravitino.catalog.CapabilityHelpers.applyCaseSensitive;
 import static org.apache.gravitino.catalog.CapabilityHelpers.getCapability;
 
+import java.util.List;
 import java.util.Map;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.gravitino.NameIdentifier;
@@ -101,6 +102,13 @@ public class FilesetNormalizeDispatcher implements FilesetDispatcher {
     return dispatcher.getFileLocation(normalizeCaseSensitive(ident), subPath);
   }
 
+  @Override
+  public Map<String, String> getFileLocations(NameIdentifier ident, List<String> subPaths) {
+    // The constraints of the name spec may be more strict than underlying catalog,
+    // and for compatibility reasons, we only apply case-sensitive capabilities here.
+    return dispatcher.getFileLocations(normalizeCaseSensitive(ident), subPaths);
+  }
+
   private NameIdentifier normalizeNameIdentifier(NameIdentifier ident) {
     Capability capabilities = getCapability(ident, catalogManager);
     return applyCapabilities(ident, Capability.Scope.FILESET, capabilities);
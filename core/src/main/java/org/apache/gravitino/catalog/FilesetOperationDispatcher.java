@@ -22,6 +22,7 @@ import static org.apache.gravitino.catalog.PropertiesMetadataHelpers.validatePro
 import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.NameIdentifier;
@@ -247,4 +248,26 @@ public class FilesetOperationDispatcher extends OperationDispatcher implements F
                 c -> c.doWithFilesetOps(f -> f.getFileLocation(ident, subPath)),
                 NonEmptyEntityException.class));
   }
+
+  /**
+   * Get the actual locations of the files or directories based on the storage location of Fileset
+   * and the sub paths, in a batch.
+   *
+   * @param ident A fileset identifier.
+   * @param subPaths The sub paths to the files or directories.
+   * @return The map from each sub path to the actual location of the file or directory.
+   * @throws NoSuchFilesetException If the fileset does not exist.
+   */
+  @Override
+  public Map<String, String> getFileLocations(NameIdentifier ident, List<String> subPaths)
+      throws NoSuchFilesetException {
+    return TreeLockUtils.doWithTreeLock(
+        ident,
+        LockType.READ,
+        () ->
+            doWithCatalog(
+                getCatalogIdentifier(ident),
+                c -> c.doWithFilesetOps(f -> f.getFileLocations(ident, subPaths)),
+                NonEmptyEntityException.class));
+  }
 }
@@ -18,6 +18,23 @@
  */
 package org.apache.gravitino.catalog;
 
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.model.ModelCatalog;
 
-public interface ModelDispatcher extends ModelCatalog {}
+public interface ModelDispatcher extends ModelCatalog {
+
+  /**
+   * List one page of the models in a schema, ordered by name.
+   *
+   * @param namespace The namespace of the schema.
+   * @param afterName Only models whose name sorts after it are returned, null to start from the
+   *     first model.
+   * @param limit The maximum number of models to return.
+   * @return The identifiers of the models in the page.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  NameIdentifier[] listModels(Namespace namespace, String afterName, int limit)
+      throws NoSuchSchemaException;
+}
@@ -53,6 +53,14 @@ public class ModelNormalizeDispatcher implements ModelDispatcher {
     return normalizeCaseSensitive(identifiers);
   }
 
+  @Override
+  public NameIdentifier[] listModels(Namespace namespace, String afterName, int limit)
+      throws NoSuchSchemaException {
+    Namespace caseSensitiveNs = normalizeCaseSensitive(namespace);
+    NameIdentifier[] identifiers = dispatcher.listModels(caseSensitiveNs, afterName, limit);
+    return normalizeCaseSensitive(identifiers);
+  }
+
   @Override
   public Model getModel(NameIdentifier ident) throws NoSuchModelException {
     // The constraints of the name spec may be more strict than underlying catalog,
@@ -21,6 +21,9 @@ package org.apache.gravitino.catalog;
 import static org.apache.gravitino.catalog.PropertiesMetadataHelpers.validatePropertyForCreate;
 import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier;
 
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.function.Supplier;
 import org.apache.gravitino.EntityStore;
@@ -28,6 +31,7 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.connector.HasPropertyMetadata;
+import org.apache.gravitino.connector.SupportsModelPaging;
 import org.apache.gravitino.exceptions.ModelAlreadyExistsException;
 import org.apache.gravitino.exceptions.ModelVersionAliasesAlreadyExistException;
 import org.apache.gravitino.exceptions.NoSuchModelException;
@@ -36,6 +40,7 @@ import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.lock.LockType;
 import org.apache.gravitino.lock.TreeLockUtils;
 import org.apache.gravitino.model.Model;
+import org.apache.gravitino.model.ModelCatalog;
 import org.apache.gravitino.model.ModelVersion;
 import org.apache.gravitino.storage.IdGenerator;
 
@@ -58,6 +63,37 @@ public class ModelOperationDispatcher extends OperationDispatcher implements Mod
                 NoSuchSchemaException.class));
   }
 
+  /**
+   * Lists one page of the models in a schema. The page is pushed down to the catalog if it
+   * supports {@link SupportsModelPaging}, otherwise it is cut out of the full listing.
+   */
+  @Override
+  public NameIdentifier[] listModels(Namespace namespace, String afterName, int limit)
+      throws NoSuchSchemaException {
+    Preconditions.checkArgument(limit > 0, "limit must be positive, but got %s", limit);
+    return TreeLockUtils.doWithTreeLock(
+        NameIdentifier.of(namespace.levels()),
+        LockType.READ,
+        () ->
+            doWithCatalog(
+                getCatalogIdentifier(NameIdentifier.of(namespace.levels())),
+                c -> c.doWithModelOps(m -> listModelsPage(m, namespace, afterName, limit)),
+                NoSuchSchemaException.class));
+  }
+
+  private static NameIdentifier[] listModelsPage(
+      ModelCatalog modelCatalog, Namespace namespace, String afterName, int limit) {
+    if (modelCatalog instanceof SupportsModelPaging) {
+      return ((SupportsModelPaging) modelCatalog).listModels(namespace, afterName, limit);
+    }
+
+    return Arrays.stream(modelCatalog.listModels(namespace))
+        .filter(ident -> afterName == null || ident.name().compareTo(afterName) > 0)
+        .sorted(Comparator.comparing(NameIdentifier::name))
+        .limit(limit)
+        .toArray(NameIdentifier[]::new);
+  }
+
   @Override
   public Model getModel(NameIdentifier ident) throws NoSuchModelException {
     NameIdentifier catalogIdent = getCatalogIdentifier(ident);
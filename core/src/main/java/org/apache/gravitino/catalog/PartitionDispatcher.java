@@ -47,6 +47,31 @@ public interface PartitionDispatcher {
    */
   Partition[] listPartitions(NameIdentifier tableIdent);
 
+  /**
+   * List one page of partition names in the table, optionally filtered by partition values.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param filter The filter on partition values, or null to list all partitions.
+   * @param pageToken The last partition name of the previous page, or null for the first page.
+   * @param limit The maximum number of partition names to return.
+   * @return The partition names of the page.
+   * @see SupportsPartitions#listPartitionNames(String, String, int)
+   */
+  String[] listPartitionNames(
+      NameIdentifier tableIdent, String filter, String pageToken, int limit);
+
+  /**
+   * List one page of partitions in the table, optionally filtered by partition values.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param filter The filter on partition values, or null to list all partitions.
+   * @param pageToken The last partition name of the previous page, or null for the first page.
+   * @param limit The maximum number of partitions to return.
+   * @return The partitions of the page.
+   * @see SupportsPartitions#listPartitions(String, String, int)
+   */
+  Partition[] listPartitions(NameIdentifier tableIdent, String filter, String pageToken, int limit);
+
   /**
    * Get a partition by name from the table.
    *
@@ -61,6 +61,40 @@ public class PartitionNormalizeDispatcher implements PartitionDispatcher {
     return applyCaseSensitive(partitions, capabilities);
   }
 
+  @Override
+  public String[] listPartitionNames(
+      NameIdentifier tableIdent, String filter, String pageToken, int limit) {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    String[] partitionNames =
+        dispatcher.listPartitionNames(
+            applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities),
+            filter,
+            pageToken == null
+                ? null
+                : applyCaseSensitiveOnName(Capability.Scope.PARTITION, pageToken, capabilities),
+            limit);
+    return Arrays.stream(partitionNames)
+        .map(
+            partitionName ->
+                applyCaseSensitiveOnName(Capability.Scope.PARTITION, partitionName, capabilities))
+        .toArray(String[]::new);
+  }
+
+  @Override
+  public Partition[] listPartitions(
+      NameIdentifier tableIdent, String filter, String pageToken, int limit) {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    Partition[] partitions =
+        dispatcher.listPartitions(
+            applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities),
+            filter,
+            pageToken == null
+                ? null
+                : applyCaseSensitiveOnName(Capability.Scope.PARTITION, pageToken, capabilities),
+            limit);
+    return applyCaseSensitive(partitions, capabilities);
+  }
+
   @Override
   public Partition getPartition(NameIdentifier tableIdent, String partitionName)
       throws NoSuchPartitionException {
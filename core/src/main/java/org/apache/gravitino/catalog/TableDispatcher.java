@@ -19,6 +19,9 @@
 
 package org.apache.gravitino.catalog;
 
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
+import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
 
 /**
@@ -27,4 +30,16 @@ import org.apache.gravitino.rel.TableCatalog;
  * dispatching or handling table-related events or actions that are not covered by the standard
  * {@code TableCatalog} operations.
  */
-public interface TableDispatcher extends TableCatalog {}
+public interface TableDispatcher extends TableCatalog {
+
+  /**
+   * Load the given tables from a schema, importing the ones that are not in the Gravitino store
+   * yet. Tables that don't exist are skipped.
+   *
+   * @param namespace The namespace of the schema.
+   * @param tableNames The names of the tables to load.
+   * @return The loaded tables.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  Table[] loadTables(Namespace namespace, String... tableNames) throws NoSuchSchemaException;
+}
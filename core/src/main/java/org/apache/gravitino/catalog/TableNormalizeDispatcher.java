@@ -20,8 +20,10 @@ package org.apache.gravitino.catalog;
 
 import static org.apache.gravitino.catalog.CapabilityHelpers.applyCapabilities;
 import static org.apache.gravitino.catalog.CapabilityHelpers.applyCaseSensitive;
+import static org.apache.gravitino.catalog.CapabilityHelpers.applyCaseSensitiveOnName;
 import static org.apache.gravitino.catalog.CapabilityHelpers.getCapability;
 
+import java.util.Arrays;
 import java.util.Map;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.gravitino.NameIdentifier;
@@ -63,6 +65,19 @@ public class TableNormalizeDispatcher implements TableDispatcher {
     return dispatcher.loadTable(normalizeCaseSensitive(ident));
   }
 
+  @Override
+  public Table[] loadTables(Namespace namespace, String... tableNames)
+      throws NoSuchSchemaException {
+    // The constraints of the name spec may be more strict than underlying catalog,
+    // and for compatibility reasons, we only apply case-sensitive capabilities here.
+    Capability capabilities = getCapability(NameIdentifier.of(namespace.levels()), catalogManager);
+    String[] caseSensitiveNames =
+        Arrays.stream(tableNames)
+            .map(n -> applyCaseSensitiveOnName(Capability.Scope.TABLE, n, capabilities))
+            .toArray(String[]::new);
+    return dispatcher.loadTables(normalizeCaseSensitive(namespace), caseSensitiveNames);
+  }
+
   @Override
   public Table createTable(
       NameIdentifier ident,
@@ -26,11 +26,14 @@ import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier
 
 import com.google.common.base.Objects;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -42,6 +45,7 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.connector.HasPropertyMetadata;
+import org.apache.gravitino.connector.SupportsBatchTableLoad;
 import org.apache.gravitino.connector.capability.Capability;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
@@ -54,6 +58,7 @@ import org.apache.gravitino.meta.ColumnEntity;
 import org.apache.gravitino.meta.TableEntity;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableCatalog;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.rel.expressions.distributions.Distribution;
 import org.apache.gravitino.rel.expressions.distributions.Distributions;
@@ -126,17 +131,45 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
           TreeLockUtils.doWithTreeLock(schemaIdent, LockType.WRITE, () -> importTable(ident));
     }
 
-    // Update the column entities in Gravitino store if the columns are different from the ones
-    // fetching from the underlying source.
-    TableEntity updatedEntity = updateColumnsIfNecessaryWhenLoad(ident, entityCombinedTable);
+    return toLoadedTable(ident, entityCombinedTable);
+  }
 
-    return EntityCombinedTable.of(entityCombinedTable.tableFromCatalog(), updatedEntity)
-        .withHiddenProperties(
-            getHiddenPropertyNames(
-                getCatalogIdentifier(ident),
-                HasPropertyMetadata::tablePropertiesMetadata,
-                entityCombinedTable.tableFromCatalog().properties()))
-        .withImported(entityCombinedTable.imported());
+  /**
+   * Loads the given tables of a schema. The tables are fetched from the catalog in bulk if the
+   * catalog supports {@link SupportsBatchTableLoad}, otherwise one by one, and the ones that are
+   * not in the store yet are imported.
+   *
+   * @param namespace The namespace of the schema.
+   * @param tableNames The names of the tables to load.
+   * @return The loaded tables, tables that don't exist are skipped.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  @Override
+  public Table[] loadTables(Namespace namespace, String... tableNames)
+      throws NoSuchSchemaException {
+    NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+    List<EntityCombinedTable> combinedTables =
+        TreeLockUtils.doWithTreeLock(
+            schemaIdent,
+            LockType.READ,
+            () ->
+                Arrays.stream(loadTablesFromCatalog(namespace, tableNames))
+                    .map(t -> combineTable(NameIdentifier.of(namespace, t.name()), t))
+                    .collect(Collectors.toList()));
+
+    if (combinedTables.stream().anyMatch(t -> !t.imported())) {
+      // Load the schema to make sure the schema is imported.
+      GravitinoEnv.getInstance().schemaDispatcher().loadSchema(schemaIdent);
+    }
+
+    List<EntityCombinedTable> loadedTables =
+        combinedTables.stream().allMatch(EntityCombinedTable::imported)
+            ? combinedTables
+            : TreeLockUtils.doWithTreeLock(
+                schemaIdent, LockType.WRITE, () -> importTables(namespace, combinedTables));
+    return loadedTables.stream()
+        .map(t -> toLoadedTable(NameIdentifier.of(namespace, t.tableFromCatalog().name()), t))
+        .toArray(Table[]::new);
   }
 
   /**
@@ -379,13 +412,128 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         });
   }
 
+  private Table toLoadedTable(NameIdentifier ident, EntityCombinedTable entityCombinedTable) {
+    // Update the column entities in Gravitino store if the columns are different from the ones
+    // fetching from the underlying source.
+    TableEntity updatedEntity = updateColumnsIfNecessaryWhenLoad(ident, entityCombinedTable);
+
+    return EntityCombinedTable.of(entityCombinedTable.tableFromCatalog(), updatedEntity)
+        .withHiddenProperties(
+            getHiddenPropertyNames(
+                getCatalogIdentifier(ident),
+                HasPropertyMetadata::tablePropertiesMetadata,
+                entityCombinedTable.tableFromCatalog().properties()))
+        .withImported(entityCombinedTable.imported());
+  }
+
+  private Table[] loadTablesFromCatalog(Namespace namespace, String[] tableNames) {
+    return doWithCatalog(
+        getCatalogIdentifier(NameIdentifier.of(namespace.levels())),
+        c ->
+            c.doWithTableOps(
+                t ->
+                    t instanceof SupportsBatchTableLoad
+                        ? ((SupportsBatchTableLoad) t).loadTables(namespace, tableNames)
+                        : loadTablesOneByOne(t, namespace, tableNames)),
+        NoSuchSchemaException.class);
+  }
+
+  private static Table[] loadTablesOneByOne(
+      TableCatalog tableCatalog, Namespace namespace, String[] tableNames) {
+    List<Table> tables = Lists.newArrayListWithCapacity(tableNames.length);
+    for (String tableName : tableNames) {
+      try {
+        tables.add(tableCatalog.loadTable(NameIdentifier.of(namespace, tableName)));
+      } catch (NoSuchTableException e) {
+        LOG.debug("Table {} does not exist in {}, skip loading it", tableName, namespace);
+      }
+    }
+    return tables.toArray(new Table[0]);
+  }
+
   private EntityCombinedTable importTable(NameIdentifier identifier) {
-    EntityCombinedTable table = internalLoadTable(identifier);
+    return importTable(identifier, loadTableFromCatalog(identifier));
+  }
+
+  private EntityCombinedTable importTable(NameIdentifier identifier, Table tableFromCatalog) {
+    // Check the store again, the table may have been imported since it was fetched.
+    EntityCombinedTable table = combineTable(identifier, tableFromCatalog);
 
     if (table.imported()) {
       return table;
     }
 
+    TableEntity tableEntity = toImportedEntity(identifier, table);
+    try {
+      store.put(tableEntity, true);
+    } catch (EntityAlreadyExistsException e) {
+      LOG.error(
+          "Failed to import table {} with id {} to the store.", identifier, tableEntity.id(), e);
+      throw new UnsupportedOperationException(
+          "Table managed by multiple catalogs. This may cause unexpected issues such as privilege conflicts. "
+              + "To resolve: Remove all catalogs managing this table, then recreate one catalog to ensure single-catalog management.");
+    } catch (Exception e) {
+      LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "put", identifier, e);
+      throw new RuntimeException("Fail to import the table entity to the store.", e);
+    }
+
+    return toImportedTable(identifier, table, tableEntity);
+  }
+
+  // Imports the tables not in the store yet with one batch put, the tables that fail to be put in
+  // the batch are imported one by one to report their errors like loadTable does.
+  private List<EntityCombinedTable> importTables(
+      Namespace namespace, List<EntityCombinedTable> tables) {
+    // Check the store again, the tables may have been imported since they were fetched.
+    List<EntityCombinedTable> combinedTables =
+        tables.stream()
+            .map(
+                t ->
+                    t.imported()
+                        ? t
+                        : combineTable(
+                            NameIdentifier.of(namespace, t.tableFromCatalog().name()),
+                            t.tableFromCatalog()))
+            .collect(Collectors.toList());
+    Map<String, TableEntity> entitiesToImport =
+        combinedTables.stream()
+            .filter(t -> !t.imported())
+            .map(
+                t ->
+                    toImportedEntity(NameIdentifier.of(namespace, t.tableFromCatalog().name()), t))
+            .collect(
+                Collectors.toMap(
+                    TableEntity::name, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+    if (entitiesToImport.isEmpty()) {
+      return combinedTables;
+    }
+
+    Set<NameIdentifier> skipped;
+    try {
+      skipped =
+          Sets.newHashSet(store.batchPut(Lists.newArrayList(entitiesToImport.values()), true));
+    } catch (Exception e) {
+      LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "batch put", namespace, e);
+      throw new RuntimeException("Fail to import the table entities to the store.", e);
+    }
+
+    return combinedTables.stream()
+        .map(
+            t -> {
+              if (t.imported()) {
+                return t;
+              }
+
+              NameIdentifier ident = NameIdentifier.of(namespace, t.tableFromCatalog().name());
+              TableEntity tableEntity = entitiesToImport.get(ident.name());
+              return skipped.contains(ident)
+                  ? importTable(ident, t.tableFromCatalog())
+                  : toImportedTable(ident, t, tableEntity);
+            })
+        .collect(Collectors.toList());
+  }
+
+  private TableEntity toImportedEntity(NameIdentifier identifier, EntityCombinedTable table) {
     StringIdentifier stringId = null;
     try {
       stringId = table.stringIdentifier();
@@ -417,26 +565,17 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
             .build();
     List<ColumnEntity> columnEntityList =
         toColumnEntities(table.tableFromCatalog().columns(), audit);
-    TableEntity tableEntity =
-        TableEntity.builder()
-            .withId(uid)
-            .withName(identifier.name())
-            .withNamespace(identifier.namespace())
-            .withColumns(columnEntityList)
-            .withAuditInfo(audit)
-            .build();
-    try {
-      store.put(tableEntity, true);
-    } catch (EntityAlreadyExistsException e) {
-      LOG.error("Failed to import table {} with id {} to the store.", identifier, uid, e);
-      throw new UnsupportedOperationException(
-          "Table managed by multiple catalogs. This may cause unexpected issues such as privilege conflicts. "
-              + "To resolve: Remove all catalogs managing this table, then recreate one catalog to ensure single-catalog management.");
-    } catch (Exception e) {
-      LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "put", identifier, e);
-      throw new RuntimeException("Fail to import the table entity to the store.", e);
-    }
+    return TableEntity.builder()
+        .withId(uid)
+        .withName(identifier.name())
+        .withNamespace(identifier.namespace())
+        .withColumns(columnEntityList)
+        .withAuditInfo(audit)
+        .build();
+  }
 
+  private EntityCombinedTable toImportedTable(
+      NameIdentifier identifier, EntityCombinedTable table, TableEntity tableEntity) {
     return EntityCombinedTable.of(table.tableFromCatalog(), tableEntity)
         .withHiddenProperties(
             getHiddenPropertyNames(
@@ -446,13 +585,18 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
   }
 
   private EntityCombinedTable internalLoadTable(NameIdentifier ident) {
-    NameIdentifier catalogIdentifier = getCatalogIdentifier(ident);
-    Table table =
-        doWithCatalog(
-            catalogIdentifier,
-            c -> c.doWithTableOps(t -> t.loadTable(ident)),
-            NoSuchTableException.class);
+    return combineTable(ident, loadTableFromCatalog(ident));
+  }
 
+  private Table loadTableFromCatalog(NameIdentifier ident) {
+    return doWithCatalog(
+        getCatalogIdentifier(ident),
+        c -> c.doWithTableOps(t -> t.loadTable(ident)),
+        NoSuchTableException.class);
+  }
+
+  private EntityCombinedTable combineTable(NameIdentifier ident, Table table) {
+    NameIdentifier catalogIdentifier = getCatalogIdentifier(ident);
     StringIdentifier stringId = getStringIdFromProperties(table.properties());
     // Case 1: The table is not created by Gravitino or the external system does not support storing
     // string identifier.
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.connector;
+
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.annotation.Evolving;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
+import org.apache.gravitino.rel.Table;
+
+/**
+ * The table catalog interface to load many tables of a schema at once. A catalog whose underlying
+ * source can fetch several tables in one request should implement this interface, so that importing
+ * or listing the tables of a big schema doesn't cost one request per table.
+ */
+@Evolving
+public interface SupportsBatchTableLoad {
+
+  /**
+   * Load the given tables from a schema. Tables that don't exist are skipped, so the returned array
+   * may be shorter than the given names.
+   *
+   * @param namespace The namespace of the schema.
+   * @param tableNames The names of the tables to load.
+   * @return The loaded tables.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  Table[] loadTables(Namespace namespace, String[] tableNames) throws NoSuchSchemaException;
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.connector;
+
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.annotation.Evolving;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
+
+/**
+ * The model catalog interface to list the models of a schema page by page. A catalog whose
+ * underlying storage can return a sorted range of names should implement this interface, so that a
+ * page of a big schema doesn't cost a listing of all its models.
+ */
+@Evolving
+public interface SupportsModelPaging {
+
+  /**
+   * List one page of the models in a schema, ordered by name.
+   *
+   * @param namespace The namespace of the schema.
+   * @param afterName Only models whose name sorts after it are returned, null to start from the
+   *     first model.
+   * @param limit The maximum number of models to return.
+   * @return The identifiers of the models in the page.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  NameIdentifier[] listModels(Namespace namespace, String afterName, int limit)
+      throws NoSuchSchemaException;
+}
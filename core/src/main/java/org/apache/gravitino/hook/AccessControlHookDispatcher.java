@@ -84,6 +84,12 @@ public class AccessControlHookDispatcher implements AccessControlDispatcher {
     return dispatcher.listUserNames(metalake);
   }
 
+  @Override
+  public String[] listUserNames(String metalake, String afterName, int limit)
+      throws NoSuchMetalakeException {
+    return dispatcher.listUserNames(metalake, afterName, limit);
+  }
+
   @Override
   public Group addGroup(String metalake, String group)
       throws GroupAlreadyExistsException, NoSuchMetalakeException {
@@ -181,6 +187,12 @@ public class AccessControlHookDispatcher implements AccessControlDispatcher {
     return dispatcher.listRoleNames(metalake);
   }
 
+  @Override
+  public String[] listRoleNames(String metalake, String afterName, int limit)
+      throws NoSuchMetalakeException {
+    return dispatcher.listRoleNames(metalake, afterName, limit);
+  }
+
   @Override
   public String[] listRoleNamesByObject(String metalake, MetadataObject object)
       throws NoSuchMetalakeException, NoSuchMetadataObjectException {
@@ -122,4 +122,10 @@ public class FilesetHookDispatcher implements FilesetDispatcher {
       throws NoSuchFilesetException {
     return dispatcher.getFileLocation(ident, subPath);
   }
+
+  @Override
+  public Map<String, String> getFileLocations(NameIdentifier ident, List<String> subPaths)
+      throws NoSuchFilesetException {
+    return dispatcher.getFileLocations(ident, subPaths);
+  }
 }
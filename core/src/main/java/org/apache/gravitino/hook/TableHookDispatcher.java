@@ -63,6 +63,12 @@ public class TableHookDispatcher implements TableDispatcher {
     return dispatcher.loadTable(ident);
   }
 
+  @Override
+  public Table[] loadTables(Namespace namespace, String... tableNames)
+      throws NoSuchSchemaException {
+    return dispatcher.loadTables(namespace, tableNames);
+  }
+
   @Override
   public Table createTable(
       NameIdentifier ident,
@@ -16,22 +16,27 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-
 package org.apache.gravitino.listener;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.BaseEvent;
 import org.apache.gravitino.listener.api.event.Event;
 import org.apache.gravitino.listener.api.event.PreEvent;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.AsyncQueueListenerMetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,33 +45,75 @@ import org.slf4j.LoggerFactory;
  * dispatcher thread to dispatch event to the real listeners. For default AsyncQueueListener it may
  * contain multi listeners share with one queue and dispatcher thread. For other
  * AsyncQueueDispatchers, contain only one listener.
+ *
+ * <p>With more than one dispatcher thread, each thread owns a bounded queue and the events are
+ * sharded to the queues by their identifiers, so the events of the same metadata object are still
+ * dispatched in order. A dispatcher drains its queue in batches, and delivers the consecutive post
+ * events of a batch with one {@link EventListenerPlugin#onPostEvents(List)} call.
  */
 public class AsyncQueueListener implements EventListenerPlugin {
   private static final Logger LOG = LoggerFactory.getLogger(AsyncQueueListener.class);
   private static final String NAME_PREFIX = "async-queue-listener-";
 
+  static final String BACKPRESSURE_DROP = "drop";
+  static final String BACKPRESSURE_BLOCK = "block";
+
   private final List<EventListenerPlugin> eventListeners;
-  private final BlockingQueue<BaseEvent> queue;
-  private final Thread asyncProcessor;
+  private final List<BlockingQueue<QueuedEvent>> queues;
+  private final List<Thread> asyncProcessors;
   private final int dispatcherJoinSeconds;
+  private final int batchSize;
+  private final boolean blockWhenFull;
+  private final long blockTimeoutMs;
   private final AtomicBoolean stopped = new AtomicBoolean(false);
   private final AtomicLong dropEventCounters = new AtomicLong(0);
   private final AtomicLong lastDropEventCounters = new AtomicLong(0);
-  private Instant lastRecordDropEventTime;
+  private volatile Instant lastRecordDropEventTime = Instant.now();
   private final String asyncQueueListenerName;
+  private final AsyncQueueListenerMetricsSource metricsSource;
 
   public AsyncQueueListener(
       List<EventListenerPlugin> listeners,
       String name,
       int queueCapacity,
       int dispatcherJoinSeconds) {
+    this(listeners, name, queueCapacity, dispatcherJoinSeconds, 1, 1, false, 0);
+  }
+
+  public AsyncQueueListener(
+      List<EventListenerPlugin> listeners,
+      String name,
+      int queueCapacity,
+      int dispatcherJoinSeconds,
+      int dispatcherThreads,
+      int batchSize,
+      boolean blockWhenFull,
+      long blockTimeoutMs) {
+    Preconditions.checkArgument(dispatcherThreads > 0, "dispatcherThreads must be positive");
+    Preconditions.checkArgument(batchSize > 0, "batchSize must be positive");
     this.asyncQueueListenerName = NAME_PREFIX + name;
     this.eventListeners = listeners;
-    this.queue = new LinkedBlockingQueue<>(queueCapacity);
-    this.asyncProcessor = new Thread(() -> processEvents());
     this.dispatcherJoinSeconds = dispatcherJoinSeconds;
-    asyncProcessor.setDaemon(true);
-    asyncProcessor.setName(asyncQueueListenerName);
+    this.batchSize = batchSize;
+    this.blockWhenFull = blockWhenFull;
+    this.blockTimeoutMs = blockTimeoutMs;
+
+    // The capacity is shared by the queues of all dispatcher threads.
+    int shardCapacity = Math.max(1, (queueCapacity + dispatcherThreads - 1) / dispatcherThreads);
+    this.queues = new ArrayList<>(dispatcherThreads);
+    this.asyncProcessors = new ArrayList<>(dispatcherThreads);
+    for (int i = 0; i < dispatcherThreads; i++) {
+      BlockingQueue<QueuedEvent> queue = new ArrayBlockingQueue<>(shardCapacity);
+      Thread asyncProcessor = new Thread(() -> processEvents(queue));
+      asyncProcessor.setDaemon(true);
+      asyncProcessor.setName(
+          dispatcherThreads == 1 ? asyncQueueListenerName : asyncQueueListenerName + "-" + i);
+      queues.add(queue);
+      asyncProcessors.add(asyncProcessor);
+    }
+
+    this.metricsSource =
+        new AsyncQueueListenerMetricsSource(asyncQueueListenerName, this::queueDepth);
   }
 
   @Override
@@ -88,20 +135,32 @@ public class AsyncQueueListener implements EventListenerPlugin {
   @Override
   public void start() {
     eventListeners.forEach(listenerPlugin -> listenerPlugin.start());
-    asyncProcessor.start();
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // Add null check to avoid NPE when metrics system is not initialized in test environments
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+    asyncProcessors.forEach(Thread::start);
   }
 
   @Override
   public void stop() {
     Preconditions.checkState(!stopped.get(), asyncQueueListenerName + " had already stopped");
     stopped.compareAndSet(false, true);
-    asyncProcessor.interrupt();
-    try {
-      asyncProcessor.join(dispatcherJoinSeconds * 1000L);
-    } catch (InterruptedException e) {
-      LOG.warn("{} interrupt async processor failed.", asyncQueueListenerName, e);
+    asyncProcessors.forEach(Thread::interrupt);
+    long deadline = System.currentTimeMillis() + dispatcherJoinSeconds * 1000L;
+    for (Thread asyncProcessor : asyncProcessors) {
+      try {
+        asyncProcessor.join(Math.max(1, deadline - System.currentTimeMillis()));
+      } catch (InterruptedException e) {
+        LOG.warn("{} interrupt async processor failed.", asyncQueueListenerName, e);
+      }
     }
     eventListeners.forEach(listenerPlugin -> listenerPlugin.stop());
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
   }
 
   @VisibleForTesting
@@ -109,22 +168,34 @@ public class AsyncQueueListener implements EventListenerPlugin {
     return this.eventListeners;
   }
 
-  private void processEvents() {
+  @VisibleForTesting
+  int getDispatcherThreads() {
+    return asyncProcessors.size();
+  }
+
+  @VisibleForTesting
+  AsyncQueueListenerMetricsSource getMetricsSource() {
+    return metricsSource;
+  }
+
+  private int queueDepth() {
+    return queues.stream().mapToInt(BlockingQueue::size).sum();
+  }
+
+  private void processEvents(BlockingQueue<QueuedEvent> queue) {
+    List<QueuedEvent> batch = new ArrayList<>(batchSize);
     while (!Thread.currentThread().isInterrupted()) {
       try {
-        BaseEvent baseEvent = queue.take();
-        if (baseEvent instanceof PreEvent) {
-          this.eventListeners.forEach(listener -> listener.onPreEvent((PreEvent) baseEvent));
-        } else if (baseEvent instanceof Event) {
-          this.eventListeners.forEach(listener -> listener.onPostEvent((Event) baseEvent));
-        } else {
-          LOG.warn("Unknown event type: {}", baseEvent.getClass().getSimpleName());
-        }
+        batch.add(queue.take());
+        queue.drainTo(batch, batchSize - 1);
+        dispatchEvents(batch);
       } catch (InterruptedException e) {
         LOG.warn("{} event dispatcher thread is interrupted.", asyncQueueListenerName);
         break;
       } catch (Exception e) {
         LOG.warn("{} throw a exception while processing event", asyncQueueListenerName, e);
+      } finally {
+        batch.clear();
       }
     }
 
@@ -136,7 +207,45 @@ public class AsyncQueueListener implements EventListenerPlugin {
     }
   }
 
+  // Dispatches the events in order, the consecutive post events are dispatched at once.
+  private void dispatchEvents(List<QueuedEvent> events) {
+    List<Event> postEvents = new ArrayList<>(events.size());
+    for (QueuedEvent queuedEvent : events) {
+      metricsSource
+          .dispatchLatencyTimer()
+          .update(System.nanoTime() - queuedEvent.enqueueNanos, TimeUnit.NANOSECONDS);
+      BaseEvent baseEvent = queuedEvent.event;
+      if (baseEvent instanceof Event) {
+        postEvents.add((Event) baseEvent);
+        continue;
+      }
+
+      dispatchPostEvents(postEvents);
+      if (baseEvent instanceof PreEvent) {
+        this.eventListeners.forEach(listener -> listener.onPreEvent((PreEvent) baseEvent));
+      } else {
+        LOG.warn("Unknown event type: {}", baseEvent.getClass().getSimpleName());
+      }
+    }
+    dispatchPostEvents(postEvents);
+  }
+
+  private void dispatchPostEvents(List<Event> postEvents) {
+    if (postEvents.isEmpty()) {
+      return;
+    }
+
+    if (postEvents.size() == 1) {
+      this.eventListeners.forEach(listener -> listener.onPostEvent(postEvents.get(0)));
+    } else {
+      List<Event> batch = new ArrayList<>(postEvents);
+      this.eventListeners.forEach(listener -> listener.onPostEvents(batch));
+    }
+    postEvents.clear();
+  }
+
   private void logDropEventsIfNecessary() {
+    metricsSource.droppedEventCounter().inc();
     long currentDropEvents = dropEventCounters.incrementAndGet();
     long lastDropEvents = lastDropEventCounters.get();
     // dropEvents may less than zero in such conditions:
@@ -156,19 +265,52 @@ public class AsyncQueueListener implements EventListenerPlugin {
     }
   }
 
+  private BlockingQueue<QueuedEvent> queueOf(BaseEvent baseEvent) {
+    if (queues.size() == 1) {
+      return queues.get(0);
+    }
+
+    NameIdentifier identifier = baseEvent.identifier();
+    int hash = identifier == null ? 0 : identifier.hashCode();
+    return queues.get(Math.floorMod(hash, queues.size()));
+  }
+
   private void enqueueEvent(BaseEvent baseEvent) {
     if (stopped.get()) {
       LOG.warn(
           "{} drop event: {}, since AsyncQueueListener is stopped",
           asyncQueueListenerName,
           baseEvent.getClass().getSimpleName());
+      metricsSource.droppedEventCounter().inc();
       return;
     }
 
-    if (queue.offer(baseEvent)) {
+    BlockingQueue<QueuedEvent> queue = queueOf(baseEvent);
+    QueuedEvent queuedEvent = new QueuedEvent(baseEvent);
+    if (queue.offer(queuedEvent)) {
       return;
     }
 
+    if (blockWhenFull) {
+      try {
+        if (queue.offer(queuedEvent, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+          return;
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
     logDropEventsIfNecessary();
   }
+
+  private static class QueuedEvent {
+    private final BaseEvent event;
+    private final long enqueueNanos;
+
+    private QueuedEvent(BaseEvent event) {
+      this.event = event;
+      this.enqueueNanos = System.nanoTime();
+    }
+  }
 }
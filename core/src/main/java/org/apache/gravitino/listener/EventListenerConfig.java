@@ -49,6 +49,48 @@ class EventListenerConfig extends Config {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(3);
 
+  static final ConfigEntry<Integer> DISPATCHER_THREADS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS)
+          .doc(
+              "The number of dispatcher threads of each async listener, events are sharded to the "
+                  + "threads by their identifiers")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1);
+
+  static final ConfigEntry<Integer> BATCH_SIZE =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_BATCH_SIZE)
+          .doc("The maximum number of post events dispatched to an async listener at once")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
+  static final ConfigEntry<String> BACKPRESSURE_POLICY =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_BACKPRESSURE_POLICY)
+          .doc(
+              "What to do when the queue of an async listener is full, `drop` drops the event, "
+                  + "`block` waits for the queue up to the block timeout before dropping it")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .stringConf()
+          .checkValue(
+              value ->
+                  AsyncQueueListener.BACKPRESSURE_DROP.equals(value)
+                      || AsyncQueueListener.BACKPRESSURE_BLOCK.equals(value),
+              "The backpressure policy must be `drop` or `block`")
+          .createWithDefault(AsyncQueueListener.BACKPRESSURE_DROP);
+
+  static final ConfigEntry<Long> BLOCK_TIMEOUT_MS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_BLOCK_TIMEOUT_MS)
+          .doc(
+              "The time in milliseconds to wait for the queue when the backpressure policy is "
+                  + "block")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100L);
+
   EventListenerConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
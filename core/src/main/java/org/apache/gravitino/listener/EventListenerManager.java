@@ -55,17 +55,31 @@ public class EventListenerManager {
   @VisibleForTesting static final String GRAVITINO_EVENT_LISTENER_CLASS = "class";
   static final String GRAVITINO_EVENT_LISTENER_QUEUE_CAPACITY = "queueCapacity";
   static final String GRAVITINO_EVENT_LISTENER_DISPATCHER_JOIN_SECONDS = "dispatcherJoinSeconds";
+  static final String GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS = "dispatcherThreads";
+  static final String GRAVITINO_EVENT_LISTENER_BATCH_SIZE = "batchSize";
+  static final String GRAVITINO_EVENT_LISTENER_BACKPRESSURE_POLICY = "backpressurePolicy";
+  static final String GRAVITINO_EVENT_LISTENER_BLOCK_TIMEOUT_MS = "blockTimeoutMs";
   private static final Splitter splitter = Splitter.on(",");
   private static final Joiner DOT = Joiner.on(".");
 
   private int queueCapacity;
   private int dispatcherJoinSeconds;
+  private int dispatcherThreads;
+  private int batchSize;
+  private boolean blockWhenFull;
+  private long blockTimeoutMs;
   private List<EventListenerPlugin> eventListeners;
 
   public void init(Map<String, String> properties) {
     EventListenerConfig config = new EventListenerConfig(properties);
     this.queueCapacity = config.get(EventListenerConfig.QUEUE_CAPACITY);
     this.dispatcherJoinSeconds = config.get(EventListenerConfig.DISPATCHER_JOIN_SECONDS);
+    this.dispatcherThreads = config.get(EventListenerConfig.DISPATCHER_THREADS);
+    this.batchSize = config.get(EventListenerConfig.BATCH_SIZE);
+    this.blockWhenFull =
+        AsyncQueueListener.BACKPRESSURE_BLOCK.equals(
+            config.get(EventListenerConfig.BACKPRESSURE_POLICY));
+    this.blockTimeoutMs = config.get(EventListenerConfig.BLOCK_TIMEOUT_MS);
 
     String eventListenerNames = config.get(EventListenerConfig.LISTENER_NAMES);
     Map<String, EventListenerPlugin> userEventListenerPlugins =
@@ -117,11 +131,9 @@ public class EventListenerManager {
                     case SYNC:
                       return new EventListenerPluginWrapper(listenerName, listener);
                     case ASYNC_ISOLATED:
-                      return new AsyncQueueListener(
+                      return createAsyncQueueListener(
                           ImmutableList.of(new EventListenerPluginWrapper(listenerName, listener)),
-                          listenerName,
-                          queueCapacity,
-                          dispatcherJoinSeconds);
+                          listenerName);
                     case ASYNC_SHARED:
                       sharedQueueListeners.add(
                           new EventListenerPluginWrapper(listenerName, listener));
@@ -134,13 +146,24 @@ public class EventListenerManager {
             .collect(Collectors.toList());
 
     if (!sharedQueueListeners.isEmpty()) {
-      listeners.add(
-          new AsyncQueueListener(
-              sharedQueueListeners, "default", queueCapacity, dispatcherJoinSeconds));
+      listeners.add(createAsyncQueueListener(sharedQueueListeners, "default"));
     }
     return listeners;
   }
 
+  private AsyncQueueListener createAsyncQueueListener(
+      List<EventListenerPlugin> listeners, String name) {
+    return new AsyncQueueListener(
+        listeners,
+        name,
+        queueCapacity,
+        dispatcherJoinSeconds,
+        dispatcherThreads,
+        batchSize,
+        blockWhenFull,
+        blockTimeoutMs);
+  }
+
   private EventListenerPlugin loadUserEventListenerPlugin(
       String listenerName, Map<String, String> config) {
     LOG.info("EventListener:{}, config:{}.", listenerName, config);
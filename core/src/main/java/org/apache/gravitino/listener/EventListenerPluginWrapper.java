@@ -20,6 +20,7 @@
 package org.apache.gravitino.listener;
 
 import com.google.common.annotations.VisibleForTesting;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.exceptions.ForbiddenException;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
@@ -37,10 +38,12 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
   private static final Logger LOG = LoggerFactory.getLogger(EventListenerPluginWrapper.class);
   private String listenerName;
   private EventListenerPlugin userEventListener;
+  private final boolean processesBatches;
 
   public EventListenerPluginWrapper(String listenerName, EventListenerPlugin userEventListener) {
     this.listenerName = listenerName;
     this.userEventListener = userEventListener;
+    this.processesBatches = overridesOnPostEvents(userEventListener);
   }
 
   @Override
@@ -74,6 +77,27 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
     }
   }
 
+  @Override
+  public void onPostEvents(List<Event> events) {
+    // Without a batch implementation, process the events one by one so a failed event doesn't
+    // drop the rest of the batch.
+    if (!processesBatches) {
+      events.forEach(this::onPostEvent);
+      return;
+    }
+
+    try {
+      userEventListener.onPostEvents(events);
+    } catch (Exception e) {
+      LOG.warn(
+          "Event listener {} process {} events failed, the first event is {}",
+          listenerName,
+          events.size(),
+          events.get(0).getClass().getSimpleName(),
+          e);
+    }
+  }
+
   @Override
   public void onPreEvent(PreEvent preEvent) {
     try {
@@ -99,6 +123,15 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
     return userEventListener;
   }
 
+  private static boolean overridesOnPostEvents(EventListenerPlugin eventListener) {
+    try {
+      return eventListener.getClass().getMethod("onPostEvents", List.class).getDeclaringClass()
+          != EventListenerPlugin.class;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
   private void printExceptionInEventProcess(String listenerName, BaseEvent baseEvent, Exception e) {
     LOG.warn(
         "Event listener {} process event {} failed,",
@@ -20,6 +20,7 @@
 package org.apache.gravitino.listener;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -42,6 +43,9 @@ import org.apache.gravitino.listener.api.event.DropFilesetPreEvent;
 import org.apache.gravitino.listener.api.event.GetFileLocationEvent;
 import org.apache.gravitino.listener.api.event.GetFileLocationFailureEvent;
 import org.apache.gravitino.listener.api.event.GetFileLocationPreEvent;
+import org.apache.gravitino.listener.api.event.GetFileLocationsEvent;
+import org.apache.gravitino.listener.api.event.GetFileLocationsFailureEvent;
+import org.apache.gravitino.listener.api.event.GetFileLocationsPreEvent;
 import org.apache.gravitino.listener.api.event.ListFilesetEvent;
 import org.apache.gravitino.listener.api.event.ListFilesetFailureEvent;
 import org.apache.gravitino.listener.api.event.ListFilesetPreEvent;
@@ -185,4 +189,30 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
       throw e;
     }
   }
+
+  @Override
+  public Map<String, String> getFileLocations(NameIdentifier ident, List<String> subPaths)
+      throws NoSuchFilesetException {
+    eventBus.dispatchEvent(
+        new GetFileLocationsPreEvent(PrincipalUtils.getCurrentUserName(), ident, subPaths));
+    try {
+      Map<String, String> actualFileLocations = dispatcher.getFileLocations(ident, subPaths);
+      // get the audit info from the thread local context
+      ImmutableMap.Builder<String, String> builder = ImmutableMap.builder();
+      CallerContext callerContext = CallerContext.CallerContextHolder.get();
+      if (callerContext != null && callerContext.context() != null) {
+        builder.putAll(callerContext.context());
+      }
+      // dispatch a single event for the whole batch
+      eventBus.dispatchEvent(
+          new GetFileLocationsEvent(
+              PrincipalUtils.getCurrentUserName(), ident, actualFileLocations, builder.build()));
+      return actualFileLocations;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new GetFileLocationsFailureEvent(
+              PrincipalUtils.getCurrentUserName(), ident, subPaths, e));
+      throw e;
+    }
+  }
 }
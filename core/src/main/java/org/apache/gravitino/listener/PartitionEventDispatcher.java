@@ -157,6 +157,39 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
     }
   }
 
+  @Override
+  public Partition[] listPartitions(
+      NameIdentifier ident, String filter, String pageToken, int limit) {
+    eventBus.dispatchEvent(new ListPartitionPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    try {
+      Partition[] listPartitions = dispatcher.listPartitions(ident, filter, pageToken, limit);
+      eventBus.dispatchEvent(new ListPartitionEvent(PrincipalUtils.getCurrentUserName(), ident));
+      return listPartitions;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListPartitionFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+      throw e;
+    }
+  }
+
+  @Override
+  public String[] listPartitionNames(
+      NameIdentifier ident, String filter, String pageToken, int limit) {
+    eventBus.dispatchEvent(
+        new ListPartitionNamesPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    try {
+      String[] listPartitionNames =
+          dispatcher.listPartitionNames(ident, filter, pageToken, limit);
+      eventBus.dispatchEvent(
+          new ListPartitionNamesEvent(PrincipalUtils.getCurrentUserName(), ident));
+      return listPartitionNames;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListPartitionNamesFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+      throw e;
+    }
+  }
+
   @Override
   public boolean partitionExists(NameIdentifier ident, String partitionName) {
     try {
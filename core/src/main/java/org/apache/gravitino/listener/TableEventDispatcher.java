@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.listener;
 
+import java.util.Arrays;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -107,6 +108,34 @@ public class TableEventDispatcher implements TableDispatcher {
     }
   }
 
+  @Override
+  public Table[] loadTables(Namespace namespace, String... tableNames)
+      throws NoSuchSchemaException {
+    String user = PrincipalUtils.getCurrentUserName();
+    Arrays.stream(tableNames)
+        .forEach(
+            name ->
+                eventBus.dispatchEvent(
+                    new LoadTablePreEvent(user, NameIdentifier.of(namespace, name))));
+    try {
+      Table[] tables = dispatcher.loadTables(namespace, tableNames);
+      Arrays.stream(tables)
+          .forEach(
+              table ->
+                  eventBus.dispatchEvent(
+                      new LoadTableEvent(
+                          user, NameIdentifier.of(namespace, table.name()), new TableInfo(table))));
+      return tables;
+    } catch (Exception e) {
+      Arrays.stream(tableNames)
+          .forEach(
+              name ->
+                  eventBus.dispatchEvent(
+                      new LoadTableFailureEvent(user, NameIdentifier.of(namespace, name), e)));
+      throw e;
+    }
+  }
+
   @Override
   public Table createTable(
       NameIdentifier ident,
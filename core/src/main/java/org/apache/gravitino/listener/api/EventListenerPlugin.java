@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.listener.api;
 
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.exceptions.ForbiddenException;
@@ -108,6 +109,21 @@ public interface EventListenerPlugin {
    */
   default void onPostEvent(Event postEvent) throws RuntimeException {}
 
+  /**
+   * Handle a batch of post-events, in the order they were generated.
+   *
+   * <p>This method is only called for the listeners in ASYNC mode, the default implementation
+   * processes the events one by one with {@link #onPostEvent(Event)}. Listeners that write to
+   * external systems can override it to write the whole batch at once.
+   *
+   * @param postEvents The post events to be processed.
+   * @throws RuntimeException Indicates issues encountered during event processing, this has no
+   *     affect to the operation.
+   */
+  default void onPostEvents(List<Event> postEvents) throws RuntimeException {
+    postEvents.forEach(this::onPostEvent);
+  }
+
   /**
    * Handle pre-events generated before the operation.
    *
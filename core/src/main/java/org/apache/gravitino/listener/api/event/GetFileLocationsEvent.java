@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.listener.api.event;
+
+import java.util.Map;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.annotation.DeveloperApi;
+
+/**
+ * Represents an event that occurs when getting a batch of actual file locations. A single event is
+ * generated for the whole batch.
+ */
+@DeveloperApi
+public final class GetFileLocationsEvent extends FilesetEvent {
+  private final Map<String, String> actualFileLocations;
+  private final Map<String, String> context;
+
+  /**
+   * Constructs a new {@code GetFileLocationsEvent}, recording the attempt to get a batch of file
+   * locations.
+   *
+   * @param user The user who initiated the get file locations.
+   * @param identifier The identifier of the fileset that was attempted to be accessed.
+   * @param actualFileLocations The map from each accessing sub path to its actual file location.
+   * @param context The audit context, this param can be null.
+   */
+  public GetFileLocationsEvent(
+      String user,
+      NameIdentifier identifier,
+      Map<String, String> actualFileLocations,
+      Map<String, String> context) {
+    super(user, identifier);
+    this.actualFileLocations = actualFileLocations;
+    this.context = context;
+  }
+
+  /**
+   * Get the actual file locations after processing of the get file locations operation.
+   *
+   * @return The map from each accessing sub path to its actual file location.
+   */
+  public Map<String, String> actualFileLocations() {
+    return actualFileLocations;
+  }
+
+  /**
+   * Get the audit context map of the get file locations operation.
+   *
+   * @return The audit context map.
+   */
+  public Map<String, String> context() {
+    return context;
+  }
+
+  /**
+   * Returns the type of operation.
+   *
+   * @return the operation type.
+   */
+  @Override
+  public OperationType operationType() {
+    return OperationType.GET_FILESET_LOCATIONS;
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.listener.api.event;
+
+import java.util.List;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.annotation.DeveloperApi;
+
+/**
+ * Represents an event that is generated when an attempt to get a batch of file locations from the
+ * system fails.
+ */
+@DeveloperApi
+public final class GetFileLocationsFailureEvent extends FilesetFailureEvent {
+  private final List<String> subPaths;
+
+  /**
+   * Constructs a new {@code GetFileLocationsFailureEvent}.
+   *
+   * @param user The user who initiated the get file locations.
+   * @param identifier The identifier of the fileset that was attempted to be accessed.
+   * @param subPaths The sub paths of the actual file locations which want to get.
+   * @param exception The exception that was thrown during the get file locations. This exception
+   *     is key to diagnosing the failure, providing insights into what went wrong during the
+   *     operation.
+   */
+  public GetFileLocationsFailureEvent(
+      String user, NameIdentifier identifier, List<String> subPaths, Exception exception) {
+    super(user, identifier, exception);
+    this.subPaths = subPaths;
+  }
+
+  /**
+   * Get the accessing sub paths of the get file locations operation.
+   *
+   * @return The accessing sub paths.
+   */
+  public List<String> subPaths() {
+    return subPaths;
+  }
+
+  /**
+   * Returns the type of operation.
+   *
+   * @return the operation type.
+   */
+  @Override
+  public OperationType operationType() {
+    return OperationType.GET_FILESET_LOCATIONS;
+  }
+}
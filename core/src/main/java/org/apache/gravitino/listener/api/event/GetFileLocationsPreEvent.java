@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.listener.api.event;
+
+import java.util.List;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.annotation.DeveloperApi;
+
+/** Represents an event that is triggered before attempting to get a batch of file locations. */
+@DeveloperApi
+public final class GetFileLocationsPreEvent extends FilesetPreEvent {
+  private final List<String> subPaths;
+
+  /**
+   * Constructs a new {@code GetFileLocationsPreEvent}, recording the intent to get a batch of file
+   * locations.
+   *
+   * @param user The user who initiated the get file locations operation.
+   * @param identifier The identifier of the fileset to be accessed.
+   * @param subPaths The accessing sub paths of the get file locations operation.
+   */
+  public GetFileLocationsPreEvent(String user, NameIdentifier identifier, List<String> subPaths) {
+    super(user, identifier);
+    this.subPaths = subPaths;
+  }
+
+  /**
+   * Get the accessing sub paths of the get file locations operation.
+   *
+   * @return The accessing sub paths.
+   */
+  public List<String> subPaths() {
+    return subPaths;
+  }
+
+  /**
+   * Returns the type of operation.
+   *
+   * @return the operation type.
+   */
+  @Override
+  public OperationType operationType() {
+    return OperationType.GET_FILESET_LOCATIONS;
+  }
+}
@@ -59,6 +59,7 @@ public enum OperationType {
   LIST_FILESET,
   LOAD_FILESET,
   GET_FILESET_LOCATION,
+  GET_FILESET_LOCATIONS,
 
   // Catalog operations
   CREATE_CATALOG,
@@ -20,8 +20,15 @@
 package org.apache.gravitino.lock;
 
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
+import static org.apache.gravitino.Configs.TREE_LOCK_CONTENTION_THRESHOLD_MS;
+import static org.apache.gravitino.Configs.TREE_LOCK_DEAD_LOCK_CHECK_INTERVAL_SECS;
+import static org.apache.gravitino.Configs.TREE_LOCK_HOLD_TIME_WARN_THRESHOLD_MS;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_MODE;
+import static org.apache.gravitino.Configs.TREE_LOCK_MODE_STRIPED;
+import static org.apache.gravitino.Configs.TREE_LOCK_STRIPES;
+import static org.apache.gravitino.Configs.TREE_LOCK_TOP_CONTENDED_IDENTIFIERS;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
@@ -35,7 +42,11 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.time.StopWatch;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Config;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.config.ConfigEntry;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.TreeLockMetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,6 +57,9 @@ import org.slf4j.LoggerFactory;
  *
  * <p>It has two main functions: 1. Create the tree lock. 2. Clean up the stale tree lock nodes
  * shared by all tree lock instances.
+ *
+ * <p>When {@code gravitino.lock.mode} is {@code striped}, the tree locks are backed by a fixed pool
+ * of locks instead, see {@link LockStripes}, and there are no tree lock nodes to clean up.
  */
 public class LockManager {
   private static final Logger LOG = LoggerFactory.getLogger(LockManager.class);
@@ -64,6 +78,17 @@ public class LockManager {
   // The interval in seconds to clean up the stale tree lock nodes.
   @VisibleForTesting long cleanTreeNodeIntervalInSecs;
 
+  // The lock pool of the striped lock mode, null if the tree lock mode is used.
+  @VisibleForTesting LockStripes lockStripes;
+
+  // A tree lock held longer than this is logged and counted as a slow hold.
+  @VisibleForTesting long holdTimeWarnThresholdMs;
+
+  // The interval in seconds to check the tree lock nodes held for too long.
+  @VisibleForTesting long deadLockCheckIntervalInSecs;
+
+  @VisibleForTesting TreeLockMetricsSource metricsSource;
+
   private void initParameters(Config config) {
     long maxNodesInMemory = config.get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     if (maxNodesInMemory <= 0) {
@@ -99,6 +124,29 @@ public class LockManager {
     }
 
     this.cleanTreeNodeIntervalInSecs = cleanIntervalInSecs;
+    this.holdTimeWarnThresholdMs = getOrDefault(config, TREE_LOCK_HOLD_TIME_WARN_THRESHOLD_MS);
+    this.deadLockCheckIntervalInSecs =
+        getOrDefault(config, TREE_LOCK_DEAD_LOCK_CHECK_INTERVAL_SECS);
+  }
+
+  // The optional tree lock items may be absent from the config, fall back to their defaults.
+  private static <T> T getOrDefault(Config config, ConfigEntry<T> entry) {
+    T value = config.get(entry);
+    return value != null ? value : entry.getDefaultValue();
+  }
+
+  private void initMetrics(Config config) {
+    this.metricsSource =
+        new TreeLockMetricsSource(
+            totalNodeCount::get,
+            getOrDefault(config, TREE_LOCK_CONTENTION_THRESHOLD_MS),
+            getOrDefault(config, TREE_LOCK_TOP_CONTENDED_IDENTIFIERS));
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // Add null check to avoid NPE when metrics system is not initialized in test environments
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
   }
 
   private void startDeadLockChecker() {
@@ -117,7 +165,7 @@ public class LockManager {
           LOG.debug("Finish to check the dead lock...");
         },
         0,
-        60,
+        deadLockCheckIntervalInSecs,
         TimeUnit.SECONDS);
   }
 
@@ -134,17 +182,17 @@ public class LockManager {
     node.getHoldingThreadTimestamp()
         .forEach(
             (threadIdentifier, ts) -> {
-              // If the thread is holding the lock for more than 30 seconds, we will log it.
-              if (System.currentTimeMillis() - ts > 30000) {
+              // If the thread is holding the lock for too long, we will log it.
+              if (System.currentTimeMillis() - ts > holdTimeWarnThresholdMs) {
                 LOG.warn(
-                    "Thread with identifier {} holds the lock node {} for more than 30s since {}, please "
-                        + "check if some dead lock or thread hang like io-connection hangs",
+                    "Thread with identifier {} holds the lock node {} for more than {}ms since {}, "
+                        + "please check if some dead lock or thread hang like io-connection hangs",
                     threadIdentifier,
                     node,
+                    holdTimeWarnThresholdMs,
                     // SimpleDateFormat is not thread-safe, so we should create a new instance for
                     // each time
-                    new SimpleDateFormat("yyyy-MM-dd HH:mm:ss")
-                        .format(node.getHoldingThreadTimestamp()));
+                    new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(ts));
               }
             });
   }
@@ -186,6 +234,15 @@ public class LockManager {
 
     // Init the parameters.
     initParameters(config);
+    initMetrics(config);
+
+    if (TREE_LOCK_MODE_STRIPED.equals(config.get(TREE_LOCK_MODE))) {
+      // The striped locks are never allocated or evicted, there is no tree node to clean up.
+      int stripes = config.get(TREE_LOCK_STRIPES);
+      this.lockStripes = new LockStripes(stripes);
+      LOG.info("Use the striped tree lock with {} lock stripes", stripes);
+      return;
+    }
 
     // Start tree lock cleaner.
     startNodeCleaner();
@@ -220,6 +277,9 @@ public class LockManager {
         if (treeNode.getReference() == 0) {
           parent.removeChild(treeNode.getName());
           long leftNodeCount = totalNodeCount.decrementAndGet();
+          if (metricsSource != null) {
+            metricsSource.recordEviction();
+          }
           if (LOG.isTraceEnabled()) {
             LOG.trace(
                 "Evict stale tree lock node '{}', current left nodes '{}'",
@@ -239,6 +299,10 @@ public class LockManager {
    */
   @SuppressWarnings("ReferenceEquality")
   public TreeLock createTreeLock(NameIdentifier identifier) {
+    if (lockStripes != null) {
+      return new StripedTreeLock(lockStripes, identifier, this);
+    }
+
     checkTreeNodeIsFull();
 
     List<TreeLockNode> treeLockNodes = Lists.newArrayList();
@@ -251,7 +315,7 @@ public class LockManager {
       // Otherwise, there will be an unexpected result when using NameIdentifier.of("/").
       if (identifier == ROOT) {
         // The lock tree root node
-        return new TreeLock(treeLockNodes, identifier);
+        return new TreeLock(treeLockNodes, identifier, this);
       }
 
       String[] levels = identifier.namespace().levels();
@@ -271,7 +335,7 @@ public class LockManager {
         lockNode = child;
       }
 
-      return new TreeLock(treeLockNodes, identifier);
+      return new TreeLock(treeLockNodes, identifier, this);
     } catch (Exception e) {
       LOG.error("Failed to create tree lock {}", identifier, e);
       // Release reference if fails.
@@ -283,6 +347,30 @@ public class LockManager {
     }
   }
 
+  void recordWait(NameIdentifier identifier, LockType lockType, long waitNanos) {
+    metricsSource.recordWait(identifier, levelOf(identifier), lockType, waitNanos);
+  }
+
+  void recordHold(NameIdentifier identifier, LockType lockType, long holdNanos) {
+    boolean slow = holdNanos > TimeUnit.MILLISECONDS.toNanos(holdTimeWarnThresholdMs);
+    if (slow) {
+      LOG.warn(
+          "The '{}' tree lock of identifier {} was held by {} for {}ms, more than {}ms",
+          lockType,
+          identifier,
+          Thread.currentThread(),
+          TimeUnit.NANOSECONDS.toMillis(holdNanos),
+          holdTimeWarnThresholdMs);
+    }
+    metricsSource.recordHold(levelOf(identifier), lockType, holdNanos, slow);
+  }
+
+  // The root is level 0, a metalake is level 1, a catalog is level 2 and so on.
+  @SuppressWarnings("ReferenceEquality")
+  private static int levelOf(NameIdentifier identifier) {
+    return identifier == ROOT ? 0 : identifier.namespace().length() + 1;
+  }
+
   /**
    * Check if the total node count is greater than the maxTreeNodeInMemory, if so, we should throw
    * an exception.
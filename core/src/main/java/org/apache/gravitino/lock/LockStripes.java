@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.StampedLock;
+import org.apache.gravitino.NameIdentifier;
+
+/**
+ * LockStripes is a fixed pool of {@link StampedLock}s backing the {@code striped} tree lock mode.
+ * Every path component of a name identifier is hashed, together with its parents, to one lock of
+ * the pool, so locking an identifier allocates no tree node and there is nothing to clean up.
+ *
+ * <p>{@link StampedLock} is not reentrant, so the pool tracks the stripes held by each thread: a
+ * nested lock on a stripe the thread already holds only increases a hold count. Nested locks are
+ * common, for example loading a catalog while holding the lock of one of its schemas, and two
+ * unrelated identifiers may be hashed to the same stripe.
+ *
+ * <p>The stripes of one tree lock are locked in index order, but nested tree locks may lock a
+ * stripe lower than one the thread already holds. Two threads doing that can dead lock each other
+ * even if their identifiers are unrelated, because they share stripes. Such waits, and the upgrade
+ * of a read stripe to a write stripe, give up after a timeout with an {@link
+ * IllegalStateException} instead of waiting forever.
+ */
+class LockStripes {
+
+  // The time to wait for a stripe that may be part of a dead lock, a stripe lower than one the
+  // thread already holds or the upgrade of a stripe the thread is reading.
+  private static final long DEFAULT_ACQUIRE_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(30);
+
+  private static final int ROOT_HASH = 1;
+
+  private final StampedLock[] locks;
+  private final long acquireTimeoutMs;
+
+  private final ThreadLocal<Map<Integer, HeldStripe>> heldStripes =
+      ThreadLocal.withInitial(HashMap::new);
+
+  private static class HeldStripe {
+    private LockType lockType;
+    private long stamp;
+    private int holdCount = 1;
+
+    private HeldStripe(LockType lockType, long stamp) {
+      this.lockType = lockType;
+      this.stamp = stamp;
+    }
+  }
+
+  LockStripes(int size) {
+    this(size, DEFAULT_ACQUIRE_TIMEOUT_MS);
+  }
+
+  @VisibleForTesting
+  LockStripes(int size, long acquireTimeoutMs) {
+    Preconditions.checkArgument(size > 0, "The number of lock stripes must be positive");
+    this.acquireTimeoutMs = acquireTimeoutMs;
+    this.locks = new StampedLock[size];
+    for (int i = 0; i < size; i++) {
+      locks[i] = new StampedLock();
+    }
+  }
+
+  /**
+   * Returns the stripe of each path component of the identifier, from the root to the leaf.
+   *
+   * @param identifier The identifier to lock.
+   * @return The stripe indexes, the root first.
+   */
+  int[] stripesOf(NameIdentifier identifier) {
+    // Use reference equality like LockManager, NameIdentifier.of("/") is a child of the root.
+    if (identifier == LockManager.ROOT) {
+      return new int[] {indexOf(ROOT_HASH)};
+    }
+
+    String[] levels = identifier.namespace().levels();
+    int[] stripes = new int[levels.length + 2];
+    int hash = ROOT_HASH;
+    stripes[0] = indexOf(hash);
+    for (int i = 0; i < levels.length; i++) {
+      hash = 31 * hash + levels[i].hashCode();
+      stripes[i + 1] = indexOf(hash);
+    }
+    hash = 31 * hash + identifier.name().hashCode();
+    stripes[stripes.length - 1] = indexOf(hash);
+    return stripes;
+  }
+
+  /**
+   * Acquires the stripe for the current thread, or increases its hold count if the thread already
+   * holds it with the same or a stronger lock type.
+   *
+   * @throws IllegalStateException If the stripe may be part of a dead lock and isn't acquired in
+   *     time.
+   * @param stripe The stripe index.
+   * @param lockType The lock type.
+   */
+  void acquire(int stripe, LockType lockType) {
+    Map<Integer, HeldStripe> held = heldStripes.get();
+    HeldStripe heldStripe = held.get(stripe);
+    StampedLock lock = locks[stripe];
+
+    if (heldStripe == null) {
+      long stamp;
+      if (held.keySet().stream().anyMatch(heldIndex -> heldIndex > stripe)) {
+        // Out of the index order, another thread may be waiting for a stripe this thread holds.
+        stamp = lockWithTimeout(lock, lockType, stripe);
+      } else {
+        stamp = lockType == LockType.READ ? lock.readLock() : lock.writeLock();
+      }
+      held.put(stripe, new HeldStripe(lockType, stamp));
+      return;
+    }
+
+    if (heldStripe.lockType == LockType.READ && lockType == LockType.WRITE) {
+      // The thread reads the stripe for another identifier, the read lock is converted to a write
+      // lock once this thread is the only reader left. The stripe stays a write lock until the
+      // thread releases it completely.
+      heldStripe.stamp = upgrade(lock, heldStripe.stamp, stripe);
+      heldStripe.lockType = LockType.WRITE;
+    }
+    heldStripe.holdCount++;
+  }
+
+  /**
+   * Releases one hold of the stripe by the current thread, the lock is released with the last
+   * hold.
+   *
+   * @param stripe The stripe index.
+   */
+  void release(int stripe) {
+    Map<Integer, HeldStripe> held = heldStripes.get();
+    HeldStripe heldStripe = held.get(stripe);
+    Preconditions.checkState(
+        heldStripe != null, "Lock stripe %s is not held by the current thread", stripe);
+
+    if (--heldStripe.holdCount == 0) {
+      held.remove(stripe);
+      locks[stripe].unlock(heldStripe.stamp);
+    }
+  }
+
+  @VisibleForTesting
+  int size() {
+    return locks.length;
+  }
+
+  @VisibleForTesting
+  boolean isHeldByCurrentThread(int stripe) {
+    return heldStripes.get().containsKey(stripe);
+  }
+
+  private int indexOf(int hash) {
+    return Math.floorMod(hash ^ (hash >>> 16), locks.length);
+  }
+
+  private long lockWithTimeout(StampedLock lock, LockType lockType, int stripe) {
+    long stamp;
+    try {
+      stamp =
+          lockType == LockType.READ
+              ? lock.tryReadLock(acquireTimeoutMs, TimeUnit.MILLISECONDS)
+              : lock.tryWriteLock(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(
+          String.format("Interrupted while waiting for lock stripe %d", stripe), e);
+    }
+
+    if (stamp == 0L) {
+      throw new IllegalStateException(
+          String.format(
+              "Timed out waiting for lock stripe %d while holding other lock stripes, it may be a "
+                  + "dead lock between identifiers sharing lock stripes, consider increasing "
+                  + "gravitino.lock.stripes or using the tree lock mode",
+              stripe));
+    }
+    return stamp;
+  }
+
+  private long upgrade(StampedLock lock, long readStamp, int stripe) {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMs);
+    long parkNanos = 1_000;
+    while (true) {
+      long writeStamp = lock.tryConvertToWriteLock(readStamp);
+      if (writeStamp != 0L) {
+        return writeStamp;
+      }
+
+      if (System.nanoTime() > deadline) {
+        throw new IllegalStateException(
+            String.format(
+                "Timed out waiting for the other readers of lock stripe %d to upgrade it to a "
+                    + "write lock, it may be a dead lock between identifiers sharing lock "
+                    + "stripes, consider increasing gravitino.lock.stripes or using the tree lock "
+                    + "mode",
+                stripe));
+      }
+      LockSupport.parkNanos(parkNanos);
+      parkNanos = Math.min(parkNanos * 2, TimeUnit.MILLISECONDS.toNanos(10));
+    }
+  }
+}
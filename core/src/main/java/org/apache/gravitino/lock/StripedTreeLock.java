@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import org.apache.gravitino.NameIdentifier;
+
+/**
+ * StripedTreeLock is the tree lock of the {@code striped} lock mode. It keeps the semantics of
+ * {@link TreeLock}, the read lock for every parent of the identifier and the requested lock for
+ * the identifier itself, but the locks come from the shared {@link LockStripes} pool instead of a
+ * tree of lock nodes.
+ */
+class StripedTreeLock extends TreeLock {
+
+  private final LockStripes lockStripes;
+  // The stripes locked by this tree lock, in the order they were locked.
+  private final Deque<Integer> heldStripes = new ArrayDeque<>();
+  private boolean locked;
+
+  private LockType lockType;
+
+  StripedTreeLock(LockStripes lockStripes, NameIdentifier identifier, LockManager lockManager) {
+    super(identifier, lockManager);
+    this.lockStripes = lockStripes;
+  }
+
+  @Override
+  public void lock(LockType lockType) {
+    int[] path = lockStripes.stripesOf(identifier());
+    int leaf = path[path.length - 1];
+    this.locked = true;
+    this.lockType = lockType;
+    long startNanos = System.nanoTime();
+
+    // Lock the stripes in index order, so two tree locks sharing some stripes can't deadlock
+    // each other. A stripe shared by a parent and the leaf takes the lock type of the leaf.
+    for (int stripe : Arrays.stream(path).distinct().sorted().toArray()) {
+      try {
+        lockStripes.acquire(stripe, stripe == leaf ? lockType : LockType.READ);
+        heldStripes.push(stripe);
+      } catch (Exception e) {
+        LOG.error("Failed to lock stripe {} of identifier {}", stripe, identifier(), e);
+        unlock();
+        throw e;
+      }
+    }
+    onLocked(lockType, startNanos);
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace(
+          "Locked the striped tree lock, ident: {}, stripes: {}, lock type: {}",
+          identifier(),
+          heldStripes,
+          lockType);
+    }
+  }
+
+  @Override
+  public void unlock() {
+    if (!locked) {
+      throw new IllegalStateException("We must lock the tree lock before unlock it.");
+    }
+
+    while (!heldStripes.isEmpty()) {
+      lockStripes.release(heldStripes.pop());
+    }
+    onUnlocked(lockType);
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("Unlocked the striped tree lock, identifier: {}", identifier());
+    }
+  }
+}
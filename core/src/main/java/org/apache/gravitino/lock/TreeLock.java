@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.lock;
 
+import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
@@ -82,9 +83,48 @@ public class TreeLock {
   private final Deque<Pair<TreeLockNode, LockType>> heldLocks = new ConcurrentLinkedDeque<>();
   private LockType lockType;
 
+  // The lock manager to report the wait and hold time to, null if not reported.
+  private final LockManager lockManager;
+  // The time in nanoseconds the tree lock was acquired, 0 if it is not held.
+  private long lockedAtNanos;
+
   TreeLock(List<TreeLockNode> lockNodes, NameIdentifier identifier) {
+    this(lockNodes, identifier, null);
+  }
+
+  TreeLock(List<TreeLockNode> lockNodes, NameIdentifier identifier, LockManager lockManager) {
     this.lockNodes = lockNodes;
     this.identifier = identifier;
+    this.lockManager = lockManager;
+  }
+
+  // Used by the tree locks that don't lock tree nodes, see StripedTreeLock.
+  TreeLock(NameIdentifier identifier, LockManager lockManager) {
+    this(Collections.emptyList(), identifier, lockManager);
+  }
+
+  NameIdentifier identifier() {
+    return identifier;
+  }
+
+  void onLocked(LockType lockType, long startNanos) {
+    lockedAtNanos = System.nanoTime();
+    if (lockManager != null) {
+      lockManager.recordWait(identifier, lockType, lockedAtNanos - startNanos);
+    }
+  }
+
+  void onUnlocked(LockType lockType) {
+    if (lockedAtNanos == 0) {
+      // The tree lock failed to be acquired, there is no hold time.
+      return;
+    }
+
+    long holdNanos = System.nanoTime() - lockedAtNanos;
+    lockedAtNanos = 0;
+    if (lockManager != null) {
+      lockManager.recordHold(identifier, lockType, holdNanos);
+    }
   }
 
   /**
@@ -96,6 +136,7 @@ public class TreeLock {
    */
   public void lock(LockType lockType) {
     this.lockType = lockType;
+    long startNanos = System.nanoTime();
 
     int length = lockNodes.size();
     for (int i = 0; i < length; i++) {
@@ -128,6 +169,7 @@ public class TreeLock {
         throw e;
       }
     }
+    onLocked(lockType, startNanos);
 
     if (LOG.isTraceEnabled()) {
       LOG.trace(
@@ -161,6 +203,7 @@ public class TreeLock {
             System.currentTimeMillis() - holdStartTime);
       }
     }
+    onUnlocked(lockType);
 
     if (LOG.isTraceEnabled()) {
       LOG.trace(
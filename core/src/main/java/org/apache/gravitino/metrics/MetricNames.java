@@ -28,6 +28,43 @@ public class MetricNames {
       "entity-store.relation-datasource.idle-connections";
   public static final String ENTITY_STORE_RELATION_DATASOURCE_MAX_CONNECTIONS =
       "entity-store.relation-datasource.max-connections";
+  public static final String ENTITY_STORE_CACHE_HIT_COUNT = "entity-store.cache.hit-count";
+  public static final String ENTITY_STORE_CACHE_MISS_COUNT = "entity-store.cache.miss-count";
+  public static final String ENTITY_STORE_CACHE_EVICTION_COUNT =
+      "entity-store.cache.eviction-count";
+  public static final String ENTITY_STORE_CACHE_SIZE = "entity-store.cache.size";
+  // Formatted with the lock type and the level of the locked identifier.
+  public static final String TREE_LOCK_WAIT_TIME = "tree-lock.%s.level-%d.wait-time";
+  public static final String TREE_LOCK_HOLD_TIME = "tree-lock.%s.level-%d.hold-time";
+  public static final String TREE_LOCK_NODE_COUNT = "tree-lock.node-count";
+  public static final String TREE_LOCK_EVICTED_NODE_COUNT = "tree-lock.evicted-node-count";
+  public static final String TREE_LOCK_SLOW_HOLD_COUNT = "tree-lock.slow-hold-count";
+  public static final String TREE_LOCK_CONTENDED_COUNT = "tree-lock.contended-count";
+  public static final String TREE_LOCK_TOP_CONTENDED_IDENTIFIERS =
+      "tree-lock.top-contended-identifiers";
+  public static final String EVENT_LISTENER_QUEUE_DEPTH = "event-listener.queue-depth";
+  public static final String EVENT_LISTENER_DROPPED_EVENT_COUNT =
+      "event-listener.dropped-event-count";
+  public static final String EVENT_LISTENER_DISPATCH_LATENCY = "event-listener.dispatch-latency";
+  public static final String AUDIT_LOG_WRITTEN_COUNT = "audit-log.written-count";
+  public static final String AUDIT_LOG_DROPPED_COUNT = "audit-log.dropped-count";
+  public static final String AUDIT_LOG_QUEUE_SIZE = "audit-log.queue-size";
+  // Formatted with the Iceberg REST catalog name.
+  public static final String CATALOG_BULKHEAD_IN_FLIGHT = "catalog-bulkhead.%s.in-flight";
+  public static final String CATALOG_BULKHEAD_QUEUED = "catalog-bulkhead.%s.queued";
+  public static final String CATALOG_BULKHEAD_REJECTED_COUNT = "catalog-bulkhead.%s.rejected-count";
+  public static final String CLIENT_POOL_BORROW_WAIT_TIME = "client-pool.borrow-wait-time";
+  public static final String CLIENT_POOL_BORROW_TIMEOUT_COUNT = "client-pool.borrow-timeout-count";
+  public static final String CLIENT_POOL_BORROW_FAILURE_COUNT = "client-pool.borrow-failure-count";
+  public static final String CLIENT_POOL_ACTIVE_CLIENTS = "client-pool.active-clients";
+  public static final String CLIENT_POOL_IDLE_CLIENTS = "client-pool.idle-clients";
+  public static final String CLIENT_POOL_POOL_COUNT = "client-pool.pool-count";
+  public static final String CLIENT_POOL_RECONNECT_COUNT = "client-pool.reconnect-count";
+  public static final String METADATA_CACHE_HIT_COUNT = "metadata-cache.hit-count";
+  public static final String METADATA_CACHE_MISS_COUNT = "metadata-cache.miss-count";
+  public static final String METADATA_CACHE_HIT_RATE = "metadata-cache.hit-rate";
+  public static final String METADATA_CACHE_EVICTION_COUNT = "metadata-cache.eviction-count";
+  public static final String METADATA_CACHE_SIZE = "metadata-cache.size";
 
   private MetricNames() {}
 }
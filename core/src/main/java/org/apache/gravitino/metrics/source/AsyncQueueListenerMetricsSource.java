@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
+import java.util.function.Supplier;
+import org.apache.gravitino.metrics.MetricNames;
+
+/** Exposes the queue depth, the dropped events and the dispatch latency of an async listener. */
+public class AsyncQueueListenerMetricsSource extends MetricsSource {
+
+  private final Counter droppedEventCounter;
+  private final Timer dispatchLatencyTimer;
+
+  public AsyncQueueListenerMetricsSource(String listenerName, Supplier<Integer> queueDepth) {
+    super(listenerName);
+    registerGauge(MetricNames.EVENT_LISTENER_QUEUE_DEPTH, (Gauge<Integer>) queueDepth::get);
+    this.droppedEventCounter = getCounter(MetricNames.EVENT_LISTENER_DROPPED_EVENT_COUNT);
+    this.dispatchLatencyTimer = getTimer(MetricNames.EVENT_LISTENER_DISPATCH_LATENCY);
+  }
+
+  /**
+   * Returns the counter of the events dropped because the queue is full or the listener stopped.
+   *
+   * @return The dropped event counter.
+   */
+  public Counter droppedEventCounter() {
+    return droppedEventCounter;
+  }
+
+  /**
+   * Returns the timer of the time from an event being enqueued to it being dispatched.
+   *
+   * @return The dispatch latency timer.
+   */
+  public Timer dispatchLatencyTimer() {
+    return dispatchLatencyTimer;
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import java.util.function.Supplier;
+import org.apache.gravitino.metrics.MetricNames;
+
+/** Exposes the written and dropped records and the queue size of the async audit log writer. */
+public class AuditLogMetricsSource extends MetricsSource {
+
+  private final Counter writtenCounter;
+  private final Counter droppedCounter;
+
+  public AuditLogMetricsSource(Supplier<Integer> queueSize) {
+    super(MetricsSource.AUDIT_LOG_METRIC_NAME);
+    registerGauge(MetricNames.AUDIT_LOG_QUEUE_SIZE, (Gauge<Integer>) queueSize::get);
+    this.writtenCounter = getCounter(MetricNames.AUDIT_LOG_WRITTEN_COUNT);
+    this.droppedCounter = getCounter(MetricNames.AUDIT_LOG_DROPPED_COUNT);
+  }
+
+  /**
+   * Returns the counter of the audit records written to the file.
+   *
+   * @return The written record counter.
+   */
+  public Counter writtenCounter() {
+    return writtenCounter;
+  }
+
+  /**
+   * Returns the counter of the audit records dropped because the queue is full or they fail to
+   * be written.
+   *
+   * @return The dropped record counter.
+   */
+  public Counter droppedCounter() {
+    return droppedCounter;
+  }
+}
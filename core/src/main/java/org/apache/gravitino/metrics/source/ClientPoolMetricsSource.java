@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * Exposes the borrow wait time, the active and idle clients, the reconnects, the borrow timeouts
+ * and the borrow failures of the client pools of a catalog, like the per-user Hive Metastore client
+ * pools or the JDBC connection pool.
+ */
+public class ClientPoolMetricsSource extends MetricsSource {
+
+  private final Timer borrowWaitTimer;
+  private final Counter borrowTimeoutCounter;
+  private final Counter borrowFailureCounter;
+  private final Counter reconnectCounter;
+
+  /**
+   * Creates the metrics source of the client pools of a catalog.
+   *
+   * @param name The metrics source name, should be unique for each catalog.
+   * @param activeClients The number of the clients lent out by the pools.
+   * @param idleClients The number of the clients idle in the pools.
+   * @param pools The number of the pools, like one pool per user.
+   */
+  public ClientPoolMetricsSource(
+      String name,
+      Supplier<Integer> activeClients,
+      Supplier<Integer> idleClients,
+      Supplier<Integer> pools) {
+    super(name);
+    registerGauge(MetricNames.CLIENT_POOL_ACTIVE_CLIENTS, (Gauge<Integer>) activeClients::get);
+    registerGauge(MetricNames.CLIENT_POOL_IDLE_CLIENTS, (Gauge<Integer>) idleClients::get);
+    registerGauge(MetricNames.CLIENT_POOL_POOL_COUNT, (Gauge<Integer>) pools::get);
+    this.borrowWaitTimer = getTimer(MetricNames.CLIENT_POOL_BORROW_WAIT_TIME);
+    this.borrowTimeoutCounter = getCounter(MetricNames.CLIENT_POOL_BORROW_TIMEOUT_COUNT);
+    this.borrowFailureCounter = getCounter(MetricNames.CLIENT_POOL_BORROW_FAILURE_COUNT);
+    this.reconnectCounter = getCounter(MetricNames.CLIENT_POOL_RECONNECT_COUNT);
+  }
+
+  public void recordBorrowWait(long waitNanos) {
+    borrowWaitTimer.update(waitNanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void incBorrowTimeout() {
+    borrowTimeoutCounter.inc();
+  }
+
+  public void incBorrowFailure() {
+    borrowFailureCounter.inc();
+  }
+
+  public void incReconnect() {
+    reconnectCounter.inc();
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Gauge;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.apache.gravitino.metrics.MetricNames;
+
+/** Exposes the hit and miss statistics of the entity store cache. */
+public class EntityStoreCacheMetricsSource extends MetricsSource {
+
+  public EntityStoreCacheMetricsSource(Cache<?, ?> cache) {
+    super(MetricsSource.ENTITY_STORE_CACHE_METRIC_NAME);
+    registerGauge(
+        MetricNames.ENTITY_STORE_CACHE_HIT_COUNT, (Gauge<Long>) () -> cache.stats().hitCount());
+    registerGauge(
+        MetricNames.ENTITY_STORE_CACHE_MISS_COUNT, (Gauge<Long>) () -> cache.stats().missCount());
+    registerGauge(
+        MetricNames.ENTITY_STORE_CACHE_EVICTION_COUNT,
+        (Gauge<Long>) () -> cache.stats().evictionCount());
+    registerGauge(MetricNames.ENTITY_STORE_CACHE_SIZE, (Gauge<Long>) cache::estimatedSize);
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import java.util.function.Supplier;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * Exposes the in-flight, queued and rejected requests of each catalog in the Iceberg REST server.
+ */
+public class IcebergCatalogBulkheadMetricsSource extends MetricsSource {
+
+  public IcebergCatalogBulkheadMetricsSource() {
+    super(MetricsSource.ICEBERG_REST_CATALOG_BULKHEAD_METRIC_NAME);
+  }
+
+  /**
+   * Registers the gauges of a catalog, should be called once for each catalog.
+   *
+   * @param catalogName The catalog name.
+   * @param inFlight The number of the requests being processed for the catalog.
+   * @param queued The number of the requests waiting for a permit of the catalog.
+   * @return The counter of the requests rejected for the catalog.
+   */
+  public Counter registerCatalog(
+      String catalogName, Supplier<Integer> inFlight, Supplier<Integer> queued) {
+    registerGauge(
+        String.format(MetricNames.CATALOG_BULKHEAD_IN_FLIGHT, catalogName),
+        (Gauge<Integer>) inFlight::get);
+    registerGauge(
+        String.format(MetricNames.CATALOG_BULKHEAD_QUEUED, catalogName),
+        (Gauge<Integer>) queued::get);
+    return getCounter(String.format(MetricNames.CATALOG_BULKHEAD_REJECTED_COUNT, catalogName));
+  }
+}
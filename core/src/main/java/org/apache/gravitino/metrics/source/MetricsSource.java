@@ -41,6 +41,19 @@ public abstract class MetricsSource {
   public static final String ICEBERG_REST_SERVER_METRIC_NAME = "iceberg-rest-server";
   public static final String GRAVITINO_SERVER_METRIC_NAME = "gravitino-server";
   public static final String JVM_METRIC_NAME = "jvm";
+  public static final String ENTITY_STORE_CACHE_METRIC_NAME = "entity-store-cache";
+  public static final String TREE_LOCK_METRIC_NAME = "tree-lock";
+  public static final String AUDIT_LOG_METRIC_NAME = "audit-log";
+  public static final String ICEBERG_REST_CATALOG_BULKHEAD_METRIC_NAME =
+      "iceberg-rest-catalog-bulkhead";
+  // Followed by the metalake and catalog names, like "hive-client-pool.metalake.catalog".
+  public static final String HIVE_CLIENT_POOL_METRIC_NAME = "hive-client-pool";
+  // Followed by the metalake and catalog names, like "jdbc-metadata-cache.metalake.catalog".
+  public static final String JDBC_METADATA_CACHE_METRIC_NAME = "jdbc-metadata-cache";
+  // Followed by the metalake and catalog names, like "jdbc-connection-pool.metalake.catalog".
+  public static final String JDBC_CONNECTION_POOL_METRIC_NAME = "jdbc-connection-pool";
+  // Followed by the metalake and catalog names, like "paimon-table-cache.metalake.catalog".
+  public static final String PAIMON_TABLE_CACHE_METRIC_NAME = "paimon-table-cache";
   private final MetricRegistry metricRegistry;
   private final String metricsSourceName;
   private final int timeSlidingWindowSeconds;
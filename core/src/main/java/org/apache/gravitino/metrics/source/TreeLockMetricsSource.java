@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * Exposes how long tree locks are waited for and held, per lock type and per level of the locked
+ * identifier, along with the tree lock node count and the most contended identifiers.
+ */
+public class TreeLockMetricsSource extends MetricsSource {
+
+  /** The deepest level with its own timers, deeper identifiers are reported with this level. */
+  public static final int MAX_LEVEL = 4;
+
+  // Bounds the memory used to count the contention of each identifier.
+  private static final int MAX_TRACKED_IDENTIFIERS = 10000;
+
+  private final Timer[][] waitTimers = new Timer[LockType.values().length][MAX_LEVEL + 1];
+  private final Timer[][] holdTimers = new Timer[LockType.values().length][MAX_LEVEL + 1];
+  private final Counter evictedNodeCounter;
+  private final Counter slowHoldCounter;
+  private final Counter contendedCounter;
+  private final Cache<NameIdentifier, LongAdder> contendedIdentifiers;
+  private final long contentionThresholdNanos;
+  private final int topContendedIdentifiers;
+
+  public TreeLockMetricsSource(
+      Supplier<Long> nodeCount, long contentionThresholdMs, int topContendedIdentifiers) {
+    super(MetricsSource.TREE_LOCK_METRIC_NAME);
+    this.contentionThresholdNanos = TimeUnit.MILLISECONDS.toNanos(contentionThresholdMs);
+    this.topContendedIdentifiers = topContendedIdentifiers;
+    this.contendedIdentifiers =
+        Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_IDENTIFIERS)
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .build();
+
+    for (LockType lockType : LockType.values()) {
+      String type = lockType.name().toLowerCase(Locale.ROOT);
+      for (int level = 0; level <= MAX_LEVEL; level++) {
+        waitTimers[lockType.ordinal()][level] =
+            getTimer(String.format(MetricNames.TREE_LOCK_WAIT_TIME, type, level));
+        holdTimers[lockType.ordinal()][level] =
+            getTimer(String.format(MetricNames.TREE_LOCK_HOLD_TIME, type, level));
+      }
+    }
+    this.evictedNodeCounter = getCounter(MetricNames.TREE_LOCK_EVICTED_NODE_COUNT);
+    this.slowHoldCounter = getCounter(MetricNames.TREE_LOCK_SLOW_HOLD_COUNT);
+    this.contendedCounter = getCounter(MetricNames.TREE_LOCK_CONTENDED_COUNT);
+    registerGauge(MetricNames.TREE_LOCK_NODE_COUNT, (Gauge<Long>) nodeCount::get);
+    registerGauge(
+        MetricNames.TREE_LOCK_TOP_CONTENDED_IDENTIFIERS,
+        (Gauge<Map<String, Long>>) this::topContendedIdentifiers);
+  }
+
+  /**
+   * Records the time a tree lock waited to be acquired.
+   *
+   * @param identifier The locked identifier.
+   * @param level The level of the locked identifier, 0 for the root.
+   * @param lockType The lock type of the identifier.
+   * @param waitNanos The wait time in nanoseconds.
+   */
+  public void recordWait(NameIdentifier identifier, int level, LockType lockType, long waitNanos) {
+    waitTimers[lockType.ordinal()][Math.min(level, MAX_LEVEL)].update(
+        waitNanos, TimeUnit.NANOSECONDS);
+    if (waitNanos > contentionThresholdNanos) {
+      contendedCounter.inc();
+      contendedIdentifiers.get(identifier, k -> new LongAdder()).increment();
+    }
+  }
+
+  /**
+   * Records the time a tree lock was held.
+   *
+   * @param level The level of the locked identifier, 0 for the root.
+   * @param lockType The lock type of the identifier.
+   * @param holdNanos The hold time in nanoseconds.
+   * @param slow Whether the hold time exceeds the warning threshold.
+   */
+  public void recordHold(int level, LockType lockType, long holdNanos, boolean slow) {
+    holdTimers[lockType.ordinal()][Math.min(level, MAX_LEVEL)].update(
+        holdNanos, TimeUnit.NANOSECONDS);
+    if (slow) {
+      slowHoldCounter.inc();
+    }
+  }
+
+  /** Records a tree lock node evicted by the cleaner. */
+  public void recordEviction() {
+    evictedNodeCounter.inc();
+  }
+
+  /**
+   * Returns the most contended identifiers and the number of times they were contended, the most
+   * contended first.
+   *
+   * @return The identifiers and their contention counts.
+   */
+  public Map<String, Long> topContendedIdentifiers() {
+    Map<String, Long> result = new LinkedHashMap<>();
+    contendedIdentifiers.asMap().entrySet().stream()
+        .sorted(
+            Comparator.comparingLong((Map.Entry<NameIdentifier, LongAdder> e) -> e.getValue().sum())
+                .reversed())
+        .limit(topContendedIdentifiers)
+        .forEach(e -> result.put(e.getKey().toString(), e.getValue().sum()));
+    return result;
+  }
+}
@@ -0,0 +1,359 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityAlreadyExistsException;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.HasIdentifier;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.SupportsRelationOperations;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.TagEntity;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.EntityStoreCacheMetricsSource;
+import org.apache.gravitino.tag.SupportsTagOperations;
+import org.apache.gravitino.utils.Executable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A write-through cache in front of another {@link EntityStore}. The results of {@code get},
+ * {@code exists} and {@code list} are served from memory, and every write issued through this
+ * store invalidates the changed entity, its descendants and the listings containing them.
+ *
+ * <p>Only the entities of the metadata tree (metalakes, catalogs, schemas, tables, filesets and
+ * topics) are cached. Users, groups, roles, tags and models are changed as a side effect of writes
+ * to other entities, so they are always read from the underlying store.
+ *
+ * <p>Note. The cache is local to this process, changes made by other Gravitino servers sharing the
+ * same backend become visible after the entries expire.
+ */
+public class CachedEntityStore
+    implements EntityStore, SupportsTagOperations, SupportsRelationOperations {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CachedEntityStore.class);
+
+  private static final Set<Entity.EntityType> CACHEABLE_ENTITY_TYPES =
+      ImmutableSet.of(
+          Entity.EntityType.METALAKE,
+          Entity.EntityType.CATALOG,
+          Entity.EntityType.SCHEMA,
+          Entity.EntityType.TABLE,
+          Entity.EntityType.FILESET,
+          Entity.EntityType.TOPIC);
+
+  private final EntityStore delegate;
+
+  // Bumped on every invalidation, a reader only keeps the value it loaded if no invalidation
+  // happened in the meantime, so that a concurrent write can't be shadowed by a stale value.
+  private final AtomicLong generation = new AtomicLong();
+
+  private Cache<EntityCacheKey, Object> cache;
+  private EntityStoreCacheMetricsSource metricsSource;
+
+  public CachedEntityStore(EntityStore delegate) {
+    Preconditions.checkArgument(delegate != null, "The underlying entity store cannot be null");
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void initialize(Config config) throws RuntimeException {
+    delegate.initialize(config);
+
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(config.get(Configs.ENTITY_STORE_CACHE_MAX_ENTRIES))
+            .weigher(CachedEntityStore::weigh)
+            .expireAfterWrite(
+                config.get(Configs.ENTITY_STORE_CACHE_EXPIRE_TIME_MS), TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // Add null check to avoid NPE when metrics system is not initialized in test environments
+    if (metricsSystem != null) {
+      this.metricsSource = new EntityStoreCacheMetricsSource(cache);
+      metricsSystem.register(metricsSource);
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Class<E> type, Entity.EntityType entityType) throws IOException {
+    // The three arguments variant of the underlying store may skip the high-cost fields, so it
+    // shares the cache entry with the variant that doesn't fetch all the fields.
+    return listThroughCache(
+        EntityCacheKey.ofList(namespace, entityType, false),
+        () -> delegate.list(namespace, type, entityType));
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Class<E> type, Entity.EntityType entityType, boolean allFields)
+      throws IOException {
+    return listThroughCache(
+        EntityCacheKey.ofList(namespace, entityType, allFields),
+        () -> delegate.list(namespace, type, entityType, allFields));
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Class<E> type, Entity.EntityType entityType, String afterName, int limit)
+      throws IOException {
+    // Pages are not cached, the underlying store serves them without listing all the entities.
+    return delegate.list(namespace, type, entityType, afterName, limit);
+  }
+
+  @Override
+  public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
+    if (CACHEABLE_ENTITY_TYPES.contains(entityType)
+        && cache.getIfPresent(EntityCacheKey.of(ident, entityType)) != null) {
+      return true;
+    }
+    return delegate.exists(ident, entityType);
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> void put(E e, boolean overwritten)
+      throws IOException, EntityAlreadyExistsException {
+    try {
+      delegate.put(e, overwritten);
+    } finally {
+      invalidate(e.nameIdentifier());
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<NameIdentifier> batchPut(
+      List<E> entities, boolean overwritten) throws IOException {
+    try {
+      return delegate.batchPut(entities, overwritten);
+    } finally {
+      entities.forEach(e -> invalidate(e.nameIdentifier()));
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> E update(
+      NameIdentifier ident, Class<E> type, Entity.EntityType entityType, Function<E, E> updater)
+      throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
+    E updated = null;
+    try {
+      updated = delegate.update(ident, type, entityType, updater);
+      return updated;
+    } finally {
+      // A rename changes the identifiers of all the descendants.
+      invalidate(ident);
+      if (updated != null && !updated.nameIdentifier().equals(ident)) {
+        invalidate(updated.nameIdentifier());
+      }
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <E extends Entity & HasIdentifier> E get(
+      NameIdentifier ident, Entity.EntityType entityType, Class<E> e)
+      throws NoSuchEntityException, IOException {
+    if (!CACHEABLE_ENTITY_TYPES.contains(entityType)) {
+      return delegate.get(ident, entityType, e);
+    }
+
+    EntityCacheKey key = EntityCacheKey.of(ident, entityType);
+    Object cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return (E) cached;
+    }
+
+    long current = generation.get();
+    E entity = delegate.get(ident, entityType, e);
+    cacheIfUnchanged(key, entity, current);
+    return entity;
+  }
+
+  @Override
+  public boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade)
+      throws IOException {
+    try {
+      return delegate.delete(ident, entityType, cascade);
+    } finally {
+      invalidate(ident);
+    }
+  }
+
+  @Override
+  public <R, E extends Exception> R executeInTransaction(Executable<R, E> executable)
+      throws E, IOException {
+    try {
+      return delegate.executeInTransaction(executable);
+    } finally {
+      // The writes issued in the transaction are unknown, drop everything.
+      generation.incrementAndGet();
+      cache.invalidateAll();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null && metricsSource != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+
+    delegate.close();
+  }
+
+  @Override
+  public SupportsTagOperations tagOperations() {
+    // Fail fast in the same way as the underlying store if it doesn't support tag operations.
+    delegate.tagOperations();
+    return this;
+  }
+
+  @Override
+  public SupportsRelationOperations relationOperations() {
+    // Fail fast in the same way as the underlying store if it doesn't support relation operations.
+    delegate.relationOperations();
+    return this;
+  }
+
+  @Override
+  public List<MetadataObject> listAssociatedMetadataObjectsForTag(NameIdentifier tagIdent)
+      throws IOException {
+    return delegate.tagOperations().listAssociatedMetadataObjectsForTag(tagIdent);
+  }
+
+  @Override
+  public List<TagEntity> listAssociatedTagsForMetadataObject(
+      NameIdentifier objectIdent, Entity.EntityType objectType)
+      throws NoSuchEntityException, IOException {
+    return delegate.tagOperations().listAssociatedTagsForMetadataObject(objectIdent, objectType);
+  }
+
+  @Override
+  public TagEntity getTagForMetadataObject(
+      NameIdentifier objectIdent, Entity.EntityType objectType, NameIdentifier tagIdent)
+      throws NoSuchEntityException, IOException {
+    return delegate.tagOperations().getTagForMetadataObject(objectIdent, objectType, tagIdent);
+  }
+
+  @Override
+  public List<TagEntity> associateTagsWithMetadataObject(
+      NameIdentifier objectIdent,
+      Entity.EntityType objectType,
+      NameIdentifier[] tagsToAdd,
+      NameIdentifier[] tagsToRemove)
+      throws NoSuchEntityException, EntityAlreadyExistsException, IOException {
+    return delegate
+        .tagOperations()
+        .associateTagsWithMetadataObject(objectIdent, objectType, tagsToAdd, tagsToRemove);
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> listEntitiesByRelation(
+      Type relType, NameIdentifier nameIdentifier, Entity.EntityType identType, boolean allFields)
+      throws IOException {
+    return delegate
+        .relationOperations()
+        .listEntitiesByRelation(relType, nameIdentifier, identType, allFields);
+  }
+
+  @Override
+  public void insertRelation(
+      Type relType,
+      NameIdentifier srcIdentifier,
+      Entity.EntityType srcType,
+      NameIdentifier dstIdentifier,
+      Entity.EntityType dstType,
+      boolean override)
+      throws IOException {
+    delegate
+        .relationOperations()
+        .insertRelation(relType, srcIdentifier, srcType, dstIdentifier, dstType, override);
+  }
+
+  @VisibleForTesting
+  Cache<EntityCacheKey, Object> cache() {
+    return cache;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <E extends Entity & HasIdentifier> List<E> listThroughCache(
+      EntityCacheKey key, ListLoader<E> loader) throws IOException {
+    if (!CACHEABLE_ENTITY_TYPES.contains(key.type())) {
+      return loader.load();
+    }
+
+    Object cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return (List<E>) cached;
+    }
+
+    long current = generation.get();
+    List<E> entities = ImmutableList.copyOf(loader.load());
+    cacheIfUnchanged(key, entities, current);
+    return entities;
+  }
+
+  private void cacheIfUnchanged(EntityCacheKey key, Object value, long loadedAt) {
+    cache.put(key, value);
+    // An invalidation may have raced with the load, the value might be stale in that case.
+    if (generation.get() != loadedAt) {
+      cache.invalidate(key);
+    }
+  }
+
+  private void invalidate(NameIdentifier ident) {
+    generation.incrementAndGet();
+    cache.asMap().keySet().removeIf(key -> key.isAffectedBy(ident));
+    LOG.debug("Invalidated the cached entities affected by {}", ident);
+  }
+
+  private static int weigh(EntityCacheKey key, Object value) {
+    return value instanceof List ? ((List<?>) value).size() + 1 : 1;
+  }
+
+  @FunctionalInterface
+  private interface ListLoader<E> {
+    List<E> load() throws IOException;
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage.cache;
+
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.Objects;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+
+/**
+ * The key of the {@link CachedEntityStore}. A key either points to a single entity, identified by
+ * its {@link NameIdentifier} and {@link Entity.EntityType}, or to the listing of one entity type
+ * under a {@link Namespace}.
+ */
+final class EntityCacheKey {
+
+  private final Namespace namespace;
+  // The name of the entity, null if the key points to a listing of the namespace.
+  private final String name;
+  private final Entity.EntityType type;
+  private final boolean allFields;
+
+  private EntityCacheKey(
+      Namespace namespace, String name, Entity.EntityType type, boolean allFields) {
+    Preconditions.checkArgument(namespace != null, "Namespace cannot be null");
+    Preconditions.checkArgument(type != null, "Entity type cannot be null");
+    this.namespace = namespace;
+    this.name = name;
+    this.type = type;
+    this.allFields = allFields;
+  }
+
+  static EntityCacheKey of(NameIdentifier ident, Entity.EntityType type) {
+    return new EntityCacheKey(ident.namespace(), ident.name(), type, true);
+  }
+
+  static EntityCacheKey ofList(Namespace namespace, Entity.EntityType type, boolean allFields) {
+    return new EntityCacheKey(namespace, null, type, allFields);
+  }
+
+  boolean isList() {
+    return name == null;
+  }
+
+  Namespace namespace() {
+    return namespace;
+  }
+
+  Entity.EntityType type() {
+    return type;
+  }
+
+  /**
+   * Checks whether this key is affected by a change of the entity identified by {@code ident}, that
+   * is, the key points to the entity itself, to one of its descendants, to the listing containing
+   * it or to a listing of one of its descendants.
+   *
+   * @param ident the name identifier of the changed entity.
+   * @return true if the cached value of this key should be invalidated.
+   */
+  boolean isAffectedBy(NameIdentifier ident) {
+    if (isList() && namespace.equals(ident.namespace())) {
+      return true;
+    }
+
+    String[] changed = levelsOf(ident);
+    String[] levels = isList() ? namespace.levels() : levelsOf(namespace, name);
+    return levels.length >= changed.length
+        && Arrays.equals(Arrays.copyOf(levels, changed.length), changed);
+  }
+
+  private static String[] levelsOf(NameIdentifier ident) {
+    return levelsOf(ident.namespace(), ident.name());
+  }
+
+  private static String[] levelsOf(Namespace namespace, String name) {
+    String[] levels = Arrays.copyOf(namespace.levels(), namespace.length() + 1);
+    levels[namespace.length()] = name;
+    return levels;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof EntityCacheKey)) {
+      return false;
+    }
+    EntityCacheKey that = (EntityCacheKey) o;
+    return allFields == that.allFields
+        && Objects.equals(namespace, that.namespace)
+        && Objects.equals(name, that.name)
+        && type == that.type;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(namespace, name, type, allFields);
+  }
+
+  @Override
+  public String toString() {
+    String target = isList() ? namespace + ".*" : NameIdentifier.of(namespace, name).toString();
+    return target + "(" + type + ")";
+  }
+}
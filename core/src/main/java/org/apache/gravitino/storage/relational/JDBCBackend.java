@@ -27,6 +27,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
@@ -53,6 +54,7 @@ import org.apache.gravitino.meta.UserEntity;
 import org.apache.gravitino.storage.relational.converters.SQLExceptionConverterFactory;
 import org.apache.gravitino.storage.relational.database.H2Database;
 import org.apache.gravitino.storage.relational.service.CatalogMetaService;
+import org.apache.gravitino.storage.relational.service.EntityIdCache;
 import org.apache.gravitino.storage.relational.service.FilesetMetaService;
 import org.apache.gravitino.storage.relational.service.GroupMetaService;
 import org.apache.gravitino.storage.relational.service.MetalakeMetaService;
@@ -93,6 +95,7 @@ public class JDBCBackend implements RelationalBackend {
 
     SqlSessionFactoryHelper.getInstance().init(config);
     SQLExceptionConverterFactory.initConverter(config);
+    EntityIdCache.getInstance().initialize(config);
   }
 
   @Override
@@ -130,6 +133,28 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Entity.EntityType entityType, String afterName, int limit)
+      throws IOException {
+    switch (entityType) {
+      case TAG:
+        return (List<E>)
+            TagMetaService.getInstance().listTagsByNamespace(namespace, afterName, limit);
+      case USER:
+        return (List<E>)
+            UserMetaService.getInstance().listUsersByNamespace(namespace, afterName, limit);
+      case ROLE:
+        return (List<E>)
+            RoleMetaService.getInstance().listRolesByNamespace(namespace, afterName, limit);
+      case MODEL:
+        return (List<E>)
+            ModelMetaService.getInstance().listModelsByNamespace(namespace, afterName, limit);
+      default:
+        return RelationalBackend.super.list(namespace, entityType, afterName, limit);
+    }
+  }
+
   @Override
   public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
     try {
@@ -178,6 +203,18 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<NameIdentifier> batchInsert(
+      List<E> entities, boolean overwritten) throws IOException {
+    if (!entities.isEmpty() && entities.stream().allMatch(e -> e instanceof TableEntity)) {
+      List<TableEntity> tableEntities =
+          entities.stream().map(e -> (TableEntity) e).collect(Collectors.toList());
+      return TableMetaService.getInstance().batchInsertTables(tableEntities, overwritten);
+    }
+
+    return RelationalBackend.super.batchInsert(entities, overwritten);
+  }
+
   @Override
   public <E extends Entity & HasIdentifier> E update(
       NameIdentifier ident, Entity.EntityType entityType, Function<E, E> updater)
@@ -378,6 +415,7 @@ public class JDBCBackend implements RelationalBackend {
   public void close() throws IOException {
     SqlSessionFactoryHelper.getInstance().close();
     SQLExceptionConverterFactory.close();
+    EntityIdCache.getInstance().invalidateAll();
 
     if (jdbcDatabase != null) {
       jdbcDatabase.close();
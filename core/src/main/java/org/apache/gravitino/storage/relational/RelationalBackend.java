@@ -20,8 +20,11 @@ package org.apache.gravitino.storage.relational;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
@@ -62,6 +65,33 @@ public interface RelationalBackend
       Namespace namespace, Entity.EntityType entityType, boolean allFields)
       throws NoSuchEntityException, IOException;
 
+  /**
+   * Lists one page of the entities associated with the given parent namespace and entityType,
+   * ordered by name, with the same fields as {@code list(namespace, entityType, false)}.
+   *
+   * <p>The default implementation lists all the entities and pages them in memory.
+   *
+   * @param namespace The parent namespace of these entities.
+   * @param entityType The type of these entities.
+   * @param afterName Only entities whose name sorts after it are returned, null to start from the
+   *     first entity.
+   * @param limit The maximum number of entities to return.
+   * @return The page of entities.
+   * @throws NoSuchEntityException If the corresponding parent entity of these list entities cannot
+   *     be found.
+   * @throws IOException If the store operation fails
+   */
+  default <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Entity.EntityType entityType, String afterName, int limit)
+      throws NoSuchEntityException, IOException {
+    List<E> entities = list(namespace, entityType, false);
+    return entities.stream()
+        .filter(e -> afterName == null || e.name().compareTo(afterName) > 0)
+        .sorted(Comparator.comparing(HasIdentifier::name))
+        .limit(limit)
+        .collect(Collectors.toList());
+  }
+
   /**
    * Checks the entity associated with the given identifier and entityType whether exists.
    *
@@ -83,6 +113,27 @@ public interface RelationalBackend
   <E extends Entity & HasIdentifier> void insert(E e, boolean overwritten)
       throws EntityAlreadyExistsException, IOException;
 
+  /**
+   * Stores a batch of entities, possibly overwriting the existing entities if specified.
+   *
+   * @param entities The entities which need be stored.
+   * @param overwritten If true, overwrites the existing values.
+   * @return The identifiers of the entities skipped because they already exist.
+   * @throws IOException If the store operation fails
+   */
+  default <E extends Entity & HasIdentifier> List<NameIdentifier> batchInsert(
+      List<E> entities, boolean overwritten) throws IOException {
+    List<NameIdentifier> conflicts = new ArrayList<>();
+    for (E e : entities) {
+      try {
+        insert(e, overwritten);
+      } catch (EntityAlreadyExistsException ex) {
+        conflicts.add(e.nameIdentifier());
+      }
+    }
+    return conflicts;
+  }
+
   /**
    * Updates the entity.
    *
@@ -20,6 +20,7 @@ package org.apache.gravitino.storage.relational;
 
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.util.List;
@@ -93,6 +94,18 @@ public class RelationalEntityStore
     return backend.list(namespace, entityType, allFields);
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace,
+      Class<E> type,
+      Entity.EntityType entityType,
+      String afterName,
+      int limit)
+      throws IOException {
+    Preconditions.checkArgument(limit > 0, "limit must be positive, but got %s", limit);
+    return backend.list(namespace, entityType, afterName, limit);
+  }
+
   @Override
   public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
     return backend.exists(ident, entityType);
@@ -104,6 +117,12 @@ public class RelationalEntityStore
     backend.insert(e, overwritten);
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<NameIdentifier> batchPut(
+      List<E> entities, boolean overwritten) throws IOException {
+    return backend.batchInsert(entities, overwritten);
+  }
+
   @Override
   public <E extends Entity & HasIdentifier> E update(
       NameIdentifier ident, Class<E> type, Entity.EntityType entityType, Function<E, E> updater)
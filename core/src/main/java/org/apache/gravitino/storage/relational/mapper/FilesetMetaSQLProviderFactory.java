@@ -70,6 +70,15 @@ public class FilesetMetaSQLProviderFactory {
     return getProvider().selectFilesetMetaBySchemaIdAndName(schemaId, name);
   }
 
+  public static String selectFilesetMetaByFullName(
+      @Param("metalakeName") String metalakeName,
+      @Param("catalogName") String catalogName,
+      @Param("schemaName") String schemaName,
+      @Param("filesetName") String filesetName) {
+    return getProvider()
+        .selectFilesetMetaByFullName(metalakeName, catalogName, schemaName, filesetName);
+  }
+
   public static String selectFilesetMetaById(@Param("filesetId") Long filesetId) {
     return getProvider().selectFilesetMetaById(filesetId);
   }
@@ -40,6 +40,14 @@ public interface ModelMetaMapper {
   @SelectProvider(type = ModelMetaSQLProviderFactory.class, method = "listModelPOsBySchemaId")
   List<ModelPO> listModelPOsBySchemaId(@Param("schemaId") Long schemaId);
 
+  @SelectProvider(
+      type = ModelMetaSQLProviderFactory.class,
+      method = "listModelPOsBySchemaIdAfterName")
+  List<ModelPO> listModelPOsBySchemaIdAfterName(
+      @Param("schemaId") Long schemaId,
+      @Param("afterName") String afterName,
+      @Param("limit") int limit);
+
   @SelectProvider(type = ModelMetaSQLProviderFactory.class, method = "listModelPOsByModelIds")
   List<ModelPO> listModelPOsByModelIds(@Param("modelIds") List<Long> modelIds);
 
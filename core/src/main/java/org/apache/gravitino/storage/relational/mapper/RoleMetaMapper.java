@@ -68,6 +68,14 @@ public interface RoleMetaMapper {
   @SelectProvider(type = RoleMetaSQLProviderFactory.class, method = "listRolePOsByMetalake")
   List<RolePO> listRolePOsByMetalake(@Param("metalakeName") String metalakeName);
 
+  @SelectProvider(
+      type = RoleMetaSQLProviderFactory.class,
+      method = "listRolePOsByMetalakeAfterName")
+  List<RolePO> listRolePOsByMetalakeAfterName(
+      @Param("metalakeName") String metalakeName,
+      @Param("afterName") String afterName,
+      @Param("limit") int limit);
+
   @InsertProvider(type = RoleMetaSQLProviderFactory.class, method = "insertRoleMeta")
   void insertRoleMeta(@Param("roleMeta") RolePO rolePO);
 
@@ -76,6 +76,13 @@ public class RoleMetaSQLProviderFactory {
     return getProvider().listRolePOsByMetalake(metalakeName);
   }
 
+  public static String listRolePOsByMetalakeAfterName(
+      @Param("metalakeName") String metalakeName,
+      @Param("afterName") String afterName,
+      @Param("limit") int limit) {
+    return getProvider().listRolePOsByMetalakeAfterName(metalakeName, afterName, limit);
+  }
+
   public static String insertRoleMeta(@Param("roleMeta") RolePO rolePO) {
     return getProvider().insertRoleMeta(rolePO);
   }
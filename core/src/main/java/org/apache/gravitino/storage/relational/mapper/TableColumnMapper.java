@@ -42,6 +42,11 @@ public interface TableColumnMapper {
   @UpdateProvider(type = TableColumnSQLProviderFactory.class, method = "softDeleteColumnsByTableId")
   Integer softDeleteColumnsByTableId(@Param("tableId") Long tableId);
 
+  @UpdateProvider(
+      type = TableColumnSQLProviderFactory.class,
+      method = "softDeleteColumnsByTableIds")
+  Integer softDeleteColumnsByTableIds(@Param("tableIds") List<Long> tableIds);
+
   @UpdateProvider(
       type = TableColumnSQLProviderFactory.class,
       method = "softDeleteColumnsByMetalakeId")
@@ -65,6 +65,10 @@ public class TableColumnSQLProviderFactory {
     return getProvider().softDeleteColumnsByTableId(tableId);
   }
 
+  public static String softDeleteColumnsByTableIds(@Param("tableIds") List<Long> tableIds) {
+    return getProvider().softDeleteColumnsByTableIds(tableIds);
+  }
+
   public static String deleteColumnPOsByLegacyTimeline(
       @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit) {
     return getProvider().deleteColumnPOsByLegacyTimeline(legacyTimeline, limit);
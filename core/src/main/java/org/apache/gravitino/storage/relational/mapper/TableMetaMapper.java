@@ -56,6 +56,19 @@ public interface TableMetaMapper {
   TablePO selectTableMetaBySchemaIdAndName(
       @Param("schemaId") Long schemaId, @Param("tableName") String name);
 
+  @SelectProvider(type = TableMetaSQLProviderFactory.class, method = "selectTableMetaByFullName")
+  TablePO selectTableMetaByFullName(
+      @Param("metalakeName") String metalakeName,
+      @Param("catalogName") String catalogName,
+      @Param("schemaName") String schemaName,
+      @Param("tableName") String tableName);
+
+  @SelectProvider(
+      type = TableMetaSQLProviderFactory.class,
+      method = "listTableNamesBySchemaIdAndNames")
+  List<String> listTableNamesBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("tableNames") List<String> tableNames);
+
   @SelectProvider(type = TableMetaSQLProviderFactory.class, method = "selectTableMetaById")
   TablePO selectTableMetaById(@Param("tableId") Long tableId);
 
@@ -67,6 +80,14 @@ public interface TableMetaMapper {
       method = "insertTableMetaOnDuplicateKeyUpdate")
   void insertTableMetaOnDuplicateKeyUpdate(@Param("tableMeta") TablePO tablePO);
 
+  @InsertProvider(type = TableMetaSQLProviderFactory.class, method = "batchInsertTableMetas")
+  void batchInsertTableMetas(@Param("tableMetas") List<TablePO> tablePOs);
+
+  @InsertProvider(
+      type = TableMetaSQLProviderFactory.class,
+      method = "batchInsertTableMetasOnDuplicateKeyUpdate")
+  void batchInsertTableMetasOnDuplicateKeyUpdate(@Param("tableMetas") List<TablePO> tablePOs);
+
   @UpdateProvider(type = TableMetaSQLProviderFactory.class, method = "updateTableMeta")
   Integer updateTableMeta(
       @Param("newTableMeta") TablePO newTablePO, @Param("oldTableMeta") TablePO oldTablePO);
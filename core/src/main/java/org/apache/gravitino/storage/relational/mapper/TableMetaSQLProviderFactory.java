@@ -69,6 +69,20 @@ public class TableMetaSQLProviderFactory {
     return getProvider().selectTableMetaBySchemaIdAndName(schemaId, name);
   }
 
+  public static String selectTableMetaByFullName(
+      @Param("metalakeName") String metalakeName,
+      @Param("catalogName") String catalogName,
+      @Param("schemaName") String schemaName,
+      @Param("tableName") String tableName) {
+    return getProvider()
+        .selectTableMetaByFullName(metalakeName, catalogName, schemaName, tableName);
+  }
+
+  public static String listTableNamesBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("tableNames") List<String> tableNames) {
+    return getProvider().listTableNamesBySchemaIdAndNames(schemaId, tableNames);
+  }
+
   public static String selectTableMetaById(@Param("tableId") Long tableId) {
     return getProvider().selectTableMetaById(tableId);
   }
@@ -81,6 +95,15 @@ public class TableMetaSQLProviderFactory {
     return getProvider().insertTableMetaOnDuplicateKeyUpdate(tablePO);
   }
 
+  public static String batchInsertTableMetas(@Param("tableMetas") List<TablePO> tablePOs) {
+    return getProvider().batchInsertTableMetas(tablePOs);
+  }
+
+  public static String batchInsertTableMetasOnDuplicateKeyUpdate(
+      @Param("tableMetas") List<TablePO> tablePOs) {
+    return getProvider().batchInsertTableMetasOnDuplicateKeyUpdate(tablePOs);
+  }
+
   public static String updateTableMeta(
       @Param("newTableMeta") TablePO newTablePO, @Param("oldTableMeta") TablePO oldTablePO) {
     return getProvider().updateTableMeta(newTablePO, oldTablePO);
@@ -33,6 +33,12 @@ public interface TagMetaMapper {
   @SelectProvider(type = TagMetaSQLProviderFactory.class, method = "listTagPOsByMetalake")
   List<TagPO> listTagPOsByMetalake(@Param("metalakeName") String metalakeName);
 
+  @SelectProvider(type = TagMetaSQLProviderFactory.class, method = "listTagPOsByMetalakeAfterName")
+  List<TagPO> listTagPOsByMetalakeAfterName(
+      @Param("metalakeName") String metalakeName,
+      @Param("afterName") String afterName,
+      @Param("limit") int limit);
+
   @SelectProvider(
       type = TagMetaSQLProviderFactory.class,
       method = "listTagPOsByMetalakeAndTagNames")
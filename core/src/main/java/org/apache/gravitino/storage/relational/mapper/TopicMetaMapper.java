@@ -49,6 +49,13 @@ public interface TopicMetaMapper {
   TopicPO selectTopicMetaBySchemaIdAndName(
       @Param("schemaId") Long schemaId, @Param("topicName") String topicName);
 
+  @SelectProvider(type = TopicMetaSQLProviderFactory.class, method = "selectTopicMetaByFullName")
+  TopicPO selectTopicMetaByFullName(
+      @Param("metalakeName") String metalakeName,
+      @Param("catalogName") String catalogName,
+      @Param("schemaName") String schemaName,
+      @Param("topicName") String topicName);
+
   @SelectProvider(type = TopicMetaSQLProviderFactory.class, method = "selectTopicMetaById")
   TopicPO selectTopicMetaById(@Param("topicId") Long topicId);
 
@@ -73,6 +73,15 @@ public class TopicMetaSQLProviderFactory {
     return getProvider().selectTopicMetaBySchemaIdAndName(schemaId, topicName);
   }
 
+  public static String selectTopicMetaByFullName(
+      @Param("metalakeName") String metalakeName,
+      @Param("catalogName") String catalogName,
+      @Param("schemaName") String schemaName,
+      @Param("topicName") String topicName) {
+    return getProvider()
+        .selectTopicMetaByFullName(metalakeName, catalogName, schemaName, topicName);
+  }
+
   public static String selectTopicMetaById(@Param("topicId") Long topicId) {
     return getProvider().selectTopicMetaById(topicId);
   }
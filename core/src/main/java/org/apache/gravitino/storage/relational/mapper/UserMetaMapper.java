@@ -58,6 +58,14 @@ public interface UserMetaMapper {
   @SelectProvider(type = UserMetaSQLProviderFactory.class, method = "listUserPOsByMetalake")
   List<UserPO> listUserPOsByMetalake(@Param("metalakeName") String metalakeName);
 
+  @SelectProvider(
+      type = UserMetaSQLProviderFactory.class,
+      method = "listUserPOsByMetalakeAfterName")
+  List<UserPO> listUserPOsByMetalakeAfterName(
+      @Param("metalakeName") String metalakeName,
+      @Param("afterName") String afterName,
+      @Param("limit") int limit);
+
   @SelectProvider(
       type = UserMetaSQLProviderFactory.class,
       method = "listExtendedUserPOsByMetalakeId")
@@ -89,6 +89,13 @@ public class UserMetaSQLProviderFactory {
     return getProvider().listUserPOsByMetalake(metalakeName);
   }
 
+  public static String listUserPOsByMetalakeAfterName(
+      @Param("metalakeName") String metalakeName,
+      @Param("afterName") String afterName,
+      @Param("limit") int limit) {
+    return getProvider().listUserPOsByMetalakeAfterName(metalakeName, afterName, limit);
+  }
+
   public static String listExtendedUserPOsByMetalakeId(@Param("metalakeId") Long metalakeId) {
     return getProvider().listExtendedUserPOsByMetalakeId(metalakeId);
   }
@@ -23,6 +23,9 @@ import static org.apache.gravitino.storage.relational.mapper.FilesetMetaMapper.M
 import static org.apache.gravitino.storage.relational.mapper.FilesetMetaMapper.VERSION_TABLE_NAME;
 
 import java.util.List;
+import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.MetalakeMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.SchemaMetaMapper;
 import org.apache.gravitino.storage.relational.po.FilesetPO;
 import org.apache.ibatis.annotations.Param;
 
@@ -90,6 +93,38 @@ public class FilesetMetaBaseSQLProvider {
         + " AND fm.deleted_at = 0 AND vi.deleted_at = 0";
   }
 
+  public String selectFilesetMetaByFullName(
+      @Param("metalakeName") String metalakeName,
+      @Param("catalogName") String catalogName,
+      @Param("schemaName") String schemaName,
+      @Param("filesetName") String filesetName) {
+    return "SELECT fm.fileset_id, fm.fileset_name, fm.metalake_id, fm.catalog_id, fm.schema_id,"
+        + " fm.type, fm.audit_info, fm.current_version, fm.last_version, fm.deleted_at,"
+        + " vi.id, vi.metalake_id as version_metalake_id, vi.catalog_id as version_catalog_id,"
+        + " vi.schema_id as version_schema_id, vi.fileset_id as version_fileset_id,"
+        + " vi.version, vi.fileset_comment, vi.properties, vi.storage_location,"
+        + " vi.deleted_at as version_deleted_at"
+        + " FROM "
+        + MetalakeMetaMapper.TABLE_NAME
+        + " mm INNER JOIN "
+        + CatalogMetaMapper.TABLE_NAME
+        + " cm ON mm.metalake_id = cm.metalake_id"
+        + " AND cm.catalog_name = #{catalogName} AND cm.deleted_at = 0"
+        + " INNER JOIN "
+        + SchemaMetaMapper.TABLE_NAME
+        + " sm ON cm.catalog_id = sm.catalog_id"
+        + " AND sm.schema_name = #{schemaName} AND sm.deleted_at = 0"
+        + " INNER JOIN "
+        + META_TABLE_NAME
+        + " fm ON sm.schema_id = fm.schema_id"
+        + " AND fm.fileset_name = #{filesetName} AND fm.deleted_at = 0"
+        + " INNER JOIN "
+        + VERSION_TABLE_NAME
+        + " vi ON fm.fileset_id = vi.fileset_id AND fm.current_version = vi.version"
+        + " AND vi.deleted_at = 0"
+        + " WHERE mm.metalake_name = #{metalakeName} AND mm.deleted_at = 0";
+  }
+
   public String selectFilesetMetaById(@Param("filesetId") Long filesetId) {
     return "SELECT fm.fileset_id, fm.fileset_name, fm.metalake_id, fm.catalog_id, fm.schema_id,"
         + " fm.type, fm.audit_info, fm.current_version, fm.last_version, fm.deleted_at,"
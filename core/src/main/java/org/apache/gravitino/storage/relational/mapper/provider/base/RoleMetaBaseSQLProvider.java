@@ -108,6 +108,27 @@ public class RoleMetaBaseSQLProvider {
         + " AND rt.deleted_at = 0 AND mt.deleted_at = 0";
   }
 
+  public String listRolePOsByMetalakeAfterName(
+      @Param("metalakeName") String metalakeName,
+      @Param("afterName") String afterName,
+      @Param("limit") int limit) {
+    return "<script>"
+        + "SELECT rt.role_id as roleId, rt.role_name as roleName,"
+        + " rt.metalake_id as metalakeId, rt.properties as properties,"
+        + " rt.audit_info as auditInfo, rt.current_version as currentVersion,"
+        + " rt.last_version as lastVersion, rt.deleted_at as deletedAt"
+        + " FROM "
+        + ROLE_TABLE_NAME
+        + " rt JOIN "
+        + MetalakeMetaMapper.TABLE_NAME
+        + " mt ON rt.metalake_id = mt.metalake_id"
+        + " WHERE mt.metalake_name = #{metalakeName}"
+        + " AND rt.deleted_at = 0 AND mt.deleted_at = 0"
+        + "<if test='afterName != null'> AND rt.role_name &gt; #{afterName}</if>"
+        + " ORDER BY rt.role_name LIMIT #{limit}"
+        + "</script>";
+  }
+
   public String insertRoleMeta(@Param("roleMeta") RolePO rolePO) {
     return "INSERT INTO "
         + ROLE_TABLE_NAME
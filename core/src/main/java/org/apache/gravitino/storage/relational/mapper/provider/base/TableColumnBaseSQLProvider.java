@@ -74,6 +74,20 @@ public class TableColumnBaseSQLProvider {
         + " WHERE table_id = #{tableId} AND deleted_at = 0";
   }
 
+  public String softDeleteColumnsByTableIds(@Param("tableIds") List<Long> tableIds) {
+    return "<script>"
+        + "UPDATE "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE deleted_at = 0 AND table_id IN ("
+        + "<foreach collection='tableIds' item='tableId' separator=','>"
+        + "#{tableId}"
+        + "</foreach>"
+        + ")"
+        + "</script>";
+  }
+
   public String softDeleteColumnsByMetalakeId(@Param("metalakeId") Long metalakeId) {
     return "UPDATE "
         + TableColumnMapper.COLUMN_TABLE_NAME
@@ -21,6 +21,9 @@ package org.apache.gravitino.storage.relational.mapper.provider.base;
 import static org.apache.gravitino.storage.relational.mapper.TableMetaMapper.TABLE_NAME;
 
 import java.util.List;
+import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.MetalakeMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.SchemaMetaMapper;
 import org.apache.gravitino.storage.relational.po.TablePO;
 import org.apache.ibatis.annotations.Param;
 
@@ -75,6 +78,47 @@ public class TableMetaBaseSQLProvider {
         + " WHERE schema_id = #{schemaId} AND table_name = #{tableName} AND deleted_at = 0";
   }
 
+  public String selectTableMetaByFullName(
+      @Param("metalakeName") String metalakeName,
+      @Param("catalogName") String catalogName,
+      @Param("schemaName") String schemaName,
+      @Param("tableName") String tableName) {
+    return "SELECT tm.table_id as tableId, tm.table_name as tableName,"
+        + " tm.metalake_id as metalakeId, tm.catalog_id as catalogId,"
+        + " tm.schema_id as schemaId, tm.audit_info as auditInfo,"
+        + " tm.current_version as currentVersion, tm.last_version as lastVersion,"
+        + " tm.deleted_at as deletedAt"
+        + " FROM "
+        + MetalakeMetaMapper.TABLE_NAME
+        + " mm INNER JOIN "
+        + CatalogMetaMapper.TABLE_NAME
+        + " cm ON mm.metalake_id = cm.metalake_id"
+        + " AND cm.catalog_name = #{catalogName} AND cm.deleted_at = 0"
+        + " INNER JOIN "
+        + SchemaMetaMapper.TABLE_NAME
+        + " sm ON cm.catalog_id = sm.catalog_id"
+        + " AND sm.schema_name = #{schemaName} AND sm.deleted_at = 0"
+        + " INNER JOIN "
+        + TABLE_NAME
+        + " tm ON sm.schema_id = tm.schema_id"
+        + " AND tm.table_name = #{tableName} AND tm.deleted_at = 0"
+        + " WHERE mm.metalake_name = #{metalakeName} AND mm.deleted_at = 0";
+  }
+
+  public String listTableNamesBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("tableNames") List<String> tableNames) {
+    return "<script>"
+        + "SELECT table_name FROM "
+        + TABLE_NAME
+        + " WHERE schema_id = #{schemaId} AND deleted_at = 0"
+        + " AND table_name IN ("
+        + "<foreach collection='tableNames' item='tableName' separator=','>"
+        + "#{tableName}"
+        + "</foreach>"
+        + ")"
+        + "</script>";
+  }
+
   public String selectTableMetaById(@Param("tableId") Long tableId) {
     return "SELECT table_id as tableId, table_name as tableName,"
         + " metalake_id as metalakeId, catalog_id as catalogId,"
@@ -133,6 +177,60 @@ public class TableMetaBaseSQLProvider {
         + " deleted_at = #{tableMeta.deletedAt}";
   }
 
+  public String batchInsertTableMetas(@Param("tableMetas") List<TablePO> tablePOs) {
+    return "<script>"
+        + "INSERT INTO "
+        + TABLE_NAME
+        + "(table_id, table_name, metalake_id,"
+        + " catalog_id, schema_id, audit_info,"
+        + " current_version, last_version, deleted_at)"
+        + " VALUES "
+        + "<foreach collection='tableMetas' item='item' separator=','>"
+        + "(#{item.tableId},"
+        + " #{item.tableName},"
+        + " #{item.metalakeId},"
+        + " #{item.catalogId},"
+        + " #{item.schemaId},"
+        + " #{item.auditInfo},"
+        + " #{item.currentVersion},"
+        + " #{item.lastVersion},"
+        + " #{item.deletedAt})"
+        + "</foreach>"
+        + "</script>";
+  }
+
+  public String batchInsertTableMetasOnDuplicateKeyUpdate(
+      @Param("tableMetas") List<TablePO> tablePOs) {
+    return "<script>"
+        + "INSERT INTO "
+        + TABLE_NAME
+        + "(table_id, table_name, metalake_id,"
+        + " catalog_id, schema_id, audit_info,"
+        + " current_version, last_version, deleted_at)"
+        + " VALUES "
+        + "<foreach collection='tableMetas' item='item' separator=','>"
+        + "(#{item.tableId},"
+        + " #{item.tableName},"
+        + " #{item.metalakeId},"
+        + " #{item.catalogId},"
+        + " #{item.schemaId},"
+        + " #{item.auditInfo},"
+        + " #{item.currentVersion},"
+        + " #{item.lastVersion},"
+        + " #{item.deletedAt})"
+        + "</foreach>"
+        + " ON DUPLICATE KEY UPDATE"
+        + " table_name = VALUES(table_name),"
+        + " metalake_id = VALUES(metalake_id),"
+        + " catalog_id = VALUES(catalog_id),"
+        + " schema_id = VALUES(schema_id),"
+        + " audit_info = VALUES(audit_info),"
+        + " current_version = VALUES(current_version),"
+        + " last_version = VALUES(last_version),"
+        + " deleted_at = VALUES(deleted_at)"
+        + "</script>";
+  }
+
   public String updateTableMeta(
       @Param("newTableMeta") TablePO newTablePO, @Param("oldTableMeta") TablePO oldTablePO) {
     return "UPDATE "
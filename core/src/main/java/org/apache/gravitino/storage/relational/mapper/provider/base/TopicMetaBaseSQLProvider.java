@@ -22,6 +22,9 @@ package org.apache.gravitino.storage.relational.mapper.provider.base;
 import static org.apache.gravitino.storage.relational.mapper.TopicMetaMapper.TABLE_NAME;
 
 import java.util.List;
+import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.MetalakeMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.SchemaMetaMapper;
 import org.apache.gravitino.storage.relational.po.TopicPO;
 import org.apache.ibatis.annotations.Param;
 
@@ -121,6 +124,33 @@ public class TopicMetaBaseSQLProvider {
         + " WHERE schema_id = #{schemaId} AND topic_name = #{topicName} AND deleted_at = 0";
   }
 
+  public String selectTopicMetaByFullName(
+      @Param("metalakeName") String metalakeName,
+      @Param("catalogName") String catalogName,
+      @Param("schemaName") String schemaName,
+      @Param("topicName") String topicName) {
+    return "SELECT tm.topic_id as topicId, tm.topic_name as topicName,"
+        + " tm.metalake_id as metalakeId, tm.catalog_id as catalogId, tm.schema_id as schemaId,"
+        + " tm.comment as comment, tm.properties as properties, tm.audit_info as auditInfo,"
+        + " tm.current_version as currentVersion, tm.last_version as lastVersion,"
+        + " tm.deleted_at as deletedAt"
+        + " FROM "
+        + MetalakeMetaMapper.TABLE_NAME
+        + " mm INNER JOIN "
+        + CatalogMetaMapper.TABLE_NAME
+        + " cm ON mm.metalake_id = cm.metalake_id"
+        + " AND cm.catalog_name = #{catalogName} AND cm.deleted_at = 0"
+        + " INNER JOIN "
+        + SchemaMetaMapper.TABLE_NAME
+        + " sm ON cm.catalog_id = sm.catalog_id"
+        + " AND sm.schema_name = #{schemaName} AND sm.deleted_at = 0"
+        + " INNER JOIN "
+        + TABLE_NAME
+        + " tm ON sm.schema_id = tm.schema_id"
+        + " AND tm.topic_name = #{topicName} AND tm.deleted_at = 0"
+        + " WHERE mm.metalake_name = #{metalakeName} AND mm.deleted_at = 0";
+  }
+
   public String selectTopicMetaById(@Param("topicId") Long topicId) {
     return "SELECT topic_id as topicId, topic_name as topicName,"
         + " metalake_id as metalakeId, catalog_id as catalogId, schema_id as schemaId,"
@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.storage.relational.mapper.provider.postgresql;
 
+import java.util.List;
 import org.apache.gravitino.storage.relational.mapper.TableColumnMapper;
 import org.apache.gravitino.storage.relational.mapper.provider.base.TableColumnBaseSQLProvider;
 import org.apache.ibatis.annotations.Param;
@@ -33,6 +34,21 @@ public class TableColumnPostgreSQLProvider extends TableColumnBaseSQLProvider {
         + " WHERE table_id = #{tableId} AND deleted_at = 0";
   }
 
+  @Override
+  public String softDeleteColumnsByTableIds(@Param("tableIds") List<Long> tableIds) {
+    return "<script>"
+        + "UPDATE "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " SET deleted_at = floor(extract(epoch from((current_timestamp -"
+        + " timestamp '1970-01-01 00:00:00')*1000)))"
+        + " WHERE deleted_at = 0 AND table_id IN ("
+        + "<foreach collection='tableIds' item='tableId' separator=','>"
+        + "#{tableId}"
+        + "</foreach>"
+        + ")"
+        + "</script>";
+  }
+
   @Override
   public String softDeleteColumnsByMetalakeId(@Param("metalakeId") Long metalakeId) {
     return "UPDATE "
@@ -20,6 +20,7 @@ package org.apache.gravitino.storage.relational.mapper.provider.postgresql;
 
 import static org.apache.gravitino.storage.relational.mapper.TableMetaMapper.TABLE_NAME;
 
+import java.util.List;
 import org.apache.gravitino.storage.relational.mapper.provider.base.TableMetaBaseSQLProvider;
 import org.apache.gravitino.storage.relational.po.TablePO;
 import org.apache.ibatis.annotations.Param;
@@ -54,6 +55,38 @@ public class TableMetaPostgreSQLProvider extends TableMetaBaseSQLProvider {
         + " deleted_at = #{tableMeta.deletedAt}";
   }
 
+  @Override
+  public String batchInsertTableMetasOnDuplicateKeyUpdate(List<TablePO> tablePOs) {
+    return "<script>"
+        + "INSERT INTO "
+        + TABLE_NAME
+        + "(table_id, table_name, metalake_id,"
+        + " catalog_id, schema_id, audit_info,"
+        + " current_version, last_version, deleted_at)"
+        + " VALUES "
+        + "<foreach collection='tableMetas' item='item' separator=','>"
+        + "(#{item.tableId},"
+        + " #{item.tableName},"
+        + " #{item.metalakeId},"
+        + " #{item.catalogId},"
+        + " #{item.schemaId},"
+        + " #{item.auditInfo},"
+        + " #{item.currentVersion},"
+        + " #{item.lastVersion},"
+        + " #{item.deletedAt})"
+        + "</foreach>"
+        + " ON CONFLICT (table_id) DO UPDATE SET "
+        + " table_name = EXCLUDED.table_name,"
+        + " metalake_id = EXCLUDED.metalake_id,"
+        + " catalog_id = EXCLUDED.catalog_id,"
+        + " schema_id = EXCLUDED.schema_id,"
+        + " audit_info = EXCLUDED.audit_info,"
+        + " current_version = EXCLUDED.current_version,"
+        + " last_version = EXCLUDED.last_version,"
+        + " deleted_at = EXCLUDED.deleted_at"
+        + "</script>";
+  }
+
   @Override
   public String softDeleteTableMetasByTableId(Long tableId) {
     return "UPDATE "
@@ -92,9 +92,16 @@ public class CatalogMetaService {
 
   public Long getCatalogIdByMetalakeIdAndName(Long metalakeId, String catalogName) {
     Long catalogId =
-        SessionUtils.getWithoutCommit(
-            CatalogMetaMapper.class,
-            mapper -> mapper.selectCatalogIdByMetalakeIdAndName(metalakeId, catalogName));
+        EntityIdCache.getInstance()
+            .getOrLoad(
+                Entity.EntityType.CATALOG,
+                metalakeId,
+                catalogName,
+                () ->
+                    SessionUtils.getWithoutCommit(
+                        CatalogMetaMapper.class,
+                        mapper ->
+                            mapper.selectCatalogIdByMetalakeIdAndName(metalakeId, catalogName)));
 
     if (catalogId == null) {
       throw new NoSuchEntityException(
@@ -146,6 +153,9 @@ public class CatalogMetaService {
               mapper.insertCatalogMeta(po);
             }
           });
+      if (overwrite) {
+        EntityIdCache.getInstance().invalidate(catalogEntity.id());
+      }
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.CATALOG, catalogEntity.nameIdentifier().toString());
@@ -188,6 +198,9 @@ public class CatalogMetaService {
     }
 
     if (updateResult > 0) {
+      if (!oldCatalogEntity.name().equals(newEntity.name())) {
+        EntityIdCache.getInstance().invalidate(newEntity.id());
+      }
       return newEntity;
     } else {
       throw new IOException("Failed to update the entity: " + identifier);
@@ -289,6 +302,7 @@ public class CatalogMetaService {
                       mapper.softDeleteTagMetadataObjectRelsByMetadataObject(
                           catalogId, MetadataObject.Type.CATALOG.name())));
     }
+    EntityIdCache.getInstance().invalidateWithChildren(catalogId);
 
     return true;
   }
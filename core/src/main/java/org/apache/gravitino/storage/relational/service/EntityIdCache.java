@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage.relational.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+
+/**
+ * The cache of the ids of metalakes, catalogs and schemas resolved by name. It is shared by {@link
+ * MetalakeMetaService}, {@link CatalogMetaService} and {@link SchemaMetaService}, so that resolving
+ * the parent ids of a deep namespace doesn't issue one query per level once the cache is warm.
+ *
+ * <p>A mapping is keyed by the id of its parent entity and its name, so renaming a parent entity
+ * doesn't affect the mappings of its children. The mappings of an entity are invalidated when it is
+ * renamed, overwritten or dropped.
+ *
+ * <p>Every invalidation bumps the version of the cache, a mapping loaded across a version change is
+ * dropped after use, so a load racing with a write can't leave a stale mapping behind.
+ */
+public class EntityIdCache {
+  private static final EntityIdCache INSTANCE = new EntityIdCache();
+
+  private final AtomicLong version = new AtomicLong();
+
+  // Null if the cache is disabled.
+  private volatile Cache<IdKey, Long> cache;
+
+  public static EntityIdCache getInstance() {
+    return INSTANCE;
+  }
+
+  private EntityIdCache() {}
+
+  public synchronized void initialize(Config config) {
+    Boolean enabled = config.get(Configs.ENTITY_RELATIONAL_ID_CACHE_ENABLED);
+    if (enabled == null || !enabled) {
+      this.cache = null;
+      return;
+    }
+
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(config.get(Configs.ENTITY_RELATIONAL_ID_CACHE_MAX_ENTRIES))
+            .expireAfterWrite(
+                config.get(Configs.ENTITY_RELATIONAL_ID_CACHE_EXPIRE_TIME_MS),
+                TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+  }
+
+  /**
+   * Get the id of the entity from the cache, or load it with the given loader if it is absent. A
+   * null id returned by the loader isn't cached.
+   *
+   * @param type the type of the entity, one of metalake, catalog and schema.
+   * @param parentId the id of the parent entity, null for a metalake.
+   * @param name the name of the entity.
+   * @param loader the loader to resolve the id from the backend.
+   * @return the id of the entity, null if the entity doesn't exist.
+   */
+  Long getOrLoad(Entity.EntityType type, Long parentId, String name, Supplier<Long> loader) {
+    Cache<IdKey, Long> current = cache;
+    if (current == null) {
+      return loader.get();
+    }
+
+    long loadedAt = version.get();
+    IdKey idKey = new IdKey(type, parentId, name);
+    Long id = current.get(idKey, key -> loader.get());
+    if (version.get() != loadedAt) {
+      current.invalidate(idKey);
+    }
+    return id;
+  }
+
+  /**
+   * Invalidate the mapping pointing to the entity with the given id, it should be called after the
+   * entity is renamed or overwritten.
+   *
+   * @param id the id of the entity.
+   */
+  void invalidate(Long id) {
+    Cache<IdKey, Long> current = cache;
+    if (current != null) {
+      version.incrementAndGet();
+      current.asMap().values().removeIf(id::equals);
+    }
+  }
+
+  /**
+   * Invalidate the mapping pointing to the entity with the given id, and the mappings of its
+   * children, it should be called after the entity is dropped.
+   *
+   * @param id the id of the dropped entity.
+   */
+  void invalidateWithChildren(Long id) {
+    Cache<IdKey, Long> current = cache;
+    if (current != null) {
+      version.incrementAndGet();
+      current.asMap().keySet().removeIf(key -> id.equals(key.parentId));
+      current.asMap().values().removeIf(id::equals);
+    }
+  }
+
+  public void invalidateAll() {
+    Cache<IdKey, Long> current = cache;
+    if (current != null) {
+      version.incrementAndGet();
+      current.invalidateAll();
+    }
+  }
+
+  @VisibleForTesting
+  Cache<IdKey, Long> cache() {
+    return cache;
+  }
+
+  static final class IdKey {
+    private final Entity.EntityType type;
+    private final Long parentId;
+    private final String name;
+
+    private IdKey(Entity.EntityType type, Long parentId, String name) {
+      this.type = type;
+      this.parentId = parentId;
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof IdKey)) {
+        return false;
+      }
+      IdKey that = (IdKey) o;
+      return type == that.type
+          && Objects.equals(parentId, that.parentId)
+          && Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(type, parentId, name);
+    }
+  }
+}
@@ -101,12 +101,7 @@ public class FilesetMetaService {
   public FilesetEntity getFilesetByIdentifier(NameIdentifier identifier) {
     NameIdentifierUtil.checkFileset(identifier);
 
-    String filesetName = identifier.name();
-
-    Long schemaId =
-        CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
-
-    FilesetPO filesetPO = getFilesetPOBySchemaIdAndName(schemaId, filesetName);
+    FilesetPO filesetPO = getFilesetPOByIdentifier(identifier);
 
     return POConverters.fromFilesetPO(filesetPO, identifier.namespace());
   }
@@ -165,12 +160,7 @@ public class FilesetMetaService {
       NameIdentifier identifier, Function<E, E> updater) throws IOException {
     NameIdentifierUtil.checkFileset(identifier);
 
-    String filesetName = identifier.name();
-
-    Long schemaId =
-        CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
-
-    FilesetPO oldFilesetPO = getFilesetPOBySchemaIdAndName(schemaId, filesetName);
+    FilesetPO oldFilesetPO = getFilesetPOByIdentifier(identifier);
     FilesetEntity oldFilesetEntity =
         POConverters.fromFilesetPO(oldFilesetPO, identifier.namespace());
     FilesetEntity newEntity = (FilesetEntity) updater.apply((E) oldFilesetEntity);
@@ -320,4 +310,24 @@ public class FilesetMetaService {
     builder.withCatalogId(parentEntityIds[1]);
     builder.withSchemaId(parentEntityIds[2]);
   }
+
+  private FilesetPO getFilesetPOByIdentifier(NameIdentifier identifier) {
+    String[] levels = identifier.namespace().levels();
+    FilesetPO filesetPO =
+        SessionUtils.getWithoutCommit(
+            FilesetMetaMapper.class,
+            mapper ->
+                mapper.selectFilesetMetaByFullName(
+                    levels[0], levels[1], levels[2], identifier.name()));
+
+    if (filesetPO == null) {
+      // Resolve the parents one by one to report which level of the hierarchy is missing.
+      CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
+      throw new NoSuchEntityException(
+          NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE,
+          Entity.EntityType.FILESET.name().toLowerCase(),
+          identifier.name());
+    }
+    return filesetPO;
+  }
 }
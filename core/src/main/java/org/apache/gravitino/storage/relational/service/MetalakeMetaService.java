@@ -79,8 +79,15 @@ public class MetalakeMetaService {
 
   public Long getMetalakeIdByName(String metalakeName) {
     Long metalakeId =
-        SessionUtils.getWithoutCommit(
-            MetalakeMetaMapper.class, mapper -> mapper.selectMetalakeIdMetaByName(metalakeName));
+        EntityIdCache.getInstance()
+            .getOrLoad(
+                Entity.EntityType.METALAKE,
+                null,
+                metalakeName,
+                () ->
+                    SessionUtils.getWithoutCommit(
+                        MetalakeMetaMapper.class,
+                        mapper -> mapper.selectMetalakeIdMetaByName(metalakeName)));
     if (metalakeId == null) {
       throw new NoSuchEntityException(
           NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE,
@@ -125,6 +132,9 @@ public class MetalakeMetaService {
               mapper.insertMetalakeMeta(po);
             }
           });
+      if (overwrite) {
+        EntityIdCache.getInstance().invalidate(baseMetalake.id());
+      }
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.METALAKE, baseMetalake.nameIdentifier().toString());
@@ -167,6 +177,9 @@ public class MetalakeMetaService {
     }
 
     if (updateResult > 0) {
+      if (!oldMetalakeEntity.name().equals(newMetalakeEntity.name())) {
+        EntityIdCache.getInstance().invalidate(newMetalakeEntity.id());
+      }
       return newMetalakeEntity;
     } else {
       throw new IOException("Failed to update the entity: " + ident);
@@ -309,6 +322,7 @@ public class MetalakeMetaService {
                     OwnerMetaMapper.class,
                     mapper -> mapper.softDeleteOwnerRelByMetalakeId(metalakeId)));
       }
+      EntityIdCache.getInstance().invalidateWithChildren(metalakeId);
     }
     return true;
   }
@@ -315,6 +315,23 @@ public class RoleMetaService {
         .collect(Collectors.toList());
   }
 
+  public List<RoleEntity> listRolesByNamespace(Namespace namespace, String afterName, int limit) {
+    AuthorizationUtils.checkRoleNamespace(namespace);
+    String metalakeName = namespace.level(0);
+
+    List<RolePO> rolePOs =
+        SessionUtils.getWithoutCommit(
+            RoleMetaMapper.class,
+            mapper -> mapper.listRolePOsByMetalakeAfterName(metalakeName, afterName, limit));
+
+    return rolePOs.stream()
+        .map(
+            po ->
+                POConverters.fromRolePO(
+                    po, Collections.emptyList(), AuthorizationUtils.ofRoleNamespace(metalakeName)))
+        .collect(Collectors.toList());
+  }
+
   public int deleteRoleMetasByLegacyTimeline(long legacyTimeline, int limit) {
     int[] roleDeletedCount = new int[] {0};
     int[] userRoleRelDeletedCount = new int[] {0};
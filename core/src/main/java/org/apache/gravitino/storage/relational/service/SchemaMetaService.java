@@ -86,9 +86,15 @@ public class SchemaMetaService {
 
   public Long getSchemaIdByCatalogIdAndName(Long catalogId, String schemaName) {
     Long schemaId =
-        SessionUtils.getWithoutCommit(
-            SchemaMetaMapper.class,
-            mapper -> mapper.selectSchemaIdByCatalogIdAndName(catalogId, schemaName));
+        EntityIdCache.getInstance()
+            .getOrLoad(
+                Entity.EntityType.SCHEMA,
+                catalogId,
+                schemaName,
+                () ->
+                    SessionUtils.getWithoutCommit(
+                        SchemaMetaMapper.class,
+                        mapper -> mapper.selectSchemaIdByCatalogIdAndName(catalogId, schemaName)));
 
     if (schemaId == null) {
       throw new NoSuchEntityException(
@@ -139,6 +145,9 @@ public class SchemaMetaService {
               mapper.insertSchemaMeta(po);
             }
           });
+      if (overwrite) {
+        EntityIdCache.getInstance().invalidate(schemaEntity.id());
+      }
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.SCHEMA, schemaEntity.nameIdentifier().toString());
@@ -179,6 +188,9 @@ public class SchemaMetaService {
     }
 
     if (updateResult > 0) {
+      if (!oldSchemaEntity.name().equals(newEntity.name())) {
+        EntityIdCache.getInstance().invalidate(newEntity.id());
+      }
       return newEntity;
     } else {
       throw new IOException("Failed to update the entity: " + identifier);
@@ -302,6 +314,7 @@ public class SchemaMetaService {
                         mapper.softDeleteTagMetadataObjectRelsByMetadataObject(
                             schemaId, MetadataObject.Type.SCHEMA.name())));
       }
+      EntityIdCache.getInstance().invalidate(schemaId);
     }
     return true;
   }
@@ -97,6 +97,18 @@ public class TableColumnMetaService {
         TableColumnMapper.class, mapper -> mapper.insertColumnPOs(columnPOs));
   }
 
+  void insertColumnPOs(List<ColumnPO> columnPOs) {
+    // insertColumnPOs will be done in batchInsertTables transaction, so we don't do commit here.
+    SessionUtils.doWithoutCommit(
+        TableColumnMapper.class, mapper -> mapper.insertColumnPOs(columnPOs));
+  }
+
+  void deleteColumnsByTableIds(List<Long> tableIds) {
+    // deleteColumns will be done in batchInsertTables transaction, so we don't do commit here.
+    SessionUtils.doWithoutCommit(
+        TableColumnMapper.class, mapper -> mapper.softDeleteColumnsByTableIds(tableIds));
+  }
+
   boolean deleteColumnsByTableId(Long tableId) {
     // deleteColumns will be done in deleteTable transaction, so we don't do commit here.
     Integer result =
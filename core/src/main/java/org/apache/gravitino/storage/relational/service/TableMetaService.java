@@ -19,13 +19,20 @@
 package org.apache.gravitino.storage.relational.service;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
@@ -43,11 +50,19 @@ import org.apache.gravitino.storage.relational.utils.POConverters;
 import org.apache.gravitino.storage.relational.utils.SessionUtils;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.NamespaceUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /** The service class for table metadata. It provides the basic database operations for table. */
 public class TableMetaService {
+  private static final Logger LOG = LoggerFactory.getLogger(TableMetaService.class);
+
   private static final TableMetaService INSTANCE = new TableMetaService();
 
+  // Keeps the number of bind parameters of a single multi-row statement well below the limits
+  // of the supported databases.
+  private static final int BATCH_INSERT_SIZE = 500;
+
   public static TableMetaService getInstance() {
     return INSTANCE;
   }
@@ -80,10 +95,7 @@ public class TableMetaService {
   public TableEntity getTableByIdentifier(NameIdentifier identifier) {
     NameIdentifierUtil.checkTable(identifier);
 
-    Long schemaId =
-        CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
-
-    TablePO tablePO = getTablePOBySchemaIdAndName(schemaId, identifier.name());
+    TablePO tablePO = getTablePOByIdentifier(identifier);
     List<ColumnPO> columnPOs =
         TableColumnMetaService.getInstance()
             .getColumnsByTableIdAndVersion(tablePO.getTableId(), tablePO.getCurrentVersion());
@@ -145,16 +157,129 @@ public class TableMetaService {
     }
   }
 
+  /**
+   * Inserts a batch of tables with multi-row statements in a single transaction. When {@code
+   * overwrite} is false, tables whose name already exists in the schema, or is repeated within the
+   * batch, are skipped and returned instead of failing the whole batch.
+   *
+   * @param tableEntities the tables to insert
+   * @param overwrite whether to overwrite the existing tables
+   * @return the identifiers of the skipped tables
+   * @throws IOException if the insert fails
+   */
+  public List<NameIdentifier> batchInsertTables(List<TableEntity> tableEntities, boolean overwrite)
+      throws IOException {
+    Map<Namespace, List<TableEntity>> tablesByNamespace =
+        tableEntities.stream()
+            .collect(
+                Collectors.groupingBy(
+                    TableEntity::namespace, LinkedHashMap::new, Collectors.toList()));
+
+    List<NameIdentifier> conflicts = Lists.newArrayList();
+    List<TableEntity> tablesToInsert = Lists.newArrayList();
+    List<TablePO> tablePOs = Lists.newArrayList();
+    List<ColumnPO> columnPOs = Lists.newArrayList();
+    for (Map.Entry<Namespace, List<TableEntity>> entry : tablesByNamespace.entrySet()) {
+      NamespaceUtil.checkTable(entry.getKey());
+      Long[] parentEntityIds =
+          CommonMetaService.getInstance().getParentEntityIdsByNamespace(entry.getKey());
+
+      Set<String> existingNames = Sets.newHashSet();
+      if (!overwrite) {
+        List<String> tableNames =
+            entry.getValue().stream().map(TableEntity::name).collect(Collectors.toList());
+        for (List<String> names : Lists.partition(tableNames, BATCH_INSERT_SIZE)) {
+          existingNames.addAll(
+              SessionUtils.getWithoutCommit(
+                  TableMetaMapper.class,
+                  mapper -> mapper.listTableNamesBySchemaIdAndNames(parentEntityIds[2], names)));
+        }
+      }
+
+      for (TableEntity tableEntity : entry.getValue()) {
+        if (!overwrite && !existingNames.add(tableEntity.name())) {
+          conflicts.add(tableEntity.nameIdentifier());
+          continue;
+        }
+
+        tablesToInsert.add(tableEntity);
+        TablePO.Builder builder =
+            TablePO.builder()
+                .withMetalakeId(parentEntityIds[0])
+                .withCatalogId(parentEntityIds[1])
+                .withSchemaId(parentEntityIds[2]);
+        TablePO tablePO = POConverters.initializeTablePOWithVersion(tableEntity, builder);
+        tablePOs.add(tablePO);
+        if (tableEntity.columns() != null && !tableEntity.columns().isEmpty()) {
+          columnPOs.addAll(
+              POConverters.initializeColumnPOs(
+                  tablePO, tableEntity.columns(), ColumnPO.ColumnOpType.CREATE));
+        }
+      }
+    }
+
+    if (tablePOs.isEmpty()) {
+      return conflicts;
+    }
+
+    try {
+      SessionUtils.doMultipleWithCommit(
+          () ->
+              Lists.partition(tablePOs, BATCH_INSERT_SIZE)
+                  .forEach(
+                      batch ->
+                          SessionUtils.doWithoutCommit(
+                              TableMetaMapper.class,
+                              mapper -> {
+                                if (overwrite) {
+                                  mapper.batchInsertTableMetasOnDuplicateKeyUpdate(batch);
+                                } else {
+                                  mapper.batchInsertTableMetas(batch);
+                                }
+                              })),
+          () -> {
+            // We need to delete the columns first if we want to overwrite the tables.
+            if (overwrite) {
+              List<Long> tableIds =
+                  tablePOs.stream().map(TablePO::getTableId).collect(Collectors.toList());
+              Lists.partition(tableIds, BATCH_INSERT_SIZE)
+                  .forEach(TableColumnMetaService.getInstance()::deleteColumnsByTableIds);
+            }
+          },
+          () ->
+              Lists.partition(columnPOs, BATCH_INSERT_SIZE)
+                  .forEach(TableColumnMetaService.getInstance()::insertColumnPOs));
+    } catch (RuntimeException re) {
+      try {
+        ExceptionUtils.checkSQLException(
+            re, Entity.EntityType.TABLE, tablesByNamespace.keySet().toString());
+      } catch (EntityAlreadyExistsException e) {
+        // A table was stored by others after the existence check and the whole batch was rolled
+        // back, store the tables one by one to skip only the conflicting ones.
+        LOG.warn(
+            "Failed to insert {} tables in batch, fall back to insert them one by one",
+            tablesToInsert.size(),
+            e);
+        for (TableEntity tableEntity : tablesToInsert) {
+          try {
+            insertTable(tableEntity, overwrite);
+          } catch (EntityAlreadyExistsException ex) {
+            conflicts.add(tableEntity.nameIdentifier());
+          }
+        }
+        return conflicts;
+      }
+      throw re;
+    }
+
+    return conflicts;
+  }
+
   public <E extends Entity & HasIdentifier> TableEntity updateTable(
       NameIdentifier identifier, Function<E, E> updater) throws IOException {
     NameIdentifierUtil.checkTable(identifier);
 
-    String tableName = identifier.name();
-
-    Long schemaId =
-        CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
-
-    TablePO oldTablePO = getTablePOBySchemaIdAndName(schemaId, tableName);
+    TablePO oldTablePO = getTablePOByIdentifier(identifier);
     List<ColumnPO> oldTableColumns =
         TableColumnMetaService.getInstance()
             .getColumnsByTableIdAndVersion(oldTablePO.getTableId(), oldTablePO.getCurrentVersion());
@@ -260,17 +385,22 @@ public class TableMetaService {
     builder.withSchemaId(parentEntityIds[2]);
   }
 
-  private TablePO getTablePOBySchemaIdAndName(Long schemaId, String tableName) {
+  private TablePO getTablePOByIdentifier(NameIdentifier identifier) {
+    String[] levels = identifier.namespace().levels();
     TablePO tablePO =
         SessionUtils.getWithoutCommit(
             TableMetaMapper.class,
-            mapper -> mapper.selectTableMetaBySchemaIdAndName(schemaId, tableName));
+            mapper ->
+                mapper.selectTableMetaByFullName(
+                    levels[0], levels[1], levels[2], identifier.name()));
 
     if (tablePO == null) {
+      // Resolve the parents one by one to report which level of the hierarchy is missing.
+      CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
       throw new NoSuchEntityException(
           NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE,
           Entity.EntityType.TABLE.name().toLowerCase(),
-          tableName);
+          identifier.name());
     }
     return tablePO;
   }
@@ -95,11 +95,7 @@ public class TopicMetaService {
       NameIdentifier ident, Function<E, E> updater) throws IOException {
     NameIdentifierUtil.checkTopic(ident);
 
-    String topicName = ident.name();
-
-    Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(ident.namespace());
-
-    TopicPO oldTopicPO = getTopicPOBySchemaIdAndName(schemaId, topicName);
+    TopicPO oldTopicPO = getTopicPOByIdentifier(ident);
     TopicEntity oldTopicEntity = POConverters.fromTopicPO(oldTopicPO, ident.namespace());
     TopicEntity newEntity = (TopicEntity) updater.apply((E) oldTopicEntity);
     Preconditions.checkArgument(
@@ -129,17 +125,22 @@ public class TopicMetaService {
     }
   }
 
-  private TopicPO getTopicPOBySchemaIdAndName(Long schemaId, String topicName) {
+  private TopicPO getTopicPOByIdentifier(NameIdentifier identifier) {
+    String[] levels = identifier.namespace().levels();
     TopicPO topicPO =
         SessionUtils.getWithoutCommit(
             TopicMetaMapper.class,
-            mapper -> mapper.selectTopicMetaBySchemaIdAndName(schemaId, topicName));
+            mapper ->
+                mapper.selectTopicMetaByFullName(
+                    levels[0], levels[1], levels[2], identifier.name()));
 
     if (topicPO == null) {
+      // Resolve the parents one by one to report which level of the hierarchy is missing.
+      CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
       throw new NoSuchEntityException(
           NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE,
           Entity.EntityType.TOPIC.name().toLowerCase(),
-          topicName);
+          identifier.name());
     }
     return topicPO;
   }
@@ -164,10 +165,7 @@ public class TopicMetaService {
   public TopicEntity getTopicByIdentifier(NameIdentifier identifier) {
     NameIdentifierUtil.checkTopic(identifier);
 
-    Long schemaId =
-        CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
-
-    TopicPO topicPO = getTopicPOBySchemaIdAndName(schemaId, identifier.name());
+    TopicPO topicPO = getTopicPOByIdentifier(identifier);
 
     return POConverters.fromTopicPO(topicPO, identifier.namespace());
   }
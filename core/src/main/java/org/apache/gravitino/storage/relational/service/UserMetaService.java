@@ -278,6 +278,22 @@ public class UserMetaService {
     }
   }
 
+  public List<UserEntity> listUsersByNamespace(Namespace namespace, String afterName, int limit) {
+    AuthorizationUtils.checkUserNamespace(namespace);
+    String metalakeName = namespace.level(0);
+
+    List<UserPO> userPOs =
+        SessionUtils.getWithoutCommit(
+            UserMetaMapper.class,
+            mapper -> mapper.listUserPOsByMetalakeAfterName(metalakeName, afterName, limit));
+    return userPOs.stream()
+        .map(
+            po ->
+                POConverters.fromUserPO(
+                    po, Collections.emptyList(), AuthorizationUtils.ofUserNamespace(metalakeName)))
+        .collect(Collectors.toList());
+  }
+
   public int deleteUserMetasByLegacyTimeline(long legacyTimeline, int limit) {
     int[] userDeletedCount = new int[] {0};
     int[] userRoleRelDeletedCount = new int[] {0};
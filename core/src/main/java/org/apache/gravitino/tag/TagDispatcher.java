@@ -42,6 +42,17 @@ public interface TagDispatcher {
    */
   Tag[] listTagsInfo(String metalake);
 
+  /**
+   * List one page of the tags with details, ordered by tag name.
+   *
+   * @param metalake The metalake name.
+   * @param afterName Only tags whose name sorts after it are returned, null to start from the
+   *     first tag.
+   * @param limit The maximum number of tags to return.
+   * @return The page of tags.
+   */
+  Tag[] listTagsInfo(String metalake, String afterName, int limit);
+
   /**
    * Get a tag by its name for the specific object.
    *
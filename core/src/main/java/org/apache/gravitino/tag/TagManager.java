@@ -100,6 +100,30 @@ public class TagManager implements TagDispatcher {
         });
   }
 
+  public Tag[] listTagsInfo(String metalake, String afterName, int limit) {
+    return TreeLockUtils.doWithTreeLock(
+        NameIdentifier.of(NamespaceUtil.ofTag(metalake).levels()),
+        LockType.READ,
+        () -> {
+          checkMetalake(NameIdentifier.of(metalake), entityStore);
+
+          try {
+            return entityStore
+                .list(
+                    NamespaceUtil.ofTag(metalake),
+                    TagEntity.class,
+                    Entity.EntityType.TAG,
+                    afterName,
+                    limit)
+                .stream()
+                .toArray(Tag[]::new);
+          } catch (IOException ioe) {
+            LOG.error("Failed to list tags under metalake {}", metalake, ioe);
+            throw new RuntimeException(ioe);
+          }
+        });
+  }
+
   public Tag createTag(String metalake, String name, String comment, Map<String, String> properties)
       throws TagAlreadyExistsException {
     Map<String, String> tagProperties = properties == null ? Collections.emptyMap() : properties;
@@ -22,6 +22,10 @@ import com.google.common.base.Preconditions;
 import java.io.Closeable;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import org.apache.gravitino.metrics.source.ClientPoolMetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,22 +33,64 @@ import org.slf4j.LoggerFactory;
 public abstract class ClientPoolImpl<C, E extends Exception>
     implements Closeable, ClientPool<C, E> {
   private static final Logger LOG = LoggerFactory.getLogger(ClientPoolImpl.class);
+  // A borrower waiting this long lets an elastic pool grow by one client.
+  private static final long GROW_AFTER_WAIT_MS = 100;
 
   private final int poolSize;
-  private final Deque<C> clients;
+  private final int maxPoolSize;
+  private final long borrowTimeoutMs;
+  private final long idleTimeoutMs;
+  private final Deque<IdleClient<C>> clients;
   private final Class<? extends E> reconnectExc;
   private final Object signal = new Object();
   private final boolean retryByDefault;
+  @Nullable private final ClientPoolMetricsSource metricsSource;
+  private final AtomicLong reconnectCount = new AtomicLong();
+  private final AtomicLong borrowTimeoutCount = new AtomicLong();
+  // The number of clients the pool may create now, grows from poolSize toward maxPoolSize while
+  // borrowers keep waiting and shrinks back as the extra clients are closed for being idle.
+  private volatile int capacity;
   private volatile int currentSize;
   private volatile boolean closed;
 
   protected ClientPoolImpl(int poolSize, Class<? extends E> reconnectExc, boolean retryByDefault) {
+    this(poolSize, poolSize, Long.MAX_VALUE, Long.MAX_VALUE, reconnectExc, retryByDefault, null);
+  }
+
+  /**
+   * Creates a client pool.
+   *
+   * @param poolSize The number of clients the pool keeps.
+   * @param maxPoolSize The number of clients the pool grows to while borrowers keep waiting, the
+   *     pool has a fixed size if it is not greater than poolSize.
+   * @param borrowTimeoutMs The maximum time to wait for a client before failing.
+   * @param idleTimeoutMs The time after which a client beyond poolSize is closed if idle.
+   * @param reconnectExc The exception type that means the client should reconnect.
+   * @param retryByDefault Whether to retry an action after reconnecting by default.
+   * @param metricsSource The metrics source to record the borrows and reconnects, or null.
+   */
+  protected ClientPoolImpl(
+      int poolSize,
+      int maxPoolSize,
+      long borrowTimeoutMs,
+      long idleTimeoutMs,
+      Class<? extends E> reconnectExc,
+      boolean retryByDefault,
+      @Nullable ClientPoolMetricsSource metricsSource) {
+    Preconditions.checkArgument(poolSize > 0, "Pool size must be positive");
+    Preconditions.checkArgument(borrowTimeoutMs > 0, "Borrow timeout must be positive");
+    Preconditions.checkArgument(idleTimeoutMs > 0, "Idle timeout must be positive");
     this.poolSize = poolSize;
+    this.maxPoolSize = Math.max(poolSize, maxPoolSize);
+    this.borrowTimeoutMs = borrowTimeoutMs;
+    this.idleTimeoutMs = idleTimeoutMs;
     this.reconnectExc = reconnectExc;
-    this.clients = new ArrayDeque<>(poolSize);
+    this.clients = new ArrayDeque<>(this.maxPoolSize);
+    this.capacity = poolSize;
     this.currentSize = 0;
     this.closed = false;
     this.retryByDefault = retryByDefault;
+    this.metricsSource = metricsSource;
   }
 
   @Override
@@ -60,6 +106,10 @@ public abstract class ClientPoolImpl<C, E extends Exception>
 
     } catch (Exception exc) {
       if (retry && isConnectionException(exc)) {
+        reconnectCount.incrementAndGet();
+        if (metricsSource != null) {
+          metricsSource.incReconnect();
+        }
         try {
           client = reconnect(client);
         } catch (Exception ignored) {
@@ -101,7 +151,7 @@ public abstract class ClientPoolImpl<C, E extends Exception>
         if (!clients.isEmpty()) {
           synchronized (this) {
             if (!clients.isEmpty()) {
-              C client = clients.removeFirst();
+              C client = clients.removeFirst().client;
               close(client);
               currentSize -= 1;
             }
@@ -123,39 +173,135 @@ public abstract class ClientPoolImpl<C, E extends Exception>
 
   private C get() throws InterruptedException {
     Preconditions.checkState(!closed, "Cannot get a client from a closed pool");
+    long start = System.nanoTime();
+    boolean grown = false;
     while (true) {
-      if (!clients.isEmpty() || currentSize < poolSize) {
+      if (!clients.isEmpty() || currentSize < capacity) {
         synchronized (this) {
           if (!clients.isEmpty()) {
-            return clients.removeFirst();
-          } else if (currentSize < poolSize) {
+            recordBorrowWait(start);
+            return clients.removeFirst().client;
+          } else if (currentSize < capacity) {
             C client = newClient();
             currentSize += 1;
+            recordBorrowWait(start);
             return client;
           }
         }
       }
+
+      long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      if (waitedMs >= borrowTimeoutMs) {
+        borrowTimeoutCount.incrementAndGet();
+        if (metricsSource != null) {
+          metricsSource.incBorrowTimeout();
+        }
+        throw new IllegalStateException(
+            String.format(
+                "Timed out after %d ms waiting for a client, all %d clients of the pool are in use",
+                waitedMs, currentSize));
+      }
+
+      // Each borrower grows the pool by one client at most, so the pool only grows as far as
+      // the number of borrowers that keep waiting.
+      if (!grown && capacity < maxPoolSize && waitedMs >= GROW_AFTER_WAIT_MS) {
+        synchronized (this) {
+          if (capacity < maxPoolSize) {
+            capacity += 1;
+            grown = true;
+            LOG.info("Grow the client pool to {} clients, max {}", capacity, maxPoolSize);
+            continue;
+          }
+        }
+      }
+
+      long waitMs = Math.min(1000, borrowTimeoutMs - waitedMs);
+      if (!grown && capacity < maxPoolSize) {
+        waitMs = Math.min(waitMs, GROW_AFTER_WAIT_MS - waitedMs);
+      }
       synchronized (signal) {
         // wake every second in case this missed the signal
-        signal.wait(1000);
+        signal.wait(Math.max(1, waitMs));
       }
     }
   }
 
+  private void recordBorrowWait(long startNanos) {
+    if (metricsSource != null) {
+      metricsSource.recordBorrowWait(System.nanoTime() - startNanos);
+    }
+  }
+
   private void release(C client) {
     synchronized (this) {
-      clients.addFirst(client);
+      clients.addFirst(new IdleClient<>(client, System.currentTimeMillis()));
+      closeIdleClients();
     }
     synchronized (signal) {
       signal.notifyAll();
     }
   }
 
+  // Clients are borrowed from the head and returned to it, so the clients at the tail have been
+  // idle longest. Must be called while holding the pool lock.
+  private void closeIdleClients() {
+    if (currentSize <= poolSize) {
+      return;
+    }
+
+    long now = System.currentTimeMillis();
+    boolean shrunk = false;
+    while (currentSize > poolSize
+        && !clients.isEmpty()
+        && now - clients.peekLast().idleSince >= idleTimeoutMs) {
+      close(clients.removeLast().client);
+      currentSize -= 1;
+      shrunk = true;
+    }
+
+    if (shrunk) {
+      capacity = Math.max(poolSize, currentSize);
+      LOG.info("Shrink the client pool to {} clients after closing idle clients", capacity);
+    }
+  }
+
   public int poolSize() {
     return poolSize;
   }
 
+  public int maxPoolSize() {
+    return maxPoolSize;
+  }
+
+  /** @return The number of clients lent out. */
+  public synchronized int activeCount() {
+    return currentSize - clients.size();
+  }
+
+  /** @return The number of clients waiting in the pool to be borrowed. */
+  public synchronized int idleCount() {
+    return clients.size();
+  }
+
+  public long reconnectCount() {
+    return reconnectCount.get();
+  }
+
+  public long borrowTimeoutCount() {
+    return borrowTimeoutCount.get();
+  }
+
   public boolean isClosed() {
     return closed;
   }
+
+  private static class IdleClient<C> {
+    private final C client;
+    private final long idleSince;
+
+    private IdleClient(C client, long idleSince) {
+      this.client = client;
+      this.idleSince = idleSince;
+    }
+  }
 }
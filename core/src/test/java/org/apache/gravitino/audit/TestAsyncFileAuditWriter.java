@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.audit;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.audit.TestAuditManager.DummyEvent;
+import org.apache.gravitino.audit.v2.SimpleFormatterV2;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestAsyncFileAuditWriter {
+
+  private static final int EVENT_NUM = 2000;
+
+  private Path logDir;
+  private String fileName;
+
+  @BeforeEach
+  public void setup() throws IOException {
+    this.logDir = Paths.get(System.getProperty("gravitino.log.path"));
+    Files.createDirectories(logDir);
+    this.fileName = "async_audit_" + UUID.randomUUID() + ".log";
+  }
+
+  @AfterEach
+  public void cleanup() throws IOException {
+    for (Path file : auditLogFiles()) {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void testWriteAuditLogs() throws IOException {
+    AsyncFileAuditWriter writer = createWriter(ImmutableMap.of("fileName", fileName));
+    for (int i = 0; i < EVENT_NUM; i++) {
+      writer.write(new DummyEvent("user", NameIdentifier.of("a", "b", "c", "d")));
+    }
+    writer.close();
+
+    Assertions.assertEquals(1, auditLogFiles().size());
+    Assertions.assertEquals(EVENT_NUM, countLines(Paths.get(writer.fileName)));
+    Assertions.assertEquals(EVENT_NUM, writer.getMetricsSource().writtenCounter().getCount());
+    Assertions.assertEquals(0, writer.getMetricsSource().droppedCounter().getCount());
+
+    // The audit logs written after closed are dropped.
+    writer.write(new DummyEvent("user", NameIdentifier.of("a", "b", "c", "d")));
+    Assertions.assertEquals(1, writer.getMetricsSource().droppedCounter().getCount());
+  }
+
+  @Test
+  public void testRollAndCompress() throws IOException {
+    AsyncFileAuditWriter writer =
+        createWriter(
+            ImmutableMap.of(
+                "fileName",
+                fileName,
+                "maxFileSize",
+                "16384",
+                "bufferSize",
+                "1024",
+                "compress",
+                "true"));
+    for (int i = 0; i < EVENT_NUM; i++) {
+      writer.write(new DummyEvent("user", NameIdentifier.of("a", "b", "c", "d")));
+    }
+    writer.close();
+
+    List<Path> files = auditLogFiles();
+    List<Path> compressedFiles =
+        files.stream().filter(f -> f.toString().endsWith(".gz")).collect(Collectors.toList());
+    Assertions.assertFalse(compressedFiles.isEmpty());
+    // Only the current file is left uncompressed.
+    Assertions.assertEquals(files.size() - 1, compressedFiles.size());
+
+    long lines = 0;
+    for (Path file : files) {
+      Assertions.assertTrue(Files.size(file) <= 16384);
+      lines += countLines(file);
+    }
+    Assertions.assertEquals(EVENT_NUM, lines);
+  }
+
+  @Test
+  public void testRollByTimeWithoutNewAuditLogs() throws Exception {
+    AsyncFileAuditWriter writer =
+        createWriter(
+            ImmutableMap.of(
+                "fileName", fileName, "rollIntervalSecs", "1", "flushIntervalMs", "100"));
+    writer.write(new DummyEvent("user", NameIdentifier.of("a", "b", "c", "d")));
+
+    // The file is rolled after the interval even if no more audit logs are written.
+    long deadline = System.currentTimeMillis() + 10000;
+    while (auditLogFiles().size() < 2 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(100);
+    }
+    writer.close();
+
+    List<Path> files = auditLogFiles();
+    Assertions.assertEquals(2, files.size());
+    Assertions.assertEquals(0, countLines(Paths.get(writer.fileName)));
+    long lines = 0;
+    for (Path file : files) {
+      lines += countLines(file);
+    }
+    Assertions.assertEquals(1, lines);
+  }
+
+  @Test
+  public void testKeepWritingWhenRollFails() throws IOException {
+    // The rolled file can't be created since its parent directory doesn't exist.
+    AsyncFileAuditWriter writer =
+        new AsyncFileAuditWriter() {
+          @Override
+          Path rolledFilePath() {
+            return logDir.resolve(UUID.randomUUID().toString()).resolve("rolled.log");
+          }
+        };
+    writer.init(
+        new SimpleFormatterV2(),
+        ImmutableMap.of("fileName", fileName, "maxFileSize", "16384", "bufferSize", "1024"));
+    for (int i = 0; i < EVENT_NUM; i++) {
+      writer.write(new DummyEvent("user", NameIdentifier.of("a", "b", "c", "d")));
+    }
+    writer.close();
+
+    // All the audit logs are still appended to the current file.
+    Assertions.assertEquals(1, auditLogFiles().size());
+    Assertions.assertEquals(EVENT_NUM, countLines(Paths.get(writer.fileName)));
+    Assertions.assertEquals(EVENT_NUM, writer.getMetricsSource().writtenCounter().getCount());
+    Assertions.assertEquals(0, writer.getMetricsSource().droppedCounter().getCount());
+  }
+
+  private AsyncFileAuditWriter createWriter(Map<String, String> properties) {
+    AsyncFileAuditWriter writer = new AsyncFileAuditWriter();
+    writer.init(new SimpleFormatterV2(), properties);
+    return writer;
+  }
+
+  private List<Path> auditLogFiles() throws IOException {
+    try (Stream<Path> files = Files.list(logDir)) {
+      return files
+          .filter(f -> f.getFileName().toString().startsWith(fileName))
+          .collect(Collectors.toList());
+    }
+  }
+
+  private long countLines(Path file) throws IOException {
+    InputStream in = Files.newInputStream(file);
+    if (file.toString().endsWith(".gz")) {
+      in = new GZIPInputStream(in);
+    }
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+      return reader.lines().count();
+    }
+  }
+}
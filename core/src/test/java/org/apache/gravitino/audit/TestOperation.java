@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.audit;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.time.LocalDate;
 import java.util.HashMap;
@@ -69,6 +70,8 @@ import org.apache.gravitino.listener.api.event.DropTopicFailureEvent;
 import org.apache.gravitino.listener.api.event.Event;
 import org.apache.gravitino.listener.api.event.GetFileLocationEvent;
 import org.apache.gravitino.listener.api.event.GetFileLocationFailureEvent;
+import org.apache.gravitino.listener.api.event.GetFileLocationsEvent;
+import org.apache.gravitino.listener.api.event.GetFileLocationsFailureEvent;
 import org.apache.gravitino.listener.api.event.GetPartitionEvent;
 import org.apache.gravitino.listener.api.event.GetPartitionFailureEvent;
 import org.apache.gravitino.listener.api.event.ListCatalogEvent;
@@ -377,6 +380,17 @@ public class TestOperation {
         new GetFileLocationFailureEvent(USER, filesetIdentifier, "subPath", new Exception());
     Assertions.assertEquals(
         AuditLog.Operation.fromEvent(getFilesetFailureEvent), AuditLog.Operation.GET_FILE_LOCATION);
+    Event getFileLocationsEvent =
+        new GetFileLocationsEvent(
+            USER, filesetIdentifier, ImmutableMap.of("subPath", "location"), new HashMap<>());
+    Assertions.assertEquals(
+        AuditLog.Operation.fromEvent(getFileLocationsEvent), AuditLog.Operation.GET_FILE_LOCATIONS);
+    Event getFileLocationsFailureEvent =
+        new GetFileLocationsFailureEvent(
+            USER, filesetIdentifier, ImmutableList.of("subPath"), new Exception());
+    Assertions.assertEquals(
+        AuditLog.Operation.fromEvent(getFileLocationsFailureEvent),
+        AuditLog.Operation.GET_FILE_LOCATIONS);
 
     Event getPartitionEvent = new GetPartitionEvent(USER, partitionIdentifier, partitionInfo);
     Assertions.assertEquals(
@@ -113,6 +113,29 @@ public class TestPartitionOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertTrue(Arrays.asList(partitions).contains(PARTITION));
   }
 
+  @Test
+  public void testListPartitionsByPage() {
+    String[] allNames = partitionOperationDispatcher.listPartitionNames(TABLE_IDENT);
+    String[] firstPage =
+        partitionOperationDispatcher.listPartitionNames(TABLE_IDENT, null, null, 1);
+    Assertions.assertArrayEquals(new String[] {allNames[0]}, firstPage);
+
+    String[] restNames =
+        partitionOperationDispatcher.listPartitionNames(
+            TABLE_IDENT, null, firstPage[0], Integer.MAX_VALUE);
+    Assertions.assertArrayEquals(Arrays.copyOfRange(allNames, 1, allNames.length), restNames);
+
+    Partition[] partitions =
+        partitionOperationDispatcher.listPartitions(TABLE_IDENT, null, null, allNames.length);
+    Assertions.assertEquals(allNames.length, partitions.length);
+
+    Assertions.assertThrows(
+        UnsupportedOperationException.class,
+        () ->
+            partitionOperationDispatcher.listPartitionNames(
+                TABLE_IDENT, "col1 = \"v1\"", null, 1));
+  }
+
   @Test
   public void testGetPartition() {
     Partition p = partitionOperationDispatcher.getPartition(TABLE_IDENT, PARTITION.name());
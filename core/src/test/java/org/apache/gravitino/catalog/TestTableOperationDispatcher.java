@@ -31,7 +31,10 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
@@ -396,6 +399,57 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertTrue(entityStore.exists(tableIdent, TABLE));
   }
 
+  @Test
+  public void testLoadTablesNeedImporting() throws IOException {
+    Namespace tableNs = Namespace.of(metalake, catalog, "schema191");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs.levels()), "comment", props);
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder()
+              .withName("col1")
+              .withPosition(0)
+              .withType(Types.StringType.get())
+              .build()
+        };
+    NameIdentifier tableIdent1 = NameIdentifier.of(tableNs, "table91");
+    NameIdentifier tableIdent2 = NameIdentifier.of(tableNs, "table92");
+    NameIdentifier tableIdent3 = NameIdentifier.of(tableNs, "table93");
+    tableOperationDispatcher.createTable(tableIdent1, columns, "comment", props, new Transform[0]);
+    tableOperationDispatcher.createTable(tableIdent2, columns, "comment", props, new Transform[0]);
+    tableOperationDispatcher.createTable(tableIdent3, columns, "comment", props, new Transform[0]);
+
+    // Only the first table is in the entity store, the others need to be imported
+    entityStore.delete(tableIdent2, TABLE);
+    entityStore.delete(tableIdent3, TABLE);
+    reset(entityStore);
+
+    Table[] tables =
+        tableOperationDispatcher.loadTables(
+            tableNs, tableIdent1.name(), tableIdent2.name(), tableIdent3.name(), "not_exist");
+    Assertions.assertEquals(
+        Arrays.asList(tableIdent1.name(), tableIdent2.name(), tableIdent3.name()),
+        Arrays.stream(tables).map(Table::name).collect(Collectors.toList()));
+    Assertions.assertEquals(AuthConstants.ANONYMOUS_USER, tables[0].auditInfo().creator());
+    // Audit info of the imported tables is gotten from the catalog
+    Assertions.assertEquals("test", tables[1].auditInfo().creator());
+    Assertions.assertEquals("test", tables[2].auditInfo().creator());
+
+    // The missing tables are imported with one batch put
+    verify(entityStore, times(1)).batchPut(any(), anyBoolean());
+    Assertions.assertTrue(entityStore.exists(tableIdent2, TABLE));
+    Assertions.assertTrue(entityStore.exists(tableIdent3, TABLE));
+
+    // All the tables are imported now, no more puts are needed
+    reset(entityStore);
+    tables =
+        tableOperationDispatcher.loadTables(
+            tableNs, tableIdent1.name(), tableIdent2.name(), tableIdent3.name());
+    Assertions.assertEquals(3, tables.length);
+    verify(entityStore, never()).batchPut(any(), anyBoolean());
+    verify(entityStore, never()).put(any(), anyBoolean());
+  }
+
   @Test
   public void testCreateAndLoadTableWithColumn() throws IOException {
     Namespace tableNs = Namespace.of(metalake, catalog, "schema91");
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.listener.TestEventListenerManager.DummyPostEvent;
+import org.apache.gravitino.listener.api.EventListenerPlugin;
+import org.apache.gravitino.listener.api.event.Event;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestAsyncQueueListener {
+
+  static class RecordingEventListener implements EventListenerPlugin {
+    final Map<NameIdentifier, List<Integer>> received = new ConcurrentHashMap<>();
+    final AtomicInteger receivedCount = new AtomicInteger();
+    final CountDownLatch blocker = new CountDownLatch(1);
+    volatile boolean block;
+    volatile String failingUser;
+
+    @Override
+    public void init(Map<String, String> properties) {}
+
+    @Override
+    public void start() {}
+
+    @Override
+    public void stop() {
+      blocker.countDown();
+    }
+
+    @Override
+    public void onPostEvent(Event event) {
+      if (block) {
+        try {
+          blocker.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      if (event.user().equals(failingUser)) {
+        throw new RuntimeException("Failed to process event " + event.user());
+      }
+      received
+          .computeIfAbsent(event.identifier(), k -> new CopyOnWriteArrayList<>())
+          .add(Integer.parseInt(event.user()));
+      receivedCount.incrementAndGet();
+    }
+  }
+
+  @Test
+  void testShardedDispatchKeepsOrderPerIdentifier() {
+    RecordingEventListener listener = new RecordingEventListener();
+    AsyncQueueListener asyncQueueListener =
+        new AsyncQueueListener(ImmutableList.of(listener), "sharded", 10000, 3, 4, 50, true, 10000);
+    Assertions.assertEquals(4, asyncQueueListener.getDispatcherThreads());
+    asyncQueueListener.start();
+
+    int identifiers = 10;
+    int eventsPerIdentifier = 500;
+    for (int i = 0; i < eventsPerIdentifier; i++) {
+      for (int j = 0; j < identifiers; j++) {
+        asyncQueueListener.onPostEvent(
+            new DummyPostEvent(String.valueOf(i), NameIdentifier.of("m", "c", "s", "t" + j)));
+      }
+    }
+
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .until(() -> listener.receivedCount.get() == identifiers * eventsPerIdentifier);
+    Assertions.assertEquals(identifiers, listener.received.size());
+    for (List<Integer> sequence : listener.received.values()) {
+      Assertions.assertEquals(eventsPerIdentifier, sequence.size());
+      for (int i = 0; i < eventsPerIdentifier; i++) {
+        Assertions.assertEquals(i, sequence.get(i));
+      }
+    }
+    Assertions.assertEquals(
+        0, asyncQueueListener.getMetricsSource().droppedEventCounter().getCount());
+    Assertions.assertEquals(
+        identifiers * eventsPerIdentifier,
+        asyncQueueListener.getMetricsSource().dispatchLatencyTimer().getCount());
+
+    asyncQueueListener.stop();
+  }
+
+  @Test
+  void testBackpressure() throws InterruptedException {
+    RecordingEventListener listener = new RecordingEventListener();
+    listener.block = true;
+    AsyncQueueListener asyncQueueListener =
+        new AsyncQueueListener(ImmutableList.of(listener), "blocking", 1, 3, 1, 1, true, 200);
+    asyncQueueListener.start();
+    NameIdentifier identifier = NameIdentifier.of("m", "c");
+
+    // The first event blocks the dispatcher, the second one fills the queue.
+    asyncQueueListener.onPostEvent(new DummyPostEvent("0", identifier));
+    Thread.sleep(100);
+    asyncQueueListener.onPostEvent(new DummyPostEvent("1", identifier));
+
+    long start = System.nanoTime();
+    asyncQueueListener.onPostEvent(new DummyPostEvent("2", identifier));
+    Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 200);
+    Assertions.assertEquals(
+        1, asyncQueueListener.getMetricsSource().droppedEventCounter().getCount());
+
+    listener.blocker.countDown();
+    Awaitility.await().atMost(20, TimeUnit.SECONDS).until(() -> listener.receivedCount.get() == 2);
+    asyncQueueListener.stop();
+  }
+
+  @Test
+  void testDropWhenFull() throws InterruptedException {
+    RecordingEventListener listener = new RecordingEventListener();
+    listener.block = true;
+    AsyncQueueListener asyncQueueListener =
+        new AsyncQueueListener(ImmutableList.of(listener), "dropping", 1, 3, 1, 1, false, 0);
+    asyncQueueListener.start();
+    NameIdentifier identifier = NameIdentifier.of("m", "c");
+
+    asyncQueueListener.onPostEvent(new DummyPostEvent("0", identifier));
+    Thread.sleep(100);
+    asyncQueueListener.onPostEvent(new DummyPostEvent("1", identifier));
+    asyncQueueListener.onPostEvent(new DummyPostEvent("2", identifier));
+    asyncQueueListener.onPostEvent(new DummyPostEvent("3", identifier));
+    Assertions.assertEquals(
+        2, asyncQueueListener.getMetricsSource().droppedEventCounter().getCount());
+
+    listener.blocker.countDown();
+    Awaitility.await().atMost(20, TimeUnit.SECONDS).until(() -> listener.receivedCount.get() == 2);
+    Assertions.assertEquals(ImmutableList.of(0, 1), listener.received.get(identifier));
+    asyncQueueListener.stop();
+  }
+
+  @Test
+  void testFailedEventDoesNotDropBatch() {
+    RecordingEventListener listener = new RecordingEventListener();
+    listener.failingUser = "1";
+    listener.block = true;
+    AsyncQueueListener asyncQueueListener =
+        new AsyncQueueListener(
+            ImmutableList.of(new EventListenerPluginWrapper("failing", listener)),
+            "failing",
+            100,
+            3,
+            1,
+            10,
+            true,
+            10000);
+    asyncQueueListener.start();
+    NameIdentifier identifier = NameIdentifier.of("m", "c");
+
+    // The events queued while the first one blocks are dispatched as one batch.
+    for (int i = 0; i < 5; i++) {
+      asyncQueueListener.onPostEvent(new DummyPostEvent(String.valueOf(i), identifier));
+    }
+    listener.blocker.countDown();
+
+    Awaitility.await().atMost(20, TimeUnit.SECONDS).until(() -> listener.receivedCount.get() == 4);
+    Assertions.assertEquals(ImmutableList.of(0, 2, 3, 4), listener.received.get(identifier));
+    asyncQueueListener.stop();
+  }
+}
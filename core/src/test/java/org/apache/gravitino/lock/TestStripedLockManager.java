@@ -0,0 +1,317 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import static org.apache.gravitino.Configs.TREE_LOCK_MODE;
+import static org.apache.gravitino.Configs.TREE_LOCK_MODE_STRIPED;
+import static org.apache.gravitino.Configs.TREE_LOCK_STRIPES;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.NameIdentifier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class TestStripedLockManager {
+  private static final Logger LOG = LoggerFactory.getLogger(TestStripedLockManager.class);
+
+  private static Config getStripedConfig(int stripes) {
+    Config config = TestLockManager.getConfig();
+    Mockito.when(config.get(TREE_LOCK_MODE)).thenReturn(TREE_LOCK_MODE_STRIPED);
+    Mockito.when(config.get(TREE_LOCK_STRIPES)).thenReturn(stripes);
+    return config;
+  }
+
+  @Test
+  void testCreateStripedTreeLock() {
+    LockManager lockManager = new LockManager(getStripedConfig(16));
+    Assertions.assertNotNull(lockManager.lockStripes);
+    Assertions.assertEquals(16, lockManager.lockStripes.size());
+
+    TreeLock lock = lockManager.createTreeLock(NameIdentifier.of("a", "b", "c", "d"));
+    Assertions.assertInstanceOf(StripedTreeLock.class, lock);
+    // No tree node is created in the striped mode.
+    Assertions.assertEquals(1, lockManager.totalNodeCount.get());
+    Assertions.assertThrows(IllegalStateException.class, lock::unlock);
+
+    // The tree mode is still the default.
+    Assertions.assertNull(new LockManager(TestLockManager.getConfig()).lockStripes);
+  }
+
+  @Test
+  void testNestedLocks() {
+    // A single stripe makes every identifier share the same lock.
+    LockManager lockManager = new LockManager(getStripedConfig(1));
+    LockStripes stripes = lockManager.lockStripes;
+
+    TreeLock tableLock = lockManager.createTreeLock(NameIdentifier.of("a", "b", "c", "d"));
+    tableLock.lock(LockType.READ);
+    TreeLock catalogLock = lockManager.createTreeLock(NameIdentifier.of("a", "b"));
+    catalogLock.lock(LockType.READ);
+    // A read lock is upgraded when this thread is the only reader.
+    TreeLock otherLock = lockManager.createTreeLock(NameIdentifier.of("x", "y"));
+    otherLock.lock(LockType.WRITE);
+    TreeLock rootLock = lockManager.createTreeLock(LockManager.ROOT);
+    rootLock.lock(LockType.READ);
+
+    rootLock.unlock();
+    otherLock.unlock();
+    catalogLock.unlock();
+    Assertions.assertTrue(stripes.isHeldByCurrentThread(0));
+    tableLock.unlock();
+    Assertions.assertFalse(stripes.isHeldByCurrentThread(0));
+  }
+
+  @Test
+  void testWriteLockOfParentBlocksChildren() throws Exception {
+    LockManager lockManager = new LockManager(getStripedConfig(1024));
+    NameIdentifier schema = NameIdentifier.of("metalake", "catalog", "schema");
+    NameIdentifier table = NameIdentifier.of("metalake", "catalog", "schema", "table");
+
+    TreeLock schemaLock = lockManager.createTreeLock(schema);
+    schemaLock.lock(LockType.WRITE);
+    CompletableFuture<Void> readTable =
+        CompletableFuture.runAsync(
+            () -> {
+              TreeLock lock = lockManager.createTreeLock(table);
+              lock.lock(LockType.READ);
+              lock.unlock();
+            });
+    Assertions.assertThrows(
+        TimeoutException.class, () -> readTable.get(200, TimeUnit.MILLISECONDS));
+
+    schemaLock.unlock();
+    readTable.get(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void testConcurrentWritesAreExclusive() throws Exception {
+    LockManager lockManager = new LockManager(getStripedConfig(64));
+    NameIdentifier table = NameIdentifier.of("metalake", "catalog", "schema", "table");
+    AtomicInteger writers = new AtomicInteger();
+    AtomicInteger violations = new AtomicInteger();
+
+    runConcurrently(
+        8,
+        2000,
+        i -> {
+          TreeLock lock = lockManager.createTreeLock(table);
+          lock.lock(LockType.WRITE);
+          try {
+            if (writers.incrementAndGet() != 1) {
+              violations.incrementAndGet();
+            }
+            writers.decrementAndGet();
+          } finally {
+            lock.unlock();
+          }
+        });
+
+    Assertions.assertEquals(0, violations.get());
+  }
+
+  @Test
+  void testNestedLocksSharingStripes() throws Exception {
+    LockManager lockManager = new LockManager(getStripedConfig(16));
+    LockStripes stripes = new LockStripes(16, 200);
+    lockManager.lockStripes = stripes;
+
+    // Find unrelated tables x, y, z and w, where z shares the leaf stripe of y and w shares the
+    // leaf stripe of x. Locking x then z in one thread and y then w in another would never dead
+    // lock in the tree mode.
+    List<NameIdentifier> tables =
+        IntStream.range(0, 1000)
+            .mapToObj(i -> NameIdentifier.of("metalake", "catalog", "schema", "table_" + i))
+            .collect(Collectors.toList());
+    int[] schemaStripes = stripes.stripesOf(NameIdentifier.of("metalake", "catalog", "schema"));
+    List<NameIdentifier> candidates =
+        tables.stream()
+            .filter(t -> IntStream.of(schemaStripes).noneMatch(s -> s == leafStripe(stripes, t)))
+            .collect(Collectors.toList());
+    NameIdentifier x = candidates.get(0);
+    NameIdentifier y =
+        candidates.stream()
+            .filter(t -> leafStripe(stripes, t) != leafStripe(stripes, x))
+            .findFirst()
+            .get();
+    NameIdentifier z =
+        candidates.stream()
+            .filter(t -> t != y && leafStripe(stripes, t) == leafStripe(stripes, y))
+            .findFirst()
+            .get();
+    NameIdentifier w =
+        candidates.stream()
+            .filter(t -> t != x && leafStripe(stripes, t) == leafStripe(stripes, x))
+            .findFirst()
+            .get();
+
+    ExecutorService executor =
+        Executors.newFixedThreadPool(2, new ThreadFactoryBuilder().setDaemon(true).build());
+    try {
+      CountDownLatch outerLocked = new CountDownLatch(2);
+      List<Future<?>> futures =
+          ImmutableList.of(
+              executor.submit(() -> lockNested(lockManager, x, z, outerLocked)),
+              executor.submit(() -> lockNested(lockManager, y, w, outerLocked)));
+
+      // The thread locking out of the stripe order gives up instead of waiting forever.
+      int failures = 0;
+      for (Future<?> future : futures) {
+        try {
+          future.get(10, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+          Assertions.assertInstanceOf(IllegalStateException.class, e.getCause());
+          Assertions.assertTrue(e.getCause().getMessage().contains("gravitino.lock.stripes"));
+          failures++;
+        }
+      }
+      Assertions.assertTrue(failures > 0);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // All the stripes are released, even by the failed lock.
+    CompletableFuture.runAsync(
+            () -> {
+              for (NameIdentifier table : ImmutableList.of(x, y, z, w)) {
+                TreeLock lock = lockManager.createTreeLock(table);
+                lock.lock(LockType.WRITE);
+                lock.unlock();
+              }
+            })
+        .get(10, TimeUnit.SECONDS);
+  }
+
+  private static int leafStripe(LockStripes stripes, NameIdentifier identifier) {
+    int[] path = stripes.stripesOf(identifier);
+    return path[path.length - 1];
+  }
+
+  private static Void lockNested(
+      LockManager lockManager,
+      NameIdentifier outer,
+      NameIdentifier inner,
+      CountDownLatch outerLocked)
+      throws InterruptedException {
+    TreeLock outerLock = lockManager.createTreeLock(outer);
+    outerLock.lock(LockType.WRITE);
+    try {
+      outerLocked.countDown();
+      outerLocked.await();
+      TreeLock innerLock = lockManager.createTreeLock(inner);
+      innerLock.lock(LockType.WRITE);
+      innerLock.unlock();
+    } finally {
+      outerLock.unlock();
+    }
+    return null;
+  }
+
+  /**
+   * A rough comparison of the tree and striped modes under many concurrent read locks of table
+   * identifiers, as issued by loadTable. The numbers are only logged, they depend on the machine.
+   */
+  @Test
+  void testReadLockThroughput() throws Exception {
+    List<NameIdentifier> tables =
+        IntStream.range(0, 10000)
+            .mapToObj(
+                i -> NameIdentifier.of("metalake", "catalog_" + i % 5, "schema_" + i % 50, "t" + i))
+            .collect(Collectors.toList());
+    int threads = 16;
+    int iterations = 50000;
+
+    LockManager treeLockManager = new LockManager(TestLockManager.getConfig());
+    LockManager stripedLockManager = new LockManager(getStripedConfig(1024));
+    for (int round = 0; round < 2; round++) {
+      long treeNanos = runReadLocks(treeLockManager, tables, threads, iterations);
+      long stripedNanos = runReadLocks(stripedLockManager, tables, threads, iterations);
+      LOG.info(
+          "Round {}: {} threads x {} read locks, tree mode {} ms, striped mode {} ms",
+          round,
+          threads,
+          iterations,
+          TimeUnit.NANOSECONDS.toMillis(treeNanos),
+          TimeUnit.NANOSECONDS.toMillis(stripedNanos));
+    }
+  }
+
+  private static long runReadLocks(
+      LockManager lockManager, List<NameIdentifier> tables, int threads, int iterations)
+      throws Exception {
+    long start = System.nanoTime();
+    runConcurrently(
+        threads,
+        iterations,
+        i -> {
+          TreeLock lock = lockManager.createTreeLock(tables.get(i % tables.size()));
+          lock.lock(LockType.READ);
+          lock.unlock();
+        });
+    return System.nanoTime() - start;
+  }
+
+  private interface Task {
+    void run(int iteration);
+  }
+
+  private static void runConcurrently(int threads, int iterations, Task task) throws Exception {
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            threads, new ThreadFactoryBuilder().setDaemon(true).build());
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<?>> futures =
+          IntStream.range(0, threads)
+              .mapToObj(
+                  t ->
+                      executor.submit(
+                          () -> {
+                            start.await();
+                            for (int i = 0; i < iterations; i++) {
+                              task.run(t * iterations + i);
+                            }
+                            return null;
+                          }))
+              .collect(Collectors.toList());
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(60, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
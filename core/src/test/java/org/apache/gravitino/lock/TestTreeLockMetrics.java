@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import static org.apache.gravitino.Configs.TREE_LOCK_CONTENTION_THRESHOLD_MS;
+import static org.apache.gravitino.Configs.TREE_LOCK_HOLD_TIME_WARN_THRESHOLD_MS;
+
+import com.codahale.metrics.MetricRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.metrics.MetricNames;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestTreeLockMetrics {
+
+  private static long timerCount(LockManager lockManager, String name, String type, int level) {
+    MetricRegistry registry = lockManager.metricsSource.getMetricRegistry();
+    return registry.getTimers().get(String.format(name, type, level)).getCount();
+  }
+
+  private static long counterCount(LockManager lockManager, String name) {
+    return lockManager.metricsSource.getMetricRegistry().getCounters().get(name).getCount();
+  }
+
+  @Test
+  void testWaitAndHoldTime() {
+    LockManager lockManager = new LockManager(TestLockManager.getConfig());
+
+    TreeLock tableLock = lockManager.createTreeLock(NameIdentifier.of("a", "b", "c", "d"));
+    tableLock.lock(LockType.READ);
+    tableLock.unlock();
+    TreeLock catalogLock = lockManager.createTreeLock(NameIdentifier.of("a", "b"));
+    catalogLock.lock(LockType.WRITE);
+    catalogLock.unlock();
+    TreeLock rootLock = lockManager.createTreeLock(LockManager.ROOT);
+    rootLock.lock(LockType.WRITE);
+    rootLock.unlock();
+
+    Assertions.assertEquals(1, timerCount(lockManager, MetricNames.TREE_LOCK_WAIT_TIME, "read", 4));
+    Assertions.assertEquals(1, timerCount(lockManager, MetricNames.TREE_LOCK_HOLD_TIME, "read", 4));
+    Assertions.assertEquals(
+        1, timerCount(lockManager, MetricNames.TREE_LOCK_HOLD_TIME, "write", 2));
+    Assertions.assertEquals(
+        1, timerCount(lockManager, MetricNames.TREE_LOCK_HOLD_TIME, "write", 0));
+    Assertions.assertEquals(
+        0, timerCount(lockManager, MetricNames.TREE_LOCK_HOLD_TIME, "write", 4));
+    Assertions.assertEquals(
+        lockManager.totalNodeCount.get(),
+        lockManager
+            .metricsSource
+            .getMetricRegistry()
+            .getGauges()
+            .get(MetricNames.TREE_LOCK_NODE_COUNT)
+            .getValue());
+  }
+
+  @Test
+  void testSlowHold() throws InterruptedException {
+    Config config = TestLockManager.getConfig();
+    Mockito.when(config.get(TREE_LOCK_HOLD_TIME_WARN_THRESHOLD_MS)).thenReturn(1L);
+    LockManager lockManager = new LockManager(config);
+
+    TreeLock lock = lockManager.createTreeLock(NameIdentifier.of("a", "b"));
+    lock.lock(LockType.WRITE);
+    Thread.sleep(20);
+    lock.unlock();
+
+    Assertions.assertEquals(1, counterCount(lockManager, MetricNames.TREE_LOCK_SLOW_HOLD_COUNT));
+  }
+
+  @Test
+  void testContendedIdentifiers() throws Exception {
+    Config config = TestLockManager.getConfig();
+    Mockito.when(config.get(TREE_LOCK_CONTENTION_THRESHOLD_MS)).thenReturn(10L);
+    LockManager lockManager = new LockManager(config);
+    NameIdentifier identifier = NameIdentifier.of("a", "b", "c");
+
+    TreeLock writeLock = lockManager.createTreeLock(identifier);
+    writeLock.lock(LockType.WRITE);
+    CountDownLatch started = new CountDownLatch(1);
+    CompletableFuture<Void> future =
+        CompletableFuture.runAsync(
+            () -> {
+              TreeLock readLock = lockManager.createTreeLock(identifier);
+              started.countDown();
+              readLock.lock(LockType.READ);
+              readLock.unlock();
+            });
+    started.await();
+    Thread.sleep(100);
+    writeLock.unlock();
+    future.get(10, TimeUnit.SECONDS);
+
+    Assertions.assertEquals(1, counterCount(lockManager, MetricNames.TREE_LOCK_CONTENDED_COUNT));
+    Map<String, Long> top = lockManager.metricsSource.topContendedIdentifiers();
+    Assertions.assertEquals(1, top.size());
+    Assertions.assertEquals(1L, top.get(identifier.toString()));
+  }
+
+  @Test
+  void testEvictedNodes() {
+    LockManager lockManager = new LockManager(TestLockManager.getConfig());
+    lockManager.minTreeNodeInMemory = 1;
+
+    TreeLock lock = lockManager.createTreeLock(NameIdentifier.of("a", "b", "c"));
+    lock.lock(LockType.READ);
+    lock.unlock();
+    // The root and the nodes of a, b and c.
+    Assertions.assertEquals(4, lockManager.totalNodeCount.get());
+
+    lockManager.treeLockRootNode
+        .getAllChildren()
+        .forEach(child -> lockManager.evictStaleNodes(child, lockManager.treeLockRootNode));
+    Assertions.assertEquals(1, lockManager.totalNodeCount.get());
+    Assertions.assertEquals(3, counterCount(lockManager, MetricNames.TREE_LOCK_EVICTED_NODE_COUNT));
+  }
+}
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage.cache;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestCachedEntityStore {
+
+  private static final AuditInfo AUDIT_INFO =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  private EntityStore delegate;
+  private CachedEntityStore store;
+
+  @BeforeEach
+  public void setUp() {
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.get(Configs.ENTITY_STORE_CACHE_MAX_ENTRIES)).thenReturn(100L);
+    Mockito.when(config.get(Configs.ENTITY_STORE_CACHE_EXPIRE_TIME_MS)).thenReturn(60000L);
+
+    delegate = Mockito.mock(EntityStore.class);
+    store = new CachedEntityStore(delegate);
+    store.initialize(config);
+  }
+
+  @Test
+  public void testGetIsServedFromCache() throws IOException {
+    TableEntity table = createTable(1L, Namespace.of("metalake", "catalog", "schema"), "table");
+    Mockito.when(
+            delegate.get(table.nameIdentifier(), Entity.EntityType.TABLE, TableEntity.class))
+        .thenReturn(table);
+
+    for (int i = 0; i < 3; i++) {
+      Assertions.assertEquals(
+          table, store.get(table.nameIdentifier(), Entity.EntityType.TABLE, TableEntity.class));
+    }
+    Assertions.assertTrue(store.exists(table.nameIdentifier(), Entity.EntityType.TABLE));
+
+    Mockito.verify(delegate, Mockito.times(1))
+        .get(table.nameIdentifier(), Entity.EntityType.TABLE, TableEntity.class);
+    Mockito.verify(delegate, Mockito.never()).exists(any(), any());
+    Assertions.assertEquals(1, store.cache().stats().missCount());
+    Assertions.assertEquals(2, store.cache().stats().hitCount());
+  }
+
+  @Test
+  public void testUpdateInvalidatesEntityAndListing() throws IOException {
+    Namespace namespace = Namespace.of("metalake", "catalog", "schema");
+    TableEntity table = createTable(1L, namespace, "table");
+    TableEntity renamed = createTable(1L, namespace, "table2");
+    Mockito.when(
+            delegate.get(table.nameIdentifier(), Entity.EntityType.TABLE, TableEntity.class))
+        .thenReturn(table);
+    Mockito.when(delegate.list(namespace, TableEntity.class, Entity.EntityType.TABLE))
+        .thenReturn(Lists.newArrayList(table));
+    Mockito.when(
+            delegate.update(
+                eq(table.nameIdentifier()),
+                eq(TableEntity.class),
+                eq(Entity.EntityType.TABLE),
+                any()))
+        .thenReturn(renamed);
+
+    store.get(table.nameIdentifier(), Entity.EntityType.TABLE, TableEntity.class);
+    store.list(namespace, TableEntity.class, Entity.EntityType.TABLE);
+    Assertions.assertEquals(2, store.cache().estimatedSize());
+
+    store.update(
+        table.nameIdentifier(), TableEntity.class, Entity.EntityType.TABLE, e -> renamed);
+    Assertions.assertEquals(0, store.cache().estimatedSize());
+
+    store.list(namespace, TableEntity.class, Entity.EntityType.TABLE);
+    Mockito.verify(delegate, Mockito.times(2))
+        .list(namespace, TableEntity.class, Entity.EntityType.TABLE);
+  }
+
+  @Test
+  public void testCascadeDeleteInvalidatesDescendants() throws IOException {
+    SchemaEntity schema = createSchema(1L, Namespace.of("metalake", "catalog"), "schema");
+    TableEntity table = createTable(2L, Namespace.of("metalake", "catalog", "schema"), "table");
+    TableEntity otherTable =
+        createTable(3L, Namespace.of("metalake", "catalog", "schema2"), "table");
+    Mockito.when(
+            delegate.get(schema.nameIdentifier(), Entity.EntityType.SCHEMA, SchemaEntity.class))
+        .thenReturn(schema);
+    Mockito.when(
+            delegate.get(table.nameIdentifier(), Entity.EntityType.TABLE, TableEntity.class))
+        .thenReturn(table);
+    Mockito.when(
+            delegate.get(otherTable.nameIdentifier(), Entity.EntityType.TABLE, TableEntity.class))
+        .thenReturn(otherTable);
+    Mockito.when(delegate.delete(any(), any(), anyBoolean())).thenReturn(true);
+
+    store.get(schema.nameIdentifier(), Entity.EntityType.SCHEMA, SchemaEntity.class);
+    store.get(table.nameIdentifier(), Entity.EntityType.TABLE, TableEntity.class);
+    store.get(otherTable.nameIdentifier(), Entity.EntityType.TABLE, TableEntity.class);
+    Assertions.assertEquals(3, store.cache().estimatedSize());
+
+    Assertions.assertTrue(store.delete(schema.nameIdentifier(), Entity.EntityType.SCHEMA, true));
+    Assertions.assertNull(
+        store
+            .cache()
+            .getIfPresent(EntityCacheKey.of(table.nameIdentifier(), Entity.EntityType.TABLE)));
+    Assertions.assertNull(
+        store
+            .cache()
+            .getIfPresent(EntityCacheKey.of(schema.nameIdentifier(), Entity.EntityType.SCHEMA)));
+    Assertions.assertNotNull(
+        store
+            .cache()
+            .getIfPresent(
+                EntityCacheKey.of(otherTable.nameIdentifier(), Entity.EntityType.TABLE)));
+  }
+
+  @Test
+  public void testPutInvalidatesListing() throws IOException {
+    Namespace namespace = Namespace.of("metalake", "catalog", "schema");
+    TableEntity table = createTable(1L, namespace, "table");
+    List<TableEntity> tables = Lists.newArrayList(table);
+    Mockito.when(delegate.list(namespace, TableEntity.class, Entity.EntityType.TABLE, true))
+        .thenReturn(tables);
+
+    Assertions.assertEquals(
+        tables, store.list(namespace, TableEntity.class, Entity.EntityType.TABLE, true));
+    store.put(createTable(2L, namespace, "table2"), false);
+    store.list(namespace, TableEntity.class, Entity.EntityType.TABLE, true);
+
+    Mockito.verify(delegate, Mockito.times(2))
+        .list(namespace, TableEntity.class, Entity.EntityType.TABLE, true);
+  }
+
+  @Test
+  public void testUncachedEntityTypes() throws IOException {
+    NameIdentifier user = NameIdentifier.of("metalake", "system", "user", "user1");
+    Mockito.when(delegate.exists(user, Entity.EntityType.USER)).thenReturn(true);
+
+    Assertions.assertTrue(store.exists(user, Entity.EntityType.USER));
+    Assertions.assertTrue(store.exists(user, Entity.EntityType.USER));
+    Mockito.verify(delegate, Mockito.times(2)).exists(user, Entity.EntityType.USER);
+    Assertions.assertEquals(0, store.cache().estimatedSize());
+  }
+
+  @Test
+  public void testPagedListIsDelegated() throws IOException {
+    Namespace namespace = Namespace.of("metalake", "catalog", "schema");
+    TableEntity table = createTable(1L, namespace, "table2");
+    Mockito.when(delegate.list(namespace, TableEntity.class, Entity.EntityType.TABLE, "table1", 1))
+        .thenReturn(Lists.newArrayList(table));
+
+    Assertions.assertEquals(
+        Lists.newArrayList(table),
+        store.list(namespace, TableEntity.class, Entity.EntityType.TABLE, "table1", 1));
+    Mockito.verify(delegate, Mockito.never())
+        .list(namespace, TableEntity.class, Entity.EntityType.TABLE);
+    Assertions.assertEquals(0, store.cache().estimatedSize());
+  }
+
+  private static SchemaEntity createSchema(Long id, Namespace namespace, String name) {
+    return SchemaEntity.builder()
+        .withId(id)
+        .withName(name)
+        .withNamespace(namespace)
+        .withComment("")
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+
+  private static TableEntity createTable(Long id, Namespace namespace, String name) {
+    return TableEntity.builder()
+        .withId(id)
+        .withName(name)
+        .withNamespace(namespace)
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage.relational.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.io.IOException;
+import java.time.Instant;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.storage.relational.TestJDBCBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class TestEntityIdCache extends TestJDBCBackend {
+  private static final Logger LOG = LoggerFactory.getLogger(TestEntityIdCache.class);
+
+  private static final String METALAKE_NAME = "metalake_for_id_cache_test";
+  private static final String CATALOG_NAME = "catalog_for_id_cache_test";
+  private static final String SCHEMA_NAME = "schema_for_id_cache_test";
+  private static final Namespace TABLE_NAMESPACE =
+      Namespace.of(METALAKE_NAME, CATALOG_NAME, SCHEMA_NAME);
+
+  private final AuditInfo auditInfo =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  @BeforeEach
+  public void enableCache() throws IOException {
+    createParentEntities(METALAKE_NAME, CATALOG_NAME, SCHEMA_NAME, auditInfo);
+
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_ID_CACHE_ENABLED)).thenReturn(true);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_ID_CACHE_MAX_ENTRIES)).thenReturn(100L);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_ID_CACHE_EXPIRE_TIME_MS))
+        .thenReturn(60000L);
+    EntityIdCache.getInstance().initialize(config);
+  }
+
+  @AfterEach
+  public void disableCache() {
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_ID_CACHE_ENABLED)).thenReturn(false);
+    EntityIdCache.getInstance().initialize(config);
+  }
+
+  @Test
+  public void testWarmResolutionSkipsQueries() {
+    Long[] coldIds =
+        CommonMetaService.getInstance().getParentEntityIdsByNamespace(TABLE_NAMESPACE);
+    Assertions.assertEquals(3, EntityIdCache.getInstance().cache().stats().missCount());
+    Assertions.assertEquals(0, EntityIdCache.getInstance().cache().stats().hitCount());
+
+    Long[] warmIds =
+        CommonMetaService.getInstance().getParentEntityIdsByNamespace(TABLE_NAMESPACE);
+    Assertions.assertArrayEquals(coldIds, warmIds);
+    Assertions.assertEquals(3, EntityIdCache.getInstance().cache().stats().missCount());
+    Assertions.assertEquals(3, EntityIdCache.getInstance().cache().stats().hitCount());
+    Assertions.assertEquals(
+        warmIds[2], CommonMetaService.getInstance().getParentEntityIdByNamespace(TABLE_NAMESPACE));
+  }
+
+  @Test
+  public void testInvalidateOnRename() throws IOException {
+    Long catalogId =
+        CommonMetaService.getInstance().getParentEntityIdsByNamespace(TABLE_NAMESPACE)[1];
+
+    NameIdentifier catalogIdent = NameIdentifier.of(METALAKE_NAME, CATALOG_NAME);
+    backend.update(
+        catalogIdent,
+        Entity.EntityType.CATALOG,
+        e -> createCatalog(catalogId, Namespace.of(METALAKE_NAME), "renamed_catalog", auditInfo));
+
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () -> CommonMetaService.getInstance().getParentEntityIdsByNamespace(TABLE_NAMESPACE));
+    Assertions.assertEquals(
+        catalogId,
+        CommonMetaService.getInstance()
+            .getParentEntityIdByNamespace(Namespace.of(METALAKE_NAME, "renamed_catalog")));
+  }
+
+  @Test
+  public void testInvalidateOnDrop() throws IOException {
+    CommonMetaService.getInstance().getParentEntityIdsByNamespace(TABLE_NAMESPACE);
+
+    backend.delete(
+        NameIdentifier.of(METALAKE_NAME, CATALOG_NAME, SCHEMA_NAME),
+        Entity.EntityType.SCHEMA,
+        false);
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () -> CommonMetaService.getInstance().getParentEntityIdsByNamespace(TABLE_NAMESPACE));
+
+    backend.delete(NameIdentifier.of(METALAKE_NAME), Entity.EntityType.METALAKE, true);
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () ->
+            CommonMetaService.getInstance()
+                .getParentEntityIdByNamespace(Namespace.of(METALAKE_NAME)));
+    Assertions.assertEquals(0, EntityIdCache.getInstance().cache().estimatedSize());
+  }
+
+  @Test
+  public void testColdAndWarmResolution() {
+    int iterations = 1000;
+
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      EntityIdCache.getInstance().invalidateAll();
+      CommonMetaService.getInstance().getParentEntityIdByNamespace(TABLE_NAMESPACE);
+    }
+    long coldNanos = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      CommonMetaService.getInstance().getParentEntityIdByNamespace(TABLE_NAMESPACE);
+    }
+    long warmNanos = System.nanoTime() - start;
+
+    LOG.info(
+        "Resolved a 3-level namespace {} times against H2, cold: {} us/op, warm: {} us/op",
+        iterations,
+        coldNanos / iterations / 1000.0,
+        warmNanos / iterations / 1000.0);
+    CacheStats stats = EntityIdCache.getInstance().cache().stats();
+    Assertions.assertEquals(3L * iterations, stats.missCount());
+    Assertions.assertEquals(3L * iterations, stats.hitCount());
+  }
+}
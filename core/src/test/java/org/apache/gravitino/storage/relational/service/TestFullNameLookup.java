@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import java.io.IOException;
+import java.time.Instant;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.FilesetEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.meta.TopicEntity;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.relational.TestJDBCBackend;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestFullNameLookup extends TestJDBCBackend {
+
+  private static final String METALAKE_NAME = "metalake_for_full_name_lookup_test";
+
+  private final AuditInfo auditInfo =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  @Test
+  public void testLoadByFullName() throws IOException {
+    createParentEntities(METALAKE_NAME, "catalog1", "schema1", auditInfo);
+    createCatalogAndSchema("catalog2", "schema1");
+
+    // The same leaf name lives under two catalogs, the lookup must pick the right one.
+    Namespace ns1 = Namespace.of(METALAKE_NAME, "catalog1", "schema1");
+    Namespace ns2 = Namespace.of(METALAKE_NAME, "catalog2", "schema1");
+    TableEntity table1 =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), ns1, "t", auditInfo);
+    TableEntity table2 =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), ns2, "t", auditInfo);
+    backend.insert(table1, false);
+    backend.insert(table2, false);
+    FilesetEntity fileset1 =
+        createFilesetEntity(RandomIdGenerator.INSTANCE.nextId(), ns1, "f", auditInfo);
+    FilesetEntity fileset2 =
+        createFilesetEntity(RandomIdGenerator.INSTANCE.nextId(), ns2, "f", auditInfo);
+    backend.insert(fileset1, false);
+    backend.insert(fileset2, false);
+    TopicEntity topic1 =
+        createTopicEntity(RandomIdGenerator.INSTANCE.nextId(), ns1, "tp", auditInfo);
+    TopicEntity topic2 =
+        createTopicEntity(RandomIdGenerator.INSTANCE.nextId(), ns2, "tp", auditInfo);
+    backend.insert(topic1, false);
+    backend.insert(topic2, false);
+
+    Assertions.assertEquals(
+        table1.id(),
+        TableMetaService.getInstance().getTableByIdentifier(table1.nameIdentifier()).id());
+    Assertions.assertEquals(
+        table2.id(),
+        TableMetaService.getInstance().getTableByIdentifier(table2.nameIdentifier()).id());
+    Assertions.assertEquals(
+        fileset1.id(),
+        FilesetMetaService.getInstance().getFilesetByIdentifier(fileset1.nameIdentifier()).id());
+    Assertions.assertEquals(
+        fileset2.id(),
+        FilesetMetaService.getInstance().getFilesetByIdentifier(fileset2.nameIdentifier()).id());
+    Assertions.assertEquals(
+        topic1.id(),
+        TopicMetaService.getInstance().getTopicByIdentifier(topic1.nameIdentifier()).id());
+    Assertions.assertEquals(
+        topic2.id(),
+        TopicMetaService.getInstance().getTopicByIdentifier(topic2.nameIdentifier()).id());
+
+    // A dropped and recreated table resolves to the live row only.
+    backend.delete(table1.nameIdentifier(), Entity.EntityType.TABLE, false);
+    TableEntity table3 =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), ns1, "t", auditInfo);
+    backend.insert(table3, false);
+    Assertions.assertEquals(
+        table3.id(),
+        TableMetaService.getInstance().getTableByIdentifier(table3.nameIdentifier()).id());
+  }
+
+  @Test
+  public void testLoadByFullNameReportsMissingLevel() throws IOException {
+    createParentEntities(METALAKE_NAME, "catalog1", "schema1", auditInfo);
+
+    NoSuchEntityException e =
+        Assertions.assertThrows(
+            NoSuchEntityException.class,
+            () ->
+                TableMetaService.getInstance()
+                    .getTableByIdentifier(
+                        NameIdentifier.of(METALAKE_NAME, "catalog1", "schema1", "t")));
+    Assertions.assertTrue(e.getMessage().startsWith("No such table entity"), e.getMessage());
+
+    e =
+        Assertions.assertThrows(
+            NoSuchEntityException.class,
+            () ->
+                FilesetMetaService.getInstance()
+                    .getFilesetByIdentifier(
+                        NameIdentifier.of(METALAKE_NAME, "catalog1", "schema2", "f")));
+    Assertions.assertTrue(e.getMessage().startsWith("No such schema entity"), e.getMessage());
+
+    e =
+        Assertions.assertThrows(
+            NoSuchEntityException.class,
+            () ->
+                TopicMetaService.getInstance()
+                    .getTopicByIdentifier(
+                        NameIdentifier.of(METALAKE_NAME, "catalog2", "schema1", "tp")));
+    Assertions.assertTrue(e.getMessage().startsWith("No such catalog entity"), e.getMessage());
+  }
+
+  private void createCatalogAndSchema(String catalogName, String schemaName) throws IOException {
+    backend.insert(
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.of(METALAKE_NAME),
+            catalogName,
+            auditInfo),
+        false);
+    backend.insert(
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.of(METALAKE_NAME, catalogName),
+            schemaName,
+            auditInfo),
+        false);
+  }
+}
@@ -28,10 +28,12 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.authorization.AuthorizationUtils;
@@ -159,6 +161,45 @@ class TestRoleMetaService extends TestJDBCBackend {
     }
   }
 
+  @Test
+  void testListRolesByPage() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), metalakeName, auditInfo);
+    backend.insert(metalake, false);
+
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of(metalakeName), "catalog", auditInfo);
+    backend.insert(catalog, false);
+
+    for (String name : new String[] {"role3", "role1", "role2"}) {
+      backend.insert(
+          createRoleEntity(
+              RandomIdGenerator.INSTANCE.nextId(),
+              AuthorizationUtils.ofRoleNamespace(metalakeName),
+              name,
+              auditInfo,
+              "catalog"),
+          false);
+    }
+
+    RoleMetaService roleMetaService = RoleMetaService.getInstance();
+    Namespace namespace = AuthorizationUtils.ofRoleNamespace(metalakeName);
+    Assertions.assertEquals(
+        Arrays.asList("role1", "role2"),
+        roleMetaService.listRolesByNamespace(namespace, null, 2).stream()
+            .map(RoleEntity::name)
+            .collect(Collectors.toList()));
+    Assertions.assertEquals(
+        Arrays.asList("role3"),
+        roleMetaService.listRolesByNamespace(namespace, "role2", 2).stream()
+            .map(RoleEntity::name)
+            .collect(Collectors.toList()));
+    Assertions.assertTrue(roleMetaService.listRolesByNamespace(namespace, "role3", 2).isEmpty());
+  }
+
   @Test
   void insertRole() throws IOException {
     AuditInfo auditInfo =
@@ -527,6 +527,115 @@ public class TestTableColumnMetaService extends TestJDBCBackend {
         () -> TableColumnMetaService.getInstance().getColumnPOById(updatedColumn.id()));
   }
 
+  @Test
+  public void testBatchInsertTables() throws IOException {
+    String catalogName = "catalog1";
+    String schemaName = "schema1";
+    createParentEntities(METALAKE_NAME, catalogName, schemaName, auditInfo);
+    Namespace namespace = Namespace.of(METALAKE_NAME, catalogName, schemaName);
+
+    TableEntity existingTable =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, "table0", auditInfo);
+    TableMetaService.getInstance().insertTable(existingTable, false);
+
+    List<TableEntity> tables = Lists.newArrayList();
+    for (int i = 0; i < 3; i++) {
+      ColumnEntity column =
+          ColumnEntity.builder()
+              .withId(RandomIdGenerator.INSTANCE.nextId())
+              .withName("column" + i)
+              .withPosition(0)
+              .withComment("comment" + i)
+              .withDataType(Types.IntegerType.get())
+              .withNullable(true)
+              .withAutoIncrement(false)
+              .withDefaultValue(Literals.integerLiteral(i))
+              .withAuditInfo(auditInfo)
+              .build();
+      tables.add(
+          TableEntity.builder()
+              .withId(RandomIdGenerator.INSTANCE.nextId())
+              .withName("table" + i)
+              .withNamespace(namespace)
+              .withColumns(Lists.newArrayList(column))
+              .withAuditInfo(auditInfo)
+              .build());
+    }
+    // The same name twice in one batch, only the first one is stored.
+    tables.add(
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, "table1", auditInfo));
+
+    List<NameIdentifier> conflicts =
+        TableMetaService.getInstance().batchInsertTables(tables, false);
+    Assertions.assertEquals(
+        Lists.newArrayList(
+            NameIdentifier.of(namespace, "table0"), NameIdentifier.of(namespace, "table1")),
+        conflicts);
+    Assertions.assertEquals(
+        existingTable.id(),
+        TableMetaService.getInstance().getTableByIdentifier(existingTable.nameIdentifier()).id());
+    for (TableEntity table : tables.subList(1, 3)) {
+      TableEntity retrievedTable =
+          TableMetaService.getInstance().getTableByIdentifier(table.nameIdentifier());
+      Assertions.assertEquals(table.id(), retrievedTable.id());
+      compareTwoColumns(table.columns(), retrievedTable.columns());
+    }
+
+    // Overwrite replaces the existing table and its columns.
+    TableEntity overwrittenTable =
+        TableEntity.builder()
+            .withId(tables.get(1).id())
+            .withName("table1")
+            .withNamespace(namespace)
+            .withColumns(Lists.newArrayList())
+            .withAuditInfo(auditInfo)
+            .build();
+    conflicts =
+        TableMetaService.getInstance()
+            .batchInsertTables(Lists.newArrayList(overwrittenTable, tables.get(2)), true);
+    Assertions.assertTrue(conflicts.isEmpty());
+    Assertions.assertTrue(
+        TableMetaService.getInstance()
+            .getTableByIdentifier(overwrittenTable.nameIdentifier())
+            .columns()
+            .isEmpty());
+    TableEntity retrievedTable =
+        TableMetaService.getInstance().getTableByIdentifier(tables.get(2).nameIdentifier());
+    compareTwoColumns(tables.get(2).columns(), retrievedTable.columns());
+  }
+
+  @Test
+  public void testBatchInsertTablesWithConcurrentInsert() throws IOException {
+    String catalogName = "catalog1";
+    String schemaName = "schema1";
+    createParentEntities(METALAKE_NAME, catalogName, schemaName, auditInfo);
+    Namespace namespace = Namespace.of(METALAKE_NAME, catalogName, schemaName);
+
+    TableEntity existingTable =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, "table0", auditInfo);
+    TableMetaService.getInstance().insertTable(existingTable, false);
+
+    // The existence check is by name, a table stored with the same id looks like a table stored
+    // concurrently after the check, which makes the batch insert fail.
+    TableEntity conflictingTable =
+        createTableEntity(existingTable.id(), namespace, "table1", auditInfo);
+    TableEntity newTable =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, "table2", auditInfo);
+
+    List<NameIdentifier> conflicts =
+        TableMetaService.getInstance()
+            .batchInsertTables(Lists.newArrayList(conflictingTable, newTable), false);
+    Assertions.assertEquals(Lists.newArrayList(conflictingTable.nameIdentifier()), conflicts);
+    Assertions.assertEquals(
+        newTable.id(),
+        TableMetaService.getInstance().getTableByIdentifier(newTable.nameIdentifier()).id());
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () ->
+            TableMetaService.getInstance()
+                .getTableByIdentifier(conflictingTable.nameIdentifier()));
+  }
+
   private void compareTwoColumns(
       List<ColumnEntity> expectedColumns, List<ColumnEntity> actualColumns) {
     Assertions.assertEquals(expectedColumns.size(), actualColumns.size());
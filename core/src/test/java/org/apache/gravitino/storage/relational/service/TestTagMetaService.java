@@ -21,8 +21,10 @@ package org.apache.gravitino.storage.relational.service;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.commons.compress.utils.Lists;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
@@ -160,6 +162,43 @@ public class TestTagMetaService extends TestJDBCBackend {
     Assertions.assertTrue(tagEntities.contains(tagEntity2));
   }
 
+  @Test
+  public void testListTagsByPage() throws IOException {
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), metalakeName, auditInfo);
+    backend.insert(metalake, false);
+
+    TagMetaService tagMetaService = TagMetaService.getInstance();
+    for (String name : new String[] {"tag3", "tag1", "tag2"}) {
+      tagMetaService.insertTag(
+          TagEntity.builder()
+              .withId(RandomIdGenerator.INSTANCE.nextId())
+              .withName(name)
+              .withNamespace(NamespaceUtil.ofTag(metalakeName))
+              .withAuditInfo(auditInfo)
+              .build(),
+          false);
+    }
+
+    List<TagEntity> firstPage =
+        tagMetaService.listTagsByNamespace(NamespaceUtil.ofTag(metalakeName), null, 2);
+    Assertions.assertEquals(
+        Arrays.asList("tag1", "tag2"),
+        firstPage.stream().map(TagEntity::name).collect(Collectors.toList()));
+
+    List<TagEntity> secondPage =
+        tagMetaService.listTagsByNamespace(NamespaceUtil.ofTag(metalakeName), "tag2", 2);
+    Assertions.assertEquals(
+        Arrays.asList("tag3"),
+        secondPage.stream().map(TagEntity::name).collect(Collectors.toList()));
+
+    // The entity store goes through the same paged query.
+    List<TagEntity> storePage =
+        backend.list(NamespaceUtil.ofTag(metalakeName), Entity.EntityType.TAG, "tag1", 1);
+    Assertions.assertEquals(1, storePage.size());
+    Assertions.assertEquals("tag2", storePage.get(0).name());
+  }
+
   @Test
   public void testUpdateTag() throws IOException {
     BaseMetalake metalake =
@@ -27,11 +27,13 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.Namespace;
@@ -218,6 +220,39 @@ class TestUserMetaService extends TestJDBCBackend {
     Assertions.assertEquals(expectUsers.size(), actualUsers.size());
   }
 
+  @Test
+  void testListUsersByPage() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), metalakeName, auditInfo);
+    backend.insert(metalake, false);
+
+    for (String name : new String[] {"user3", "user1", "user2"}) {
+      backend.insert(
+          createUserEntity(
+              RandomIdGenerator.INSTANCE.nextId(),
+              AuthorizationUtils.ofUserNamespace(metalakeName),
+              name,
+              auditInfo),
+          false);
+    }
+
+    UserMetaService userMetaService = UserMetaService.getInstance();
+    Namespace namespace = AuthorizationUtils.ofUserNamespace(metalakeName);
+    Assertions.assertEquals(
+        Arrays.asList("user1", "user2"),
+        userMetaService.listUsersByNamespace(namespace, null, 2).stream()
+            .map(UserEntity::name)
+            .collect(Collectors.toList()));
+    Assertions.assertEquals(
+        Arrays.asList("user3"),
+        userMetaService.listUsersByNamespace(namespace, "user2", 2).stream()
+            .map(UserEntity::name)
+            .collect(Collectors.toList()));
+    Assertions.assertTrue(userMetaService.listUsersByNamespace(namespace, "user3", 2).isEmpty());
+  }
+
   @Test
   void insertUser() throws IOException {
     AuditInfo auditInfo =
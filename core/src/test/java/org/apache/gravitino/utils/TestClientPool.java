@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.concurrent.CountDownLatch;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -68,12 +69,97 @@ public class TestClientPool {
     assertEquals(2, clientPool.poolSize());
   }
 
+  @Test
+  public void testBorrowTimeout() throws Exception {
+    ClientPoolImpl<ClientMock, Exception> pool =
+        new ClientPoolImplExtension(1, 1, 200, 60_000, Exception.class, true);
+    CountDownLatch borrowed = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Thread holder = holdClient(pool, borrowed, release);
+    try {
+      borrowed.await();
+      IllegalStateException e =
+          assertThrows(
+              IllegalStateException.class, () -> pool.run(client -> client.performAction("a")));
+      assertTrue(e.getMessage().contains("Timed out after"));
+      assertEquals(1, pool.borrowTimeoutCount());
+      assertEquals(1, pool.activeCount());
+    } finally {
+      release.countDown();
+      holder.join();
+      pool.close();
+    }
+  }
+
+  @Test
+  public void testElasticPool() throws Exception {
+    ClientPoolImpl<ClientMock, Exception> pool =
+        new ClientPoolImplExtension(1, 2, 5_000, 50, Exception.class, true);
+    CountDownLatch borrowed = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Thread holder = holdClient(pool, borrowed, release);
+    try {
+      borrowed.await();
+      // The only client is in use, the pool grows instead of waiting until the borrow times out.
+      assertEquals("a", pool.run(client -> client.performAction("a")));
+      assertEquals(1, pool.activeCount());
+      assertEquals(1, pool.idleCount());
+    } finally {
+      release.countDown();
+      holder.join();
+    }
+
+    // The client idle longer than the idle timeout is closed, the pool shrinks to its pool size.
+    Thread.sleep(100);
+    assertEquals("b", pool.run(client -> client.performAction("b")));
+    assertEquals(0, pool.activeCount());
+    assertEquals(1, pool.idleCount());
+    pool.close();
+  }
+
+  private static Thread holdClient(
+      ClientPoolImpl<ClientMock, Exception> pool, CountDownLatch borrowed, CountDownLatch release) {
+    Thread holder =
+        new Thread(
+            () -> {
+              try {
+                pool.run(
+                    client -> {
+                      borrowed.countDown();
+                      release.await();
+                      return null;
+                    });
+              } catch (Exception e) {
+                throw new RuntimeException(e);
+              }
+            });
+    holder.start();
+    return holder;
+  }
+
   private static final class ClientPoolImplExtension extends ClientPoolImpl<ClientMock, Exception> {
     private ClientPoolImplExtension(
         int poolSize, Class<? extends Exception> reconnectExc, boolean retryByDefault) {
       super(poolSize, reconnectExc, retryByDefault);
     }
 
+    private ClientPoolImplExtension(
+        int poolSize,
+        int maxPoolSize,
+        long borrowTimeoutMs,
+        long idleTimeoutMs,
+        Class<? extends Exception> reconnectExc,
+        boolean retryByDefault) {
+      super(
+          poolSize,
+          maxPoolSize,
+          borrowTimeoutMs,
+          idleTimeoutMs,
+          reconnectExc,
+          retryByDefault,
+          null);
+    }
+
     @Override
     protected ClientMock newClient() {
       return new ClientMock();
@@ -21,9 +21,18 @@ package org.apache.gravitino.iceberg.common;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Map;
 import org.apache.commons.compress.utils.Lists;
+import org.apache.hadoop.hive.metastore.IMetaStoreClient;
+import org.apache.hadoop.hive.metastore.api.NoSuchObjectException;
+import org.apache.hadoop.hive.metastore.api.Table;
+import org.apache.iceberg.BaseMetastoreTableOperations;
+import org.apache.iceberg.ClientPool;
+import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.hive.HiveCatalog;
+import org.apache.thrift.TException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,6 +54,51 @@ public class ClosableHiveCatalog extends HiveCatalog implements Closeable {
     resources.add(resource);
   }
 
+  /**
+   * Gets the current metadata location of the Iceberg table from the Hive Metastore without reading
+   * the table metadata file.
+   *
+   * @param identifier The table identifier.
+   * @return The current metadata location, or null if the table doesn't exist or isn't an Iceberg
+   *     table.
+   * @throws TException If failed to get the table from the Hive Metastore.
+   * @throws InterruptedException If interrupted while waiting for a Hive Metastore client.
+   */
+  public String currentMetadataLocation(TableIdentifier identifier)
+      throws TException, InterruptedException {
+    if (identifier.namespace().levels().length != 1) {
+      return null;
+    }
+    String database = identifier.namespace().level(0);
+    Table table;
+    try {
+      table = clientPool().run(client -> client.getTable(database, identifier.name()));
+    } catch (NoSuchObjectException e) {
+      return null;
+    }
+
+    Map<String, String> parameters = table.getParameters();
+    if (parameters == null
+        || !BaseMetastoreTableOperations.ICEBERG_TABLE_TYPE_VALUE.equalsIgnoreCase(
+            parameters.get(BaseMetastoreTableOperations.TABLE_TYPE_PROP))) {
+      return null;
+    }
+    return parameters.get(BaseMetastoreTableOperations.METADATA_LOCATION_PROP);
+  }
+
+  @SuppressWarnings("unchecked")
+  private ClientPool<IMetaStoreClient, TException> clientPool() {
+    // HiveCatalog doesn't expose the client pool, and the pool may be replaced by
+    // HiveBackendProxy, so read the field every time.
+    try {
+      Field field = HiveCatalog.class.getDeclaredField("clients");
+      field.setAccessible(true);
+      return (ClientPool<IMetaStoreClient, TException>) field.get(this);
+    } catch (NoSuchFieldException | IllegalAccessException e) {
+      throw new RuntimeException("Failed to get the client pool of HiveCatalog", e);
+    }
+  }
+
   @Override
   public void close() throws IOException {
     // Do clean up work here. We need a mechanism to close the HiveCatalog; however, HiveCatalog
@@ -196,6 +196,24 @@ public class IcebergConfig extends Config implements OverwriteDefaultConfig {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(1000);
 
+  public static final ConfigEntry<Integer> ICEBERG_METRICS_STORE_BATCH_SIZE =
+      new ConfigBuilder(IcebergConstants.ICEBERG_METRICS_STORE_BATCH_SIZE)
+          .doc("The max number of Iceberg metrics written to the metrics store in one batch")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
+  public static final ConfigEntry<Long> ICEBERG_METRICS_STORE_BATCH_LINGER_MS =
+      new ConfigBuilder(IcebergConstants.ICEBERG_METRICS_STORE_BATCH_LINGER_MS)
+          .doc(
+              "The max time in milliseconds to wait for more Iceberg metrics before writing a "
+                  + "batch, 0 means writing the metrics already in the queue immediately")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
   public static final ConfigEntry<String> CATALOG_BACKEND_NAME =
       new ConfigBuilder(IcebergConstants.CATALOG_BACKEND_NAME)
           .doc("The catalog name for Iceberg catalog backend")
@@ -203,6 +221,24 @@ public class IcebergConfig extends Config implements OverwriteDefaultConfig {
           .stringConf()
           .create();
 
+  public static final ConfigEntry<Integer> TABLE_METADATA_CACHE_CAPACITY =
+      new ConfigBuilder(IcebergConstants.TABLE_METADATA_CACHE_CAPACITY)
+          .doc(
+              "The max number of table metadata cached by the metadata location, 0 means disable "
+                  + "the cache. Only Hive and JDBC catalog backends support the cache.")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0);
+
+  public static final ConfigEntry<Long> TABLE_METADATA_CACHE_EXPIRE_MS =
+      new ConfigBuilder(IcebergConstants.TABLE_METADATA_CACHE_EXPIRE_MS)
+          .doc("The expire time of the cached table metadata after it's loaded.")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(600000L);
+
   public static final ConfigEntry<Long> ICEBERG_REST_CATALOG_CACHE_EVICTION_INTERVAL =
       new ConfigBuilder(IcebergConstants.ICEBERG_REST_CATALOG_CACHE_EVICTION_INTERVAL)
           .doc("Catalog cache eviction interval.")
@@ -210,6 +246,44 @@ public class IcebergConfig extends Config implements OverwriteDefaultConfig {
           .longConf()
           .createWithDefault(3600000L);
 
+  public static final ConfigEntry<Long> ICEBERG_REST_LOAD_TABLE_RESPONSE_CACHE_MAX_BYTES =
+      new ConfigBuilder(IcebergConstants.ICEBERG_REST_LOAD_TABLE_RESPONSE_CACHE_MAX_BYTES)
+          .doc(
+              "The max bytes of the serialized load table responses cached by the metadata "
+                  + "location, 0 means disable the cache.")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(64 * 1024 * 1024L);
+
+  public static final ConfigEntry<Integer> ICEBERG_REST_CATALOG_MAX_CONCURRENT_REQUESTS =
+      new ConfigBuilder(IcebergConstants.ICEBERG_REST_CATALOG_MAX_CONCURRENT_REQUESTS)
+          .doc(
+              "The max number of the concurrent requests of each catalog, the requests exceeding "
+                  + "the limit are rejected with 503, 0 means no limit.")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0);
+
+  public static final ConfigEntry<Long> ICEBERG_REST_CATALOG_REQUEST_QUEUE_TIMEOUT =
+      new ConfigBuilder(IcebergConstants.ICEBERG_REST_CATALOG_REQUEST_QUEUE_TIMEOUT)
+          .doc(
+              "The max time in milliseconds a request waits for the concurrency limit of its "
+                  + "catalog before it's rejected, 0 means rejecting immediately.")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
+  public static final ConfigEntry<Integer> ICEBERG_REST_CATALOG_REQUEST_RETRY_AFTER =
+      new ConfigBuilder(IcebergConstants.ICEBERG_REST_CATALOG_REQUEST_RETRY_AFTER)
+          .doc("The seconds in the Retry-After header of the rejected requests.")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1);
+
   public static final ConfigEntry<String> ICEBERG_REST_CATALOG_CONFIG_PROVIDER =
       new ConfigBuilder(IcebergConstants.ICEBERG_REST_CATALOG_CONFIG_PROVIDER)
           .doc(
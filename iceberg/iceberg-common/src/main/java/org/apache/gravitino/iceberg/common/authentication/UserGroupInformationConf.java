@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.common.authentication;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.security.UserGroupInformation;
+
+/**
+ * Applies Hadoop configurations to UserGroupInformation, which is shared by the whole JVM. All the
+ * Iceberg code must go through this class instead of calling {@link
+ * UserGroupInformation#setConfiguration(Configuration)} directly, so it knows which configuration
+ * was applied last.
+ */
+public class UserGroupInformationConf {
+
+  private static final AtomicReference<Configuration> APPLIED_CONF = new AtomicReference<>();
+
+  private UserGroupInformationConf() {}
+
+  /**
+   * Apply the Hadoop configuration to UserGroupInformation.
+   *
+   * @param hadoopConf The Hadoop configuration.
+   */
+  public static void apply(Configuration hadoopConf) {
+    synchronized (APPLIED_CONF) {
+      UserGroupInformation.setConfiguration(hadoopConf);
+      APPLIED_CONF.set(hadoopConf);
+    }
+  }
+
+  /**
+   * Apply the Hadoop configuration to UserGroupInformation unless it was the last one applied and
+   * the authentication method wasn't reset since then.
+   *
+   * @param hadoopConf The Hadoop configuration.
+   * @param securityEnabled Whether the Hadoop configuration enables security.
+   */
+  public static void applyIfChanged(Configuration hadoopConf, boolean securityEnabled) {
+    if (APPLIED_CONF.get() == hadoopConf
+        && UserGroupInformation.isSecurityEnabled() == securityEnabled) {
+      return;
+    }
+    apply(hadoopConf);
+  }
+
+  @VisibleForTesting
+  public static Configuration appliedConf() {
+    return APPLIED_CONF.get();
+  }
+}
@@ -29,6 +29,7 @@ import java.util.Map;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.iceberg.common.authentication.UserGroupInformationConf;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.security.UserGroupInformation;
 import org.slf4j.Logger;
@@ -71,7 +72,7 @@ public class KerberosClient implements Closeable {
         principalComponents.size() == 2, "The principal has the wrong format");
 
     // Login
-    UserGroupInformation.setConfiguration(hadoopConf);
+    UserGroupInformationConf.apply(hadoopConf);
     UserGroupInformation.loginUserFromKeytab(catalogPrincipal, keytabFilePath);
     UserGroupInformation kerberosLoginUgi = UserGroupInformation.getCurrentUser();
 
@@ -30,10 +30,13 @@ import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergCatalogBackend;
 import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.gravitino.iceberg.common.authentication.UserGroupInformationConf;
 import org.apache.gravitino.iceberg.common.utils.IcebergCatalogUtil;
 import org.apache.gravitino.utils.IsolatedClassLoader;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.security.SecurityUtil;
 import org.apache.hadoop.security.UserGroupInformation;
+import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.Transaction;
 import org.apache.iceberg.catalog.Catalog;
 import org.apache.iceberg.catalog.Namespace;
@@ -71,6 +74,10 @@ public class IcebergCatalogWrapper implements AutoCloseable {
   private final IcebergCatalogBackend catalogBackend;
   private String catalogUri = null;
   private Map<String, String> catalogPropertiesMap;
+  private final Configuration hadoopConf;
+  private final boolean securityEnabled;
+  // The cache is null if it's disabled or not supported by the catalog backend.
+  private final IcebergTableMetadataCache tableMetadataCache;
 
   public IcebergCatalogWrapper(IcebergConfig icebergConfig) {
     this.catalogBackend =
@@ -92,6 +99,13 @@ public class IcebergCatalogWrapper implements AutoCloseable {
     }
 
     this.catalogPropertiesMap = icebergConfig.getIcebergCatalogProperties();
+    this.hadoopConf = new Configuration();
+    this.catalogPropertiesMap.forEach(hadoopConf::set);
+    // Resolve the authentication method once, which also loads the default resources.
+    this.securityEnabled =
+        SecurityUtil.getAuthenticationMethod(hadoopConf)
+            != UserGroupInformation.AuthenticationMethod.SIMPLE;
+    this.tableMetadataCache = IcebergTableMetadataCache.create(icebergConfig, catalog);
   }
 
   private void validateNamespace(Optional<Namespace> namespace) {
@@ -154,11 +168,13 @@ public class IcebergCatalogWrapper implements AutoCloseable {
    * in KerberosClient, however, when switching to iceberg-rest thread,
    * UserGroupInformation#authenticationMethod will be reset to the default value; we need to
    * reinitialize it again.
+   *
+   * <p>The Hadoop configuration is resolved once when the wrapper is created, and it's only applied
+   * to UserGroupInformation if another configuration was applied or the authentication method was
+   * reset, so it's cheap to call this method for every request.
    */
   public void reloadHadoopConf() {
-    Configuration configuration = new Configuration();
-    this.catalogPropertiesMap.forEach(configuration::set);
-    UserGroupInformation.setConfiguration(configuration);
+    UserGroupInformationConf.applyIfChanged(hadoopConf, securityEnabled);
   }
 
   public LoadTableResponse createTable(Namespace namespace, CreateTableRequest request) {
@@ -170,15 +186,28 @@ public class IcebergCatalogWrapper implements AutoCloseable {
   }
 
   public void dropTable(TableIdentifier tableIdentifier) {
+    invalidateTableMetadata(tableIdentifier);
     CatalogHandlers.dropTable(catalog, tableIdentifier);
   }
 
   public void purgeTable(TableIdentifier tableIdentifier) {
+    invalidateTableMetadata(tableIdentifier);
     CatalogHandlers.purgeTable(catalog, tableIdentifier);
   }
 
   public LoadTableResponse loadTable(TableIdentifier tableIdentifier) {
-    return injectTableConfig(() -> CatalogHandlers.loadTable(catalog, tableIdentifier));
+    if (tableMetadataCache == null) {
+      return injectTableConfig(() -> CatalogHandlers.loadTable(catalog, tableIdentifier));
+    }
+
+    TableMetadata tableMetadata = tableMetadataCache.getIfCurrent(tableIdentifier);
+    if (tableMetadata != null) {
+      return LoadTableResponse.builder().withTableMetadata(tableMetadata).build();
+    }
+    LoadTableResponse loadTableResponse =
+        injectTableConfig(() -> CatalogHandlers.loadTable(catalog, tableIdentifier));
+    tableMetadataCache.put(tableIdentifier, loadTableResponse.tableMetadata());
+    return loadTableResponse;
   }
 
   public boolean tableExists(TableIdentifier tableIdentifier) {
@@ -190,16 +219,25 @@ public class IcebergCatalogWrapper implements AutoCloseable {
   }
 
   public void renameTable(RenameTableRequest renameTableRequest) {
+    invalidateTableMetadata(renameTableRequest.source());
+    invalidateTableMetadata(renameTableRequest.destination());
     CatalogHandlers.renameTable(catalog, renameTableRequest);
   }
 
   public LoadTableResponse updateTable(
       TableIdentifier tableIdentifier, UpdateTableRequest updateTableRequest) {
-    return CatalogHandlers.updateTable(catalog, tableIdentifier, updateTableRequest);
+    invalidateTableMetadata(tableIdentifier);
+    LoadTableResponse loadTableResponse =
+        CatalogHandlers.updateTable(catalog, tableIdentifier, updateTableRequest);
+    if (tableMetadataCache != null) {
+      tableMetadataCache.put(tableIdentifier, loadTableResponse.tableMetadata());
+    }
+    return loadTableResponse;
   }
 
   public LoadTableResponse updateTable(IcebergTableChange icebergTableChange) {
     Transaction transaction = icebergTableChange.getTransaction();
+    invalidateTableMetadata(icebergTableChange.getTableIdentifier());
     transaction.commitTransaction();
     return loadTable(icebergTableChange.getTableIdentifier());
   }
@@ -237,6 +275,9 @@ public class IcebergCatalogWrapper implements AutoCloseable {
 
   @Override
   public void close() throws Exception {
+    if (tableMetadataCache != null) {
+      tableMetadataCache.invalidateAll();
+    }
     if (catalog instanceof AutoCloseable) {
       // JdbcCatalog and WrappedHiveCatalog need close.
       ((AutoCloseable) catalog).close();
@@ -293,6 +334,12 @@ public class IcebergCatalogWrapper implements AutoCloseable {
     closeDriverLoadedByIsolatedClassLoader(catalogUri);
   }
 
+  private void invalidateTableMetadata(TableIdentifier tableIdentifier) {
+    if (tableMetadataCache != null) {
+      tableMetadataCache.invalidate(tableIdentifier);
+    }
+  }
+
   // Some io and security configuration should pass to Iceberg REST client
   private LoadTableResponse injectTableConfig(Supplier<LoadTableResponse> supplier) {
     LoadTableResponse loadTableResponse = supplier.get();
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.common.ops;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import java.lang.reflect.Field;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.iceberg.common.ClosableHiveCatalog;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.catalog.Catalog;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.jdbc.JdbcCatalog;
+import org.apache.iceberg.jdbc.JdbcClientPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the parsed {@link TableMetadata} of the Iceberg tables.
+ *
+ * <p>A cached metadata is only used if its metadata file location is still the current metadata
+ * location of the table. The current location is read from the catalog backend directly, which is
+ * much cheaper than reading and parsing the metadata file, so the cache is only supported for the
+ * catalog backends that store the metadata location, which are Hive and JDBC.
+ */
+public class IcebergTableMetadataCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(IcebergTableMetadataCache.class);
+
+  // Refer to JdbcUtil in Iceberg, the table and column names are not exposed publicly.
+  private static final String GET_METADATA_LOCATION_SQL =
+      "SELECT metadata_location FROM iceberg_tables"
+          + " WHERE catalog_name = ? AND table_namespace = ? AND table_name = ?";
+
+  @FunctionalInterface
+  interface MetadataLocationResolver {
+    /**
+     * Gets the current metadata location of the table.
+     *
+     * @param identifier The table identifier.
+     * @return The current metadata location, or null if it's unknown.
+     * @throws Exception If failed to get the metadata location.
+     */
+    String currentMetadataLocation(TableIdentifier identifier) throws Exception;
+  }
+
+  private final Cache<TableIdentifier, TableMetadata> tableMetadataCache;
+  private final MetadataLocationResolver metadataLocationResolver;
+
+  @VisibleForTesting
+  IcebergTableMetadataCache(
+      int capacity, long expireMs, MetadataLocationResolver metadataLocationResolver) {
+    this.tableMetadataCache =
+        Caffeine.newBuilder()
+            .maximumSize(capacity)
+            .expireAfterWrite(expireMs, TimeUnit.MILLISECONDS)
+            .build();
+    this.metadataLocationResolver = metadataLocationResolver;
+  }
+
+  /**
+   * Creates the table metadata cache for the catalog.
+   *
+   * @param icebergConfig The Iceberg configuration.
+   * @param catalog The Iceberg catalog backend.
+   * @return The table metadata cache, or null if the cache is disabled or not supported by the
+   *     catalog backend.
+   */
+  public static IcebergTableMetadataCache create(IcebergConfig icebergConfig, Catalog catalog) {
+    int capacity = icebergConfig.get(IcebergConfig.TABLE_METADATA_CACHE_CAPACITY);
+    if (capacity <= 0) {
+      return null;
+    }
+
+    MetadataLocationResolver resolver = createMetadataLocationResolver(catalog);
+    if (resolver == null) {
+      LOG.warn(
+          "Table metadata cache is not supported by the catalog backend: {}, disable it",
+          catalog.getClass().getName());
+      return null;
+    }
+    return new IcebergTableMetadataCache(
+        capacity, icebergConfig.get(IcebergConfig.TABLE_METADATA_CACHE_EXPIRE_MS), resolver);
+  }
+
+  /**
+   * Gets the cached table metadata if it's the current version of the table.
+   *
+   * @param identifier The table identifier.
+   * @return The current table metadata, or null if it's not cached or out of date.
+   */
+  public TableMetadata getIfCurrent(TableIdentifier identifier) {
+    TableMetadata tableMetadata = tableMetadataCache.getIfPresent(identifier);
+    if (tableMetadata == null) {
+      return null;
+    }
+
+    String metadataLocation;
+    try {
+      metadataLocation = metadataLocationResolver.currentMetadataLocation(identifier);
+    } catch (Exception e) {
+      LOG.warn("Failed to get the current metadata location of table: {}", identifier, e);
+      return null;
+    }
+
+    if (metadataLocation != null
+        && metadataLocation.equals(tableMetadata.metadataFileLocation())) {
+      return tableMetadata;
+    }
+    tableMetadataCache.invalidate(identifier);
+    return null;
+  }
+
+  /**
+   * Caches the loaded table metadata.
+   *
+   * @param identifier The table identifier.
+   * @param tableMetadata The table metadata loaded from the catalog backend.
+   */
+  public void put(TableIdentifier identifier, TableMetadata tableMetadata) {
+    if (tableMetadata != null && tableMetadata.metadataFileLocation() != null) {
+      tableMetadataCache.put(identifier, tableMetadata);
+    }
+  }
+
+  /**
+   * Invalidates the cached table metadata, the table is changed, dropped or renamed.
+   *
+   * @param identifier The table identifier.
+   */
+  public void invalidate(TableIdentifier identifier) {
+    tableMetadataCache.invalidate(identifier);
+  }
+
+  public void invalidateAll() {
+    tableMetadataCache.invalidateAll();
+  }
+
+  @VisibleForTesting
+  long size() {
+    tableMetadataCache.cleanUp();
+    return tableMetadataCache.estimatedSize();
+  }
+
+  private static MetadataLocationResolver createMetadataLocationResolver(Catalog catalog) {
+    if (catalog instanceof ClosableHiveCatalog) {
+      ClosableHiveCatalog hiveCatalog = (ClosableHiveCatalog) catalog;
+      return hiveCatalog::currentMetadataLocation;
+    }
+
+    if (catalog instanceof JdbcCatalog) {
+      JdbcClientPool connections = getJdbcClientPool((JdbcCatalog) catalog);
+      String catalogName = catalog.name();
+      return identifier ->
+          connections.run(
+              connection -> {
+                try (PreparedStatement statement =
+                    connection.prepareStatement(GET_METADATA_LOCATION_SQL)) {
+                  statement.setString(1, catalogName);
+                  statement.setString(2, String.join(".", identifier.namespace().levels()));
+                  statement.setString(3, identifier.name());
+                  try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next() ? resultSet.getString(1) : null;
+                  }
+                }
+              });
+    }
+
+    return null;
+  }
+
+  private static JdbcClientPool getJdbcClientPool(JdbcCatalog jdbcCatalog) {
+    try {
+      Field field = JdbcCatalog.class.getDeclaredField("connections");
+      field.setAccessible(true);
+      return (JdbcClientPool) field.get(jdbcCatalog);
+    } catch (NoSuchFieldException | IllegalAccessException e) {
+      throw new RuntimeException("Failed to get the connection pool of JdbcCatalog", e);
+    }
+  }
+}
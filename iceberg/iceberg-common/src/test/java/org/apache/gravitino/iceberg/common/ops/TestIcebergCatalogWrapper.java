@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.common.ops;
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.gravitino.iceberg.common.authentication.UserGroupInformationConf;
+import org.apache.hadoop.conf.Configuration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestIcebergCatalogWrapper {
+
+  @Test
+  void testReloadHadoopConf() throws Exception {
+    try (IcebergCatalogWrapper wrapper1 = new IcebergCatalogWrapper(new IcebergConfig());
+        IcebergCatalogWrapper wrapper2 =
+            new IcebergCatalogWrapper(new IcebergConfig(ImmutableMap.of("k1", "v1")))) {
+      wrapper1.reloadHadoopConf();
+      Configuration appliedConf = UserGroupInformationConf.appliedConf();
+      Assertions.assertNotNull(appliedConf);
+
+      // The same configuration isn't applied again
+      wrapper1.reloadHadoopConf();
+      Assertions.assertSame(appliedConf, UserGroupInformationConf.appliedConf());
+
+      wrapper2.reloadHadoopConf();
+      Assertions.assertNotSame(appliedConf, UserGroupInformationConf.appliedConf());
+      Assertions.assertEquals("v1", UserGroupInformationConf.appliedConf().get("k1"));
+
+      wrapper1.reloadHadoopConf();
+      Assertions.assertSame(appliedConf, UserGroupInformationConf.appliedConf());
+
+      // A configuration applied by others, like the Kerberos login, is replaced too
+      UserGroupInformationConf.apply(new Configuration());
+      wrapper1.reloadHadoopConf();
+      Assertions.assertSame(appliedConf, UserGroupInformationConf.appliedConf());
+    }
+  }
+}
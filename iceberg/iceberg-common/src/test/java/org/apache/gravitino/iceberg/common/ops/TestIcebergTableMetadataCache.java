@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.common.ops;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.TableMetadataParser;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.inmemory.InMemoryCatalog;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestIcebergTableMetadataCache {
+
+  private static final Schema SCHEMA =
+      new Schema(Types.NestedField.optional(1, "id", Types.IntegerType.get()));
+
+  private static TableMetadata newTableMetadata(String metadataLocation) {
+    TableMetadata tableMetadata =
+        TableMetadata.newTableMetadata(
+            SCHEMA, PartitionSpec.unpartitioned(), "file:/tmp/table", ImmutableMap.of());
+    return TableMetadataParser.fromJson(
+        metadataLocation, TableMetadataParser.toJson(tableMetadata));
+  }
+
+  @Test
+  void testGetIfCurrent() {
+    Map<TableIdentifier, String> metadataLocations = new HashMap<>();
+    IcebergTableMetadataCache cache =
+        new IcebergTableMetadataCache(10, 60000L, metadataLocations::get);
+    TableIdentifier identifier = TableIdentifier.of("db", "table");
+
+    Assertions.assertNull(cache.getIfCurrent(identifier));
+
+    TableMetadata tableMetadata = newTableMetadata("file:/tmp/table/metadata/v1.metadata.json");
+    metadataLocations.put(identifier, tableMetadata.metadataFileLocation());
+    cache.put(identifier, tableMetadata);
+    Assertions.assertSame(tableMetadata, cache.getIfCurrent(identifier));
+
+    // the pointer moves, the cached metadata is out of date
+    metadataLocations.put(identifier, "file:/tmp/table/metadata/v2.metadata.json");
+    Assertions.assertNull(cache.getIfCurrent(identifier));
+    Assertions.assertEquals(0, cache.size());
+
+    // the table is dropped
+    cache.put(identifier, tableMetadata);
+    metadataLocations.remove(identifier);
+    Assertions.assertNull(cache.getIfCurrent(identifier));
+
+    cache.put(identifier, tableMetadata);
+    cache.invalidate(identifier);
+    Assertions.assertEquals(0, cache.size());
+
+    // the metadata without a metadata location is not cached
+    cache.put(identifier, newTableMetadata(null));
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  @Test
+  void testResolverFailure() {
+    IcebergTableMetadataCache cache =
+        new IcebergTableMetadataCache(
+            10,
+            60000L,
+            identifier -> {
+              throw new RuntimeException("Failed to connect to the catalog backend");
+            });
+    TableIdentifier identifier = TableIdentifier.of("db", "table");
+    cache.put(identifier, newTableMetadata("file:/tmp/table/metadata/v1.metadata.json"));
+    Assertions.assertNull(cache.getIfCurrent(identifier));
+  }
+
+  @Test
+  void testCreate() {
+    IcebergConfig icebergConfig = new IcebergConfig(ImmutableMap.of());
+    Assertions.assertNull(IcebergTableMetadataCache.create(icebergConfig, new InMemoryCatalog()));
+
+    // the memory catalog backend doesn't support the cache
+    icebergConfig =
+        new IcebergConfig(
+            ImmutableMap.of(IcebergConfig.TABLE_METADATA_CACHE_CAPACITY.getKey(), "10"));
+    Assertions.assertNull(IcebergTableMetadataCache.create(icebergConfig, new InMemoryCatalog()));
+  }
+}
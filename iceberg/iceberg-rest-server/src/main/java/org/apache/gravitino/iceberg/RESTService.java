@@ -25,8 +25,11 @@ import javax.servlet.Servlet;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.auxiliary.GravitinoAuxiliaryService;
 import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.gravitino.iceberg.service.IcebergCatalogBulkhead;
+import org.apache.gravitino.iceberg.service.IcebergCatalogBulkheadFilter;
 import org.apache.gravitino.iceberg.service.IcebergCatalogWrapperManager;
 import org.apache.gravitino.iceberg.service.IcebergExceptionMapper;
+import org.apache.gravitino.iceberg.service.IcebergLoadTableResponseCache;
 import org.apache.gravitino.iceberg.service.IcebergObjectMapperProvider;
 import org.apache.gravitino.iceberg.service.dispatcher.IcebergNamespaceEventDispatcher;
 import org.apache.gravitino.iceberg.service.dispatcher.IcebergNamespaceOperationDispatcher;
@@ -42,6 +45,7 @@ import org.apache.gravitino.iceberg.service.provider.IcebergConfigProvider;
 import org.apache.gravitino.iceberg.service.provider.IcebergConfigProviderFactory;
 import org.apache.gravitino.listener.EventBus;
 import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.IcebergCatalogBulkheadMetricsSource;
 import org.apache.gravitino.metrics.source.MetricsSource;
 import org.apache.gravitino.server.web.HttpServerMetricsSource;
 import org.apache.gravitino.server.web.JettyServer;
@@ -91,7 +95,18 @@ public class RESTService implements GravitinoAuxiliaryService {
     EventBus eventBus = GravitinoEnv.getInstance().eventBus();
     this.icebergCatalogWrapperManager =
         new IcebergCatalogWrapperManager(configProperties, configProvider);
+    IcebergCatalogBulkheadMetricsSource bulkheadMetricsSource =
+        new IcebergCatalogBulkheadMetricsSource();
+    metricsSystem.register(bulkheadMetricsSource);
+    config.register(
+        new IcebergCatalogBulkheadFilter(
+            new IcebergCatalogBulkhead(
+                icebergConfig,
+                bulkheadMetricsSource,
+                icebergCatalogWrapperManager::isKnownCatalog)));
     this.icebergMetricsManager = new IcebergMetricsManager(icebergConfig);
+    IcebergLoadTableResponseCache loadTableResponseCache =
+        new IcebergLoadTableResponseCache(icebergConfig);
     IcebergTableOperationExecutor icebergTableOperationExecutor =
         new IcebergTableOperationExecutor(icebergCatalogWrapperManager);
     IcebergTableEventDispatcher icebergTableEventDispatcher =
@@ -112,6 +127,7 @@ public class RESTService implements GravitinoAuxiliaryService {
           protected void configure() {
             bind(icebergCatalogWrapperManager).to(IcebergCatalogWrapperManager.class).ranked(1);
             bind(icebergMetricsManager).to(IcebergMetricsManager.class).ranked(1);
+            bind(loadTableResponseCache).to(IcebergLoadTableResponseCache.class).ranked(1);
             bind(icebergTableEventDispatcher).to(IcebergTableOperationDispatcher.class).ranked(1);
             bind(icebergViewEventDispatcher).to(IcebergViewOperationDispatcher.class).ranked(1);
             bind(icebergNamespaceEventDispatcher)
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service;
+
+import com.codahale.metrics.Counter;
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.gravitino.metrics.source.IcebergCatalogBulkheadMetricsSource;
+
+/**
+ * Limits the concurrent requests of each catalog, so a slow catalog backend couldn't occupy all
+ * the worker threads of the Iceberg REST server. Note the requests waiting for a permit still hold
+ * their worker threads until the queue timeout, so the queue timeout should be kept short.
+ */
+public class IcebergCatalogBulkhead {
+
+  // The catalog name comes from the request path, so only the known catalogs get their own permits
+  // and the requests to non-existing catalogs share the permits of the untracked catalogs. The
+  // number of the tracked catalogs is bounded too, in case of lots of catalogs created and dropped
+  // over time. The catalogs beyond the bound share the untracked permits, so they are still
+  // limited.
+  @VisibleForTesting static final int MAX_TRACKED_CATALOGS = 1024;
+
+  @VisibleForTesting static final String UNTRACKED_CATALOGS = "untracked-catalogs";
+
+  private final int maxConcurrentRequests;
+  private final long queueTimeoutMs;
+  private final int retryAfterSeconds;
+  private final IcebergCatalogBulkheadMetricsSource metricsSource;
+  private final Predicate<String> knownCatalogs;
+  private final Map<String, CatalogPermits> catalogPermits = new ConcurrentHashMap<>();
+  private final CatalogPermits untrackedPermits;
+
+  /**
+   * Creates a bulkhead of the Iceberg REST catalogs.
+   *
+   * @param icebergConfig The Iceberg REST server config.
+   * @param metricsSource The metrics source to register the catalogs to, or null.
+   * @param knownCatalogs Tests whether a catalog name from the request path is a known catalog.
+   */
+  public IcebergCatalogBulkhead(
+      IcebergConfig icebergConfig,
+      IcebergCatalogBulkheadMetricsSource metricsSource,
+      Predicate<String> knownCatalogs) {
+    this.maxConcurrentRequests =
+        icebergConfig.get(IcebergConfig.ICEBERG_REST_CATALOG_MAX_CONCURRENT_REQUESTS);
+    this.queueTimeoutMs =
+        icebergConfig.get(IcebergConfig.ICEBERG_REST_CATALOG_REQUEST_QUEUE_TIMEOUT);
+    this.retryAfterSeconds =
+        icebergConfig.get(IcebergConfig.ICEBERG_REST_CATALOG_REQUEST_RETRY_AFTER);
+    this.metricsSource = metricsSource;
+    this.knownCatalogs = knownCatalogs;
+    this.untrackedPermits = newCatalogPermits(UNTRACKED_CATALOGS);
+  }
+
+  /**
+   * Acquires a permit to process a request of the catalog.
+   *
+   * @param catalogName The catalog name.
+   * @return The permit which must be released after the request is processed, or null if the
+   *     concurrency limit of the catalog is saturated.
+   * @throws InterruptedException If interrupted while waiting for a permit.
+   */
+  public Permit tryAcquire(String catalogName) throws InterruptedException {
+    return permitsOf(catalogName).tryAcquire();
+  }
+
+  public int retryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+
+  @VisibleForTesting
+  int inFlight(String catalogName) {
+    CatalogPermits permits = trackedPermitsOf(catalogName);
+    return permits == null ? 0 : permits.inFlight.get();
+  }
+
+  @VisibleForTesting
+  long rejected(String catalogName) {
+    CatalogPermits permits = trackedPermitsOf(catalogName);
+    return permits == null ? 0 : permits.rejected.getCount();
+  }
+
+  private CatalogPermits trackedPermitsOf(String catalogName) {
+    return UNTRACKED_CATALOGS.equals(catalogName)
+        ? untrackedPermits
+        : catalogPermits.get(catalogName);
+  }
+
+  private CatalogPermits permitsOf(String catalogName) {
+    CatalogPermits permits = catalogPermits.get(catalogName);
+    if (permits != null) {
+      return permits;
+    }
+    if (UNTRACKED_CATALOGS.equals(catalogName)
+        || catalogPermits.size() >= MAX_TRACKED_CATALOGS
+        || !knownCatalogs.test(catalogName)) {
+      return untrackedPermits;
+    }
+    return catalogPermits.computeIfAbsent(catalogName, this::newCatalogPermits);
+  }
+
+  private CatalogPermits newCatalogPermits(String catalogName) {
+    CatalogPermits permits =
+        new CatalogPermits(maxConcurrentRequests > 0 ? new Semaphore(maxConcurrentRequests) : null);
+    if (metricsSource != null) {
+      permits.rejected =
+          metricsSource.registerCatalog(catalogName, permits.inFlight::get, permits.queued::get);
+    }
+    return permits;
+  }
+
+  private class CatalogPermits {
+    // The semaphore is null if there is no concurrency limit.
+    private final Semaphore semaphore;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private Counter rejected = new Counter();
+
+    private CatalogPermits(Semaphore semaphore) {
+      this.semaphore = semaphore;
+    }
+
+    private Permit tryAcquire() throws InterruptedException {
+      if (semaphore != null && !semaphore.tryAcquire()) {
+        boolean acquired = false;
+        if (queueTimeoutMs > 0) {
+          queued.incrementAndGet();
+          try {
+            acquired = semaphore.tryAcquire(queueTimeoutMs, TimeUnit.MILLISECONDS);
+          } finally {
+            queued.decrementAndGet();
+          }
+        }
+        if (!acquired) {
+          rejected.inc();
+          return null;
+        }
+      }
+
+      inFlight.incrementAndGet();
+      return new Permit(
+          () -> {
+            inFlight.decrementAndGet();
+            if (semaphore != null) {
+              semaphore.release();
+            }
+          });
+    }
+  }
+
+  /** A permit to process a request, releasing it more than once has no effect. */
+  public static class Permit {
+    private final Runnable releaser;
+    private final AtomicBoolean released = new AtomicBoolean(false);
+
+    private Permit(Runnable releaser) {
+      this.releaser = releaser;
+    }
+
+    public void release() {
+      if (released.compareAndSet(false, true)) {
+        releaser.run();
+      }
+    }
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.MultivaluedMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Acquires a permit of {@link IcebergCatalogBulkhead} for the catalog in the request path before
+ * the request is processed, and releases it after the response is produced. The request is
+ * rejected with 503 and the Retry-After header if the catalog is saturated.
+ */
+public class IcebergCatalogBulkheadFilter
+    implements ContainerRequestFilter, ContainerResponseFilter {
+
+  private static final Logger LOG = LoggerFactory.getLogger(IcebergCatalogBulkheadFilter.class);
+
+  private static final String PREFIX_PATH_PARAM = "prefix";
+  private static final String PERMIT_PROPERTY =
+      IcebergCatalogBulkheadFilter.class.getName() + ".permit";
+
+  private final IcebergCatalogBulkhead bulkhead;
+
+  public IcebergCatalogBulkheadFilter(IcebergCatalogBulkhead bulkhead) {
+    this.bulkhead = bulkhead;
+  }
+
+  @Override
+  public void filter(ContainerRequestContext requestContext) {
+    MultivaluedMap<String, String> pathParameters =
+        requestContext.getUriInfo().getPathParameters();
+    if (!pathParameters.containsKey(PREFIX_PATH_PARAM)) {
+      return;
+    }
+
+    String catalogName;
+    try {
+      catalogName = IcebergRestUtils.getCatalogName(pathParameters.getFirst(PREFIX_PATH_PARAM));
+    } catch (IllegalArgumentException e) {
+      // The illegal prefix is rejected by the resource method.
+      return;
+    }
+
+    IcebergCatalogBulkhead.Permit permit;
+    try {
+      permit = bulkhead.tryAcquire(catalogName);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      permit = null;
+    }
+
+    if (permit == null) {
+      LOG.debug("Reject the request of catalog {} because it's saturated.", catalogName);
+      requestContext.abortWith(
+          IcebergRestUtils.serviceUnavailable(
+              String.format("Too many concurrent requests for catalog %s", catalogName),
+              bulkhead.retryAfterSeconds()));
+      return;
+    }
+    requestContext.setProperty(PERMIT_PROPERTY, permit);
+  }
+
+  @Override
+  public void filter(
+      ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+    Object permit = requestContext.getProperty(PERMIT_PROPERTY);
+    if (permit instanceof IcebergCatalogBulkhead.Permit) {
+      ((IcebergCatalogBulkhead.Permit) permit).release();
+      requestContext.removeProperty(PERMIT_PROPERTY);
+    }
+  }
+}
@@ -86,6 +86,24 @@ public class IcebergCatalogWrapperManager implements AutoCloseable {
     return catalogWrapperForREST;
   }
 
+  /**
+   * Checks whether the catalog is loaded or configured, without loading it.
+   *
+   * @param catalogName The catalog name.
+   * @return true if the catalog is known to the Iceberg REST server.
+   */
+  public boolean isKnownCatalog(String catalogName) {
+    if (icebergCatalogWrapperCache.getIfPresent(catalogName) != null) {
+      return true;
+    }
+    try {
+      return configProvider.getIcebergCatalogConfig(catalogName).isPresent();
+    } catch (IllegalArgumentException e) {
+      // The provider rejects the names that couldn't be an Iceberg catalog.
+      return false;
+    }
+  }
+
   private CatalogWrapperForREST createCatalogWrapper(String catalogName) {
     Optional<IcebergConfig> icebergConfig = configProvider.getIcebergCatalogConfig(catalogName);
     if (!icebergConfig.isPresent()) {
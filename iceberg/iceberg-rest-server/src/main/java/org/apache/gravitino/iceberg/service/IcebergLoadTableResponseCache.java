@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.rest.responses.LoadTableResponse;
+
+/**
+ * Caches the serialized {@link LoadTableResponse} by the table metadata location, and computes the
+ * entity tag used by the conditional load table requests.
+ *
+ * <p>The metadata file of an Iceberg table is immutable, so a metadata location identifies the
+ * response body exactly, the response is re-serialized only after the table is committed. The
+ * responses with vended credentials must not be cached, because the credentials differ between
+ * requests.
+ */
+public class IcebergLoadTableResponseCache {
+
+  // The cache is null if it's disabled.
+  private final Cache<Pair<String, String>, byte[]> responseCache;
+
+  public IcebergLoadTableResponseCache(IcebergConfig icebergConfig) {
+    long maxBytes =
+        icebergConfig.get(IcebergConfig.ICEBERG_REST_LOAD_TABLE_RESPONSE_CACHE_MAX_BYTES);
+    if (maxBytes > 0) {
+      this.responseCache =
+          Caffeine.newBuilder()
+              .maximumWeight(maxBytes)
+              .weigher((Pair<String, String> key, byte[] value) -> value.length)
+              .build();
+    } else {
+      this.responseCache = null;
+    }
+  }
+
+  /**
+   * Returns the entity tag of the load table response, the tag is derived from the table UUID and
+   * the metadata location.
+   *
+   * @param loadTableResponse The load table response.
+   * @return The quoted entity tag, or null if the response has no metadata location.
+   */
+  public static String etag(LoadTableResponse loadTableResponse) {
+    String metadataLocation = loadTableResponse.metadataLocation();
+    if (StringUtils.isBlank(metadataLocation)) {
+      return null;
+    }
+    TableMetadata tableMetadata = loadTableResponse.tableMetadata();
+    String uuid = tableMetadata == null ? "" : Objects.toString(tableMetadata.uuid(), "");
+    String hash =
+        Hashing.sha256()
+            .hashString(uuid + ":" + metadataLocation, StandardCharsets.UTF_8)
+            .toString();
+    return "\"" + hash + "\"";
+  }
+
+  /**
+   * Checks whether the value of the {@code If-None-Match} header matches the entity tag.
+   *
+   * @param ifNoneMatch The value of the {@code If-None-Match} header, may be null.
+   * @param etag The quoted entity tag of the current response.
+   * @return True if the header matches the entity tag.
+   */
+  public static boolean matches(String ifNoneMatch, String etag) {
+    if (StringUtils.isBlank(ifNoneMatch) || etag == null) {
+      return false;
+    }
+    for (String tag : ifNoneMatch.split(",")) {
+      String trimmed = tag.trim();
+      if ("*".equals(trimmed)) {
+        return true;
+      }
+      // Weak comparison is used for If-None-Match, ignore the weak indicator.
+      if (trimmed.startsWith("W/")) {
+        trimmed = trimmed.substring(2);
+      }
+      if (etag.equals(trimmed)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Serializes the load table response, the serialized bytes are reused for the same catalog and
+   * metadata location.
+   *
+   * @param catalogName The catalog name.
+   * @param loadTableResponse The load table response without vended credentials.
+   * @return The JSON bytes of the response.
+   */
+  public byte[] serialize(String catalogName, LoadTableResponse loadTableResponse) {
+    String metadataLocation = loadTableResponse.metadataLocation();
+    if (responseCache == null || StringUtils.isBlank(metadataLocation)) {
+      return toBytes(loadTableResponse);
+    }
+    return responseCache.get(
+        Pair.of(catalogName, metadataLocation), key -> toBytes(loadTableResponse));
+  }
+
+  @VisibleForTesting
+  long cachedResponseCount() {
+    return responseCache == null ? 0 : responseCache.estimatedSize();
+  }
+
+  private static byte[] toBytes(LoadTableResponse loadTableResponse) {
+    try {
+      return IcebergObjectMapper.getInstance().writeValueAsBytes(loadTableResponse);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeIOException(e, "Failed to serialize load table response");
+    }
+  }
+}
@@ -30,6 +30,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Stream;
 import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -38,6 +39,7 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.ServiceUnavailableException;
 import org.apache.iceberg.rest.responses.ErrorResponse;
 
 public class IcebergRestUtils {
@@ -74,6 +76,20 @@ public class IcebergRestUtils {
         .build();
   }
 
+  public static Response serviceUnavailable(String message, int retryAfterSeconds) {
+    ErrorResponse errorResponse =
+        ErrorResponse.builder()
+            .responseCode(Status.SERVICE_UNAVAILABLE.getStatusCode())
+            .withType(ServiceUnavailableException.class.getSimpleName())
+            .withMessage(message)
+            .build();
+    return Response.status(Status.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+        .entity(errorResponse)
+        .type(MediaType.APPLICATION_JSON)
+        .build();
+  }
+
   public static Instant calculateNewTimestamp(Instant currentTimestamp, int hours) {
     LocalDateTime currentDateTime =
         LocalDateTime.ofInstant(currentTimestamp, ZoneId.systemDefault());
@@ -23,6 +23,8 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -44,11 +46,15 @@ public class IcebergMetricsManager {
   private static final ImmutableMap<String, String> ICEBERG_METRICS_STORE_NAMES =
       ImmutableMap.of(
           DummyMetricsStore.ICEBERG_METRICS_STORE_DUMMY_NAME,
-          DummyMetricsStore.class.getCanonicalName());
+          DummyMetricsStore.class.getCanonicalName(),
+          JdbcMetricsStore.ICEBERG_METRICS_STORE_JDBC_NAME,
+          JdbcMetricsStore.class.getCanonicalName());
 
   private final IcebergMetricsFormatter icebergMetricsFormatter;
   private final IcebergMetricsStore icebergMetricsStore;
   private final int retainDays;
+  private final int batchSize;
+  private final long batchLingerNanos;
 
   private BlockingQueue<MetricsReport> queue;
   private Thread metricsWriterThread;
@@ -80,6 +86,10 @@ public class IcebergMetricsManager {
                       .build()));
     }
 
+    batchSize = icebergConfig.get(IcebergConfig.ICEBERG_METRICS_STORE_BATCH_SIZE);
+    batchLingerNanos =
+        TimeUnit.MILLISECONDS.toNanos(
+            icebergConfig.get(IcebergConfig.ICEBERG_METRICS_STORE_BATCH_LINGER_MS));
     int queueCapacity = icebergConfig.get(IcebergConfig.ICEBERG_METRICS_QUEUE_CAPACITY);
     queue = new LinkedBlockingQueue(queueCapacity);
     metricsWriterThread = new Thread(() -> writeMetrics());
@@ -146,19 +156,23 @@ public class IcebergMetricsManager {
   }
 
   private void writeMetrics() {
+    List<MetricsReport> batch = new ArrayList<>(batchSize);
     while (Thread.currentThread().isInterrupted() == false) {
-      MetricsReport metricsReport;
       try {
-        metricsReport = queue.take();
+        takeBatch(batch);
       } catch (InterruptedException e) {
         LOG.warn("Iceberg Metrics writer thread is interrupted.");
         break;
       }
-      if (metricsReport != null) {
-        doRecordMetric(metricsReport);
+      if (!batch.isEmpty()) {
+        doRecordMetrics(batch);
+        batch.clear();
       }
     }
 
+    batch.forEach(
+        report ->
+            logMetrics("Drop Iceberg metrics because it's time to close metrics store.", report));
     MetricsReport metricsReport = queue.poll();
     while (metricsReport != null) {
       logMetrics("Drop Iceberg metrics because it's time to close metrics store.", metricsReport);
@@ -187,11 +201,34 @@ public class IcebergMetricsManager {
     LOG.info("{} {}.", message, icebergMetricsFormatter.toPrintableString(metricsReport));
   }
 
-  private void doRecordMetric(MetricsReport metricsReport) {
+  // Blocks until one metrics report is available, then collects more reports until the batch is
+  // full, the queue is empty and the linger time is elapsed.
+  private void takeBatch(List<MetricsReport> batch) throws InterruptedException {
+    batch.add(queue.take());
+    long deadline = System.nanoTime() + batchLingerNanos;
+    while (batch.size() < batchSize) {
+      queue.drainTo(batch, batchSize - batch.size());
+      long remaining = deadline - System.nanoTime();
+      if (batch.size() >= batchSize || remaining <= 0) {
+        return;
+      }
+      MetricsReport metricsReport = queue.poll(remaining, TimeUnit.NANOSECONDS);
+      if (metricsReport == null) {
+        return;
+      }
+      batch.add(metricsReport);
+    }
+  }
+
+  private void doRecordMetrics(List<MetricsReport> metricsReports) {
     try {
-      icebergMetricsStore.recordMetric(metricsReport);
+      if (metricsReports.size() == 1) {
+        icebergMetricsStore.recordMetric(metricsReports.get(0));
+      } else {
+        icebergMetricsStore.recordMetrics(metricsReports);
+      }
     } catch (Exception e) {
-      LOG.warn("Write Iceberg metrics failed.", e);
+      LOG.warn("Write {} Iceberg metrics failed.", metricsReports.size(), e);
     }
   }
 }
@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.metrics;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.iceberg.ClientPool;
+import org.apache.iceberg.jdbc.JdbcClientPool;
+import org.apache.iceberg.metrics.CommitReport;
+import org.apache.iceberg.metrics.MetricsReport;
+import org.apache.iceberg.metrics.ScanReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores Iceberg metrics reports in a relational database, like H2, MySQL and PostgreSQL.
+ *
+ * <p>The reports are written by multi-row inserts, one insert per batch of at most 1000 rows. Each
+ * row carries the UTC epoch day it's recorded in, the expired metrics are deleted day by day, so
+ * the deletion only touches the rows of the expired days through the index or the partitions of
+ * the day column.
+ */
+public class JdbcMetricsStore implements IcebergMetricsStore {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JdbcMetricsStore.class);
+
+  public static final String ICEBERG_METRICS_STORE_JDBC_NAME = "jdbc";
+
+  public static final String JDBC_URL = "metricsStore.jdbc-url";
+  public static final String JDBC_USER = "metricsStore.jdbc-user";
+  public static final String JDBC_PASSWORD = "metricsStore.jdbc-password";
+  public static final String JDBC_DRIVER = "metricsStore.jdbc-driver";
+  public static final String JDBC_INITIALIZE = "metricsStore.jdbc-initialize";
+
+  @VisibleForTesting static final String TABLE_NAME = "iceberg_metrics_report";
+
+  private static final List<String> COLUMNS =
+      ImmutableList.of(
+          "report_day", "report_time", "report_type", "table_name", "snapshot_id", "report");
+
+  private static final String INSERT_PREFIX =
+      "INSERT INTO " + TABLE_NAME + " (" + String.join(", ", COLUMNS) + ") VALUES ";
+
+  private static final String VALUES_PLACEHOLDER =
+      "(" + StringUtils.repeat("?", ", ", COLUMNS.size()) + ")";
+
+  // A larger metrics store batch is split into several inserts, so a statement never exceeds the
+  // bind parameter limit of the database, like 65535 of PostgreSQL and 32766 of SQLite.
+  @VisibleForTesting static final int MAX_ROWS_PER_INSERT = 1000;
+
+  private final IcebergMetricsFormatter icebergMetricsFormatter = new IcebergMetricsFormatter();
+  private JdbcClientPool connections;
+
+  @Override
+  public void init(Map<String, String> properties) throws IOException {
+    String url = properties.get(JDBC_URL);
+    Preconditions.checkArgument(StringUtils.isNotBlank(url), "%s must be set", JDBC_URL);
+    String driver = properties.get(JDBC_DRIVER);
+    if (StringUtils.isNotBlank(driver)) {
+      try {
+        Class.forName(driver);
+      } catch (ClassNotFoundException e) {
+        throw new IllegalArgumentException("Couldn't load jdbc driver " + driver, e);
+      }
+    }
+
+    Map<String, String> connectionProperties = new HashMap<>();
+    if (properties.containsKey(JDBC_USER)) {
+      connectionProperties.put("jdbc.user", properties.get(JDBC_USER));
+    }
+    if (properties.containsKey(JDBC_PASSWORD)) {
+      connectionProperties.put("jdbc.password", properties.get(JDBC_PASSWORD));
+    }
+    // One connection for the metrics writer, and another for the metrics cleaner.
+    this.connections = new JdbcClientPool(2, url, connectionProperties);
+
+    if (Boolean.parseBoolean(properties.getOrDefault(JDBC_INITIALIZE, "true"))) {
+      run(connection -> initializeTable(connection, url));
+    }
+  }
+
+  @Override
+  public void recordMetric(MetricsReport metricsReport) throws IOException {
+    recordMetrics(ImmutableList.of(metricsReport));
+  }
+
+  @Override
+  public void recordMetrics(List<MetricsReport> metricsReports) throws IOException {
+    if (metricsReports.isEmpty()) {
+      return;
+    }
+
+    Instant now = Instant.now();
+    long reportDay = epochDay(now);
+    run(
+        connection -> {
+          int inserted = 0;
+          for (List<MetricsReport> rows : Lists.partition(metricsReports, MAX_ROWS_PER_INSERT)) {
+            String sql = INSERT_PREFIX + StringUtils.repeat(VALUES_PLACEHOLDER, ", ", rows.size());
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+              int index = 1;
+              for (MetricsReport metricsReport : rows) {
+                statement.setLong(index++, reportDay);
+                statement.setLong(index++, now.toEpochMilli());
+                statement.setString(index++, reportType(metricsReport));
+                statement.setString(index++, tableName(metricsReport));
+                Long snapshotId = snapshotId(metricsReport);
+                if (snapshotId == null) {
+                  statement.setNull(index++, Types.BIGINT);
+                } else {
+                  statement.setLong(index++, snapshotId);
+                }
+                statement.setString(index++, icebergMetricsFormatter.toJson(metricsReport));
+              }
+              inserted += statement.executeUpdate();
+            } catch (IOException e) {
+              throw new SQLException("Failed to serialize Iceberg metrics", e);
+            }
+          }
+          return inserted;
+        });
+  }
+
+  @Override
+  public void clean(Instant expireTime) throws IOException {
+    long expireDay = epochDay(expireTime);
+    Long minDay =
+        run(
+            connection -> {
+              try (Statement statement = connection.createStatement();
+                  ResultSet resultSet =
+                      statement.executeQuery("SELECT MIN(report_day) FROM " + TABLE_NAME)) {
+                if (resultSet.next()) {
+                  long day = resultSet.getLong(1);
+                  return resultSet.wasNull() ? null : day;
+                }
+                return null;
+              }
+            });
+    if (minDay == null) {
+      return;
+    }
+
+    // Delete one day at a time to keep each deletion small.
+    for (long day = minDay; day < expireDay; day++) {
+      long deleteDay = day;
+      int deleted =
+          run(
+              connection -> {
+                try (PreparedStatement statement =
+                    connection.prepareStatement(
+                        "DELETE FROM " + TABLE_NAME + " WHERE report_day = ?")) {
+                  statement.setLong(1, deleteDay);
+                  return statement.executeUpdate();
+                }
+              });
+      LOG.debug("Deleted {} Iceberg metrics of epoch day {}.", deleted, deleteDay);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (connections != null) {
+      connections.close();
+    }
+  }
+
+  private static long epochDay(Instant instant) {
+    return instant.atZone(ZoneOffset.UTC).toLocalDate().toEpochDay();
+  }
+
+  private static String reportType(MetricsReport metricsReport) {
+    if (metricsReport instanceof ScanReport) {
+      return "scan";
+    } else if (metricsReport instanceof CommitReport) {
+      return "commit";
+    }
+    return metricsReport.getClass().getSimpleName();
+  }
+
+  private static String tableName(MetricsReport metricsReport) {
+    if (metricsReport instanceof ScanReport) {
+      return ((ScanReport) metricsReport).tableName();
+    } else if (metricsReport instanceof CommitReport) {
+      return ((CommitReport) metricsReport).tableName();
+    }
+    return "";
+  }
+
+  private static Long snapshotId(MetricsReport metricsReport) {
+    if (metricsReport instanceof ScanReport) {
+      return ((ScanReport) metricsReport).snapshotId();
+    } else if (metricsReport instanceof CommitReport) {
+      return ((CommitReport) metricsReport).snapshotId();
+    }
+    return null;
+  }
+
+  private static Void initializeTable(Connection connection, String url) throws SQLException {
+    DatabaseMetaData metaData = connection.getMetaData();
+    if (tableExists(metaData, TABLE_NAME)
+        || tableExists(metaData, TABLE_NAME.toUpperCase(Locale.ROOT))) {
+      return null;
+    }
+
+    String lowerCaseUrl = url.toLowerCase(Locale.ROOT);
+    String textType;
+    if (lowerCaseUrl.startsWith("jdbc:mysql")) {
+      textType = "MEDIUMTEXT";
+    } else if (lowerCaseUrl.startsWith("jdbc:postgresql")) {
+      textType = "TEXT";
+    } else {
+      textType = "CLOB";
+    }
+
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(
+          "CREATE TABLE "
+              + TABLE_NAME
+              + " (report_day BIGINT NOT NULL,"
+              + " report_time BIGINT NOT NULL,"
+              + " report_type VARCHAR(16) NOT NULL,"
+              + " table_name VARCHAR(1024) NOT NULL,"
+              + " snapshot_id BIGINT,"
+              + " report "
+              + textType
+              + " NOT NULL)");
+      statement.execute(
+          "CREATE INDEX idx_" + TABLE_NAME + "_report_day ON " + TABLE_NAME + " (report_day)");
+    }
+    LOG.info("Created Iceberg metrics table {}.", TABLE_NAME);
+    return null;
+  }
+
+  private static boolean tableExists(DatabaseMetaData metaData, String tableName)
+      throws SQLException {
+    try (ResultSet resultSet = metaData.getTables(null, null, tableName, null)) {
+      return resultSet.next();
+    }
+  }
+
+  private <R> R run(ClientPool.Action<R, Connection, SQLException> action) throws IOException {
+    try {
+      return connections.run(action);
+    } catch (SQLException e) {
+      throw new IOException("Failed to access Iceberg metrics store", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while accessing Iceberg metrics store", e);
+    }
+  }
+}
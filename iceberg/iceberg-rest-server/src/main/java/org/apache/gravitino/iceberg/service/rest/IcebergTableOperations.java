@@ -37,9 +37,12 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.iceberg.service.IcebergLoadTableResponseCache;
 import org.apache.gravitino.iceberg.service.IcebergObjectMapper;
 import org.apache.gravitino.iceberg.service.IcebergRestUtils;
 import org.apache.gravitino.iceberg.service.dispatcher.IcebergTableOperationDispatcher;
@@ -71,15 +74,18 @@ public class IcebergTableOperations {
 
   private ObjectMapper icebergObjectMapper;
   private IcebergTableOperationDispatcher tableOperationDispatcher;
+  private IcebergLoadTableResponseCache loadTableResponseCache;
 
   @Context private HttpServletRequest httpRequest;
 
   @Inject
   public IcebergTableOperations(
       IcebergMetricsManager icebergMetricsManager,
-      IcebergTableOperationDispatcher tableOperationDispatcher) {
+      IcebergTableOperationDispatcher tableOperationDispatcher,
+      IcebergLoadTableResponseCache loadTableResponseCache) {
     this.icebergMetricsManager = icebergMetricsManager;
     this.tableOperationDispatcher = tableOperationDispatcher;
+    this.loadTableResponseCache = loadTableResponseCache;
     this.icebergObjectMapper = IcebergObjectMapper.getInstance();
   }
 
@@ -185,7 +191,8 @@ public class IcebergTableOperations {
       @PathParam("namespace") String namespace,
       @PathParam("table") String table,
       @DefaultValue("all") @QueryParam("snapshots") String snapshots,
-      @HeaderParam(X_ICEBERG_ACCESS_DELEGATION) String accessDelegation) {
+      @HeaderParam(X_ICEBERG_ACCESS_DELEGATION) String accessDelegation,
+      @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
     String catalogName = IcebergRestUtils.getCatalogName(prefix);
     Namespace icebergNS = RESTUtil.decodeNamespace(namespace);
     boolean isCredentialVending = isCredentialVending(accessDelegation);
@@ -203,7 +210,18 @@ public class IcebergTableOperations {
         new IcebergRequestContext(httpServletRequest(), catalogName, isCredentialVending);
     LoadTableResponse loadTableResponse =
         tableOperationDispatcher.loadTable(context, tableIdentifier);
-    return IcebergRestUtils.ok(loadTableResponse);
+    // The response with vended credentials differs between requests, so it's not tagged.
+    String etag =
+        isCredentialVending ? null : IcebergLoadTableResponseCache.etag(loadTableResponse);
+    if (etag == null) {
+      return IcebergRestUtils.ok(loadTableResponse);
+    }
+    EntityTag entityTag = EntityTag.valueOf(etag);
+    if (IcebergLoadTableResponseCache.matches(ifNoneMatch, etag)) {
+      return Response.notModified(entityTag).build();
+    }
+    byte[] body = loadTableResponseCache.serialize(catalogName, loadTableResponse);
+    return Response.ok(body, MediaType.APPLICATION_JSON_TYPE).tag(entityTag).build();
   }
 
   @HEAD
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.Map;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class TestIcebergCatalogBulkhead {
+
+  private static IcebergCatalogBulkhead createBulkhead(int maxConcurrentRequests, long timeoutMs) {
+    Map<String, String> properties =
+        ImmutableMap.of(
+            IcebergConfig.ICEBERG_REST_CATALOG_MAX_CONCURRENT_REQUESTS.getKey(),
+            String.valueOf(maxConcurrentRequests),
+            IcebergConfig.ICEBERG_REST_CATALOG_REQUEST_QUEUE_TIMEOUT.getKey(),
+            String.valueOf(timeoutMs),
+            IcebergConfig.ICEBERG_REST_CATALOG_REQUEST_RETRY_AFTER.getKey(),
+            "3");
+    // The catalogs whose names start with "unknown" don't exist.
+    return new IcebergCatalogBulkhead(
+        new IcebergConfig(properties), null, catalogName -> !catalogName.startsWith("unknown"));
+  }
+
+  @Test
+  void testTryAcquire() throws InterruptedException {
+    IcebergCatalogBulkhead bulkhead = createBulkhead(2, 0);
+    IcebergCatalogBulkhead.Permit permit1 = bulkhead.tryAcquire("catalog1");
+    IcebergCatalogBulkhead.Permit permit2 = bulkhead.tryAcquire("catalog1");
+    Assertions.assertNotNull(permit1);
+    Assertions.assertNotNull(permit2);
+    Assertions.assertEquals(2, bulkhead.inFlight("catalog1"));
+
+    // catalog1 is saturated, catalog2 isn't affected
+    Assertions.assertNull(bulkhead.tryAcquire("catalog1"));
+    Assertions.assertEquals(1, bulkhead.rejected("catalog1"));
+    IcebergCatalogBulkhead.Permit permit3 = bulkhead.tryAcquire("catalog2");
+    Assertions.assertNotNull(permit3);
+
+    // release more than once has no effect
+    permit1.release();
+    permit1.release();
+    Assertions.assertEquals(1, bulkhead.inFlight("catalog1"));
+    IcebergCatalogBulkhead.Permit permit4 = bulkhead.tryAcquire("catalog1");
+    Assertions.assertNotNull(permit4);
+    Assertions.assertNull(bulkhead.tryAcquire("catalog1"));
+
+    permit2.release();
+    permit3.release();
+    permit4.release();
+    Assertions.assertEquals(0, bulkhead.inFlight("catalog1"));
+    Assertions.assertEquals(0, bulkhead.inFlight("catalog2"));
+  }
+
+  @Test
+  void testTryAcquireWithQueueTimeout() throws Exception {
+    IcebergCatalogBulkhead bulkhead = createBulkhead(1, 5000);
+    IcebergCatalogBulkhead.Permit permit = bulkhead.tryAcquire("catalog1");
+    Thread releaser =
+        new Thread(
+            () -> {
+              try {
+                Thread.sleep(100);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              permit.release();
+            });
+    releaser.start();
+    Assertions.assertNotNull(bulkhead.tryAcquire("catalog1"));
+    releaser.join();
+    Assertions.assertEquals(0, bulkhead.rejected("catalog1"));
+  }
+
+  @Test
+  void testUntrackedCatalogsAreLimited() throws InterruptedException {
+    IcebergCatalogBulkhead bulkhead = createBulkhead(1, 0);
+    for (int i = 0; i < IcebergCatalogBulkhead.MAX_TRACKED_CATALOGS; i++) {
+      Assertions.assertNotNull(bulkhead.tryAcquire("catalog" + i));
+    }
+
+    // The catalogs beyond the bound share the permits of the untracked catalogs
+    IcebergCatalogBulkhead.Permit permit = bulkhead.tryAcquire("another_catalog1");
+    Assertions.assertNotNull(permit);
+    Assertions.assertNull(bulkhead.tryAcquire("another_catalog2"));
+    Assertions.assertEquals(1, bulkhead.rejected(IcebergCatalogBulkhead.UNTRACKED_CATALOGS));
+    permit.release();
+    Assertions.assertNotNull(bulkhead.tryAcquire("another_catalog2"));
+
+    // The tracked catalogs keep their own permits
+    Assertions.assertNull(bulkhead.tryAcquire("catalog0"));
+    Assertions.assertEquals(1, bulkhead.rejected("catalog0"));
+  }
+
+  @Test
+  void testUnknownCatalogsShareUntrackedPermits() throws InterruptedException {
+    IcebergCatalogBulkhead bulkhead = createBulkhead(1, 0);
+    IcebergCatalogBulkhead.Permit permit = bulkhead.tryAcquire("unknown_catalog1");
+    Assertions.assertNotNull(permit);
+    Assertions.assertNull(bulkhead.tryAcquire("unknown_catalog2"));
+    Assertions.assertEquals(1, bulkhead.inFlight(IcebergCatalogBulkhead.UNTRACKED_CATALOGS));
+    Assertions.assertEquals(1, bulkhead.rejected(IcebergCatalogBulkhead.UNTRACKED_CATALOGS));
+    Assertions.assertEquals(0, bulkhead.inFlight("unknown_catalog1"));
+
+    // The known catalogs aren't affected
+    Assertions.assertNotNull(bulkhead.tryAcquire("catalog1"));
+    permit.release();
+  }
+
+  @Test
+  void testNoLimit() throws InterruptedException {
+    IcebergCatalogBulkhead bulkhead = createBulkhead(0, 0);
+    for (int i = 0; i < 100; i++) {
+      Assertions.assertNotNull(bulkhead.tryAcquire("catalog1"));
+    }
+    Assertions.assertEquals(100, bulkhead.inFlight("catalog1"));
+  }
+
+  @Test
+  void testFilter() {
+    IcebergCatalogBulkheadFilter filter = new IcebergCatalogBulkheadFilter(createBulkhead(1, 0));
+    ContainerRequestContext request1 = mockRequest("catalog1/");
+    filter.filter(request1);
+    verify(request1, never()).abortWith(any());
+
+    ContainerRequestContext request2 = mockRequest("catalog1/");
+    filter.filter(request2);
+    ArgumentCaptor<Response> responseCaptor = ArgumentCaptor.forClass(Response.class);
+    verify(request2).abortWith(responseCaptor.capture());
+    Response response = responseCaptor.getValue();
+    Assertions.assertEquals(
+        Response.Status.SERVICE_UNAVAILABLE.getStatusCode(), response.getStatus());
+    Assertions.assertEquals("3", response.getHeaderString(HttpHeaders.RETRY_AFTER));
+
+    // the default catalog isn't affected
+    ContainerRequestContext request3 = mockRequest("");
+    filter.filter(request3);
+    verify(request3, never()).abortWith(any());
+
+    // release the permit of request1
+    filter.filter(request1, mock(ContainerResponseContext.class));
+    ContainerRequestContext request4 = mockRequest("catalog1/");
+    filter.filter(request4);
+    verify(request4, never()).abortWith(any());
+  }
+
+  private static ContainerRequestContext mockRequest(String prefix) {
+    MultivaluedHashMap<String, String> pathParameters = new MultivaluedHashMap<>();
+    pathParameters.putSingle("prefix", prefix);
+    UriInfo uriInfo = mock(UriInfo.class);
+    when(uriInfo.getPathParameters()).thenReturn(pathParameters);
+
+    Map<String, Object> properties = new HashMap<>();
+    ContainerRequestContext requestContext = mock(ContainerRequestContext.class);
+    when(requestContext.getUriInfo()).thenReturn(uriInfo);
+    doAnswer(
+            invocation -> properties.put(invocation.getArgument(0), invocation.getArgument(1)))
+        .when(requestContext)
+        .setProperty(any(), any());
+    when(requestContext.getProperty(any()))
+        .thenAnswer(invocation -> properties.get(invocation.getArgument(0)));
+    return requestContext;
+  }
+}
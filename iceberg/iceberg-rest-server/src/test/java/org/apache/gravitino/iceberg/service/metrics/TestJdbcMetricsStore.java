@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.metrics;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.iceberg.metrics.ImmutableCommitMetricsResult;
+import org.apache.iceberg.metrics.ImmutableCommitReport;
+import org.apache.iceberg.metrics.MetricsReport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class TestJdbcMetricsStore {
+
+  @TempDir private Path tempDir;
+
+  private String url;
+  private JdbcMetricsStore jdbcMetricsStore;
+
+  private void init(String dialect) throws IOException {
+    String driver;
+    if ("h2".equals(dialect)) {
+      url = "jdbc:h2:" + tempDir.resolve("metrics");
+      driver = "org.h2.Driver";
+    } else {
+      url = "jdbc:sqlite:" + tempDir.resolve("metrics.db");
+      driver = "org.sqlite.JDBC";
+    }
+    jdbcMetricsStore = new JdbcMetricsStore();
+    jdbcMetricsStore.init(
+        ImmutableMap.of(JdbcMetricsStore.JDBC_URL, url, JdbcMetricsStore.JDBC_DRIVER, driver));
+  }
+
+  @AfterEach
+  void close() throws IOException {
+    if (jdbcMetricsStore != null) {
+      jdbcMetricsStore.close();
+    }
+  }
+
+  private MetricsReport createMetricsReport(String tableName, long snapshotId) {
+    return ImmutableCommitReport.builder()
+        .tableName(tableName)
+        .snapshotId(snapshotId)
+        .sequenceNumber(1)
+        .operation("append")
+        .commitMetrics(ImmutableCommitMetricsResult.builder().build())
+        .build();
+  }
+
+  private long countReports(String condition) throws SQLException {
+    try (Connection connection = DriverManager.getConnection(url);
+        Statement statement = connection.createStatement();
+        ResultSet resultSet =
+            statement.executeQuery(
+                "SELECT COUNT(*) FROM " + JdbcMetricsStore.TABLE_NAME + " WHERE " + condition)) {
+      resultSet.next();
+      return resultSet.getLong(1);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"sqlite", "h2"})
+  void testRecordMetrics(String dialect) throws Exception {
+    init(dialect);
+    jdbcMetricsStore.recordMetric(createMetricsReport("a", 1));
+    jdbcMetricsStore.recordMetrics(
+        ImmutableList.of(
+            createMetricsReport("a", 2), createMetricsReport("b", 1), createMetricsReport("c", 1)));
+    jdbcMetricsStore.recordMetrics(ImmutableList.of());
+
+    Assertions.assertEquals(4, countReports("1 = 1"));
+    Assertions.assertEquals(2, countReports("table_name = 'a'"));
+    Assertions.assertEquals(4, countReports("report_type = 'commit'"));
+    Assertions.assertEquals(1, countReports("table_name = 'b' AND snapshot_id = 1"));
+
+    // init again with the existing table
+    JdbcMetricsStore anotherStore = new JdbcMetricsStore();
+    anotherStore.init(ImmutableMap.of(JdbcMetricsStore.JDBC_URL, url));
+    anotherStore.close();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"sqlite", "h2"})
+  void testRecordMetricsInSeveralInserts(String dialect) throws Exception {
+    init(dialect);
+    List<MetricsReport> metricsReports = new ArrayList<>();
+    for (int i = 0; i < JdbcMetricsStore.MAX_ROWS_PER_INSERT * 2 + 1; i++) {
+      metricsReports.add(createMetricsReport("a", i));
+    }
+    jdbcMetricsStore.recordMetrics(metricsReports);
+
+    Assertions.assertEquals(metricsReports.size(), countReports("1 = 1"));
+    Assertions.assertEquals(
+        1, countReports("snapshot_id = " + JdbcMetricsStore.MAX_ROWS_PER_INSERT * 2));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"sqlite", "h2"})
+  void testClean(String dialect) throws Exception {
+    init(dialect);
+    jdbcMetricsStore.recordMetrics(
+        ImmutableList.of(createMetricsReport("a", 1), createMetricsReport("b", 1)));
+
+    // the metrics recorded today are not expired
+    jdbcMetricsStore.clean(Instant.now());
+    Assertions.assertEquals(2, countReports("1 = 1"));
+
+    jdbcMetricsStore.clean(Instant.now().plus(1, ChronoUnit.DAYS));
+    Assertions.assertEquals(0, countReports("1 = 1"));
+
+    // clean an empty store
+    Assertions.assertDoesNotThrow(() -> jdbcMetricsStore.clean(Instant.now()));
+  }
+}
@@ -27,6 +27,8 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.Application;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -135,6 +137,45 @@ public class TestIcebergTableOperations extends IcebergNamespaceTestBase {
     verifyLoadTableFail("load_foo2", 404);
   }
 
+  @Test
+  void testLoadTableWithETag() {
+    verifyCreateNamespaceSucc(IcebergRestTestUtil.TEST_NAMESPACE_NAME);
+    verifyCreateTableSucc("etag_foo1");
+
+    Response response = doLoadTable("etag_foo1");
+    Assertions.assertEquals(Status.OK.getStatusCode(), response.getStatus());
+    EntityTag entityTag = response.getEntityTag();
+    Assertions.assertNotNull(entityTag);
+    LoadTableResponse loadTableResponse = response.readEntity(LoadTableResponse.class);
+    Assertions.assertEquals(
+        tableSchema.columns(), loadTableResponse.tableMetadata().schema().columns());
+
+    // the table is not changed
+    dummyEventListener.clearEvent();
+    response = doLoadTableWithETag("etag_foo1", entityTag.toString());
+    Assertions.assertEquals(Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+    Assertions.assertEquals(entityTag, response.getEntityTag());
+    Assertions.assertTrue(dummyEventListener.popPreEvent() instanceof IcebergLoadTablePreEvent);
+    Assertions.assertTrue(dummyEventListener.popPostEvent() instanceof IcebergLoadTableEvent);
+
+    response = doLoadTableWithETag("etag_foo1", "\"mismatched\", W/" + entityTag);
+    Assertions.assertEquals(Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+
+    // the table is changed, the new metadata location produces a new tag
+    verifyUpdateSucc("etag_foo1", getTableMeta("etag_foo1"));
+    response = doLoadTableWithETag("etag_foo1", entityTag.toString());
+    Assertions.assertEquals(Status.OK.getStatusCode(), response.getStatus());
+    Assertions.assertNotEquals(entityTag, response.getEntityTag());
+    loadTableResponse = response.readEntity(LoadTableResponse.class);
+    Assertions.assertEquals(
+        newTableSchema.columns(), loadTableResponse.tableMetadata().schema().columns());
+
+    // the response with vended credentials is not tagged
+    response = doLoadTableWithCredentialVending("etag_foo1");
+    Assertions.assertEquals(Status.OK.getStatusCode(), response.getStatus());
+    Assertions.assertNull(response.getEntityTag());
+  }
+
   @Test
   void testDropTable() {
     verifyDropTableFail("drop_foo1", 404);
@@ -355,6 +396,12 @@ public class TestIcebergTableOperations extends IcebergNamespaceTestBase {
     return getTableClientBuilder(Optional.of(name)).get();
   }
 
+  private Response doLoadTableWithETag(String name, String ifNoneMatch) {
+    return getTableClientBuilder(Optional.of(name))
+        .header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch)
+        .get();
+  }
+
   private Response doUpdateTable(String name, TableMetadata base) {
     TableMetadata newMetadata = base.updateSchema(newTableSchema, base.lastColumnId());
     List<MetadataUpdate> metadataUpdates = newMetadata.changes();
@@ -18,10 +18,16 @@
  */
 package org.apache.gravitino.server.web;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
+import java.lang.reflect.Array;
 import java.security.PrivilegedExceptionAction;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -48,6 +54,54 @@ public class Utils {
     return Response.status(Response.Status.OK).entity(t).type(MediaType.APPLICATION_JSON).build();
   }
 
+  /**
+   * Cuts one page out of a listing for the {@code pageToken} and {@code pageSize} query
+   * parameters. Pages are ordered by name and keyed by the last name of the previous page. Without
+   * both parameters the listing is returned as it is.
+   *
+   * @param items The full listing.
+   * @param nameFunc The function to get the name of an item.
+   * @param pageToken The last name of the previous page, or null for the first page.
+   * @param pageSize The maximum number of items of the page, or null for no limit.
+   * @param <T> The type of the items.
+   * @return The items of the page.
+   */
+  public static <T> T[] page(
+      T[] items, Function<T, String> nameFunc, String pageToken, Integer pageSize) {
+    if (items == null || (pageToken == null && pageSize == null)) {
+      return items;
+    }
+    Preconditions.checkArgument(
+        pageSize == null || pageSize > 0, "pageSize must be positive, but got %s", pageSize);
+
+    @SuppressWarnings("unchecked")
+    IntFunction<T[]> generator =
+        size -> (T[]) Array.newInstance(items.getClass().getComponentType(), size);
+    return Arrays.stream(items)
+        .filter(item -> pageToken == null || nameFunc.apply(item).compareTo(pageToken) > 0)
+        .sorted(Comparator.comparing(nameFunc))
+        .limit(pageSize == null ? Long.MAX_VALUE : pageSize)
+        .toArray(generator);
+  }
+
+  /**
+   * Returns the number of items to fetch for the {@code pageToken} and {@code pageSize} query
+   * parameters, for listings that push the page down to the store instead of cutting it with
+   * {@link #page}.
+   *
+   * @param pageToken The last name of the previous page, or null for the first page.
+   * @param pageSize The maximum number of items of the page, or null for no limit.
+   * @return The maximum number of items to fetch, or null if the request doesn't ask for a page.
+   */
+  public static Integer pageLimit(String pageToken, Integer pageSize) {
+    if (pageToken == null && pageSize == null) {
+      return null;
+    }
+    Preconditions.checkArgument(
+        pageSize == null || pageSize > 0, "pageSize must be positive, but got %s", pageSize);
+    return pageSize == null ? Integer.MAX_VALUE : pageSize;
+  }
+
   public static Response ok() {
     return Response.status(Response.Status.NO_CONTENT).type(MediaType.APPLICATION_JSON).build();
   }
@@ -211,6 +265,13 @@ public class Utils {
               ? dataOperation
               : FilesetDataOperation.UNKNOWN.name());
     }
+
+    String dataOperationCount =
+        httpRequest.getHeader(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION_COUNT);
+    if (StringUtils.isNumeric(dataOperationCount)) {
+      filteredHeaders.put(
+          FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION_COUNT, dataOperationCount);
+    }
     return filteredHeaders;
   }
 }
@@ -20,6 +20,7 @@ package org.apache.gravitino.server.web.rest;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import com.google.common.base.Preconditions;
 import java.util.Map;
 import java.util.Optional;
 import javax.inject.Inject;
@@ -39,12 +40,14 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.audit.CallerContext;
 import org.apache.gravitino.catalog.FilesetDispatcher;
+import org.apache.gravitino.dto.requests.FileLocationsRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
+import org.apache.gravitino.dto.responses.FileLocationsResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.file.Fileset;
@@ -78,14 +81,18 @@ public class FilesetOperations {
   public Response listFilesets(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
+      @PathParam("schema") String schema,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize) {
     try {
       LOG.info("Received list filesets request for schema: {}.{}.{}", metalake, catalog, schema);
       return Utils.doAs(
           httpRequest,
           () -> {
             Namespace filesetNS = NamespaceUtil.ofFileset(metalake, catalog, schema);
-            NameIdentifier[] idents = dispatcher.listFilesets(filesetNS);
+            NameIdentifier[] idents =
+                Utils.page(
+                    dispatcher.listFilesets(filesetNS), NameIdentifier::name, pageToken, pageSize);
             Response response = Utils.ok(new EntityListResponse(idents));
             LOG.info(
                 "List {} filesets under schema: {}.{}.{}",
@@ -273,4 +280,48 @@ public class FilesetOperations {
       CallerContext.CallerContextHolder.remove();
     }
   }
+
+  @POST
+  @Path("{fileset}/locations")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "get-file-locations." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "get-file-locations", absolute = true)
+  public Response getFileLocations(
+      @PathParam("metalake") String metalake,
+      @PathParam("catalog") String catalog,
+      @PathParam("schema") String schema,
+      @PathParam("fileset") String fileset,
+      FileLocationsRequest request) {
+    LOG.info(
+        "Received get file locations request: {}.{}.{}.{}, sub paths count:{}",
+        metalake,
+        catalog,
+        schema,
+        fileset,
+        request == null || request.getSubPaths() == null ? 0 : request.getSubPaths().size());
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            Preconditions.checkArgument(request != null, "file locations request must not be null");
+            request.validate();
+            NameIdentifier ident = NameIdentifierUtil.ofFileset(metalake, catalog, schema, fileset);
+            Map<String, String> filteredAuditHeaders = Utils.filterFilesetAuditHeaders(httpRequest);
+            // set the audit info into the thread local context
+            if (!filteredAuditHeaders.isEmpty()) {
+              CallerContext context =
+                  CallerContext.builder().withContext(filteredAuditHeaders).build();
+              CallerContext.CallerContextHolder.set(context);
+            }
+            Map<String, String> actualFileLocations =
+                dispatcher.getFileLocations(ident, request.getSubPaths());
+            return Utils.ok(new FileLocationsResponse(actualFileLocations));
+          });
+    } catch (Exception e) {
+      return ExceptionHandlers.handleFilesetException(OperationType.GET, fileset, schema, e);
+    } finally {
+      // Clear the caller context
+      CallerContext.CallerContextHolder.remove();
+    }
+  }
 }
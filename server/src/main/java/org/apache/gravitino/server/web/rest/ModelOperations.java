@@ -72,7 +72,9 @@ public class ModelOperations {
   public Response listModels(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
+      @PathParam("schema") String schema,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize) {
     LOG.info("Received list models request for schema: {}.{}.{}", metalake, catalog, schema);
     Namespace modelNs = NamespaceUtil.ofModel(metalake, catalog, schema);
 
@@ -80,7 +82,11 @@ public class ModelOperations {
       return Utils.doAs(
           httpRequest,
           () -> {
-            NameIdentifier[] modelIds = modelDispatcher.listModels(modelNs);
+            Integer limit = Utils.pageLimit(pageToken, pageSize);
+            NameIdentifier[] modelIds =
+                limit == null
+                    ? modelDispatcher.listModels(modelNs)
+                    : modelDispatcher.listModels(modelNs, pageToken, limit);
             modelIds = modelIds == null ? new NameIdentifier[0] : modelIds;
             LOG.info("List {} models under schema {}", modelIds.length, modelNs);
             return Utils.ok(new EntityListResponse(modelIds));
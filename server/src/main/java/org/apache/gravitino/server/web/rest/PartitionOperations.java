@@ -72,7 +72,10 @@ public class PartitionOperations {
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("table") String table,
-      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("filter") String filter,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize) {
     LOG.info(
         "Received list partition {} request for table: {}.{}.{}.{}",
         verbose ? "infos" : "names",
@@ -85,8 +88,17 @@ public class PartitionOperations {
           httpRequest,
           () -> {
             NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, schema, table);
+            boolean paged = filter != null || pageToken != null || pageSize != null;
+            Preconditions.checkArgument(
+                pageSize == null || pageSize > 0,
+                "pageSize must be positive, but got %s",
+                pageSize);
+            int limit = pageSize == null ? Integer.MAX_VALUE : pageSize;
             if (verbose) {
-              Partition[] partitions = dispatcher.listPartitions(tableIdent);
+              Partition[] partitions =
+                  paged
+                      ? dispatcher.listPartitions(tableIdent, filter, pageToken, limit)
+                      : dispatcher.listPartitions(tableIdent);
               Response response = Utils.ok(new PartitionListResponse(toDTOs(partitions)));
               LOG.info(
                   "List {} partitions in table {}.{}.{}.{}",
@@ -97,7 +109,10 @@ public class PartitionOperations {
                   table);
               return response;
             } else {
-              String[] partitionNames = dispatcher.listPartitionNames(tableIdent);
+              String[] partitionNames =
+                  paged
+                      ? dispatcher.listPartitionNames(tableIdent, filter, pageToken, limit)
+                      : dispatcher.listPartitionNames(tableIdent);
               Response response = Utils.ok(new PartitionNameListResponse((partitionNames)));
               LOG.info(
                   "List {} partition names in table {}.{}.{}.{}",
@@ -75,12 +75,20 @@ public class RoleOperations {
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "list-role." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "list-role", absolute = true)
-  public Response listRoles(@PathParam("metalake") String metalake) {
+  public Response listRoles(
+      @PathParam("metalake") String metalake,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize) {
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
-            String[] names = accessControlManager.listRoleNames(metalake);
+            // Roles are listed from the entity store, so the page is pushed down to it.
+            Integer limit = Utils.pageLimit(pageToken, pageSize);
+            String[] names =
+                limit == null
+                    ? accessControlManager.listRoleNames(metalake)
+                    : accessControlManager.listRoleNames(metalake, pageToken, limit);
             return Utils.ok(new NameListResponse(names));
           });
     } catch (Exception e) {
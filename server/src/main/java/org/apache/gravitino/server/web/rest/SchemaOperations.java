@@ -75,14 +75,19 @@ public class SchemaOperations {
   @Timed(name = "list-schema." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "list-schema", absolute = true)
   public Response listSchemas(
-      @PathParam("metalake") String metalake, @PathParam("catalog") String catalog) {
+      @PathParam("metalake") String metalake,
+      @PathParam("catalog") String catalog,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize) {
     LOG.info("Received list schema request for catalog: {}.{}", metalake, catalog);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             Namespace schemaNS = NamespaceUtil.ofSchema(metalake, catalog);
-            NameIdentifier[] idents = dispatcher.listSchemas(schemaNS);
+            NameIdentifier[] idents =
+                Utils.page(
+                    dispatcher.listSchemas(schemaNS), NameIdentifier::name, pageToken, pageSize);
             Response response = Utils.ok(new EntityListResponse(idents));
             LOG.info("List {} schemas in catalog {}.{}", idents.length, metalake, catalog);
             return response;
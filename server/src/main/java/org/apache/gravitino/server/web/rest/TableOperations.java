@@ -23,6 +23,7 @@ import static org.apache.gravitino.dto.util.DTOConverters.fromDTOs;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import java.util.Arrays;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
@@ -39,11 +40,13 @@ import javax.ws.rs.core.Response;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.catalog.TableDispatcher;
+import org.apache.gravitino.dto.rel.TableDTO;
 import org.apache.gravitino.dto.requests.TableCreateRequest;
 import org.apache.gravitino.dto.requests.TableUpdateRequest;
 import org.apache.gravitino.dto.requests.TableUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
+import org.apache.gravitino.dto.responses.TableListResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.metrics.MetricNames;
@@ -76,14 +79,43 @@ public class TableOperations {
   public Response listTables(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
-    LOG.info("Received list tables request for schema: {}.{}.{}", metalake, catalog, schema);
+      @PathParam("schema") String schema,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize,
+      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+    LOG.info(
+        "Received list table {} request for schema: {}.{}.{}",
+        verbose ? "infos" : "names",
+        metalake,
+        catalog,
+        schema);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             Namespace tableNS = NamespaceUtil.ofTable(metalake, catalog, schema);
-            NameIdentifier[] idents = dispatcher.listTables(tableNS);
+            NameIdentifier[] idents =
+                Utils.page(
+                    dispatcher.listTables(tableNS), NameIdentifier::name, pageToken, pageSize);
+            if (verbose) {
+              // Load the tables of the page together, so that the catalog can fetch them in bulk
+              // and the tables not in the store yet are imported with one batch put.
+              Table[] tables =
+                  dispatcher.loadTables(
+                      tableNS,
+                      Arrays.stream(idents).map(NameIdentifier::name).toArray(String[]::new));
+              TableDTO[] tableDTOs =
+                  Arrays.stream(tables).map(DTOConverters::toDTO).toArray(TableDTO[]::new);
+              Response response = Utils.ok(new TableListResponse(tableDTOs));
+              LOG.info(
+                  "List {} tables info under schema: {}.{}.{}",
+                  tables.length,
+                  metalake,
+                  catalog,
+                  schema);
+              return response;
+            }
+
             Response response = Utils.ok(new EntityListResponse(idents));
             LOG.info(
                 "List {} tables under schema: {}.{}.{}", idents.length, metalake, catalog, schema);
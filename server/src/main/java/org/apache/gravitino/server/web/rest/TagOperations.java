@@ -77,7 +77,9 @@ public class TagOperations {
   @ResponseMetered(name = "list-tags", absolute = true)
   public Response listTags(
       @PathParam("metalake") String metalake,
-      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize) {
     LOG.info(
         "Received list tag {} request for metalake: {}", verbose ? "infos" : "names", metalake);
 
@@ -85,8 +87,12 @@ public class TagOperations {
       return Utils.doAs(
           httpRequest,
           () -> {
+            Integer limit = Utils.pageLimit(pageToken, pageSize);
+            boolean paged = limit != null;
+            // Tags are listed from the entity store, so the page is pushed down to it.
+            Tag[] pagedTags = paged ? tagDispatcher.listTagsInfo(metalake, pageToken, limit) : null;
             if (verbose) {
-              Tag[] tags = tagDispatcher.listTagsInfo(metalake);
+              Tag[] tags = paged ? pagedTags : tagDispatcher.listTagsInfo(metalake);
               TagDTO[] tagDTOs;
               if (ArrayUtils.isEmpty(tags)) {
                 tagDTOs = new TagDTO[0];
@@ -101,7 +107,10 @@ public class TagOperations {
               return Utils.ok(new TagListResponse(tagDTOs));
 
             } else {
-              String[] tagNames = tagDispatcher.listTags(metalake);
+              String[] tagNames =
+                  paged
+                      ? Arrays.stream(pagedTags).map(Tag::name).toArray(String[]::new)
+                      : tagDispatcher.listTags(metalake);
               tagNames = tagNames == null ? new String[0] : tagNames;
 
               LOG.info("List {} tags under metalake: {}", tagNames.length, metalake);
@@ -33,6 +33,7 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.authorization.AccessControlDispatcher;
+import org.apache.gravitino.authorization.User;
 import org.apache.gravitino.dto.requests.UserAddRequest;
 import org.apache.gravitino.dto.responses.NameListResponse;
 import org.apache.gravitino.dto.responses.RemoveResponse;
@@ -86,17 +87,26 @@ public class UserOperations {
   @ResponseMetered(name = "list-user", absolute = true)
   public Response listUsers(
       @PathParam("metalake") String metalake,
-      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize) {
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             if (verbose) {
-              return Utils.ok(
-                  new UserListResponse(
-                      DTOConverters.toDTOs(accessControlManager.listUsers(metalake))));
+              User[] users =
+                  Utils.page(
+                      accessControlManager.listUsers(metalake), User::name, pageToken, pageSize);
+              return Utils.ok(new UserListResponse(DTOConverters.toDTOs(users)));
             } else {
-              return Utils.ok(new NameListResponse(accessControlManager.listUserNames(metalake)));
+              // Usernames are listed from the entity store, so the page is pushed down to it.
+              Integer limit = Utils.pageLimit(pageToken, pageSize);
+              String[] names =
+                  limit == null
+                      ? accessControlManager.listUserNames(metalake)
+                      : accessControlManager.listUserNames(metalake, pageToken, limit);
+              return Utils.ok(new NameListResponse(names));
             }
           });
     } catch (Exception e) {
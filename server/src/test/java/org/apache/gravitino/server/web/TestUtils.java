@@ -24,9 +24,11 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.Map;
+import java.util.function.Function;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.audit.FilesetAuditConstants;
 import org.apache.gravitino.audit.FilesetDataOperation;
 import org.apache.gravitino.audit.InternalClientType;
@@ -208,5 +210,40 @@ public class TestUtils {
     Assertions.assertEquals(
         FilesetDataOperation.GET_FILE_STATUS.name(),
         filteredMap.get(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION));
+
+    // test the batched operation count
+    HttpServletRequest mockRequest4 = Mockito.mock(HttpServletRequest.class);
+    when(mockRequest4.getHeader(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION_COUNT))
+        .thenReturn("100");
+    Assertions.assertEquals(
+        "100",
+        Utils.filterFilesetAuditHeaders(mockRequest4)
+            .get(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION_COUNT));
+    HttpServletRequest mockRequest5 = Mockito.mock(HttpServletRequest.class);
+    when(mockRequest5.getHeader(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION_COUNT))
+        .thenReturn("test");
+    Assertions.assertTrue(Utils.filterFilesetAuditHeaders(mockRequest5).isEmpty());
+  }
+
+  @Test
+  public void testPage() {
+    String[] names = new String[] {"c", "a", "b", "d"};
+    Assertions.assertSame(names, Utils.page(names, Function.identity(), null, null));
+    Assertions.assertArrayEquals(
+        new String[] {"a", "b"}, Utils.page(names, Function.identity(), null, 2));
+    Assertions.assertArrayEquals(
+        new String[] {"c", "d"}, Utils.page(names, Function.identity(), "b", 2));
+    Assertions.assertArrayEquals(
+        new String[] {"c", "d"}, Utils.page(names, Function.identity(), "bb", null));
+    Assertions.assertEquals(0, Utils.page(names, Function.identity(), "d", 2).length);
+
+    NameIdentifier[] idents =
+        new NameIdentifier[] {NameIdentifier.of("s", "t2"), NameIdentifier.of("s", "t1")};
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {NameIdentifier.of("s", "t1")},
+        Utils.page(idents, NameIdentifier::name, null, 1));
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> Utils.page(names, Function.identity(), null, 0));
   }
 }
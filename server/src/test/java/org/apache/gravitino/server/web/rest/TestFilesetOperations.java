@@ -31,6 +31,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.client.Entity;
@@ -49,6 +50,7 @@ import org.apache.gravitino.audit.InternalClientType;
 import org.apache.gravitino.catalog.FilesetDispatcher;
 import org.apache.gravitino.catalog.FilesetOperationDispatcher;
 import org.apache.gravitino.dto.file.FilesetDTO;
+import org.apache.gravitino.dto.requests.FileLocationsRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
@@ -57,6 +59,7 @@ import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
+import org.apache.gravitino.dto.responses.FileLocationsResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
@@ -568,6 +571,61 @@ public class TestFilesetOperations extends JerseyTest {
     Assertions.assertNull(CallerContext.CallerContextHolder.get());
   }
 
+  @Test
+  public void testGetFileLocations() {
+    NameIdentifier fullIdentifier = NameIdentifier.of(metalake, catalog, schema, "fileset1");
+    List<String> subPaths = ImmutableList.of("/test/1", "/test/2");
+    Map<String, String> fileLocations =
+        ImmutableMap.of(
+            "/test/1", "hdfs://host/fileset1/test/1", "/test/2", "hdfs://host/fileset1/test/2");
+    when(dispatcher.getFileLocations(fullIdentifier, subPaths)).thenReturn(fileLocations);
+    FileLocationsRequest req = new FileLocationsRequest(subPaths);
+    Response resp =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/locations")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity(req, MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    FileLocationsResponse locationsResponse = resp.readEntity(FileLocationsResponse.class);
+    Assertions.assertEquals(0, locationsResponse.getCode());
+    Assertions.assertEquals(fileLocations, locationsResponse.getFileLocations());
+
+    // Test empty sub paths
+    Response resp1 =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/locations")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(
+                Entity.entity(
+                    new FileLocationsRequest(ImmutableList.of()),
+                    MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp1.getStatus());
+
+    // Test empty request body
+    Response resp3 =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/locations")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity("", MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp3.getStatus());
+
+    // Test throw NoSuchFilesetException
+    doThrow(new NoSuchFilesetException("no found"))
+        .when(dispatcher)
+        .getFileLocations(fullIdentifier, subPaths);
+    Response resp2 =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/locations")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity(req, MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp2.getStatus());
+
+    ErrorResponse errorResp = resp2.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResp.getCode());
+    Assertions.assertEquals(NoSuchFilesetException.class.getSimpleName(), errorResp.getType());
+  }
+
   private void assertUpdateFileset(FilesetUpdatesRequest req, Fileset updatedFileset) {
     when(dispatcher.alterFileset(any(), any(FilesetChange.class))).thenReturn(updatedFileset);
 
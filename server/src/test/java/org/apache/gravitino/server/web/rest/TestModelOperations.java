@@ -21,6 +21,8 @@ package org.apache.gravitino.server.web.rest;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
@@ -112,6 +114,27 @@ public class TestModelOperations extends JerseyTest {
     return resourceConfig;
   }
 
+  @Test
+  public void testListModelsByPage() {
+    NameIdentifier modelId2 = NameIdentifierUtil.ofModel(metalake, catalog, schema, "model2");
+    when(modelDispatcher.listModels(modelNs, "model1", 1))
+        .thenReturn(new NameIdentifier[] {modelId2});
+
+    Response response =
+        target(modelPath())
+            .queryParam("pageToken", "model1")
+            .queryParam("pageSize", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+    EntityListResponse resp = response.readEntity(EntityListResponse.class);
+    Assertions.assertArrayEquals(new NameIdentifier[] {modelId2}, resp.identifiers());
+    // The page is pushed down instead of listing all the models.
+    verify(modelDispatcher, never()).listModels(modelNs);
+  }
+
   @Test
   public void testListModels() {
     NameIdentifier modelId1 = NameIdentifierUtil.ofModel(metalake, catalog, schema, "model1");
@@ -22,6 +22,7 @@ import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -174,6 +175,34 @@ public class TestPartitionOperations extends JerseyTest {
     Assertions.assertTrue(errorResp2.getMessage().contains("test exception"));
   }
 
+  @Test
+  public void testListPartitionNamesByPage() {
+    when(dispatcher.listPartitionNames(any(), eq("col1 = \"v1\""), eq("p1"), eq(10)))
+        .thenReturn(new String[] {partitionNames[1]});
+
+    Response resp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("filter", "col1 = \"v1\"")
+            .queryParam("pageToken", "p1")
+            .queryParam("pageSize", 10)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    PartitionNameListResponse listResp = resp.readEntity(PartitionNameListResponse.class);
+    Assertions.assertArrayEquals(new String[] {partitionNames[1]}, listResp.partitionNames());
+
+    // Test invalid page size
+    Response resp2 =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("pageSize", 0)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp2.getStatus());
+  }
+
   @Test
   public void testListPartitions() {
     when(dispatcher.listPartitions(any())).thenReturn(partitions);
@@ -66,6 +66,7 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.TableListResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
@@ -200,6 +201,66 @@ public class TestTableOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testListTablesWithDetails() {
+    NameIdentifier table1 = NameIdentifier.of(metalake, catalog, schema, "table1");
+    NameIdentifier table2 = NameIdentifier.of(metalake, catalog, schema, "table2");
+    Column[] columns = new Column[] {mockColumn("col1", Types.StringType.get())};
+    Table mockTable1 =
+        mockTable("table1", columns, "mock comment", ImmutableMap.of("k1", "v1"), new Transform[0]);
+    Table mockTable2 =
+        mockTable("table2", columns, "mock comment", ImmutableMap.of("k1", "v1"), new Transform[0]);
+
+    when(dispatcher.listTables(any())).thenReturn(new NameIdentifier[] {table1, table2});
+    when(dispatcher.loadTables(any(), eq("table1"), eq("table2")))
+        .thenReturn(new Table[] {mockTable1, mockTable2});
+
+    Response resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", true)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    Assertions.assertEquals(MediaType.APPLICATION_JSON_TYPE, resp.getMediaType());
+
+    TableListResponse listResp = resp.readEntity(TableListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+
+    TableDTO[] tables = listResp.getTables();
+    Assertions.assertEquals(2, tables.length);
+    Assertions.assertEquals("table1", tables[0].name());
+    Assertions.assertEquals("table2", tables[1].name());
+    Assertions.assertEquals("col1", tables[0].columns()[0].name());
+
+    // Only the tables of the requested page are loaded
+    when(dispatcher.loadTables(any(), eq("table2"))).thenReturn(new Table[] {mockTable2});
+    Response resp1 =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", true)
+            .queryParam("pageToken", "table1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp1.getStatus());
+    TableListResponse listResp1 = resp1.readEntity(TableListResponse.class);
+    Assertions.assertEquals(1, listResp1.getTables().length);
+    Assertions.assertEquals("table2", listResp1.getTables()[0].name());
+
+    // Test throw NoSuchSchemaException
+    doThrow(new NoSuchSchemaException("mock error")).when(dispatcher).listTables(any());
+    Response resp2 =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", true)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp2.getStatus());
+  }
+
   private DistributionDTO createMockDistributionDTO(String columnName, int bucketNum) {
     return DistributionDTO.builder()
         .withStrategy(Strategy.HASH)
@@ -183,6 +183,38 @@ public class TestTagOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp1.getType());
   }
 
+  @Test
+  public void testListTagsByPage() {
+    TagEntity tag2 =
+        TagEntity.builder()
+            .withName("tag2")
+            .withId(1L)
+            .withComment("tag2 comment")
+            .withAuditInfo(testAuditInfo1)
+            .build();
+    when(tagManager.listTagsInfo(metalake, "tag1", 1)).thenReturn(new Tag[] {tag2});
+
+    Response resp =
+        target(tagPath(metalake))
+            .queryParam("pageToken", "tag1")
+            .queryParam("pageSize", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    NameListResponse nameListResponse = resp.readEntity(NameListResponse.class);
+    Assertions.assertArrayEquals(new String[] {"tag2"}, nameListResponse.getNames());
+
+    Response resp1 =
+        target(tagPath(metalake))
+            .queryParam("pageSize", -1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp1.getStatus());
+  }
+
   @Test
   public void testListTagsInfo() {
     TagEntity tag1 =
@@ -306,6 +306,30 @@ public class TestUserOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResponse.getType());
   }
 
+  @Test
+  public void testListUsernamesByPage() {
+    when(manager.listUserNames("metalake1", "user1", 1)).thenReturn(new String[] {"user2"});
+
+    Response resp =
+        target("/metalakes/metalake1/users/")
+            .queryParam("pageToken", "user1")
+            .queryParam("pageSize", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    NameListResponse listResponse = resp.readEntity(NameListResponse.class);
+    Assertions.assertArrayEquals(new String[] {"user2"}, listResponse.getNames());
+
+    Response resp1 =
+        target("/metalakes/metalake1/users/")
+            .queryParam("pageSize", 0)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp1.getStatus());
+  }
+
   @Test
   public void testListUsernames() {
     when(manager.listUserNames(any())).thenReturn(new String[] {"user"});